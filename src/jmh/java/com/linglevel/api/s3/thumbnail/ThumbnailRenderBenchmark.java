@@ -0,0 +1,70 @@
+package com.linglevel.api.s3.thumbnail;
+
+import com.sksamuel.scrimage.ImmutableImage;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 썸네일 처리량 측정 (워커 풀 크기 산정용)
+ * build.gradle의 jmh { threads = N }을 바꿔 ./gradlew jmh로 실행하고, 코어 수 대비 처리량이 포화되는 지점을 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ThumbnailRenderBenchmark {
+
+    @Param({"800", "1600"})
+    private int sourceSize;
+
+    private byte[] sourceBytes;
+    private ImmutableImage decoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        BufferedImage image = new BufferedImage(sourceSize, sourceSize * 3 / 4, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setPaint(new GradientPaint(0, 0, Color.RED, sourceSize, sourceSize, Color.BLUE));
+        g2d.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g2d.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        sourceBytes = out.toByteArray();
+        decoded = ThumbnailRenderer.decode(new ByteArrayInputStream(sourceBytes));
+    }
+
+    @Benchmark
+    public ImmutableImage decode() throws IOException {
+        return ThumbnailRenderer.decode(new ByteArrayInputStream(sourceBytes));
+    }
+
+    @Benchmark
+    public byte[] renderSmallWebp() throws IOException {
+        return ThumbnailRenderer.render(decoded, ThumbnailSpec.SMALL_WEBP);
+    }
+
+    @Benchmark
+    public byte[] renderSmallJpeg() throws IOException {
+        return ThumbnailRenderer.render(decoded, ThumbnailSpec.SMALL_JPEG);
+    }
+
+    /**
+     * 작업 하나 전체 (디코딩 1회 + 커버 기본 규격 전부)
+     */
+    @Benchmark
+    public int renderCoverJob() throws IOException {
+        ImmutableImage original = ThumbnailRenderer.decode(new ByteArrayInputStream(sourceBytes));
+        int total = 0;
+        for (ThumbnailSpec spec : ThumbnailSpec.COVER_SPECS) {
+            total += ThumbnailRenderer.render(original, spec).length;
+        }
+        return total;
+    }
+}
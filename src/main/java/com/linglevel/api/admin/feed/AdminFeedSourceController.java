@@ -7,6 +7,7 @@ import com.linglevel.api.content.feed.dto.FeedSourceResponse;
 import com.linglevel.api.content.feed.entity.FeedSource;
 import com.linglevel.api.content.feed.repository.FeedSourceRepository;
 import com.linglevel.api.content.feed.scheduler.FeedCrawlingScheduler;
+import com.linglevel.api.content.feed.service.FeedCrawlingService;
 import com.linglevel.api.crawling.service.CrawlingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -38,6 +39,7 @@ public class AdminFeedSourceController {
 
     private final FeedSourceRepository feedSourceRepository;
     private final FeedCrawlingScheduler feedCrawlingScheduler;
+    private final FeedCrawlingService feedCrawlingService;
     private final CrawlingService crawlingService;
 
     @Operation(summary = "FeedSource 생성", description = "새로운 FeedSource를 등록합니다.")
@@ -122,6 +124,7 @@ public class AdminFeedSourceController {
             throw new IllegalArgumentException("FeedSource not found: " + id);
         }
         feedSourceRepository.deleteById(id);
+        feedCrawlingService.evictCoverImageDsl(id);
         log.info("FeedSource deleted: {}", id);
         return ResponseEntity.ok(new MessageResponse("FeedSource deleted successfully"));
     }
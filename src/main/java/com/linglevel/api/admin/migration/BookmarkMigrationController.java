@@ -7,6 +7,7 @@ import com.linglevel.api.word.dto.WordResponse;
 import com.linglevel.api.word.dto.WordSearchResponse;
 import com.linglevel.api.word.repository.WordRepository;
 import com.linglevel.api.word.repository.WordVariantRepository;
+import com.linglevel.api.word.service.WordLookupCache;
 import com.linglevel.api.word.service.WordService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -35,6 +36,7 @@ public class BookmarkMigrationController {
     private final WordService wordService;
     private final WordRepository wordRepository;
     private final WordVariantRepository wordVariantRepository;
+    private final WordLookupCache wordLookupCache;
 
     @PostMapping("/reset-and-normalize")
     @Operation(summary = "단어 데이터 리셋 및 북마크 정규화",
@@ -48,6 +50,8 @@ public class BookmarkMigrationController {
 
         wordRepository.deleteAll();
         wordVariantRepository.deleteAll();
+        // 삭제된 단어가 캐시에서 계속 조회되지 않도록 조회 캐시도 비움
+        wordLookupCache.evictAll();
 
         log.warn("Deleted {} words and {} variants", deletedWords, deletedVariants);
 
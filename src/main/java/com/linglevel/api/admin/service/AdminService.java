@@ -19,11 +19,13 @@ import com.linglevel.api.content.book.repository.BookProgressRepository;
 import com.linglevel.api.content.book.repository.BookRepository;
 import com.linglevel.api.content.book.repository.ChapterRepository;
 import com.linglevel.api.content.book.repository.ChunkRepository;
+import com.linglevel.api.content.book.service.BookStructureCache;
 import com.linglevel.api.s3.service.S3StaticService;
 import com.linglevel.api.s3.strategy.ArticlePathStrategy;
 import com.linglevel.api.s3.strategy.BookPathStrategy;
 import com.linglevel.api.streak.repository.DailyCompletionRepository;
 import com.linglevel.api.streak.repository.UserStudyReportRepository;
+import com.linglevel.api.streak.service.StreakSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -51,6 +53,8 @@ public class AdminService {
     private final ArticlePathStrategy articlePathStrategy;
     private final DailyCompletionRepository dailyCompletionRepository;
     private final UserStudyReportRepository userStudyReportRepository;
+    private final StreakSnapshotCache streakSnapshotCache;
+    private final BookStructureCache bookStructureCache;
 
     public ChunkResponse updateBookChunk(String bookId, String chapterId, String chunkId, UpdateChunkRequest request) {
         log.info("Updating book chunk - bookId: {}, chapterId: {}, chunkId: {}", bookId, chapterId, chunkId);
@@ -80,6 +84,7 @@ public class AdminService {
         // 청크 내용 수정
         chunk.updateContent(request.getContent(), request.getDescription());
         Chunk updatedChunk = chunkRepository.save(chunk);
+        bookStructureCache.invalidate();
 
         log.info("Book chunk updated successfully - chunkId: {}", chunkId);
 
@@ -148,6 +153,7 @@ public class AdminService {
 
             // 5. 책 삭제
             bookRepository.delete(book);
+            bookStructureCache.invalidate();
             log.info("Book deleted successfully - bookId: {}", bookId);
 
         } catch (Exception e) {
@@ -225,6 +231,8 @@ public class AdminService {
                         userStudyReportRepository.save(report);
                         log.info("UserStudyReport reverted for user: {}", userId);
                     });
+
+                    streakSnapshotCache.evict(userId);
                 });
     }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.linglevel.api.admin.service;
 
-import com.google.firebase.messaging.*;
 import com.linglevel.api.admin.dto.ArticleReleaseNotificationRequest;
 import com.linglevel.api.admin.dto.ArticleReleaseNotificationResponse;
 import com.linglevel.api.admin.dto.NotificationBroadcastRequest;
@@ -13,9 +12,11 @@ import com.linglevel.api.content.common.ContentCategory;
 import com.linglevel.api.content.recommendation.entity.UserCategoryPreference;
 import com.linglevel.api.content.recommendation.repository.UserCategoryPreferenceRepository;
 import com.linglevel.api.fcm.dto.FcmMessageRequest;
+import com.linglevel.api.fcm.dto.PushDispatchResult;
+import com.linglevel.api.fcm.dto.PushRecipient;
 import com.linglevel.api.fcm.entity.FcmToken;
 import com.linglevel.api.fcm.repository.FcmTokenRepository;
-import com.linglevel.api.fcm.service.FcmMessagingService;
+import com.linglevel.api.fcm.service.PushDispatchService;
 import com.linglevel.api.i18n.CountryCode;
 import com.linglevel.api.i18n.LanguageCode;
 import lombok.Getter;
@@ -23,7 +24,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -32,7 +32,7 @@ import java.util.stream.Collectors;
 @Slf4j
 public class NotificationService {
 
-    private final FcmMessagingService fcmMessagingService;
+    private final PushDispatchService pushDispatchService;
     private final FcmTokenRepository fcmTokenRepository;
     private final ArticleRepository articleRepository;
     private final UserCategoryPreferenceRepository userCategoryPreferenceRepository;
@@ -41,32 +41,6 @@ public class NotificationService {
         return sendLocalizedNotification(request.getTargets(), request.getMessages(), request.getData());
     }
 
-
-    private void deactivateTokenByFcmToken(String fcmToken) {
-        try {
-            Optional<FcmToken> tokenEntity = fcmTokenRepository.findByFcmToken(fcmToken);
-            if (tokenEntity.isPresent()) {
-                FcmToken token = tokenEntity.get();
-                token.setIsActive(false);
-                token.setUpdatedAt(LocalDateTime.now());
-                fcmTokenRepository.save(token);
-                log.info("Deactivated invalid FCM token for user: {}, device: {}", 
-                         token.getUserId(), token.getDeviceId());
-            } else {
-                log.warn("FCM token not found in database: {}", maskToken(fcmToken));
-            }
-        } catch (Exception e) {
-            log.error("Failed to deactivate token: {}", maskToken(fcmToken), e);
-        }
-    }
-
-    private String maskToken(String token) {
-        if (token == null || token.length() < 8) {
-            return "***";
-        }
-        return token.substring(0, 4) + "***" + token.substring(token.length() - 4);
-    }
-
     /**
      * 국가별 메시지를 전송합니다.
      */
@@ -77,12 +51,10 @@ public class NotificationService {
 
         log.info("Starting localized notification send to {} users", targetUserIds.size());
 
-        // 대상 사용자들의 활성 FCM 토큰 조회
-        List<FcmToken> allTokens = new ArrayList<>();
-        for (String userId : targetUserIds) {
-            List<FcmToken> activeTokens = fcmTokenRepository.findByUserIdAndIsActive(userId, true);
-            allTokens.addAll(activeTokens);
-        }
+        // 대상 사용자들의 활성 FCM 토큰 일괄 조회
+        List<FcmToken> allTokens = pushDispatchService.resolveActiveTokens(targetUserIds).values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
 
         if (allTokens.isEmpty()) {
             log.warn("No FCM tokens found for users: {}", targetUserIds);
@@ -104,8 +76,9 @@ public class NotificationService {
 
         List<String> sentTokens = new ArrayList<>();
         List<String> failedTokens = new ArrayList<>();
+        List<PushRecipient> recipients = new ArrayList<>();
 
-        // 국가별로 메시지 전송
+        // 국가별 메시지로 수신자 생성
         tokensByCountry.forEach((countryCode, tokens) -> {
             NotificationSendRequest.LocalizedMessage message = messages.get(countryCode.getCode());
 
@@ -128,44 +101,13 @@ public class NotificationService {
                     .data(data)
                     .build();
 
-            List<String> fcmTokens = tokens.stream()
-                    .map(FcmToken::getFcmToken)
-                    .collect(Collectors.toList());
-
-            try {
-                if (fcmTokens.size() == 1) {
-                    fcmMessagingService.sendMessage(fcmTokens.get(0), fcmRequest);
-                    sentTokens.add(fcmTokens.get(0));
-                    log.debug("Sent localized message (country: {}) to token: {}", countryCode, maskToken(fcmTokens.get(0)));
-                } else if (!fcmTokens.isEmpty()) {
-                    BatchResponse response = fcmMessagingService.sendMulticastMessage(fcmTokens, fcmRequest);
-
-                    // 개별 응답 처리
-                    for (int i = 0; i < response.getResponses().size(); i++) {
-                        String token = fcmTokens.get(i);
-                        if (response.getResponses().get(i).isSuccessful()) {
-                            sentTokens.add(token);
-                        } else {
-                            failedTokens.add(token);
-                            log.warn("Failed to send localized message to token: {}, error: {}",
-                                    maskToken(token), response.getResponses().get(i).getException().getMessage());
-                            deactivateTokenByFcmToken(token);
-                        }
-                    }
-                    log.debug("Sent multicast message (country: {}) - Success: {}, Failed: {}",
-                            countryCode, response.getSuccessCount(), response.getFailureCount());
-                }
-            } catch (Exception e) {
-                log.error("Failed to send localized message batch (country: {}), error: {}", countryCode, e.getMessage());
-                for (String token : fcmTokens) {
-                    failedTokens.add(token);
-                    if (e instanceof com.linglevel.api.fcm.exception.FcmException) {
-                        deactivateTokenByFcmToken(token);
-                    }
-                }
-            }
+            recipients.addAll(toRecipients(tokens, fcmRequest));
         });
 
+        PushDispatchResult result = pushDispatchService.dispatch(recipients);
+        sentTokens.addAll(result.getSentTokens());
+        failedTokens.addAll(result.getFailedTokens());
+
         log.info("Localized notification send completed - Success: {}, Failed: {}",
                 sentTokens.size(), failedTokens.size());
 
@@ -213,8 +155,9 @@ public class NotificationService {
         int totalFailedCount = 0;
         Set<String> successfulUserIds = new HashSet<>();
         Set<String> failedUserIds = new HashSet<>();
+        List<PushRecipient> recipients = new ArrayList<>();
 
-        // 국가별로 메시지 전송
+        // 국가별 메시지로 수신자 생성
         for (Map.Entry<CountryCode, List<FcmToken>> entry : tokensByCountry.entrySet()) {
             CountryCode countryCode = entry.getKey();
             List<FcmToken> tokens = entry.getValue();
@@ -243,54 +186,15 @@ public class NotificationService {
                     .data(data)
                     .build();
 
-            List<String> fcmTokens = tokens.stream()
-                    .map(FcmToken::getFcmToken)
-                    .collect(Collectors.toList());
-
-            Map<String, String> tokenToUserId = tokens.stream()
-                    .collect(Collectors.toMap(FcmToken::getFcmToken, FcmToken::getUserId, (a, b) -> a));
-
-            try {
-                if (fcmTokens.size() == 1) {
-                    fcmMessagingService.sendMessage(fcmTokens.get(0), fcmRequest);
-                    successfulUserIds.add(tokenToUserId.get(fcmTokens.get(0)));
-                    totalSentCount++;
-                    log.debug("Broadcast localized message (country: {}) sent to user: {}, token: {}",
-                            countryCode, tokenToUserId.get(fcmTokens.get(0)), maskToken(fcmTokens.get(0)));
-                } else if (!fcmTokens.isEmpty()) {
-                    BatchResponse response = fcmMessagingService.sendMulticastMessage(fcmTokens, fcmRequest);
-
-                    // 개별 응답 처리
-                    for (int i = 0; i < response.getResponses().size(); i++) {
-                        String token = fcmTokens.get(i);
-                        String userId = tokenToUserId.get(token);
-
-                        if (response.getResponses().get(i).isSuccessful()) {
-                            successfulUserIds.add(userId);
-                            totalSentCount++;
-                        } else {
-                            failedUserIds.add(userId);
-                            totalFailedCount++;
-                            log.warn("Failed to send localized broadcast to user: {}, token: {}, error: {}",
-                                    userId, maskToken(token), response.getResponses().get(i).getException().getMessage());
-                            deactivateTokenByFcmToken(token);
-                        }
-                    }
-                    log.debug("Broadcast multicast message (country: {}) - Success: {}, Failed: {}",
-                            countryCode, response.getSuccessCount(), response.getFailureCount());
-                }
-            } catch (Exception e) {
-                log.error("Failed to send broadcast message batch (country: {}), error: {}", countryCode, e.getMessage());
-                for (String token : fcmTokens) {
-                    failedUserIds.add(tokenToUserId.get(token));
-                    totalFailedCount++;
-                    if (e instanceof com.linglevel.api.fcm.exception.FcmException) {
-                        deactivateTokenByFcmToken(token);
-                    }
-                }
-            }
+            recipients.addAll(toRecipients(tokens, fcmRequest));
         }
 
+        PushDispatchResult result = pushDispatchService.dispatch(recipients);
+        totalSentCount += result.getSentCount();
+        totalFailedCount += result.getFailedCount();
+        successfulUserIds.addAll(result.getSuccessfulUserIds());
+        failedUserIds.addAll(result.getFailedUserIds());
+
         // 실패만 한 사용자 계산
         int failedOnlyUsers = (int) failedUserIds.stream()
                 .filter(userId -> !successfulUserIds.contains(userId))
@@ -328,9 +232,19 @@ public class NotificationService {
         List<ArticleReleaseNotificationResponse.ArticleResult> results = new ArrayList<>();
         Map<String, List<MatchedArticle>> userArticleMatches = new HashMap<>();
 
+        // 활성 토큰과 카테고리 선호도는 한 번씩만 조회
+        List<FcmToken> allActiveTokens = fcmTokenRepository.findByIsActive(true);
+        Map<String, List<FcmToken>> tokensByUser = allActiveTokens.stream()
+                .collect(Collectors.groupingBy(FcmToken::getUserId));
+        Map<String, ContentCategory> primaryCategoryByUser = userCategoryPreferenceRepository
+                .findByUserIdIn(tokensByUser.keySet()).stream()
+                .filter(preference -> preference.getPrimaryCategory() != null)
+                .collect(Collectors.toMap(UserCategoryPreference::getUserId,
+                        UserCategoryPreference::getPrimaryCategory, (a, b) -> a));
+
         // 1. 각 아티클별로 타겟 사용자 필터링
         for (ArticleReleaseNotificationRequest.ArticleInfo articleInfo : request.getArticles()) {
-            List<FcmToken> targetTokens = filterTargetTokens(articleInfo);
+            List<FcmToken> targetTokens = filterTargetTokens(allActiveTokens, articleInfo);
 
             log.info("Article {} matched {} tokens", articleInfo.getArticleId(), targetTokens.size());
 
@@ -339,7 +253,7 @@ public class NotificationService {
                 String userId = token.getUserId();
                 LanguageCode userLanguage = convertCountryCodeToLanguageCode(token.getCountryCode());
 
-                int priority = calculatePriority(token, articleInfo, userLanguage);
+                int priority = calculatePriority(primaryCategoryByUser.get(userId), articleInfo);
 
                 MatchedArticle matchedArticle = new MatchedArticle(
                         articleInfo.getArticleId(),
@@ -355,6 +269,14 @@ public class NotificationService {
         // 2. 각 사용자별로 최고 우선순위 아티클 1개만 선택하여 알림 전송
         Map<String, Integer> articleSentCounts = new HashMap<>();
         Map<String, Integer> articleTargetCounts = new HashMap<>();
+        Map<String, String> userToArticleId = new HashMap<>();
+        List<PushRecipient> recipients = new ArrayList<>();
+
+        Map<String, Article> articlesById = articleRepository.findAllById(
+                        request.getArticles().stream()
+                                .map(ArticleReleaseNotificationRequest.ArticleInfo::getArticleId)
+                                .collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(Article::getId, article -> article));
 
         for (Map.Entry<String, List<MatchedArticle>> entry : userArticleMatches.entrySet()) {
             String userId = entry.getKey();
@@ -365,83 +287,48 @@ public class NotificationService {
                     .min(Comparator.comparingInt(MatchedArticle::getPriority))
                     .orElse(null);
 
-            if (topMatch != null) {
-                String articleId = topMatch.getArticleId();
-
-                articleTargetCounts.merge(articleId, 1, Integer::sum);
-
-                List<FcmToken> userTokens = fcmTokenRepository.findByUserIdAndIsActive(userId, true);
-
-                if (!userTokens.isEmpty()) {
-                    Optional<Article> articleOpt = articleRepository.findById(articleId);
-                    if (articleOpt.isPresent()) {
-                        Article article = articleOpt.get();
-
-                        String localizedTitle = getLocalizedNotificationTitle(topMatch.getUserLanguage());
-                        String categoryName = article.getCategory() != null
-                                ? article.getCategory().name().toLowerCase()
-                                : "unknown";
-                        String campaignId = "newArticle-" + categoryName;
-
-                        FcmMessageRequest fcmRequest = FcmMessageRequest.builder()
-                                .title(localizedTitle)
-                                .body(article.getTitle())
-                                .type("ARTICLE_RELEASE")
-                                .deepLink("linglevel:///articles/" + article.getId())
-                                .campaignId(campaignId)
-                                .build();
-
-                        Map<String, String> additionalData = new HashMap<>();
-                        additionalData.put("articleId", article.getId());
-                        fcmRequest.setAdditionalData(additionalData);
-
-                        List<String> fcmTokens = userTokens.stream()
-                                .map(FcmToken::getFcmToken)
-                                .collect(Collectors.toList());
-
-                        boolean sent = false;
-
-                        try {
-                            if (fcmTokens.size() == 1) {
-                                fcmMessagingService.sendMessage(fcmTokens.get(0), fcmRequest);
-                                sent = true;
-                                log.debug("Sent article notification to user: {}, article: {}", userId, articleId);
-                            } else if (!fcmTokens.isEmpty()) {
-                                BatchResponse response = fcmMessagingService.sendMulticastMessage(fcmTokens, fcmRequest);
-
-                                // 개별 응답 처리
-                                for (int i = 0; i < response.getResponses().size(); i++) {
-                                    String token = fcmTokens.get(i);
-                                    if (response.getResponses().get(i).isSuccessful()) {
-                                        sent = true;
-                                    } else {
-                                        log.warn("Failed to send article notification to user: {}, token: {}, error: {}",
-                                                userId, maskToken(token), response.getResponses().get(i).getException().getMessage());
-                                        deactivateTokenByFcmToken(token);
-                                    }
-                                }
-
-                                if (sent) {
-                                    log.debug("Sent article notification multicast to user: {} (Success: {}, Failed: {}), article: {}",
-                                            userId, response.getSuccessCount(), response.getFailureCount(), articleId);
-                                }
-                            }
-                        } catch (Exception e) {
-                            log.error("Failed to send article notification to user: {}, article: {}, error: {}",
-                                    userId, articleId, e.getMessage());
-                            for (String token : fcmTokens) {
-                                if (e instanceof com.linglevel.api.fcm.exception.FcmException) {
-                                    deactivateTokenByFcmToken(token);
-                                }
-                            }
-                        }
+            if (topMatch == null) {
+                continue;
+            }
 
-                        if (sent) {
-                            articleSentCounts.merge(articleId, 1, Integer::sum);
-                            totalSentCount++;
-                        }
-                    }
-                }
+            String articleId = topMatch.getArticleId();
+            articleTargetCounts.merge(articleId, 1, Integer::sum);
+
+            Article article = articlesById.get(articleId);
+            List<FcmToken> userTokens = tokensByUser.getOrDefault(userId, List.of());
+            if (article == null || userTokens.isEmpty()) {
+                continue;
+            }
+
+            String localizedTitle = getLocalizedNotificationTitle(topMatch.getUserLanguage());
+            String categoryName = article.getCategory() != null
+                    ? article.getCategory().name().toLowerCase()
+                    : "unknown";
+            String campaignId = "newArticle-" + categoryName;
+
+            FcmMessageRequest fcmRequest = FcmMessageRequest.builder()
+                    .title(localizedTitle)
+                    .body(article.getTitle())
+                    .type("ARTICLE_RELEASE")
+                    .deepLink("linglevel:///articles/" + article.getId())
+                    .campaignId(campaignId)
+                    .build();
+
+            Map<String, String> additionalData = new HashMap<>();
+            additionalData.put("articleId", article.getId());
+            fcmRequest.setAdditionalData(additionalData);
+
+            recipients.add(new PushRecipient(userId, userTokens, fcmRequest));
+            userToArticleId.put(userId, articleId);
+        }
+
+        // 토큰 중 하나라도 성공한 사용자를 발송 성공으로 집계
+        PushDispatchResult dispatchResult = pushDispatchService.dispatch(recipients);
+        for (String userId : dispatchResult.getSuccessfulUserIds()) {
+            String articleId = userToArticleId.get(userId);
+            if (articleId != null) {
+                articleSentCounts.merge(articleId, 1, Integer::sum);
+                totalSentCount++;
             }
         }
 
@@ -467,9 +354,8 @@ public class NotificationService {
     /**
      * 타겟 토큰 필터링
      */
-    private List<FcmToken> filterTargetTokens(ArticleReleaseNotificationRequest.ArticleInfo articleInfo) {
-        List<FcmToken> allActiveTokens = fcmTokenRepository.findByIsActive(true);
-
+    private List<FcmToken> filterTargetTokens(List<FcmToken> allActiveTokens,
+                                              ArticleReleaseNotificationRequest.ArticleInfo articleInfo) {
         return allActiveTokens.stream()
                 .filter(token -> {
                     LanguageCode userLanguage = convertCountryCodeToLanguageCode(token.getCountryCode());
@@ -492,13 +378,11 @@ public class NotificationService {
      * Priority 1 (값: 1): 언어 AND 카테고리 모두 매칭
      * Priority 2 (값: 2): 언어만 매칭
      */
-    private int calculatePriority(FcmToken token, ArticleReleaseNotificationRequest.ArticleInfo articleInfo, LanguageCode userLanguage) {
-        Optional<UserCategoryPreference> preferenceOpt = userCategoryPreferenceRepository.findByUserId(token.getUserId());
-
+    private int calculatePriority(ContentCategory primaryCategory, ArticleReleaseNotificationRequest.ArticleInfo articleInfo) {
         boolean categoryMatch = false;
-        if (preferenceOpt.isPresent() && preferenceOpt.get().getPrimaryCategory() != null) {
+        if (primaryCategory != null) {
             ContentCategory targetCategory = articleInfo.getTargetCategoryEnum();
-            categoryMatch = preferenceOpt.get().getPrimaryCategory().equals(targetCategory);
+            categoryMatch = primaryCategory.equals(targetCategory);
         } else {
             categoryMatch = true;
         }
@@ -535,30 +419,14 @@ public class NotificationService {
     }
 
     /**
-     * 아티클 알림 전송
+     * 토큰 목록을 사용자별 수신자로 묶음
      */
-    private void sendArticleNotification(FcmToken token, Article article, LanguageCode userLanguage) {
-        String localizedTitle = getLocalizedNotificationTitle(userLanguage);
-
-        // campaignId 생성: "newArticle-{category}"
-        String categoryName = article.getCategory() != null
-                ? article.getCategory().name().toLowerCase()
-                : "unknown";
-        String campaignId = "newArticle-" + categoryName;
-
-        FcmMessageRequest fcmRequest = FcmMessageRequest.builder()
-                .title(localizedTitle)
-                .body(article.getTitle())
-                .type("ARTICLE_RELEASE")
-                .deepLink("linglevel:///articles/" + article.getId())
-                .campaignId(campaignId)
-                .build();
-
-        Map<String, String> additionalData = new HashMap<>();
-        additionalData.put("articleId", article.getId());
-        fcmRequest.setAdditionalData(additionalData);
-
-        fcmMessagingService.sendMessage(token.getFcmToken(), fcmRequest);
+    private List<PushRecipient> toRecipients(List<FcmToken> tokens, FcmMessageRequest fcmRequest) {
+        return tokens.stream()
+                .collect(Collectors.groupingBy(FcmToken::getUserId, LinkedHashMap::new, Collectors.toList()))
+                .entrySet().stream()
+                .map(entry -> new PushRecipient(entry.getKey(), entry.getValue(), fcmRequest))
+                .collect(Collectors.toList());
     }
 
     /**
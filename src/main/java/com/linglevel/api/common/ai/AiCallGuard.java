@@ -0,0 +1,211 @@
+package com.linglevel.api.common.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * AI(ChatClient) 호출 보호 계층
+ * - 벌크헤드: 동시 호출 수 제한, 자리가 나지 않으면 maxWait 후 거절 (느린 모델이 요청 스레드를 모두 점유하지 않도록)
+ *   배치 작업 호출은 그중 background 몫만 사용하므로 나머지 자리는 항상 요청 트래픽용으로 남음
+ * - 데드라인: 호출은 전용 워커에서 실행하고 호출 스레드는 timeout까지만 대기
+ *   시간 초과된 호출은 인터럽트하며, 실제로 끝날 때까지 벌크헤드 자리를 차지
+ * - 서킷 브레이커: 최근 실패율이 높으면 일정 시간 호출 없이 바로 거절
+ * 거절 시 AiUnavailableException (503, 재시도 가능)
+ */
+@Component
+@Slf4j
+public class AiCallGuard {
+
+    private final long timeoutMillis;
+    private final long maxWaitMillis;
+    private final Semaphore bulkhead;
+    private final Semaphore backgroundBulkhead;
+    private final AiCircuitBreaker circuitBreaker;
+    private final ExecutorService executor;
+
+    private final Counter timeoutCounter;
+    private final Counter bulkheadFullCounter;
+    private final Counter circuitOpenCounter;
+
+    public AiCallGuard(MeterRegistry meterRegistry,
+                       @Value("${ai.resilience.timeout-ms:20000}") long timeoutMillis,
+                       @Value("${ai.resilience.max-concurrent-calls:4}") int maxConcurrentCalls,
+                       @Value("${ai.resilience.background-max-concurrent-calls:2}") int backgroundMaxConcurrentCalls,
+                       @Value("${ai.resilience.max-wait-ms:2000}") long maxWaitMillis,
+                       @Value("${ai.resilience.circuit.window-size:10}") int windowSize,
+                       @Value("${ai.resilience.circuit.minimum-calls:5}") int minimumCalls,
+                       @Value("${ai.resilience.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+                       @Value("${ai.resilience.circuit.open-ms:30000}") long openMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.maxWaitMillis = maxWaitMillis;
+
+        int permits = Math.max(1, maxConcurrentCalls);
+        this.bulkhead = new Semaphore(permits);
+        // 자리가 하나뿐이면 예약할 수 없으므로 배치 작업도 그 자리를 함께 사용
+        int backgroundPermits = permits == 1 ? 1 : Math.min(Math.max(1, backgroundMaxConcurrentCalls), permits - 1);
+        this.backgroundBulkhead = new Semaphore(backgroundPermits);
+        this.circuitBreaker = new AiCircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openMillis);
+
+        // 벌크헤드 자리 수만큼만 실행되므로 큐는 스레드가 반환되는 찰나에만 사용됨
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(permits, runnable -> {
+            Thread thread = new Thread(runnable, "ai-call-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("ai.call.in-flight", bulkhead, semaphore -> permits - semaphore.availablePermits())
+                .description("AI calls holding a bulkhead slot")
+                .register(meterRegistry);
+        Gauge.builder("ai.call.in-flight.background", backgroundBulkhead, semaphore -> backgroundPermits - semaphore.availablePermits())
+                .description("Background AI calls holding a bulkhead slot")
+                .register(meterRegistry);
+        Gauge.builder("ai.call.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("AI circuit breaker state (0=closed, 1=open, 2=half-open)")
+                .register(meterRegistry);
+        this.timeoutCounter = meterRegistry.counter("ai.call.rejected", "reason", "timeout");
+        this.bulkheadFullCounter = meterRegistry.counter("ai.call.rejected", "reason", "bulkhead-full");
+        this.circuitOpenCounter = meterRegistry.counter("ai.call.rejected", "reason", "circuit-open");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 보호 계층 안에서 AI 호출 실행
+     *
+     * @param operation 호출 용도 (로그용)
+     * @param call 모델 호출 (응답 파싱/검증 등 모델 외 실패는 포함하지 않음)
+     */
+    public <T> T execute(String operation, Supplier<T> call) {
+        return execute(operation, call, false);
+    }
+
+    /**
+     * 배치 작업(Oxford 3000 초기화 등)용 AI 호출 실행
+     * background 몫의 자리가 날 때까지는 거절하지 않고 대기하며, 요청 트래픽용 자리는 사용하지 않음
+     */
+    public <T> T executeBackground(String operation, Supplier<T> call) {
+        return execute(operation, call, true);
+    }
+
+    private <T> T execute(String operation, Supplier<T> call, boolean background) {
+        // 배치 작업은 자리를 기다린 뒤에 서킷 허가를 받음 (HALF_OPEN 시험 호출 허가를 쥔 채 대기하지 않도록)
+        if (background && !acquireBackgroundBulkhead()) {
+            throw new IllegalStateException("Interrupted while waiting for background AI " + operation + " slot");
+        }
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            if (background) {
+                backgroundBulkhead.release();
+            }
+            circuitOpenCounter.increment();
+            throw new AiUnavailableException(AiUnavailableException.Reason.CIRCUIT_OPEN, circuitBreaker.remainingOpenSeconds());
+        }
+
+        if (!acquireBulkhead()) {
+            if (background) {
+                backgroundBulkhead.release();
+            }
+            circuitBreaker.releasePermission();
+            bulkheadFullCounter.increment();
+            log.warn("AI bulkhead is full, rejecting {} call", operation);
+            throw new AiUnavailableException(AiUnavailableException.Reason.BULKHEAD_FULL, 1);
+        }
+
+        AtomicBoolean started = new AtomicBoolean();
+        AtomicBoolean permitHeld = new AtomicBoolean(true);
+        Runnable releaseBulkhead = () -> {
+            if (permitHeld.compareAndSet(true, false)) {
+                bulkhead.release();
+                if (background) {
+                    backgroundBulkhead.release();
+                }
+            }
+        };
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                started.set(true);
+                try {
+                    return call.get();
+                } finally {
+                    releaseBulkhead.run();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            releaseBulkhead.run();
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+
+        try {
+            T result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            // 시작 전에 취소된 작업은 자리를 직접 반납
+            if (!started.get()) {
+                releaseBulkhead.run();
+            }
+            circuitBreaker.onFailure();
+            timeoutCounter.increment();
+            log.warn("AI {} call timed out after {}ms", operation, timeoutMillis);
+            throw new AiUnavailableException(AiUnavailableException.Reason.TIMEOUT, 1);
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("AI " + operation + " call failed", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            if (!started.get()) {
+                releaseBulkhead.run();
+            }
+            circuitBreaker.releasePermission();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for AI " + operation + " call", e);
+        }
+    }
+
+    AiCircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private boolean acquireBackgroundBulkhead() {
+        try {
+            backgroundBulkhead.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.linglevel.api.common.ai;
+
+/**
+ * 최근 N개 호출 결과 기준 서킷 브레이커
+ * - CLOSED: 최근 windowSize개 중 minimumCalls 이상이 기록되고 실패율이 임계치 이상이면 OPEN
+ * - OPEN: openMillis 동안 모든 호출 거절, 이후 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 1개만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+class AiCircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final boolean[] outcomes;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int next;
+    private int failures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    AiCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openMillis) {
+        this.outcomes = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, outcomes.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openMillis * 1_000_000L;
+    }
+
+    /**
+     * 호출 허용 여부 (HALF_OPEN에서 허용되면 시험 호출 권한을 가짐)
+     */
+    synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    /**
+     * 결과 없이 끝난 호출(벌크헤드 거절, 인터럽트)의 권한 반납
+     */
+    synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * OPEN 상태가 풀리기까지 남은 시간 (초, 최소 1)
+     */
+    synchronized long remainingOpenSeconds() {
+        long remainingNanos = openNanos - (System.nanoTime() - openedAt);
+        return Math.max(1, (long) Math.ceil(remainingNanos / 1_000_000_000.0));
+    }
+
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        trialInFlight = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+        trialInFlight = false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.linglevel.api.common.ai;
+
+import com.linglevel.api.common.exception.CommonErrorCode;
+import com.linglevel.api.common.exception.CommonException;
+import lombok.Getter;
+
+/**
+ * AI 호출을 보호 계층에서 거절한 경우 (503, 재시도 가능)
+ */
+@Getter
+public class AiUnavailableException extends CommonException {
+
+    public enum Reason {
+        TIMEOUT,
+        BULKHEAD_FULL,
+        CIRCUIT_OPEN
+    }
+
+    private final Reason reason;
+    private final long retryAfterSeconds;
+
+    public AiUnavailableException(Reason reason, long retryAfterSeconds) {
+        super(CommonErrorCode.AI_UNAVAILABLE);
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
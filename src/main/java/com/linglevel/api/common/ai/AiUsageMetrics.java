@@ -0,0 +1,102 @@
+package com.linglevel.api.common.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * AI 호출 지연 시간/토큰/예상 비용 메트릭 (model, operation 태그)
+ * - ai.chat.latency: 호출 시간 (outcome=success|error, 히스토그램 포함)
+ * - ai.chat.tokens: 입력/출력 토큰 수 (type=input|output)
+ * - ai.chat.cost: 토큰 단가로 계산한 예상 비용 (USD)
+ */
+@Component
+@Slf4j
+public class AiUsageMetrics {
+
+    // 환율: 1 USD = 1430 KRW (로그용)
+    private static final double KRW_PER_USD = 1430;
+
+    private final MeterRegistry meterRegistry;
+    private final String model;
+    private final double inputUsdPer1kTokens;
+    private final double outputUsdPer1kTokens;
+
+    public AiUsageMetrics(MeterRegistry meterRegistry,
+                          @Value("${spring.ai.bedrock.converse.chat.options.model:unknown}") String model,
+                          @Value("${ai.cost.input-usd-per-1k-tokens:0.00017}") double inputUsdPer1kTokens,
+                          @Value("${ai.cost.output-usd-per-1k-tokens:0.000085}") double outputUsdPer1kTokens) {
+        this.meterRegistry = meterRegistry;
+        this.model = model;
+        this.inputUsdPer1kTokens = inputUsdPer1kTokens;
+        this.outputUsdPer1kTokens = outputUsdPer1kTokens;
+    }
+
+    /**
+     * AI 호출을 실행하며 지연 시간을 기록하고, 응답의 토큰 사용량과 예상 비용을 누적
+     *
+     * @param operation 호출 용도 (예: word-analysis)
+     */
+    public ChatResponse record(String operation, Supplier<ChatResponse> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+
+        try {
+            ChatResponse response = call.get();
+            outcome = "success";
+            recordUsage(operation, response);
+            return response;
+        } finally {
+            sample.stop(Timer.builder("ai.chat.latency")
+                    .tags("model", model, "operation", operation, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private void recordUsage(String operation, ChatResponse response) {
+        if (response == null || response.getMetadata() == null || response.getMetadata().getUsage() == null) {
+            return;
+        }
+
+        var usage = response.getMetadata().getUsage();
+        long inputTokens = tokens(usage.getPromptTokens());
+        long outputTokens = tokens(usage.getGenerationTokens());
+
+        double inputCostUsd = (inputTokens / 1000.0) * inputUsdPer1kTokens;
+        double outputCostUsd = (outputTokens / 1000.0) * outputUsdPer1kTokens;
+        double totalCostUsd = inputCostUsd + outputCostUsd;
+
+        tokenCounter(operation, "input").increment(inputTokens);
+        tokenCounter(operation, "output").increment(outputTokens);
+        Counter.builder("ai.chat.cost")
+                .baseUnit("usd")
+                .tags("model", model, "operation", operation)
+                .register(meterRegistry)
+                .increment(totalCostUsd);
+
+        log.info("📊 Token Usage ({}): Input={}, Output={}, Total={}",
+                operation, inputTokens, outputTokens, inputTokens + outputTokens);
+        log.info("💰 Cost: ${} (₩{}) = Input: ${} + Output: ${}",
+                String.format("%.6f", totalCostUsd),
+                String.format("%.2f", totalCostUsd * KRW_PER_USD),
+                String.format("%.6f", inputCostUsd),
+                String.format("%.6f", outputCostUsd));
+    }
+
+    private Counter tokenCounter(String operation, String type) {
+        return Counter.builder("ai.chat.tokens")
+                .tags("model", model, "operation", operation, "type", type)
+                .register(meterRegistry);
+    }
+
+    private static long tokens(Number count) {
+        return count != null ? count.longValue() : 0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.linglevel.api.common.ai;
+
+import org.springframework.ai.chat.prompt.PromptTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 번만 렌더링해 두고 재사용하는 프롬프트 템플릿
+ * - 생성 시 PromptTemplate으로 상수(출력 포맷 등)를 채우고, 호출마다 바뀌는 변수 위치만 남겨 고정 구간으로 분리
+ * - render는 고정 구간과 변수 값을 이어 붙이기만 하므로 스레드 안전 (PromptTemplate은 내부 ST를 공유해 스레드 안전하지 않음)
+ */
+public final class CompiledPromptTemplate {
+
+    private static final char MARKER = '\u0000';
+
+    private final List<String> segments;
+    private final List<String> slots;
+    private final int staticLength;
+
+    private CompiledPromptTemplate(List<String> segments, List<String> slots) {
+        this.segments = segments;
+        this.slots = slots;
+        this.staticLength = segments.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * @param template PromptTemplate 문법의 템플릿
+     * @param constants 컴파일 시점에 한 번만 채울 값
+     * @param variables 호출마다 채울 변수 이름
+     */
+    public static CompiledPromptTemplate compile(String template, Map<String, Object> constants, String... variables) {
+        Map<String, Object> model = new HashMap<>(constants);
+        for (String variable : variables) {
+            model.put(variable, MARKER + variable + MARKER);
+        }
+        String rendered = new PromptTemplate(template).render(model);
+
+        List<String> segments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int start = rendered.indexOf(MARKER, position);
+            if (start < 0) {
+                segments.add(rendered.substring(position));
+                break;
+            }
+            int end = rendered.indexOf(MARKER, start + 1);
+            segments.add(rendered.substring(position, start));
+            slots.add(rendered.substring(start + 1, end));
+            position = end + 1;
+        }
+
+        return new CompiledPromptTemplate(List.copyOf(segments), List.copyOf(slots));
+    }
+
+    public String render(Map<String, String> values) {
+        StringBuilder builder = new StringBuilder(staticLength + 64);
+        for (int i = 0; i < slots.size(); i++) {
+            String value = values.get(slots.get(i));
+            if (value == null) {
+                throw new IllegalArgumentException("Missing prompt variable: " + slots.get(i));
+            }
+            builder.append(segments.get(i)).append(value);
+        }
+        return builder.append(segments.get(slots.size())).toString();
+    }
+}
@@ -12,6 +12,9 @@ import org.springframework.context.annotation.Configuration;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 public class FirebaseConfig {
@@ -39,4 +42,17 @@ public class FirebaseConfig {
     public FirebaseMessaging firebaseMessaging(FirebaseAuth firebaseAuth) {
         return FirebaseMessaging.getInstance(FirebaseApp.getInstance());
     }
-}
\ No newline at end of file
+
+    /**
+     * 푸시 배치 전송용 공용 스레드 풀 (전송 호출 간 공유, 동시에 전송 중인 배치 수 상한)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService pushDispatchExecutor(@Value("${fcm.dispatch.max-in-flight:4}") int maxInFlight) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, maxInFlight), runnable -> {
+            Thread thread = new Thread(runnable, "push-dispatch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -13,6 +13,7 @@ public enum CommonErrorCode {
     FORBIDDEN(HttpStatus.FORBIDDEN, "접근 권한이 없습니다"),
     REQUEST_CONFLICT(HttpStatus.CONFLICT, "요청 처리 중 충돌이 발생했습니다. 잠시 후 다시 시도해주세요."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다"),
+    AI_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI 서비스를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요."),
     NOT_IMPLEMENTED(HttpStatus.NOT_IMPLEMENTED, "미구현된 기능입니다");
     
     private final HttpStatus status;
@@ -1,10 +1,12 @@
 package com.linglevel.api.common.handler;
 
+import com.linglevel.api.common.ai.AiUnavailableException;
 import com.linglevel.api.common.dto.ExceptionResponse;
 import com.linglevel.api.common.exception.CommonErrorCode;
 import com.linglevel.api.common.exception.CommonException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -22,6 +24,14 @@ public class GlobalExceptionHandler {
                 .body(new ExceptionResponse(e));
     }
 
+    @ExceptionHandler(AiUnavailableException.class)
+    public ResponseEntity<ExceptionResponse> handleAiUnavailableException(AiUnavailableException e) {
+        log.warn("AI call rejected: {}", e.getReason());
+        return ResponseEntity.status(e.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ExceptionResponse(e));
+    }
+
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<ExceptionResponse> handleNoHandlerFoundException(NoResourceFoundException e) {
         CommonException commonException = new CommonException(CommonErrorCode.RESOURCE_NOT_FOUND);
@@ -2,10 +2,15 @@ package com.linglevel.api.content.article.repository;
 
 import com.linglevel.api.content.article.entity.ArticleChunk;
 import com.linglevel.api.content.common.DifficultyLevel;
+import com.linglevel.api.content.common.dto.ContentChunkCountDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ArticleChunkRepository extends MongoRepository<ArticleChunk, String> {
@@ -15,4 +20,39 @@ public interface ArticleChunkRepository extends MongoRepository<ArticleChunk, St
 
     // V2 Progress: Count chunks by difficulty level
     long countByArticleIdAndDifficultyLevel(String articleId, DifficultyLevel difficultyLevel);
+
+    @Query(fields = "{ 'chunkNumber': 1 }")
+    List<ArticleChunk> findChunkNumbersByIdIn(Collection<String> chunkIds);
+
+    @Aggregation(pipeline = {
+        """
+        {
+            $match: {
+                articleId: { $in: ?0 }
+            }
+        }
+        """,
+        """
+        {
+            $group: {
+                _id: {
+                    contentId: '$articleId',
+                    difficultyLevel: '$difficultyLevel'
+                },
+                count: { $sum: 1 }
+            }
+        }
+        """,
+        """
+        {
+            $project: {
+                contentId: '$_id.contentId',
+                difficultyLevel: '$_id.difficultyLevel',
+                count: 1,
+                _id: 0
+            }
+        }
+        """
+    })
+    List<ContentChunkCountDto> countChunksByArticleIds(Collection<String> articleIds);
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.linglevel.api.content.article.entity.ArticleProgress;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +12,5 @@ import java.util.Optional;
 public interface ArticleProgressRepository extends MongoRepository<ArticleProgress, String> {
     Optional<ArticleProgress> findByUserIdAndArticleId(String userId, String articleId);
     List<ArticleProgress> findAllByUserId(String userId);
+    List<ArticleProgress> findByUserIdAndArticleIdIn(String userId, Collection<String> articleIds);
 }
\ No newline at end of file
@@ -12,4 +12,6 @@ public interface ArticleRepositoryCustom {
     Page<Article> findArticleOriginsWithFilters(GetArticleOriginsRequest request, Pageable pageable);
 
     void incrementViewCount(String articleId);
+
+    void updateCoverImageUrl(String articleId, String coverImageUrl);
 }
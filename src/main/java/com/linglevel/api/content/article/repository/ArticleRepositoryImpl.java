@@ -5,28 +5,40 @@ import com.linglevel.api.content.article.dto.GetArticlesRequest;
 import com.linglevel.api.content.article.entity.Article;
 import com.linglevel.api.content.common.ContentCategory;
 import com.linglevel.api.content.common.ProgressStatus;
+import com.linglevel.api.content.common.repository.ProgressFilterAggregation;
 import com.linglevel.api.i18n.LanguageCode;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 @RequiredArgsConstructor
 public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
 
+    private static final ProgressFilterAggregation.Spec PROGRESS_SPEC =
+            new ProgressFilterAggregation.Spec("articleProgress", "articleId", "normalizedProgress");
+
     private final MongoTemplate mongoTemplate;
 
     @Override
     public Page<Article> findArticlesWithFilters(GetArticlesRequest request, String userId, Pageable pageable) {
-        Query query = buildQuery(request, userId);
+        Query query = buildQuery(request);
+
+        if (request.getProgress() != null && userId != null) {
+            return findWithProgressFilter(query, request.getProgress(), userId, pageable);
+        }
 
         // 총 개수 조회 (필터링 적용 후)
         long total = mongoTemplate.count(query, Article.class);
@@ -41,16 +53,35 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
     }
 
     /**
-     * 동적 쿼리 빌드
+     * 진도 필터 조회
+     * 기본 필터 → 사용자 진도 $lookup → 진도 상태 필터 → 페이지/개수 $facet 을 하나의 aggregation으로 실행
+     */
+    private Page<Article> findWithProgressFilter(Query query, ProgressStatus progress, String userId, Pageable pageable) {
+        List<AggregationOperation> operations = new ArrayList<>();
+
+        Document filter = query.getQueryObject();
+        if (!filter.isEmpty()) {
+            operations.add(context -> new Document("$match", context.getMappedObject(filter)));
+        }
+        operations.addAll(ProgressFilterAggregation.filterStages(PROGRESS_SPEC, userId, progress));
+        operations.add(ProgressFilterAggregation.pageFacet(pageable));
+
+        Document result = mongoTemplate.aggregate(Aggregation.newAggregation(Article.class, operations), Document.class)
+                .getUniqueMappedResult();
+
+        return ProgressFilterAggregation.readPage(result, Article.class, mongoTemplate.getConverter(), pageable);
+    }
+
+    /**
+     * 동적 쿼리 빌드 (진도 필터 제외)
      */
-    private Query buildQuery(GetArticlesRequest request, String userId) {
+    private Query buildQuery(GetArticlesRequest request) {
         Query query = new Query();
 
         // 각 필터를 독립적인 메서드로 분리
         applyCategoryFilter(query, request.getCategory());
         applyTagsFilter(query, request.getTags());
         applyKeywordFilter(query, request.getKeyword());
-        applyProgressFilter(query, request.getProgress(), userId);
         applyTargetLanguageCodeFilter(query, request.getTargetLanguageCode());
         applyCreatedAfterFilter(query, request.getCreatedAfter());
 
@@ -95,23 +126,6 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
         query.addCriteria(keywordCriteria);
     }
 
-    /**
-     * 진도 필터 적용
-     */
-    private void applyProgressFilter(Query query, ProgressStatus progress, String userId) {
-        if (progress == null || userId == null) {
-            return;
-        }
-
-        List<String> articleIds = getArticleIdsByProgress(userId, progress);
-        if (!articleIds.isEmpty()) {
-            query.addCriteria(Criteria.where("id").in(articleIds));
-        } else {
-            // 조건에 맞는 아티클이 없으면 빈 결과 반환
-            query.addCriteria(Criteria.where("_id").is(null));
-        }
-    }
-
     /**
      * 타깃 언어 코드 필터 적용
      */
@@ -134,78 +148,6 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
         query.addCriteria(Criteria.where("createdAt").gte(createdAfter));
     }
 
-    /**
-     * 진도 상태별 아티클 ID 목록 조회
-     */
-    private List<String> getArticleIdsByProgress(String userId, ProgressStatus progressStatus) {
-        return switch (progressStatus) {
-            case NOT_STARTED -> getNotStartedArticleIds(userId);
-            case IN_PROGRESS -> getInProgressArticleIds(userId);
-            case COMPLETED -> getCompletedArticleIds(userId);
-        };
-    }
-
-    /**
-     * 시작하지 않은 아티클 ID 목록 조회
-     */
-    private List<String> getNotStartedArticleIds(String userId) {
-        // 모든 아티클 ID 조회
-        List<String> allArticleIds = mongoTemplate.findAll(Article.class).stream()
-                .map(Article::getId)
-                .toList();
-
-        // 진도가 있는 아티클 ID 조회
-        List<String> progressArticleIds = findProgressArticleIds(userId);
-
-        // 진도가 없는 아티클만 반환
-        return allArticleIds.stream()
-                .filter(articleId -> !progressArticleIds.contains(articleId))
-                .toList();
-    }
-
-    /**
-     * 진행 중인 아티클 ID 목록 조회
-     */
-    private List<String> getInProgressArticleIds(String userId) {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("userId").is(userId));
-        query.addCriteria(Criteria.where("isCompleted").is(false));
-        query.addCriteria(Criteria.where("currentReadChunkNumber").gt(0));
-
-        return findArticleIdsFromProgress(query);
-    }
-
-    /**
-     * 완료한 아티클 ID 목록 조회
-     */
-    private List<String> getCompletedArticleIds(String userId) {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("userId").is(userId));
-        query.addCriteria(Criteria.where("isCompleted").is(true));
-
-        return findArticleIdsFromProgress(query);
-    }
-
-    /**
-     * 특정 사용자의 모든 진도 아티클 ID 조회
-     */
-    private List<String> findProgressArticleIds(String userId) {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("userId").is(userId));
-
-        return findArticleIdsFromProgress(query);
-    }
-
-    /**
-     * ArticleProgress 컬렉션에서 articleId 추출
-     */
-    private List<String> findArticleIdsFromProgress(Query query) {
-        return mongoTemplate.find(query, org.bson.Document.class, "articleProgress")
-                .stream()
-                .map(doc -> doc.getString("articleId"))
-                .toList();
-    }
-
     @Override
     public Page<Article> findArticleOriginsWithFilters(GetArticleOriginsRequest request, Pageable pageable) {
         Query query = buildOriginQuery(request);
@@ -244,4 +186,11 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
         Update update = new Update().inc("viewCount", 1);
         mongoTemplate.updateFirst(query, update, Article.class);
     }
+
+    @Override
+    public void updateCoverImageUrl(String articleId, String coverImageUrl) {
+        Query query = new Query(Criteria.where("id").is(articleId));
+        Update update = new Update().set("coverImageUrl", coverImageUrl);
+        mongoTemplate.updateFirst(query, update, Article.class);
+    }
 }
@@ -0,0 +1,50 @@
+package com.linglevel.api.content.article.service;
+
+import com.linglevel.api.content.article.entity.ArticleChunk;
+import com.linglevel.api.content.article.entity.ArticleProgress;
+import com.linglevel.api.content.article.repository.ArticleChunkRepository;
+import com.linglevel.api.content.article.repository.ArticleProgressRepository;
+import com.linglevel.api.content.common.dto.ContentChunkCountDto;
+import com.linglevel.api.content.common.service.ContentProgressHydrator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class ArticleProgressHydrator extends ContentProgressHydrator<ArticleProgress> {
+
+    private final ArticleProgressRepository articleProgressRepository;
+    private final ArticleChunkRepository articleChunkRepository;
+
+    @Override
+    protected List<ArticleProgress> findProgresses(String userId, Collection<String> articleIds) {
+        return articleProgressRepository.findByUserIdAndArticleIdIn(userId, articleIds);
+    }
+
+    @Override
+    protected String contentIdOf(ArticleProgress progress) {
+        return progress.getArticleId();
+    }
+
+    @Override
+    protected String chunkIdOf(ArticleProgress progress) {
+        return progress.getChunkId();
+    }
+
+    @Override
+    protected Map<String, Integer> findChunkNumbers(Collection<String> chunkIds) {
+        return articleChunkRepository.findChunkNumbersByIdIn(chunkIds).stream()
+                .filter(chunk -> chunk.getChunkNumber() != null)
+                .collect(Collectors.toMap(ArticleChunk::getId, ArticleChunk::getChunkNumber));
+    }
+
+    @Override
+    protected List<ContentChunkCountDto> countChunks(Collection<String> articleIds) {
+        return articleChunkRepository.countChunksByArticleIds(articleIds);
+    }
+}
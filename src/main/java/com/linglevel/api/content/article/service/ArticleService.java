@@ -3,14 +3,12 @@ package com.linglevel.api.content.article.service;
 import com.linglevel.api.common.dto.PageResponse;
 import com.linglevel.api.content.common.ContentCategory;
 import com.linglevel.api.content.common.DifficultyLevel;
+import com.linglevel.api.content.common.service.ContentProgressBatch;
 import com.linglevel.api.content.article.dto.*;
 import com.linglevel.api.content.article.entity.Article;
-import com.linglevel.api.content.article.entity.ArticleChunk;
 import com.linglevel.api.content.article.exception.ArticleErrorCode;
 import com.linglevel.api.content.article.exception.ArticleException;
 import com.linglevel.api.content.article.repository.ArticleRepository;
-import com.linglevel.api.content.article.repository.ArticleProgressRepository;
-import com.linglevel.api.content.article.repository.ArticleChunkRepository;
 import com.linglevel.api.content.article.entity.ArticleProgress;
 import com.linglevel.api.i18n.LanguageCode;
 
@@ -18,8 +16,8 @@ import java.util.stream.Collectors;
 import com.linglevel.api.s3.service.S3AiService;
 import com.linglevel.api.s3.service.S3TransferService;
 import com.linglevel.api.s3.service.S3UrlService;
-import com.linglevel.api.s3.service.ImageResizeService;
 import com.linglevel.api.s3.strategy.ArticlePathStrategy;
+import com.linglevel.api.s3.thumbnail.ThumbnailJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -40,15 +38,13 @@ import java.util.List;
 public class ArticleService {
 
     private final ArticleRepository articleRepository;
-    private final ArticleProgressRepository articleProgressRepository;
-    private final ArticleChunkRepository articleChunkRepository;
     private final ArticleImportService articleImportService;
     private final ArticleReadingTimeService articleReadingTimeService;
-    private final ArticleChunkService articleChunkService;
+    private final ArticleProgressHydrator articleProgressHydrator;
     private final S3AiService s3AiService;
     private final S3TransferService s3TransferService;
     private final S3UrlService s3UrlService;
-    private final ImageResizeService imageResizeService;
+    private final ThumbnailJobService thumbnailJobService;
     private final ArticlePathStrategy articlePathStrategy;
 
     public PageResponse<ArticleResponse> getArticles(GetArticlesRequest request, String userId) {
@@ -59,8 +55,12 @@ public class ArticleService {
         // Custom Repository 사용 - 필터링 + 페이지네이션 통합 처리
         Page<Article> articlePage = articleRepository.findArticlesWithFilters(request, userId, pageable);
 
-        List<ArticleResponse> articleResponses = articlePage.getContent().stream()
-                .map(article -> convertToArticleResponse(article, userId))
+        List<Article> articles = articlePage.getContent();
+        ContentProgressBatch<ArticleProgress> progressBatch = articleProgressHydrator.hydrate(
+                userId, articles.stream().map(Article::getId).collect(Collectors.toList()));
+
+        List<ArticleResponse> articleResponses = articles.stream()
+                .map(article -> convertToArticleResponse(article, progressBatch))
                 .collect(Collectors.toList());
 
         return PageResponse.of(articlePage, articleResponses);
@@ -70,7 +70,7 @@ public class ArticleService {
         Article article = articleRepository.findById(articleId)
                 .orElseThrow(() -> new ArticleException(ArticleErrorCode.ARTICLE_NOT_FOUND));
 
-        return convertToArticleResponse(article, userId);
+        return convertToArticleResponse(article, articleProgressHydrator.hydrate(userId, List.of(articleId)));
     }
 
     @Transactional
@@ -87,26 +87,18 @@ public class ArticleService {
         String coverImageUrl = s3UrlService.getCoverImageUrl(savedArticle.getId(), articlePathStrategy);
         savedArticle.setCoverImageUrl(coverImageUrl);
 
-        if (StringUtils.hasText(coverImageUrl)) {
-            try {
-                log.info("Auto-processing cover image for imported article: {}", savedArticle.getId());
-
-                String originalCoverS3Key = articlePathStrategy.generateCoverImagePath(savedArticle.getId());
-                String smallImageUrl = imageResizeService.createSmallImage(originalCoverS3Key);
-
-                savedArticle.setCoverImageUrl(smallImageUrl);
-                log.info("Successfully auto-processed cover image: {} → {}", savedArticle.getId(), smallImageUrl);
-
-            } catch (Exception e) {
-                log.warn("Failed to auto-process cover image for article: {}, keeping original URL", savedArticle.getId(), e);
-            }
-        }
-
         articleRepository.save(savedArticle);
         
         articleImportService.createChunksFromLeveledResults(importData, savedArticle.getId());
         
         articleReadingTimeService.updateReadingTime(savedArticle.getId(), importData);
+
+        // 커버 썸네일은 비동기로 생성 (기사 문서 저장이 모두 끝난 뒤 등록해야 덮어쓰이지 않음)
+        if (StringUtils.hasText(coverImageUrl)) {
+            String articleId = savedArticle.getId();
+            thumbnailJobService.submitCover(articlePathStrategy.generateCoverImagePath(articleId),
+                    smallImageUrl -> articleRepository.updateCoverImageUrl(articleId, smallImageUrl));
+        }
         
         log.info("Successfully imported article with id: {}", savedArticle.getId());
         
@@ -211,43 +203,33 @@ public class ArticleService {
         article.setTags(importedTags);
     }
 
-    private ArticleResponse convertToArticleResponse(Article article, String userId) {
-        // 진도 정보 조회
+    private ArticleResponse convertToArticleResponse(Article article, ContentProgressBatch<ArticleProgress> progressBatch) {
+        // 진도 정보 조회 (페이지 단위로 미리 조회된 결과 사용)
         int currentReadChunkNumber = 0;
         double progressPercentage = 0.0;
         boolean isCompleted = false;
         DifficultyLevel currentDifficultyLevel = article.getDifficultyLevel(); // Fallback: Article의 난이도
 
-        if (userId != null) {
-            ArticleProgress progress = articleProgressRepository
-                .findByUserIdAndArticleId(userId, article.getId())
-                .orElse(null);
-
-            if (progress != null) {
-                // [DTO_MAPPING] chunk에서 chunkNumber 조회 (안전하게 처리)
-                try {
-                    ArticleChunk chunk = articleChunkService.findById(progress.getChunkId());
-                    currentReadChunkNumber = chunk.getChunkNumber() != null ? chunk.getChunkNumber() : 0;
-                } catch (Exception e) {
-                    log.warn("Failed to find chunk for progress: {}", progress.getChunkId(), e);
-                    currentReadChunkNumber = 0;
-                }
-
-                // Progress가 있으면 currentDifficultyLevel 사용
-                if (progress.getCurrentDifficultyLevel() != null) {
-                    currentDifficultyLevel = progress.getCurrentDifficultyLevel();
-                }
-
-                // V2: 현재 난이도 기준으로 동적으로 청크 수 계산
-                long totalChunksForLevel = articleChunkRepository.countByArticleIdAndDifficultyLevel(article.getId(), currentDifficultyLevel);
-
-                if (totalChunksForLevel > 0) {
-                    progressPercentage = (double) currentReadChunkNumber / totalChunksForLevel * 100.0;
-                }
-
-                // DB에 저장된 완료 여부 사용
-                isCompleted = progress.getIsCompleted() != null ? progress.getIsCompleted() : false;
+        ArticleProgress progress = progressBatch.progressOf(article.getId()).orElse(null);
+
+        if (progress != null) {
+            // [DTO_MAPPING] chunk에서 chunkNumber 조회 (청크가 없으면 0)
+            currentReadChunkNumber = progressBatch.chunkNumberOf(progress.getChunkId());
+
+            // Progress가 있으면 currentDifficultyLevel 사용
+            if (progress.getCurrentDifficultyLevel() != null) {
+                currentDifficultyLevel = progress.getCurrentDifficultyLevel();
             }
+
+            // V2: 현재 난이도 기준으로 동적으로 청크 수 계산
+            long totalChunksForLevel = progressBatch.chunkCountOf(article.getId(), currentDifficultyLevel);
+
+            if (totalChunksForLevel > 0) {
+                progressPercentage = (double) currentReadChunkNumber / totalChunksForLevel * 100.0;
+            }
+
+            // DB에 저장된 완료 여부 사용
+            isCompleted = progress.getIsCompleted() != null ? progress.getIsCompleted() : false;
         }
 
         ArticleResponse response = new ArticleResponse();
@@ -256,7 +238,7 @@ public class ArticleService {
         response.setAuthor(article.getAuthor());
         response.setCoverImageUrl(article.getCoverImageUrl());
         response.setDifficultyLevel(article.getDifficultyLevel());
-        response.setChunkCount((int) articleChunkRepository.countByArticleIdAndDifficultyLevel(article.getId(), currentDifficultyLevel));
+        response.setChunkCount((int) progressBatch.chunkCountOf(article.getId(), currentDifficultyLevel));
         response.setCurrentReadChunkNumber(currentReadChunkNumber);
         response.setProgressPercentage(progressPercentage);
         response.setCurrentDifficultyLevel(currentDifficultyLevel);
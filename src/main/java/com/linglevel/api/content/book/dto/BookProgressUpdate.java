@@ -0,0 +1,33 @@
+package com.linglevel.api.content.book.dto;
+
+import com.linglevel.api.content.common.DifficultyLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 청크 읽기 한 번에 대한 BookProgress 변경 내용
+ */
+@Getter
+@Builder
+public class BookProgressUpdate {
+    private final String chapterId;
+    private final String chunkId;
+    private final Integer chapterNumber;
+    private final DifficultyLevel difficultyLevel;
+
+    /**
+     * 현재 챕터 내 진행률 (0-100%)
+     */
+    private final double chapterProgressPercentage;
+
+    /**
+     * 챕터의 마지막 청크인지 여부 (true면 챕터 완료 처리)
+     */
+    private final boolean chapterCompleted;
+
+    private final int totalChapters;
+
+    private final Instant now;
+}
@@ -0,0 +1,44 @@
+package com.linglevel.api.content.book.dto;
+
+import com.linglevel.api.content.book.entity.Chapter;
+import com.linglevel.api.content.common.DifficultyLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시되는 책 구조 정보
+ * chapters는 챕터 번호 오름차순이며, chunkCounts는 챕터 ID별 난이도별 청크 수입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookStructure implements Serializable {
+    private String bookId;
+    private DifficultyLevel difficultyLevel;
+    private List<Chapter> chapters;
+    private Map<String, Map<DifficultyLevel, Long>> chunkCounts;
+
+    public Chapter findChapter(String chapterId) {
+        return chapters.stream()
+                .filter(chapter -> chapter.getId().equals(chapterId))
+                .findFirst()
+                .orElse(null);
+    }
+
+    public Chapter findChapterByNumber(int chapterNumber) {
+        return chapters.stream()
+                .filter(chapter -> chapter.getChapterNumber() != null && chapter.getChapterNumber() == chapterNumber)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public Map<DifficultyLevel, Long> chunkCountsOf(String chapterId) {
+        return chunkCounts.getOrDefault(chapterId, Collections.emptyMap());
+    }
+}
@@ -0,0 +1,19 @@
+package com.linglevel.api.content.book.dto;
+
+import com.linglevel.api.content.book.entity.Chunk;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 캐시되는 챕터/난이도별 청크 목록 (청크 번호 오름차순)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChapterChunks implements Serializable {
+    private List<Chunk> chunks;
+}
@@ -5,12 +5,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface BookProgressRepository extends MongoRepository<BookProgress, String> {
+public interface BookProgressRepository extends MongoRepository<BookProgress, String>, BookProgressRepositoryCustom {
     Optional<BookProgress> findByUserIdAndBookId(String UserId, String bookId);
     Page<BookProgress> findAllByUserId(String userId, Pageable pageable);
     List<BookProgress> findAllByUserId(String userId);
     List<BookProgress> findByBookId(String bookId);
+    List<BookProgress> findByUserIdAndBookIdIn(String userId, Collection<String> bookIds);
 }
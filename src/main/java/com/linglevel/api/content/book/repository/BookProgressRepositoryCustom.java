@@ -0,0 +1,8 @@
+package com.linglevel.api.content.book.repository;
+
+import com.linglevel.api.content.book.dto.BookProgressUpdate;
+import com.linglevel.api.content.book.entity.BookProgress;
+
+public interface BookProgressRepositoryCustom {
+    BookProgress applyChunkProgress(String userId, String bookId, BookProgressUpdate update);
+}
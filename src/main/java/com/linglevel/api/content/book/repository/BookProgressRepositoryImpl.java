@@ -0,0 +1,110 @@
+package com.linglevel.api.content.book.repository;
+
+import com.linglevel.api.content.book.dto.BookProgressUpdate;
+import com.linglevel.api.content.book.entity.BookProgress;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.SetOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BookProgressRepositoryImpl implements BookProgressRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 청크 읽기 결과를 파이프라인 업데이트 한 번(findAndModify, upsert)으로 반영
+     * 조회 후 저장(load-modify-save) 없이 서버에서 다음을 처리합니다.
+     * 1. 현재 위치/최대 챕터 갱신, chapterProgresses 항목 갱신 또는 추가 (레거시 null 배열 포함)
+     * 2. 완료된 챕터 수로 책 전체 진행률 계산
+     * 3. 챕터 완료 시 모든 챕터가 완료되었으면 책 완료 처리 (최초 1회)
+     */
+    @Override
+    public BookProgress applyChunkProgress(String userId, String bookId, BookProgressUpdate update) {
+        Date now = Date.from(update.getNow());
+        Integer chapterNumber = update.getChapterNumber();
+
+        Document completedCount = new Document("$size", new Document("$filter", new Document()
+                .append("input", "$chapterProgresses")
+                .append("as", "cp")
+                .append("cond", new Document("$eq", List.of("$$cp.isCompleted", true)))));
+
+        Object normalizedProgress = update.getTotalChapters() > 0
+                ? new Document("$divide", List.of(new Document("$multiply", List.of(completedCount, 100.0)), update.getTotalChapters()))
+                : 0.0;
+
+        AggregationUpdate pipeline = AggregationUpdate.update()
+                .set(SetOperation.builder()
+                        .set("chapterId").toValue(update.getChapterId())
+                        .and().set("chunkId").toValue(update.getChunkId())
+                        .and().set("currentReadChapterNumber").toValue(chapterNumber)
+                        .and().set("currentDifficultyLevel").toValue(update.getDifficultyLevel() != null ? update.getDifficultyLevel().name() : null)
+                        .and().set("maxReadChapterNumber").toValue(new Document("$max", List.of("$maxReadChapterNumber", chapterNumber)))
+                        .and().set("isCompleted").toValue(new Document("$ifNull", List.of("$isCompleted", false)))
+                        .and().set("chapterProgresses").toValue(chapterProgressesExpression(update, now))
+                        .and().set("updatedAt").toValue(now))
+                .set(SetOperation.builder()
+                        .set("normalizedProgress").toValue(normalizedProgress)
+                        .and().set("maxNormalizedProgress").toValue(normalizedProgress));
+
+        if (update.isChapterCompleted()) {
+            // completedAt이 없을 때만 최초 완료로 기록 (같은 $set 단계 안에서는 갱신 전 값을 참조)
+            Document firstBookCompletion = new Document("$and", List.of(
+                    new Document("$gte", List.of(completedCount, update.getTotalChapters())),
+                    new Document("$eq", Arrays.asList(new Document("$ifNull", Arrays.asList("$completedAt", null)), null))));
+
+            pipeline.set(SetOperation.builder()
+                    .set("isCompleted").toValue(new Document("$cond", List.of(firstBookCompletion, true, "$isCompleted")))
+                    .and().set("completedAt").toValue(new Document("$cond", List.of(firstBookCompletion, now, "$completedAt"))));
+        }
+
+        Query query = new Query(Criteria.where("userId").is(userId).and("bookId").is(bookId));
+        return mongoTemplate.findAndModify(query, pipeline,
+                FindAndModifyOptions.options().upsert(true).returnNew(true), BookProgress.class);
+    }
+
+    /**
+     * 현재 챕터 항목이 있으면 갱신하고 없으면 배열 끝에 추가
+     * 챕터 완료가 아니면 isCompleted를 false로 되돌리되 기존 completedAt은 유지합니다.
+     */
+    private Document chapterProgressesExpression(BookProgressUpdate update, Date now) {
+        Integer chapterNumber = update.getChapterNumber();
+
+        Document changes = new Document("progressPercentage", update.getChapterProgressPercentage())
+                .append("isCompleted", update.isChapterCompleted());
+        Document newEntry = new Document("chapterNumber", chapterNumber)
+                .append("progressPercentage", update.getChapterProgressPercentage())
+                .append("isCompleted", update.isChapterCompleted());
+
+        if (update.isChapterCompleted()) {
+            // 이미 완료된 챕터면 첫 완료 시점 유지
+            changes.append("completedAt", new Document("$cond", List.of(
+                    new Document("$eq", List.of("$$cp.isCompleted", true)), "$$cp.completedAt", now)));
+            newEntry.append("completedAt", now);
+        }
+
+        Document updated = new Document("$map", new Document()
+                .append("input", "$$cps")
+                .append("as", "cp")
+                .append("in", new Document("$cond", List.of(
+                        new Document("$eq", List.of("$$cp.chapterNumber", chapterNumber)),
+                        new Document("$mergeObjects", List.of("$$cp", changes)),
+                        "$$cp"))));
+        Document appended = new Document("$concatArrays", List.of("$$cps", List.of(newEntry)));
+
+        return new Document("$let", new Document()
+                .append("vars", new Document("cps", new Document("$ifNull", List.of("$chapterProgresses", List.of()))))
+                .append("in", new Document("$cond", List.of(
+                        new Document("$in", List.of(chapterNumber, "$$cps.chapterNumber")),
+                        updated,
+                        appended))));
+    }
+}
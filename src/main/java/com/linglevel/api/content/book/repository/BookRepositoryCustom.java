@@ -17,4 +17,6 @@ public interface BookRepositoryCustom {
     Page<Book> findBooksWithFilters(GetBooksRequest request, String userId, Pageable pageable);
     
     void incrementViewCount(String bookId);
+
+    void updateCoverImageUrl(String bookId, String coverImageUrl);
 }
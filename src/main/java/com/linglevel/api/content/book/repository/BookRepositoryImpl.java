@@ -3,16 +3,21 @@ package com.linglevel.api.content.book.repository;
 import com.linglevel.api.content.book.dto.GetBooksRequest;
 import com.linglevel.api.content.book.entity.Book;
 import com.linglevel.api.content.common.ProgressStatus;
+import com.linglevel.api.content.common.repository.ProgressFilterAggregation;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -23,11 +28,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookRepositoryImpl implements BookRepositoryCustom {
 
+    private static final ProgressFilterAggregation.Spec PROGRESS_SPEC =
+            new ProgressFilterAggregation.Spec("bookProgress", "bookId", "currentReadChapterNumber");
+
     private final MongoTemplate mongoTemplate;
 
     @Override
     public Page<Book> findBooksWithFilters(GetBooksRequest request, String userId, Pageable pageable) {
-        Query query = buildQuery(request, userId);
+        Query query = buildQuery(request);
+
+        if (request.getProgress() != null && userId != null) {
+            return findWithProgressFilter(query, request.getProgress(), userId, pageable);
+        }
 
         // 총 개수 조회 (필터링 적용 후)
         long total = mongoTemplate.count(query, Book.class);
@@ -42,15 +54,34 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
     }
 
     /**
-     * 동적 쿼리 빌드 (BooleanExpression 스타일)
+     * 진도 필터 조회
+     * 기본 필터 → 사용자 진도 $lookup → 진도 상태 필터 → 페이지/개수 $facet 을 하나의 aggregation으로 실행
+     */
+    private Page<Book> findWithProgressFilter(Query query, ProgressStatus progress, String userId, Pageable pageable) {
+        List<AggregationOperation> operations = new ArrayList<>();
+
+        Document filter = query.getQueryObject();
+        if (!filter.isEmpty()) {
+            operations.add(context -> new Document("$match", context.getMappedObject(filter)));
+        }
+        operations.addAll(ProgressFilterAggregation.filterStages(PROGRESS_SPEC, userId, progress));
+        operations.add(ProgressFilterAggregation.pageFacet(pageable));
+
+        Document result = mongoTemplate.aggregate(Aggregation.newAggregation(Book.class, operations), Document.class)
+                .getUniqueMappedResult();
+
+        return ProgressFilterAggregation.readPage(result, Book.class, mongoTemplate.getConverter(), pageable);
+    }
+
+    /**
+     * 동적 쿼리 빌드 (BooleanExpression 스타일, 진도 필터 제외)
      */
-    private Query buildQuery(GetBooksRequest request, String userId) {
+    private Query buildQuery(GetBooksRequest request) {
         Query query = new Query();
 
         // 각 필터를 독립적인 메서드로 분리
         applyTagsFilter(query, request.getTags());
         applyKeywordFilter(query, request.getKeyword());
-        applyProgressFilter(query, request.getProgress(), userId);
         applyCreatedAfterFilter(query, request.getCreatedAfter());
 
         return query;
@@ -83,20 +114,6 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
         query.addCriteria(keywordCriteria);
     }
 
-    /**
-     * 진도 필터 적용
-     */
-    private void applyProgressFilter(Query query, ProgressStatus progress, String userId) {
-        if (progress == null || userId == null) {
-            return;
-        }
-
-        List<String> bookIds = getBookIdsByProgress(userId, progress);
-        if (!bookIds.isEmpty()) {
-            query.addCriteria(Criteria.where("id").in(bookIds));
-        }
-    }
-
     /**
      * 생성 시간 필터 적용 (해당 시간 이후)
      */
@@ -108,82 +125,17 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
         query.addCriteria(Criteria.where("createdAt").gte(createdAfter));
     }
 
-    /**
-     * 진도 상태별 책 ID 목록 조회
-     */
-    private List<String> getBookIdsByProgress(String userId, ProgressStatus progressStatus) {
-        return switch (progressStatus) {
-            case NOT_STARTED -> getNotStartedBookIds(userId);
-            case IN_PROGRESS -> getInProgressBookIds(userId);
-            case COMPLETED -> getCompletedBookIds(userId);
-        };
-    }
-
-    /**
-     * 시작하지 않은 책 ID 목록 조회
-     */
-    private List<String> getNotStartedBookIds(String userId) {
-        // 모든 책 ID 조회
-        List<String> allBookIds = mongoTemplate.findAll(Book.class).stream()
-                .map(Book::getId)
-                .toList();
-
-        // 진도가 있는 책 ID 조회
-        List<String> progressBookIds = findProgressBookIds(userId);
-
-        // 진도가 없는 책만 반환
-        return allBookIds.stream()
-                .filter(bookId -> !progressBookIds.contains(bookId))
-                .toList();
-    }
-
-    /**
-     * 진행 중인 책 ID 목록 조회
-     */
-    private List<String> getInProgressBookIds(String userId) {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("userId").is(userId));
-        query.addCriteria(Criteria.where("isCompleted").is(false));
-        query.addCriteria(Criteria.where("maxReadChunkNumber").gt(0));
-
-        return findBookIdsFromProgress(query);
-    }
-
-    /**
-     * 완료한 책 ID 목록 조회
-     */
-    private List<String> getCompletedBookIds(String userId) {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("userId").is(userId));
-        query.addCriteria(Criteria.where("isCompleted").is(true));
-
-        return findBookIdsFromProgress(query);
-    }
-
-    /**
-     * 특정 사용자의 모든 진도 책 ID 조회
-     */
-    private List<String> findProgressBookIds(String userId) {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("userId").is(userId));
-
-        return findBookIdsFromProgress(query);
-    }
-
-    /**
-     * Progress 컬렉션에서 bookId 추출
-     */
-    private List<String> findBookIdsFromProgress(Query query) {
-        return mongoTemplate.find(query, org.bson.Document.class, "bookProgress")
-                .stream()
-                .map(doc -> doc.getString("bookId"))
-                .toList();
-    }
-
     @Override
     public void incrementViewCount(String bookId) {
         Query query = new Query(Criteria.where("id").is(bookId));
         Update update = new Update().inc("viewCount", 1);
         mongoTemplate.updateFirst(query, update, Book.class);
     }
+
+    @Override
+    public void updateCoverImageUrl(String bookId, String coverImageUrl) {
+        Query query = new Query(Criteria.where("id").is(bookId));
+        Update update = new Update().set("coverImageUrl", coverImageUrl);
+        mongoTemplate.updateFirst(query, update, Book.class);
+    }
 }
@@ -4,6 +4,7 @@ import com.linglevel.api.content.book.entity.Chunk;
 import com.linglevel.api.content.common.DifficultyLevel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
@@ -17,6 +18,8 @@ public interface ChunkRepository extends MongoRepository<Chunk, String> {
 
     Page<Chunk> findByChapterIdAndDifficultyLevel(String chapterId, DifficultyLevel difficultyLevel, Pageable pageable);
 
+    List<Chunk> findByChapterIdAndDifficultyLevel(String chapterId, DifficultyLevel difficultyLevel, Sort sort);
+
     Optional<Chunk> findFirstByChapterIdOrderByChunkNumberAsc(String chapterId);
 
     Optional<Chunk> findById(String chunkId);
@@ -0,0 +1,145 @@
+package com.linglevel.api.content.book.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 책 콘텐츠 구조 2단계 read-through 캐시
+ * - L1: 프로세스 내 LRU (엔트리 수 상한)
+ * - L2: Redis (TTL)
+ * 책/챕터/청크는 임포트 시에만 바뀌므로 개별 삭제 대신 버전 스탬프로 무효화합니다.
+ * 모든 키에 현재 버전이 포함되고, 임포트/삭제 시 bumpVersion으로 버전을 올리면 이전 키는 더 이상 조회되지 않습니다.
+ * 다른 인스턴스의 버전 변경은 version-refresh-ms 주기로 Redis에서 확인합니다.
+ * Redis 장애 시에는 L1과 DB만 사용합니다.
+ */
+@Component
+@Slf4j
+public class BookContentCache {
+
+    private static final String KEY_PREFIX = "book:content:";
+    private static final String VERSION_KEY = KEY_PREFIX + "version";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration redisTtl;
+    private final long versionRefreshMillis;
+
+    private final Map<String, Object> localEntries;
+    private volatile long version;
+    private volatile long versionCheckedAt;
+
+    private final Counter l1HitCounter;
+    private final Counter l2HitCounter;
+    private final Counter missCounter;
+
+    public BookContentCache(RedisTemplate<String, Object> redisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${book.content-cache.l1-max-entries:5000}") int maxLocalEntries,
+                            @Value("${book.content-cache.redis-ttl-hours:24}") long redisTtlHours,
+                            @Value("${book.content-cache.version-refresh-ms:5000}") long versionRefreshMillis) {
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = Duration.ofHours(redisTtlHours);
+        this.versionRefreshMillis = versionRefreshMillis;
+        this.localEntries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > maxLocalEntries;
+            }
+        });
+
+        Gauge.builder("book.content.cache.l1.entries", localEntries, Map::size)
+                .description("Entries in the in-process book content cache")
+                .register(meterRegistry);
+        this.l1HitCounter = Counter.builder("book.content.cache.hits").tag("tier", "l1").register(meterRegistry);
+        this.l2HitCounter = Counter.builder("book.content.cache.hits").tag("tier", "l2").register(meterRegistry);
+        this.missCounter = Counter.builder("book.content.cache.misses").register(meterRegistry);
+    }
+
+    /**
+     * L1 → L2 → loader 순서로 조회
+     * loader가 null을 반환하면 캐시하지 않습니다.
+     */
+    public <T> T get(String key, Class<T> type, Supplier<T> loader) {
+        String versionedKey = KEY_PREFIX + "v" + currentVersion() + ":" + key;
+
+        Object local = localEntries.get(versionedKey);
+        if (type.isInstance(local)) {
+            l1HitCounter.increment();
+            return type.cast(local);
+        }
+
+        try {
+            Object remote = redisTemplate.opsForValue().get(versionedKey);
+            if (type.isInstance(remote)) {
+                l2HitCounter.increment();
+                localEntries.put(versionedKey, remote);
+                return type.cast(remote);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read book content cache - key: {}, error: {}", versionedKey, e.getMessage());
+        }
+
+        missCounter.increment();
+        T loaded = loader.get();
+        if (loaded == null) {
+            return null;
+        }
+
+        localEntries.put(versionedKey, loaded);
+        try {
+            redisTemplate.opsForValue().set(versionedKey, loaded, redisTtl);
+        } catch (Exception e) {
+            log.warn("Failed to write book content cache - key: {}, error: {}", versionedKey, e.getMessage());
+        }
+        return loaded;
+    }
+
+    /**
+     * 콘텐츠 구조가 바뀌었을 때 호출 (임포트, 삭제, 청크 수정)
+     * 이 인스턴스의 L1은 즉시 비우고, 다른 인스턴스는 다음 버전 확인 시 반영됩니다.
+     */
+    public void bumpVersion() {
+        long next;
+        try {
+            Long incremented = redisTemplate.opsForValue().increment(VERSION_KEY);
+            next = incremented != null ? incremented : version + 1;
+        } catch (Exception e) {
+            log.warn("Failed to bump book content cache version: {}", e.getMessage());
+            next = version + 1;
+        }
+
+        version = next;
+        versionCheckedAt = System.currentTimeMillis();
+        localEntries.clear();
+        log.info("Book content cache version bumped to {}", next);
+    }
+
+    long currentVersion() {
+        long now = System.currentTimeMillis();
+        if (now - versionCheckedAt < versionRefreshMillis) {
+            return version;
+        }
+
+        versionCheckedAt = now;
+        try {
+            Object remote = redisTemplate.opsForValue().get(VERSION_KEY);
+            if (remote instanceof Number number && number.longValue() != version) {
+                version = number.longValue();
+                localEntries.clear();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read book content cache version: {}", e.getMessage());
+        }
+        return version;
+    }
+}
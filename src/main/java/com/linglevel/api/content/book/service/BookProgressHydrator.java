@@ -0,0 +1,30 @@
+package com.linglevel.api.content.book.service;
+
+import com.linglevel.api.content.book.entity.BookProgress;
+import com.linglevel.api.content.book.repository.BookProgressRepository;
+import com.linglevel.api.content.common.service.ContentProgressHydrator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 책 진도는 챕터 번호만 사용하므로 진도 $in 조회만 수행
+ */
+@Component
+@RequiredArgsConstructor
+public class BookProgressHydrator extends ContentProgressHydrator<BookProgress> {
+
+    private final BookProgressRepository bookProgressRepository;
+
+    @Override
+    protected List<BookProgress> findProgresses(String userId, Collection<String> bookIds) {
+        return bookProgressRepository.findByUserIdAndBookIdIn(userId, bookIds);
+    }
+
+    @Override
+    protected String contentIdOf(BookProgress progress) {
+        return progress.getBookId();
+    }
+}
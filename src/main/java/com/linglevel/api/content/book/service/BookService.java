@@ -8,15 +8,15 @@ import com.linglevel.api.content.common.ProgressStatus;
 import com.linglevel.api.content.book.exception.BooksErrorCode;
 import com.linglevel.api.content.book.exception.BooksException;
 import com.linglevel.api.content.book.repository.BookRepository;
-import com.linglevel.api.content.book.repository.BookProgressRepository;
 import com.linglevel.api.content.book.entity.BookProgress;
+import com.linglevel.api.content.common.service.ContentProgressBatch;
 import com.linglevel.api.common.dto.PageResponse;
 import com.linglevel.api.i18n.LanguageCode;
 import com.linglevel.api.s3.service.S3AiService;
 import com.linglevel.api.s3.service.S3TransferService;
 import com.linglevel.api.s3.service.S3UrlService;
-import com.linglevel.api.s3.service.ImageResizeService;
 import com.linglevel.api.s3.strategy.BookPathStrategy;
+import com.linglevel.api.s3.thumbnail.ThumbnailJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -37,16 +37,17 @@ import java.util.stream.Collectors;
 public class BookService {
 
     private final BookRepository bookRepository;
-    private final BookProgressRepository bookProgressRepository;
+    private final BookProgressHydrator bookProgressHydrator;
 
     private final S3AiService s3AiService;
     private final S3TransferService s3TransferService;
     private final S3UrlService s3UrlService;
     private final BookPathStrategy bookPathStrategy;
-    private final ImageResizeService imageResizeService;
+    private final ThumbnailJobService thumbnailJobService;
 
     private final BookReadingTimeService bookReadingTimeService;
     private final BookImportService bookImportService;
+    private final BookStructureCache bookStructureCache;
 
     @Transactional
     public BookImportResponse importBook(BookImportRequest request) {
@@ -61,21 +62,6 @@ public class BookService {
         String coverImageUrl = s3UrlService.getCoverImageUrl(savedBook.getId(), bookPathStrategy);
         savedBook.setCoverImageUrl(coverImageUrl);
 
-        if (StringUtils.hasText(coverImageUrl)) {
-            try {
-                log.info("Auto-processing cover image for imported book: {}", savedBook.getId());
-
-                String originalCoverS3Key = bookPathStrategy.generateCoverImagePath(savedBook.getId());
-                String smallImageUrl = imageResizeService.createSmallImage(originalCoverS3Key);
-
-                savedBook.setCoverImageUrl(smallImageUrl);
-                log.info("Successfully auto-processed cover image: {} → {}", savedBook.getId(), smallImageUrl);
-
-            } catch (Exception e) {
-                log.warn("Failed to auto-process cover image for book: {}, keeping original URL", savedBook.getId(), e);
-            }
-        }
-
         bookRepository.save(savedBook);
         
         List<Chapter> savedChapters = bookImportService.createChaptersFromMetadata(importData, savedBook.getId());
@@ -83,6 +69,16 @@ public class BookService {
         bookImportService.createChunksFromLeveledResults(importData, savedChapters, savedBook.getId());
         
         bookReadingTimeService.updateReadingTimes(savedBook.getId(), importData);
+
+        // 임포트 버전 스탬프 갱신 (콘텐츠 구조 캐시 무효화)
+        bookStructureCache.invalidate();
+
+        // 커버 썸네일은 비동기로 생성 (책 문서 저장이 모두 끝난 뒤 등록해야 덮어쓰이지 않음)
+        if (StringUtils.hasText(coverImageUrl)) {
+            String bookId = savedBook.getId();
+            thumbnailJobService.submitCover(bookPathStrategy.generateCoverImagePath(bookId),
+                    smallImageUrl -> bookRepository.updateCoverImageUrl(bookId, smallImageUrl));
+        }
         
         log.info("Successfully imported book with id: {}", savedBook.getId());
         return new BookImportResponse(savedBook.getId());
@@ -126,9 +122,13 @@ public class BookService {
         // QueryDSL Custom Repository를 사용하여 필터링 + 페이지네이션 통합 처리
         Page<Book> bookPage = bookRepository.findBooksWithFilters(request, userId, pageable);
 
+        List<Book> books = bookPage.getContent();
+        ContentProgressBatch<BookProgress> progressBatch = bookProgressHydrator.hydrate(
+            userId, books.stream().map(Book::getId).collect(Collectors.toList()));
+
         LanguageCode languageCode = request.getLanguageCode();
-        List<BookResponse> bookResponses = bookPage.getContent().stream()
-            .map(book -> convertToBookResponse(book, userId, languageCode))
+        List<BookResponse> bookResponses = books.stream()
+            .map(book -> convertToBookResponse(book, progressBatch, languageCode))
             .collect(Collectors.toList());
 
         return new PageResponse<>(bookResponses, bookPage);
@@ -138,7 +138,7 @@ public class BookService {
         Book book = bookRepository.findById(bookId)
             .orElseThrow(() -> new BooksException(BooksErrorCode.BOOK_NOT_FOUND));
 
-        return convertToBookResponse(book, userId, languageCode);
+        return convertToBookResponse(book, bookProgressHydrator.hydrate(userId, List.of(bookId)), languageCode);
     }
 
     public boolean existsById(String bookId) { 
@@ -179,29 +179,25 @@ public class BookService {
             .collect(Collectors.toList());
     }
 
-    private BookResponse convertToBookResponse(Book book, String userId, LanguageCode languageCode) {
-        // 진도 정보 조회
+    private BookResponse convertToBookResponse(Book book, ContentProgressBatch<BookProgress> progressBatch, LanguageCode languageCode) {
+        // 진도 정보 조회 (페이지 단위로 미리 조회된 결과 사용)
         int currentReadChapterNumber = 0;
         double progressPercentage = 0.0;
         boolean isCompleted = false;
 
-        if (userId != null) {
-            BookProgress progress = bookProgressRepository
-                .findByUserIdAndBookId(userId, book.getId())
-                .orElse(null);
+        BookProgress progress = progressBatch.progressOf(book.getId()).orElse(null);
 
-            if (progress != null) {
-                currentReadChapterNumber = progress.getCurrentReadChapterNumber() != null
-                    ? progress.getCurrentReadChapterNumber() : 0;
+        if (progress != null) {
+            currentReadChapterNumber = progress.getCurrentReadChapterNumber() != null
+                ? progress.getCurrentReadChapterNumber() : 0;
 
-                // 진행률 계산
-                if (book.getChapterCount() != null && book.getChapterCount() > 0) {
-                    progressPercentage = (double) currentReadChapterNumber / book.getChapterCount() * 100.0;
-                }
-
-                // DB에 저장된 완료 여부 사용
-                isCompleted = progress.getIsCompleted() != null ? progress.getIsCompleted() : false;
+            // 진행률 계산
+            if (book.getChapterCount() != null && book.getChapterCount() > 0) {
+                progressPercentage = (double) currentReadChapterNumber / book.getChapterCount() * 100.0;
             }
+
+            // DB에 저장된 완료 여부 사용
+            isCompleted = progress.getIsCompleted() != null ? progress.getIsCompleted() : false;
         }
 
         // 언어 코드에 따라 title 선택
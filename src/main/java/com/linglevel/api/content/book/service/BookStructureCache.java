@@ -0,0 +1,167 @@
+package com.linglevel.api.content.book.service;
+
+import com.linglevel.api.content.book.dto.BookStructure;
+import com.linglevel.api.content.book.dto.ChapterChunks;
+import com.linglevel.api.content.book.dto.ChunkCountByLevelDto;
+import com.linglevel.api.content.book.entity.Book;
+import com.linglevel.api.content.book.entity.Chapter;
+import com.linglevel.api.content.book.entity.Chunk;
+import com.linglevel.api.content.book.exception.BooksErrorCode;
+import com.linglevel.api.content.book.exception.BooksException;
+import com.linglevel.api.content.book.repository.BookRepository;
+import com.linglevel.api.content.book.repository.ChapterRepository;
+import com.linglevel.api.content.book.repository.ChunkRepository;
+import com.linglevel.api.content.common.DifficultyLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 책 구조 조회 (BookContentCache 기반)
+ * 읽기 화면과 진행률 업데이트가 매번 책/챕터/청크를 다시 조회하지 않도록 다음을 캐시합니다.
+ * - 책별 구조: 책 난이도, 챕터 목록(번호순), 챕터별 난이도별 청크 수
+ * - 챕터/난이도별 청크 목록
+ * - 청크 단건
+ * 구조가 바뀌면 invalidate를 호출해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookStructureCache {
+
+    private final BookContentCache bookContentCache;
+    private final BookRepository bookRepository;
+    private final ChapterRepository chapterRepository;
+    private final ChunkRepository chunkRepository;
+
+    /**
+     * 책 구조 조회
+     *
+     * @throws BooksException 책이 없을 때 (BOOK_NOT_FOUND)
+     */
+    public BookStructure getStructure(String bookId) {
+        BookStructure structure = bookContentCache.get("structure:" + bookId, BookStructure.class, () -> loadStructure(bookId));
+        if (structure == null) {
+            throw new BooksException(BooksErrorCode.BOOK_NOT_FOUND);
+        }
+        return structure;
+    }
+
+    /**
+     * 책에 속한 챕터 조회
+     * 챕터가 책에 없을 때만 DB에서 챕터 존재 여부를 확인해 오류 코드를 구분합니다.
+     */
+    public Chapter getChapterInBook(String bookId, String chapterId) {
+        Chapter chapter = getStructure(bookId).findChapter(chapterId);
+        if (chapter == null) {
+            throw new BooksException(chapterRepository.existsById(chapterId)
+                    ? BooksErrorCode.CHAPTER_NOT_FOUND_IN_BOOK
+                    : BooksErrorCode.CHAPTER_NOT_FOUND);
+        }
+        return chapter;
+    }
+
+    /**
+     * 청크 단건 조회
+     */
+    public Optional<Chunk> findChunk(String chunkId) {
+        return Optional.ofNullable(bookContentCache.get("chunk:" + chunkId, Chunk.class,
+                () -> chunkRepository.findById(chunkId).orElse(null)));
+    }
+
+    /**
+     * 챕터의 난이도별 청크 목록 (청크 번호순)
+     */
+    public List<Chunk> getChunks(String chapterId, DifficultyLevel difficultyLevel) {
+        return bookContentCache.get("chunks:" + chapterId + ":" + difficultyLevel, ChapterChunks.class,
+                () -> new ChapterChunks(new ArrayList<>(chunkRepository.findByChapterIdAndDifficultyLevel(
+                        chapterId, difficultyLevel, Sort.by("chunkNumber").ascending()))))
+                .getChunks();
+    }
+
+    /**
+     * 진행률 계산용 청크 위치 정보 조회
+     *
+     * @throws BooksException 책/청크가 없거나 청크가 이 책에 속하지 않을 때
+     */
+    public ChunkLocation getChunkLocation(String bookId, String chunkId) {
+        BookStructure structure = getStructure(bookId);
+
+        Chunk chunk = findChunk(chunkId)
+                .orElseThrow(() -> new BooksException(BooksErrorCode.CHUNK_NOT_FOUND));
+        if (chunk.getChapterId() == null) {
+            throw new BooksException(BooksErrorCode.CHUNK_NOT_FOUND);
+        }
+
+        Chapter chapter = structure.findChapter(chunk.getChapterId());
+        if (chapter == null) {
+            throw new BooksException(BooksErrorCode.CHUNK_NOT_FOUND_IN_BOOK);
+        }
+
+        return new ChunkLocation(
+                chunk.getId(),
+                chapter.getId(),
+                chapter.getChapterNumber(),
+                chunk.getChunkNumber(),
+                chunk.getDifficultyLevel(),
+                structure.chunkCountsOf(chapter.getId()).getOrDefault(chunk.getDifficultyLevel(), 0L)
+        );
+    }
+
+    /**
+     * 책의 전체 챕터 수 조회
+     */
+    public int countChapters(String bookId) {
+        return getStructure(bookId).getChapters().size();
+    }
+
+    /**
+     * 모든 책 구조 캐시 무효화 (임포트, 삭제, 청크 수정 시)
+     */
+    public void invalidate() {
+        bookContentCache.bumpVersion();
+    }
+
+    private BookStructure loadStructure(String bookId) {
+        Book book = bookRepository.findById(bookId).orElse(null);
+        if (book == null) {
+            return null;
+        }
+
+        List<Chapter> chapters = new ArrayList<>(chapterRepository.findByBookIdOrderByChapterNumber(bookId));
+        List<String> chapterIds = chapters.stream().map(Chapter::getId).toList();
+
+        Map<String, Map<DifficultyLevel, Long>> chunkCounts = new HashMap<>();
+        if (!chapterIds.isEmpty()) {
+            for (ChunkCountByLevelDto count : chunkRepository.findChunkCountsByChapterIds(chapterIds)) {
+                if (count.getDifficultyLevel() != null) {
+                    chunkCounts.computeIfAbsent(count.getChapterId(), id -> new HashMap<>())
+                            .put(count.getDifficultyLevel(), count.getCount());
+                }
+            }
+        }
+
+        return new BookStructure(bookId, book.getDifficultyLevel(), chapters, chunkCounts);
+    }
+
+    /**
+     * 진행률 계산에 필요한 청크 위치 정보
+     */
+    public record ChunkLocation(
+            String chunkId,
+            String chapterId,
+            Integer chapterNumber,
+            Integer chunkNumber,
+            DifficultyLevel difficultyLevel,
+            long totalChunksInChapter
+    ) {
+        public boolean isLastChunkInChapter() {
+            return chunkNumber >= totalChunksInChapter;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.linglevel.api.content.book.service;
 
+import com.linglevel.api.content.book.dto.BookStructure;
 import com.linglevel.api.content.book.dto.ChapterNavigationResponse;
 import com.linglevel.api.content.book.dto.ChapterResponse;
 import com.linglevel.api.content.book.dto.ChunkCountByLevelDto;
@@ -40,6 +41,7 @@ public class ChapterService {
     private final ChunkRepository chunkRepository;
     private final BookService bookService;
     private final BookRepository bookRepository;
+    private final BookStructureCache bookStructureCache;
 
     public PageResponse<ChapterResponse> getChapters(String bookId, GetChaptersRequest request, String userId) {
         Book book = bookService.findById(bookId);
@@ -77,38 +79,27 @@ public class ChapterService {
             ));
 
         List<ChapterResponse> chapterResponses = chapters.stream()
-            .map(chapter -> convertToChapterResponse(chapter, book, bookProgress, progressChunk, chunkCountsMap))
+            .map(chapter -> convertToChapterResponse(chapter, book.getDifficultyLevel(), bookProgress, progressChunk, chunkCountsMap))
             .collect(Collectors.toList());
 
         return new PageResponse<>(chapterResponses, chapterPage);
     }
 
     public ChapterResponse getChapter(String bookId, String chapterId, String userId) {
-        Book book = bookService.findById(bookId);
-
-        Chapter chapter = chapterRepository.findById(chapterId)
-            .orElseThrow(() -> new BooksException(BooksErrorCode.CHAPTER_NOT_FOUND));
-
-        if (!bookId.equals(chapter.getBookId())) {
-            throw new BooksException(BooksErrorCode.CHAPTER_NOT_FOUND_IN_BOOK);
-        }
+        BookStructure structure = bookStructureCache.getStructure(bookId);
+        Chapter chapter = bookStructureCache.getChapterInBook(bookId, chapterId);
 
         BookProgress bookProgress = Optional.ofNullable(userId)
             .flatMap(id -> bookProgressRepository.findByUserIdAndBookId(id, bookId))
             .orElse(null);
 
         Chunk progressChunk = (bookProgress != null && bookProgress.getChunkId() != null)
-            ? chunkRepository.findById(bookProgress.getChunkId()).orElse(null)
+            ? bookStructureCache.findChunk(bookProgress.getChunkId()).orElse(null)
             : null;
 
-        Map<String, Map<DifficultyLevel, Long>> chunkCountsMap = chunkRepository.findChunkCountsByChapterIds(Collections.singletonList(chapterId))
-            .stream()
-            .collect(Collectors.groupingBy(
-                ChunkCountByLevelDto::getChapterId,
-                Collectors.toMap(ChunkCountByLevelDto::getDifficultyLevel, ChunkCountByLevelDto::getCount)
-            ));
+        Map<String, Map<DifficultyLevel, Long>> chunkCountsMap = Map.of(chapterId, structure.chunkCountsOf(chapterId));
 
-        return convertToChapterResponse(chapter, book, bookProgress, progressChunk, chunkCountsMap);
+        return convertToChapterResponse(chapter, structure.getDifficultyLevel(), bookProgress, progressChunk, chunkCountsMap);
     }
 
     public boolean existsById(String chapterId) {
@@ -126,22 +117,14 @@ public class ChapterService {
     }
 
     public ChapterNavigationResponse getChapterNavigation(String bookId, String chapterId) {
-        if (!bookService.existsById(bookId)) {
-            throw new BooksException(BooksErrorCode.BOOK_NOT_FOUND);
-        }
-
-        Chapter currentChapter = chapterRepository.findById(chapterId)
-            .orElseThrow(() -> new BooksException(BooksErrorCode.CHAPTER_NOT_FOUND));
-
-        if (!bookId.equals(currentChapter.getBookId())) {
-            throw new BooksException(BooksErrorCode.CHAPTER_NOT_FOUND_IN_BOOK);
-        }
+        BookStructure structure = bookStructureCache.getStructure(bookId);
+        Chapter currentChapter = bookStructureCache.getChapterInBook(bookId, chapterId);
 
-        Optional<Chapter> previousChapter = chapterRepository.findByBookIdAndChapterNumber(
-            bookId, currentChapter.getChapterNumber() - 1);
+        Optional<Chapter> previousChapter = Optional.ofNullable(
+            structure.findChapterByNumber(currentChapter.getChapterNumber() - 1));
 
-        Optional<Chapter> nextChapter = chapterRepository.findByBookIdAndChapterNumber(
-            bookId, currentChapter.getChapterNumber() + 1);
+        Optional<Chapter> nextChapter = Optional.ofNullable(
+            structure.findChapterByNumber(currentChapter.getChapterNumber() + 1));
 
         return ChapterNavigationResponse.builder()
             .currentChapterId(chapterId)
@@ -153,10 +136,10 @@ public class ChapterService {
             .build();
     }
 
-    private ChapterResponse convertToChapterResponse(Chapter chapter, Book book, BookProgress bookProgress, Chunk progressChunk, Map<String, Map<DifficultyLevel, Long>> chunkCountsMap) {
+    private ChapterResponse convertToChapterResponse(Chapter chapter, DifficultyLevel bookDifficultyLevel, BookProgress bookProgress, Chunk progressChunk, Map<String, Map<DifficultyLevel, Long>> chunkCountsMap) {
         int currentReadChunkNumber = 0;
         double progressPercentage = 0.0;
-        DifficultyLevel currentDifficultyLevel = book.getDifficultyLevel(); // Fallback: Book's difficulty
+        DifficultyLevel currentDifficultyLevel = bookDifficultyLevel; // Fallback: Book's difficulty
         boolean isCompleted = false;
 
         if (bookProgress != null) {
@@ -3,16 +3,15 @@ package com.linglevel.api.content.book.service;
 import com.linglevel.api.common.dto.PageResponse;
 import com.linglevel.api.content.book.dto.ChunkResponse;
 import com.linglevel.api.content.book.dto.GetChunksRequest;
-import com.linglevel.api.content.book.entity.Chapter;
 import com.linglevel.api.content.book.entity.Chunk;
 import com.linglevel.api.content.book.exception.BooksErrorCode;
 import com.linglevel.api.content.book.exception.BooksException;
-import com.linglevel.api.content.book.repository.ChapterRepository;
 import com.linglevel.api.content.book.repository.ChunkRepository;
 import com.linglevel.api.content.common.DifficultyLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -27,19 +26,10 @@ import java.util.stream.Collectors;
 public class ChunkService {
 
     private final ChunkRepository chunkRepository;
-    private final ChapterRepository chapterRepository;
-    private final BookService bookService;
+    private final BookStructureCache bookStructureCache;
 
     public PageResponse<ChunkResponse> getChunks(String bookId, String chapterId, GetChunksRequest request, String userId) {
-        if (!bookService.existsById(bookId)) {
-            throw new BooksException(BooksErrorCode.BOOK_NOT_FOUND);
-        }
-
-        Chapter chapter = chapterRepository.findById(chapterId)
-            .orElseThrow(() -> new BooksException(BooksErrorCode.CHAPTER_NOT_FOUND));
-        if (!bookId.equals(chapter.getBookId())) {
-            throw new BooksException(BooksErrorCode.CHAPTER_NOT_FOUND_IN_BOOK);
-        }
+        bookStructureCache.getChapterInBook(bookId, chapterId);
 
         DifficultyLevel difficulty;
         try {
@@ -54,7 +44,11 @@ public class ChunkService {
             Sort.by("chunkNumber").ascending()
         );
 
-        Page<Chunk> chunkPage = chunkRepository.findByChapterIdAndDifficultyLevel(chapterId, difficulty, pageable);
+        // 챕터/난이도별 전체 청크 목록은 캐시에서 가져오고 페이지는 메모리에서 자름
+        List<Chunk> chunks = bookStructureCache.getChunks(chapterId, difficulty);
+        int from = (int) Math.min(pageable.getOffset(), chunks.size());
+        int to = Math.min(from + pageable.getPageSize(), chunks.size());
+        Page<Chunk> chunkPage = new PageImpl<>(chunks.subList(from, to), pageable, chunks.size());
         log.info("Found chunks count: {}", chunkPage.getTotalElements());
         
         List<ChunkResponse> chunkResponses = chunkPage.getContent().stream()
@@ -65,17 +59,9 @@ public class ChunkService {
     }
 
     public ChunkResponse getChunk(String bookId, String chapterId, String chunkId) {
-        if (!bookService.existsById(bookId)) {
-            throw new BooksException(BooksErrorCode.BOOK_NOT_FOUND);
-        }
-
-        Chapter chapter = chapterRepository.findById(chapterId)
-            .orElseThrow(() -> new BooksException(BooksErrorCode.CHAPTER_NOT_FOUND));
-        if (!bookId.equals(chapter.getBookId())) {
-            throw new BooksException(BooksErrorCode.CHAPTER_NOT_FOUND_IN_BOOK);
-        }
+        bookStructureCache.getChapterInBook(bookId, chapterId);
 
-        Chunk chunk = chunkRepository.findById(chunkId)
+        Chunk chunk = bookStructureCache.findChunk(chunkId)
             .orElseThrow(() -> new BooksException(BooksErrorCode.CHUNK_NOT_FOUND));
 
         if (!chapterId.equals(chunk.getChapterId())) {
@@ -0,0 +1,15 @@
+package com.linglevel.api.content.common.dto;
+
+import com.linglevel.api.content.common.DifficultyLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentChunkCountDto {
+    private String contentId;
+    private DifficultyLevel difficultyLevel;
+    private long count;
+}
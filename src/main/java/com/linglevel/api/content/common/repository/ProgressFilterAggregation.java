@@ -0,0 +1,100 @@
+package com.linglevel.api.content.common.repository;
+
+import com.linglevel.api.content.common.ProgressStatus;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.FacetOperation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 진도 필터(NOT_STARTED / IN_PROGRESS / COMPLETED) aggregation 단계
+ * 사용자 진도를 $lookup으로 조인해서 필터링하므로 콘텐츠/진도 ID 목록을 애플리케이션으로 가져오지 않습니다.
+ * - $lookup: 진도 컬렉션의 (userId, contentId) 인덱스로 콘텐츠당 최대 1건 조인
+ * - $facet: 페이지와 전체 개수를 같은 파이프라인에서 계산
+ */
+public final class ProgressFilterAggregation {
+
+    private static final String PROGRESS_FIELD = "userProgress";
+    private static final String ITEMS_FIELD = "items";
+    private static final String TOTAL_FIELD = "total";
+
+    private ProgressFilterAggregation() {
+    }
+
+    /**
+     * @param progressCollection 진도 컬렉션 이름
+     * @param contentIdField     진도 문서의 콘텐츠 ID 필드
+     * @param startedField       0보다 크면 학습을 시작한 것으로 보는 진도 필드
+     */
+    public record Spec(String progressCollection, String contentIdField, String startedField) {}
+
+    /**
+     * 콘텐츠 문서(_id 기준)에 사용자 진도를 조인하고 진도 상태로 필터링하는 단계
+     */
+    public static List<AggregationOperation> filterStages(Spec spec, String userId, ProgressStatus status) {
+        List<AggregationOperation> operations = new ArrayList<>();
+        operations.add(context -> new Document("$lookup", new Document()
+                .append("from", spec.progressCollection())
+                .append("let", new Document("contentId", new Document("$toString", "$_id")))
+                .append("pipeline", List.of(
+                        new Document("$match", new Document("userId", userId)
+                                .append("$expr", new Document("$eq", List.of("$" + spec.contentIdField(), "$$contentId")))),
+                        new Document("$project", new Document("_id", 0)
+                                .append("isCompleted", 1)
+                                .append(spec.startedField(), 1)),
+                        new Document("$limit", 1)))
+                .append("as", PROGRESS_FIELD)));
+
+        Criteria progressCriteria = switch (status) {
+            case NOT_STARTED -> Criteria.where(PROGRESS_FIELD).size(0);
+            case IN_PROGRESS -> Criteria.where(PROGRESS_FIELD).elemMatch(
+                    Criteria.where("isCompleted").ne(true).and(spec.startedField()).gt(0));
+            case COMPLETED -> Criteria.where(PROGRESS_FIELD + ".isCompleted").is(true);
+        };
+        operations.add(Aggregation.match(progressCriteria));
+        // 조인한 진도는 응답에 필요 없으므로 제거 (이후 정렬 단계가 원본 필드를 그대로 참조하도록 raw 단계 사용)
+        operations.add(context -> new Document("$project", new Document(PROGRESS_FIELD, 0)));
+        return operations;
+    }
+
+    /**
+     * 정렬/페이지네이션 결과와 전체 개수를 함께 계산하는 $facet 단계
+     */
+    public static FacetOperation pageFacet(Pageable pageable) {
+        List<AggregationOperation> pageOperations = new ArrayList<>();
+        if (pageable.getSort().isSorted()) {
+            pageOperations.add(Aggregation.sort(pageable.getSort()));
+        }
+        pageOperations.add(Aggregation.skip(pageable.getOffset()));
+        pageOperations.add(Aggregation.limit(pageable.getPageSize()));
+
+        return Aggregation.facet(pageOperations.toArray(new AggregationOperation[0])).as(ITEMS_FIELD)
+                .and(Aggregation.count().as("count")).as(TOTAL_FIELD);
+    }
+
+    /**
+     * pageFacet 결과 문서를 Page로 변환
+     */
+    public static <T> Page<T> readPage(Document result, Class<T> type, MongoConverter converter, Pageable pageable) {
+        if (result == null) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        List<T> items = result.getList(ITEMS_FIELD, Document.class, List.of()).stream()
+                .map(document -> converter.read(type, document))
+                .toList();
+
+        List<Document> totals = result.getList(TOTAL_FIELD, Document.class, List.of());
+        long total = totals.isEmpty() ? 0 : ((Number) totals.get(0).get("count")).longValue();
+
+        return new PageImpl<>(items, pageable, total);
+    }
+}
@@ -0,0 +1,48 @@
+package com.linglevel.api.content.common.service;
+
+import com.linglevel.api.content.common.DifficultyLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 목록 한 페이지 분량의 진도 조회 결과
+ * 응답 변환 시 추가 쿼리 없이 메모리에서 조립하기 위해 사용합니다.
+ */
+@RequiredArgsConstructor
+public class ContentProgressBatch<P> {
+
+    private static final ContentProgressBatch<?> EMPTY = new ContentProgressBatch<>(Map.of(), Map.of(), Map.of());
+
+    /** contentId -> 진도 */
+    private final Map<String, P> progresses;
+    /** chunkId -> 청크 번호 */
+    private final Map<String, Integer> chunkNumbers;
+    /** contentId -> 난이도별 청크 수 */
+    private final Map<String, Map<DifficultyLevel, Long>> chunkCounts;
+
+    @SuppressWarnings("unchecked")
+    public static <P> ContentProgressBatch<P> empty() {
+        return (ContentProgressBatch<P>) EMPTY;
+    }
+
+    public Optional<P> progressOf(String contentId) {
+        return Optional.ofNullable(progresses.get(contentId));
+    }
+
+    /**
+     * 진도가 가리키는 청크의 번호 (청크가 없으면 0)
+     */
+    public int chunkNumberOf(String chunkId) {
+        if (chunkId == null) {
+            return 0;
+        }
+        Integer chunkNumber = chunkNumbers.get(chunkId);
+        return chunkNumber != null ? chunkNumber : 0;
+    }
+
+    public long chunkCountOf(String contentId, DifficultyLevel difficultyLevel) {
+        return chunkCounts.getOrDefault(contentId, Map.of()).getOrDefault(difficultyLevel, 0L);
+    }
+}
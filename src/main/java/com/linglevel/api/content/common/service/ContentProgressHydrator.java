@@ -0,0 +1,80 @@
+package com.linglevel.api.content.common.service;
+
+import com.linglevel.api.content.common.DifficultyLevel;
+import com.linglevel.api.content.common.dto.ContentChunkCountDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 응답용 진도 일괄 조회
+ * 콘텐츠마다 진도/청크/청크 수를 개별 조회하지 않고 한 페이지를 최대 쿼리 3번으로 읽어옵니다.
+ * - 진도: userId + contentId $in
+ * - 현재 청크 번호: 진도가 가리키는 chunkId $in (청크 번호만 projection)
+ * - 난이도별 청크 수: contentId $in + $group
+ * 콘텐츠 타입별 구현은 필요한 조회만 재정의합니다.
+ */
+public abstract class ContentProgressHydrator<P> {
+
+    public ContentProgressBatch<P> hydrate(String userId, Collection<String> contentIds) {
+        if (contentIds.isEmpty()) {
+            return ContentProgressBatch.empty();
+        }
+
+        List<P> progresses = userId == null ? List.of() : findProgresses(userId, contentIds);
+        return assemble(progresses, contentIds);
+    }
+
+    /**
+     * 이미 조회한 진도 목록 기준으로 청크 번호/청크 수만 일괄 조회
+     */
+    public ContentProgressBatch<P> hydrateProgresses(List<P> progresses) {
+        if (progresses.isEmpty()) {
+            return ContentProgressBatch.empty();
+        }
+        return assemble(progresses, progresses.stream().map(this::contentIdOf).collect(Collectors.toSet()));
+    }
+
+    private ContentProgressBatch<P> assemble(List<P> progressList, Collection<String> contentIds) {
+        Map<String, P> progresses = progressList.stream()
+                .collect(Collectors.toMap(this::contentIdOf, Function.identity(), (first, second) -> first));
+
+        Set<String> chunkIds = progresses.values().stream()
+                .map(this::chunkIdOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Integer> chunkNumbers = chunkIds.isEmpty() ? Map.of() : findChunkNumbers(chunkIds);
+
+        Map<String, Map<DifficultyLevel, Long>> chunkCounts = countChunks(contentIds).stream()
+                .collect(Collectors.groupingBy(
+                        ContentChunkCountDto::getContentId,
+                        Collectors.toMap(ContentChunkCountDto::getDifficultyLevel, ContentChunkCountDto::getCount)
+                ));
+
+        return new ContentProgressBatch<>(progresses, chunkNumbers, chunkCounts);
+    }
+
+    protected abstract List<P> findProgresses(String userId, Collection<String> contentIds);
+
+    protected abstract String contentIdOf(P progress);
+
+    /**
+     * 청크 단위 진도가 없는 콘텐츠는 null
+     */
+    protected String chunkIdOf(P progress) {
+        return null;
+    }
+
+    protected Map<String, Integer> findChunkNumbers(Collection<String> chunkIds) {
+        return Map.of();
+    }
+
+    protected List<ContentChunkCountDto> countChunks(Collection<String> contentIds) {
+        return List.of();
+    }
+}
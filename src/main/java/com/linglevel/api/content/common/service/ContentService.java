@@ -2,41 +2,29 @@ package com.linglevel.api.content.common.service;
 
 import com.linglevel.api.common.dto.PageResponse;
 import com.linglevel.api.content.article.entity.Article;
-import com.linglevel.api.content.article.entity.ArticleChunk;
 import com.linglevel.api.content.article.entity.ArticleProgress;
-import com.linglevel.api.content.article.repository.ArticleProgressRepository;
 import com.linglevel.api.content.article.repository.ArticleRepository;
-import com.linglevel.api.content.article.service.ArticleChunkService;
+import com.linglevel.api.content.article.service.ArticleProgressHydrator;
 import com.linglevel.api.content.book.entity.Book;
 import com.linglevel.api.content.book.entity.BookProgress;
-import com.linglevel.api.content.book.repository.BookProgressRepository;
 import com.linglevel.api.content.book.repository.BookRepository;
 import com.linglevel.api.content.common.ContentType;
 import com.linglevel.api.content.common.dto.GetRecentContentsRequest;
 import com.linglevel.api.content.common.dto.RecentContentResponse;
 import com.linglevel.api.content.common.DifficultyLevel;
+import com.linglevel.api.content.common.service.RecentProgressReader.RecentProgress;
+import com.linglevel.api.content.common.service.RecentProgressReader.RecentProgressPage;
 import com.linglevel.api.content.custom.entity.CustomContent;
-import com.linglevel.api.content.custom.entity.CustomContentChunk;
 import com.linglevel.api.content.custom.entity.CustomContentProgress;
-import com.linglevel.api.content.custom.repository.CustomContentProgressRepository;
 import com.linglevel.api.content.custom.repository.CustomContentRepository;
-import com.linglevel.api.content.custom.service.CustomContentChunkService;
-import com.linglevel.api.user.entity.User;
-import com.linglevel.api.user.repository.UserRepository;
+import com.linglevel.api.content.custom.service.CustomContentProgressHydrator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
-import com.linglevel.api.content.article.repository.ArticleChunkRepository;
-import com.linglevel.api.content.custom.repository.CustomContentChunkRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -45,53 +33,33 @@ public class ContentService {
     private final BookRepository bookRepository;
     private final ArticleRepository articleRepository;
     private final CustomContentRepository customContentRepository;
-    private final BookProgressRepository bookProgressRepository;
-    private final ArticleProgressRepository articleProgressRepository;
-    private final CustomContentProgressRepository customContentProgressRepository;
-    private final ArticleChunkService articleChunkService;
-    private final CustomContentChunkService customContentChunkService;
-    private final ArticleChunkRepository articleChunkRepository;
-    private final CustomContentChunkRepository customContentChunkRepository;
-
-    private record GenericProgress(String contentId, ContentType contentType, Instant lastStudiedAt, boolean isCompleted, Object originalProgress) {}
+    private final RecentProgressReader recentProgressReader;
+    private final ArticleProgressHydrator articleProgressHydrator;
+    private final CustomContentProgressHydrator customContentProgressHydrator;
 
     public PageResponse<RecentContentResponse> getRecentContents(String userId, GetRecentContentsRequest request) {
-        List<BookProgress> bookProgresses = bookProgressRepository.findAllByUserId(userId);
-        List<ArticleProgress> articleProgresses = articleProgressRepository.findAllByUserId(userId);
-        List<CustomContentProgress> customProgresses = customContentProgressRepository.findAllByUserId(userId);
-
-        Stream<GenericProgress> genericProgressStream = Stream.concat(
-            bookProgresses.stream().map(p -> new GenericProgress(p.getBookId(), ContentType.BOOK, p.getUpdatedAt(), p.getIsCompleted(), p)),
-            Stream.concat(
-                articleProgresses.stream().map(p -> new GenericProgress(p.getArticleId(), ContentType.ARTICLE, p.getUpdatedAt(), p.getIsCompleted(), p)),
-                customProgresses.stream().map(p -> new GenericProgress(p.getCustomId(), ContentType.CUSTOM, p.getUpdatedAt(), p.getIsCompleted(), p))
-            )
-        );
-
+        Boolean completed = null;
         if (request.getStatus() != null && !request.getStatus().isBlank()) {
-            boolean requiredStatus = "completed".equalsIgnoreCase(request.getStatus());
-            genericProgressStream = genericProgressStream.filter(p -> p.isCompleted() == requiredStatus);
+            completed = "completed".equalsIgnoreCase(request.getStatus());
         }
 
-        List<GenericProgress> sortedProgresses = genericProgressStream
-                .sorted(Comparator.comparing(GenericProgress::lastStudiedAt).reversed())
-                .toList();
-
         int page = request.getPage() > 0 ? request.getPage() - 1 : 0;
         int limit = request.getLimit();
-        int totalCount = sortedProgresses.size();
         int fromIndex = page * limit;
-        int toIndex = Math.min(fromIndex + limit, totalCount);
+
+        // 타입별 커서를 updatedAt 역순으로 병합하여 현재 페이지까지만 읽음
+        RecentProgressPage progressPage = recentProgressReader.read(userId, completed, fromIndex, limit);
+        int totalCount = (int) progressPage.totalCount();
 
         if (fromIndex >= totalCount) {
             return new PageResponse<>(List.of(), request.getPage(), 0, totalCount, false, false);
         }
 
-        List<GenericProgress> paginatedProgresses = sortedProgresses.subList(fromIndex, toIndex);
+        List<RecentProgress> paginatedProgresses = progressPage.items();
 
         Map<ContentType, List<String>> contentIdsByType = paginatedProgresses.stream()
-                .collect(Collectors.groupingBy(GenericProgress::contentType,
-                         Collectors.mapping(GenericProgress::contentId, Collectors.toList())));
+                .collect(Collectors.groupingBy(RecentProgress::contentType,
+                         Collectors.mapping(RecentProgress::contentId, Collectors.toList())));
 
         Map<String, Book> booksMap = bookRepository.findAllById(contentIdsByType.getOrDefault(ContentType.BOOK, List.of()))
                 .stream().collect(Collectors.toMap(Book::getId, Function.identity()));
@@ -100,11 +68,17 @@ public class ContentService {
         Map<String, CustomContent> customContentsMap = customContentRepository.findAllById(contentIdsByType.getOrDefault(ContentType.CUSTOM, List.of()))
                 .stream().collect(Collectors.toMap(CustomContent::getId, Function.identity()));
 
+        // 페이지 항목의 청크 번호/청크 수는 타입별로 한 번씩 일괄 조회
+        ContentProgressBatch<ArticleProgress> articleBatch = articleProgressHydrator.hydrateProgresses(
+                progressesOf(paginatedProgresses, ContentType.ARTICLE, ArticleProgress.class));
+        ContentProgressBatch<CustomContentProgress> customBatch = customContentProgressHydrator.hydrateProgresses(
+                progressesOf(paginatedProgresses, ContentType.CUSTOM, CustomContentProgress.class));
+
         List<RecentContentResponse> result = paginatedProgresses.stream().map(p -> {
             switch (p.contentType()) {
                 case BOOK: {
                     Book book = booksMap.get(p.contentId());
-                    BookProgress progress = (BookProgress) p.originalProgress();
+                    BookProgress progress = (BookProgress) p.progress();
                     if (book == null) return null;
 
                     // [FIX] Use normalizedProgress for accurate percentage. Fallback to old calculation if null.
@@ -121,25 +95,17 @@ public class ContentService {
                 }
                 case ARTICLE: {
                     Article article = articlesMap.get(p.contentId());
-                    ArticleProgress progress = (ArticleProgress) p.originalProgress();
+                    ArticleProgress progress = (ArticleProgress) p.progress();
                     if (article == null) return null;
 
                     // [FIX] Use normalizedProgress for accurate percentage.
                     Double progressPercentage = progress.getNormalizedProgress();
-                    Integer currentChunkNumber = 0; // Default value
-                    long totalChunks = 0; // Default value
-
                     // For display purposes, we might still need chunk numbers.
-                    // This part is kept for now, but the percentage is taken from the migrated data.
-                    try {
-                        ArticleChunk chunk = articleChunkService.findById(progress.getChunkId());
-                        currentChunkNumber = chunk.getChunkNumber();
-                    } catch (Exception e) {
-                        // chunkId might be null for old data, or chunk not found.
-                    }
+                    // chunkId might be null for old data, or chunk not found (-> 0).
+                    Integer currentChunkNumber = articleBatch.chunkNumberOf(progress.getChunkId());
 
                     DifficultyLevel difficulty = progress.getCurrentDifficultyLevel() != null ? progress.getCurrentDifficultyLevel() : article.getDifficultyLevel();
-                    totalChunks = articleChunkRepository.countByArticleIdAndDifficultyLevel(article.getId(), difficulty);
+                    long totalChunks = articleBatch.chunkCountOf(article.getId(), difficulty);
 
                     // If normalizedProgress is somehow null (not migrated), fallback to calculation.
                     if (progressPercentage == null) {
@@ -155,23 +121,16 @@ public class ContentService {
                 }
                 case CUSTOM: {
                     CustomContent custom = customContentsMap.get(p.contentId());
-                    CustomContentProgress progress = (CustomContentProgress) p.originalProgress();
+                    CustomContentProgress progress = (CustomContentProgress) p.progress();
                     if (custom == null) return null;
 
                     // [FIX] Use normalizedProgress for accurate percentage.
                     Double progressPercentage = progress.getNormalizedProgress();
-                    Integer currentChunkNumber = 0; // Default value
-                    long totalChunks = 0; // Default value
-
-                    try {
-                        CustomContentChunk chunk = customContentChunkService.findById(progress.getChunkId());
-                        currentChunkNumber = chunk.getChunkNum();
-                    } catch (Exception e) {
-                        // chunkId might be null for old data, or chunk not found.
-                    }
+                    // chunkId might be null for old data, or chunk not found (-> 0).
+                    Integer currentChunkNumber = customBatch.chunkNumberOf(progress.getChunkId());
 
                     DifficultyLevel difficulty = progress.getCurrentDifficultyLevel() != null ? progress.getCurrentDifficultyLevel() : custom.getDifficultyLevel();
-                    totalChunks = customContentChunkRepository.countByCustomContentIdAndDifficultyLevelAndIsDeletedFalse(custom.getId(), difficulty);
+                    long totalChunks = customBatch.chunkCountOf(custom.getId(), difficulty);
 
                     // If normalizedProgress is somehow null (not migrated), fallback to calculation.
                     if (progressPercentage == null) {
@@ -197,6 +156,13 @@ public class ContentService {
         return new PageResponse<>(result, request.getPage(), totalPages, totalCount, hasNext, hasPrevious);
     }
 
+    private <P> List<P> progressesOf(List<RecentProgress> progresses, ContentType contentType, Class<P> type) {
+        return progresses.stream()
+                .filter(p -> p.contentType() == contentType)
+                .map(p -> type.cast(p.progress()))
+                .collect(Collectors.toList());
+    }
+
     private Double calculatePercentage(Integer current, Integer total) {
         if (total == null || total == 0 || current == null) {
             return 0.0;
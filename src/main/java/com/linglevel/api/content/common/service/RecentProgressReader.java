@@ -0,0 +1,120 @@
+package com.linglevel.api.content.common.service;
+
+import com.linglevel.api.content.article.entity.ArticleProgress;
+import com.linglevel.api.content.book.entity.BookProgress;
+import com.linglevel.api.content.common.ContentType;
+import com.linglevel.api.content.custom.entity.CustomContentProgress;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 최근 학습한 콘텐츠 진도 조회
+ * 타입별 진도 컬렉션을 (userId, updatedAt desc) 인덱스 커서로 열고 k-way merge 합니다.
+ * 페이지 끝(offset + limit)까지만 읽으므로 사용자의 전체 진도 수와 무관하게 메모리/비용이 일정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentProgressReader {
+
+    private static final int MAX_CURSOR_BATCH_SIZE = 100;
+
+    private static final List<Source<?>> SOURCES = List.of(
+            new Source<>(ContentType.BOOK, BookProgress.class, BookProgress::getBookId, BookProgress::getUpdatedAt),
+            new Source<>(ContentType.ARTICLE, ArticleProgress.class, ArticleProgress::getArticleId, ArticleProgress::getUpdatedAt),
+            new Source<>(ContentType.CUSTOM, CustomContentProgress.class, CustomContentProgress::getCustomId, CustomContentProgress::getUpdatedAt)
+    );
+
+    private static final Comparator<Head> NEWEST_FIRST = Comparator.comparing(
+            (Head head) -> head.current().lastStudiedAt(), Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * @param completed null이면 전체, true/false면 완료 여부로 필터링
+     */
+    public RecentProgressPage read(String userId, Boolean completed, int offset, int limit) {
+        long totalCount = 0;
+        for (Source<?> source : SOURCES) {
+            totalCount += mongoTemplate.count(new Query(criteria(userId, completed)), source.type());
+        }
+
+        if (offset >= totalCount) {
+            return new RecentProgressPage(List.of(), totalCount);
+        }
+
+        int fetchSize = offset + limit;
+        List<Stream<RecentProgress>> cursors = new ArrayList<>(SOURCES.size());
+        try {
+            PriorityQueue<Head> heads = new PriorityQueue<>(SOURCES.size(), NEWEST_FIRST);
+            for (Source<?> source : SOURCES) {
+                Stream<RecentProgress> cursor = open(source, userId, completed, fetchSize);
+                cursors.add(cursor);
+                Head.next(cursor.iterator()).ifPresent(heads::add);
+            }
+
+            List<RecentProgress> items = new ArrayList<>(limit);
+            int position = 0;
+            while (items.size() < limit && !heads.isEmpty()) {
+                Head head = heads.poll();
+                if (position++ >= offset) {
+                    items.add(head.current());
+                }
+                Head.next(head.rest()).ifPresent(heads::add);
+            }
+            return new RecentProgressPage(items, totalCount);
+        } finally {
+            cursors.forEach(Stream::close);
+        }
+    }
+
+    private <P> Stream<RecentProgress> open(Source<P> source, String userId, Boolean completed, int fetchSize) {
+        Query query = new Query(criteria(userId, completed))
+                .with(Sort.by(Sort.Direction.DESC, "updatedAt"))
+                .limit(fetchSize);
+        query.cursorBatchSize(Math.min(fetchSize, MAX_CURSOR_BATCH_SIZE));
+
+        return mongoTemplate.stream(query, source.type())
+                .map(progress -> new RecentProgress(source.contentIdOf().apply(progress), source.contentType(),
+                        source.updatedAtOf().apply(progress), progress));
+    }
+
+    private Criteria criteria(String userId, Boolean completed) {
+        Criteria criteria = Criteria.where("userId").is(userId);
+        if (completed != null) {
+            criteria = completed ? criteria.and("isCompleted").is(true) : criteria.and("isCompleted").ne(true);
+        }
+        return criteria;
+    }
+
+    public record RecentProgress(String contentId, ContentType contentType, Instant lastStudiedAt, Object progress) {}
+
+    public record RecentProgressPage(List<RecentProgress> items, long totalCount) {}
+
+    private record Source<P>(ContentType contentType, Class<P> type,
+                             Function<P, String> contentIdOf, Function<P, Instant> updatedAtOf) {}
+
+    /**
+     * 커서별로 아직 소비하지 않은 첫 번째 항목
+     */
+    private record Head(RecentProgress current, Iterator<RecentProgress> rest) {
+        private static Optional<Head> next(Iterator<RecentProgress> iterator) {
+            return iterator.hasNext()
+                    ? Optional.of(new Head(iterator.next(), iterator))
+                    : Optional.empty();
+        }
+    }
+}
@@ -2,13 +2,16 @@ package com.linglevel.api.content.custom.repository;
 
 import com.linglevel.api.content.custom.entity.CustomContentChunk;
 import com.linglevel.api.content.common.DifficultyLevel;
+import com.linglevel.api.content.common.dto.ContentChunkCountDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,4 +38,40 @@ public interface CustomContentChunkRepository extends MongoRepository<CustomCont
 
     // V2 Progress: Count chunks by difficulty level
     long countByCustomContentIdAndDifficultyLevelAndIsDeletedFalse(String customContentId, DifficultyLevel difficultyLevel);
+
+    @Query(fields = "{ 'chunkNum': 1 }")
+    List<CustomContentChunk> findChunkNumsByIdIn(Collection<String> chunkIds);
+
+    @Aggregation(pipeline = {
+        """
+        {
+            $match: {
+                customContentId: { $in: ?0 },
+                isDeleted: false
+            }
+        }
+        """,
+        """
+        {
+            $group: {
+                _id: {
+                    contentId: '$customContentId',
+                    difficultyLevel: '$difficultyLevel'
+                },
+                count: { $sum: 1 }
+            }
+        }
+        """,
+        """
+        {
+            $project: {
+                contentId: '$_id.contentId',
+                difficultyLevel: '$_id.difficultyLevel',
+                count: 1,
+                _id: 0
+            }
+        }
+        """
+    })
+    List<ContentChunkCountDto> countChunksByCustomContentIds(Collection<String> customContentIds);
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.linglevel.api.content.custom.entity.CustomContentProgress;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +12,5 @@ import java.util.Optional;
 public interface CustomContentProgressRepository extends MongoRepository<CustomContentProgress, String> {
     Optional<CustomContentProgress> findByUserIdAndCustomId(String userId, String customId);
     List<CustomContentProgress> findAllByUserId(String userId);
+    List<CustomContentProgress> findByUserIdAndCustomIdIn(String userId, Collection<String> customIds);
 }
\ No newline at end of file
@@ -13,4 +13,6 @@ public interface CustomContentRepositoryCustom {
     Page<CustomContent> findCustomContentsByUserWithFilters(String userId, GetCustomContentsRequest request, Pageable pageable);
 
     void incrementViewCount(String customContentId);
+
+    void updateCoverImageUrl(String customContentId, String coverImageUrl);
 }
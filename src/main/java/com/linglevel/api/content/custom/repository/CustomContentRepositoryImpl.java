@@ -1,9 +1,10 @@
 package com.linglevel.api.content.custom.repository;
 
-import com.linglevel.api.content.common.ProgressStatus;
+import com.linglevel.api.content.common.repository.ProgressFilterAggregation;
 import com.linglevel.api.content.custom.dto.GetCustomContentsRequest;
 import com.linglevel.api.content.custom.entity.CustomContent;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -21,12 +22,27 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CustomContentRepositoryImpl implements CustomContentRepositoryCustom {
 
+    private static final ProgressFilterAggregation.Spec PROGRESS_SPEC =
+            new ProgressFilterAggregation.Spec("customProgress", "customId", "normalizedProgress");
+
     private final MongoTemplate mongoTemplate;
 
     @Override
     public Page<CustomContent> findCustomContentsWithFilters(String userId, GetCustomContentsRequest request, Pageable pageable) {
         Query query = buildQuery(userId, request);
 
+        if (request.getProgress() != null && userId != null) {
+            List<AggregationOperation> operations = new ArrayList<>();
+            Document filter = query.getQueryObject();
+            operations.add(context -> new Document("$match", context.getMappedObject(filter)));
+            operations.addAll(ProgressFilterAggregation.filterStages(PROGRESS_SPEC, userId, request.getProgress()));
+            operations.add(ProgressFilterAggregation.pageFacet(pageable));
+
+            Document result = mongoTemplate.aggregate(Aggregation.newAggregation(CustomContent.class, operations), Document.class)
+                    .getUniqueMappedResult();
+            return ProgressFilterAggregation.readPage(result, CustomContent.class, mongoTemplate.getConverter(), pageable);
+        }
+
         // 총 개수 조회 (필터링 적용 후)
         long total = mongoTemplate.count(query, CustomContent.class);
 
@@ -40,7 +56,7 @@ public class CustomContentRepositoryImpl implements CustomContentRepositoryCusto
     }
 
     /**
-     * 동적 쿼리 빌드
+     * 동적 쿼리 빌드 (진도 필터 제외)
      */
     private Query buildQuery(String userId, GetCustomContentsRequest request) {
         Query query = new Query();
@@ -60,7 +76,6 @@ public class CustomContentRepositoryImpl implements CustomContentRepositoryCusto
         // 각 필터를 독립적인 메서드로 분리
         applyKeywordFilter(query, request.getKeyword());
         applyTagsFilter(query, request.getTags());
-        applyProgressFilter(query, request.getProgress(), userId);
 
         return query;
     }
@@ -106,93 +121,6 @@ public class CustomContentRepositoryImpl implements CustomContentRepositoryCusto
         query.addCriteria(Criteria.where("tags").all((Object[]) tagArray));
     }
 
-    /**
-     * 진도 필터 적용
-     */
-    private void applyProgressFilter(Query query, ProgressStatus progress, String userId) {
-        if (progress == null || userId == null) {
-            return;
-        }
-
-        List<String> contentIds = getContentIdsByProgress(userId, progress);
-        if (!contentIds.isEmpty()) {
-            query.addCriteria(Criteria.where("id").in(contentIds));
-        } else {
-            // 조건에 맞는 콘텐츠가 없으면 빈 결과 반환
-            query.addCriteria(Criteria.where("_id").is(null));
-        }
-    }
-
-    /**
-     * 진도 상태별 콘텐츠 ID 목록 조회
-     */
-    private List<String> getContentIdsByProgress(String userId, ProgressStatus progressStatus) {
-        return switch (progressStatus) {
-            case NOT_STARTED -> getNotStartedContentIds(userId);
-            case IN_PROGRESS -> getInProgressContentIds(userId);
-            case COMPLETED -> getCompletedContentIds(userId);
-        };
-    }
-
-    /**
-     * 시작하지 않은 콘텐츠 ID 목록 조회
-     */
-    private List<String> getNotStartedContentIds(String userId) {
-        // 해당 사용자가 해금한 모든 콘텐츠 ID 조회
-        List<String> allContentIds = getUserCustomContentIds(userId);
-
-        // 진도가 있는 콘텐츠 ID 조회
-        List<String> progressContentIds = findProgressContentIds(userId);
-
-        // 진도가 없는 콘텐츠만 반환
-        return allContentIds.stream()
-                .filter(contentId -> !progressContentIds.contains(contentId))
-                .toList();
-    }
-
-    /**
-     * 진행 중인 콘텐츠 ID 목록 조회
-     */
-    private List<String> getInProgressContentIds(String userId) {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("userId").is(userId));
-        query.addCriteria(Criteria.where("isCompleted").is(false));
-        query.addCriteria(Criteria.where("normalizedProgress").gt(0));
-
-        return findContentIdsFromProgress(query);
-    }
-
-    /**
-     * 완료한 콘텐츠 ID 목록 조회
-     */
-    private List<String> getCompletedContentIds(String userId) {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("userId").is(userId));
-        query.addCriteria(Criteria.where("isCompleted").is(true));
-
-        return findContentIdsFromProgress(query);
-    }
-
-    /**
-     * 특정 사용자의 모든 진도 콘텐츠 ID 조회
-     */
-    private List<String> findProgressContentIds(String userId) {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("userId").is(userId));
-
-        return findContentIdsFromProgress(query);
-    }
-
-    /**
-     * CustomContentProgress 컬렉션에서 customId 추출
-     */
-    private List<String> findContentIdsFromProgress(Query query) {
-        return mongoTemplate.find(query, org.bson.Document.class, "customProgress")
-                .stream()
-                .map(doc -> doc.getString("customId"))
-                .toList();
-    }
-
     @Override
     public Page<CustomContent> findCustomContentsByUserWithFilters(String userId, GetCustomContentsRequest request, Pageable pageable) {
         List<AggregationOperation> operations = new ArrayList<>();
@@ -238,44 +166,20 @@ public class CustomContentRepositoryImpl implements CustomContentRepositoryCusto
             operations.add(Aggregation.match(Criteria.where("tags").all((Object[]) tagArray)));
         }
 
-        // 9. 진도 필터 적용 (별도 처리 필요)
+        // 9. 진도 필터 적용 (사용자 진도 $lookup 조인)
         if (request.getProgress() != null) {
-            List<String> contentIds = getContentIdsByProgress(userId, request.getProgress());
-            if (contentIds.isEmpty()) {
-                return new PageImpl<>(List.of(), pageable, 0);
-            }
-            // _id는 ObjectId이므로 String을 ObjectId로 변환해서 비교
-            List<org.bson.types.ObjectId> objectIds = contentIds.stream()
-                    .map(org.bson.types.ObjectId::new)
-                    .toList();
-            operations.add(Aggregation.match(Criteria.where("_id").in(objectIds)));
-        }
-
-        // 총 개수 조회용 aggregation (정렬 및 페이징 전, $count 사용)
-        List<AggregationOperation> countOps = new ArrayList<>(operations);
-        countOps.add(Aggregation.count().as("total"));
-        Aggregation countAggregation = Aggregation.newAggregation(countOps);
-
-        long total = 0;
-        var countResult = mongoTemplate.aggregate(countAggregation, "userCustomContents", org.bson.Document.class)
-                .getUniqueMappedResult();
-        if (countResult != null && countResult.containsKey("total")) {
-            total = ((Number) countResult.get("total")).longValue();
+            operations.addAll(ProgressFilterAggregation.filterStages(PROGRESS_SPEC, userId, request.getProgress()));
         }
 
-        // 10. 정렬
-        operations.add(Aggregation.sort(pageable.getSort()));
-
-        // 11. 페이지네이션
-        operations.add(Aggregation.skip(pageable.getOffset()));
-        operations.add(Aggregation.limit(pageable.getPageSize()));
+        // 10. 정렬 + 페이지네이션 + 총 개수 ($facet으로 한 번에 계산)
+        operations.add(ProgressFilterAggregation.pageFacet(pageable));
 
         // 최종 aggregation
         Aggregation aggregation = Aggregation.newAggregation(operations);
-        List<CustomContent> contents = mongoTemplate.aggregate(aggregation, "userCustomContents", CustomContent.class)
-                .getMappedResults();
+        Document result = mongoTemplate.aggregate(aggregation, "userCustomContents", Document.class)
+                .getUniqueMappedResult();
 
-        return new PageImpl<>(contents, pageable, total);
+        return ProgressFilterAggregation.readPage(result, CustomContent.class, mongoTemplate.getConverter(), pageable);
     }
 
     @Override
@@ -284,4 +188,11 @@ public class CustomContentRepositoryImpl implements CustomContentRepositoryCusto
         Update update = new Update().inc("viewCount", 1);
         mongoTemplate.updateFirst(query, update, CustomContent.class);
     }
+
+    @Override
+    public void updateCoverImageUrl(String customContentId, String coverImageUrl) {
+        Query query = new Query(Criteria.where("id").is(customContentId));
+        Update update = new Update().set("coverImageUrl", coverImageUrl);
+        mongoTemplate.updateFirst(query, update, CustomContent.class);
+    }
 }
@@ -3,20 +3,23 @@ package com.linglevel.api.content.custom.service;
 import com.linglevel.api.common.util.UrlNormalizer;
 import com.linglevel.api.content.common.ChunkType;
 import com.linglevel.api.content.common.DifficultyLevel;
+import com.linglevel.api.content.common.service.ReadingTimeService;
 import com.linglevel.api.content.custom.dto.AiResultDto;
 import com.linglevel.api.content.custom.entity.ContentRequest;
 import com.linglevel.api.content.custom.entity.CustomContent;
 import com.linglevel.api.content.custom.entity.CustomContentChunk;
 import com.linglevel.api.content.custom.repository.CustomContentChunkRepository;
 import com.linglevel.api.content.custom.repository.CustomContentRepository;
-import com.linglevel.api.s3.service.ImageResizeService;
 import com.linglevel.api.s3.service.S3UrlService;
 import com.linglevel.api.s3.strategy.CustomContentPathStrategy;
+import com.linglevel.api.s3.thumbnail.ThumbnailJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,11 +32,15 @@ public class CustomContentImportService {
     private final CustomContentRepository customContentRepository;
     private final CustomContentChunkRepository customContentChunkRepository;
     private final S3UrlService s3UrlService;
-    private final ImageResizeService imageResizeService;
+    private final ThumbnailJobService thumbnailJobService;
     private final CustomContentPathStrategy pathStrategy;
+    private final ReadingTimeService readingTimeService;
 
-
-    public CustomContent createCustomContent(ContentRequest contentRequest, AiResultDto aiResult) {
+    /**
+     * AI 결과로 저장 전 CustomContent 생성
+     * 이미지 경로와 청크가 콘텐츠 ID를 참조하므로 ID를 미리 할당합니다.
+     */
+    public CustomContent prepareCustomContent(ContentRequest contentRequest, AiResultDto aiResult) {
         String title = StringUtils.hasText(aiResult.getTitle()) ? aiResult.getTitle() : "Untitled Content";
 
         // ContentRequest의 coverImageUrl이 있으면 우선 사용, 없으면 AI 결과의 coverImageUrl 사용
@@ -46,46 +53,59 @@ public class CustomContentImportService {
             normalizedUrl = UrlNormalizer.normalize(contentRequest.getOriginUrl());
         }
 
-        CustomContent content = CustomContent.builder()
+        return CustomContent.builder()
+                .id(new ObjectId().toHexString())
                 .userId(contentRequest.getUserId())
+                .contentRequestId(contentRequest.getId())
                 .title(title)
                 .author(contentRequest.getOriginAuthor())
                 .coverImageUrl(coverImageUrl)
                 .difficultyLevel(DifficultyLevel.fromCode(aiResult.getOriginalTextLevel()))
                 .targetDifficultyLevels(aiResult.getLeveledResults().stream().map(level -> DifficultyLevel.fromCode(level.getTextLevel())).collect(Collectors.toList()))
-                .readingTime(0) // Placeholder, can be calculated later
+                .readingTime(0)
                 .originUrl(normalizedUrl != null ? normalizedUrl : contentRequest.getOriginUrl())
                 .originDomain(contentRequest.getOriginDomain())
                 .build();
+    }
 
-        CustomContent savedContent = customContentRepository.save(content);
+    /**
+     * 이미지 이동이 끝난 콘텐츠와 청크를 한 번에 저장
+     * 읽기 시간은 저장한 청크를 다시 조회하지 않고 청크 생성 중에 계산합니다.
+     */
+    public CustomContent saveCustomContent(CustomContent customContent, AiResultDto aiResult) {
+        List<CustomContentChunk> chunks = buildChunks(customContent, aiResult);
+
+        // ID를 미리 할당했으므로 auditing이 새 문서로 인식하지 않아 생성 시각을 직접 지정
+        Instant now = Instant.now();
+        customContent.setCreatedAt(now);
+        customContent.setUpdatedAt(now);
+
+        CustomContent savedContent = customContentRepository.insert(customContent);
+        if (!chunks.isEmpty()) {
+            customContentChunkRepository.insert(chunks);
+        }
+        log.info("Saved custom content {} with {} chunks", savedContent.getId(), chunks.size());
 
+        // 커버 썸네일은 비동기로 생성하고 완료되면 coverImageUrl만 갱신
         if (StringUtils.hasText(aiResult.getCoverImageUrl())) {
-            try {
-                log.info("Auto-processing cover image for imported custom content: {}", savedContent.getId());
-                String originalCoverS3Key = pathStrategy.generateCoverImagePath(savedContent.getId());
-                String smallImageUrl = imageResizeService.createSmallImage(originalCoverS3Key);
-                savedContent.setCoverImageUrl(smallImageUrl);
-                customContentRepository.save(savedContent);
-                log.info("Successfully auto-processed cover image: {} → {}", savedContent.getId(), smallImageUrl);
-            } catch (Exception e) {
-                log.warn("Failed to auto-process cover image for custom content: {}, keeping original URL",
-                        savedContent.getId(), e);
-            }
+            String customContentId = savedContent.getId();
+            thumbnailJobService.submitCover(pathStrategy.generateCoverImagePath(customContentId),
+                    smallImageUrl -> customContentRepository.updateCoverImageUrl(customContentId, smallImageUrl));
         }
 
         return savedContent;
     }
 
-    public void createCustomContentChunks(CustomContent customContent, AiResultDto aiResult) {
+    private List<CustomContentChunk> buildChunks(CustomContent customContent, AiResultDto aiResult) {
         List<CustomContentChunk> allChunks = new ArrayList<>();
 
         if (aiResult.getLeveledResults() == null) {
             log.warn("No leveled results found for custom content: {}", customContent.getId());
-            return;
+            return allChunks;
         }
 
         boolean hasCoverImage = StringUtils.hasText(customContent.getCoverImageUrl());
+        int readingCharacters = 0;
 
         for (AiResultDto.LeveledResult leveledResult : aiResult.getLeveledResults()) {
             DifficultyLevel difficulty = DifficultyLevel.fromCode(leveledResult.getTextLevel());
@@ -112,12 +132,18 @@ public class CustomContentImportService {
                 for (AiResultDto.Chunk chunkData : chapter.getChunks()) {
                     CustomContentChunk newChunk = createCustomContentChunk(chunkData, customContent.getId(), customContent.getUserId(), difficulty, chapterCounter, chunkCounter++);
                     allChunks.add(newChunk);
+
+                    // 읽기 시간은 원문 난이도의 텍스트 청크 기준
+                    if (difficulty == customContent.getDifficultyLevel() && newChunk.getType() == ChunkType.TEXT) {
+                        readingCharacters += newChunk.getChunkText().length();
+                    }
                 }
                 chapterCounter++;
             }
         }
-        customContentChunkRepository.saveAll(allChunks);
-        log.info("Saved {} chunks for custom content {}", allChunks.size(), customContent.getId());
+
+        customContent.setReadingTime(readingTimeService.calculateReadingTimeFromCharacters(readingCharacters));
+        return allChunks;
     }
 
     private CustomContentChunk createCustomContentChunk(AiResultDto.Chunk chunkData, String customContentId, String userId, DifficultyLevel difficulty, int chapterNum, int chunkNum) {
@@ -68,11 +68,11 @@ public class CustomContentNotificationService {
 
                 try {
                     if (fcmTokens.size() == 1) {
-                        fcmMessagingService.sendMessage(fcmTokens.get(0), messageRequest);
+                        fcmMessagingService.sendMessage(fcmTokens.get(0), userId, messageRequest);
                         log.info("Sent completion notification (country: {}) to user: {}", countryCode, userId);
                     } else if (!fcmTokens.isEmpty()) {
                         com.google.firebase.messaging.BatchResponse response =
-                                fcmMessagingService.sendMulticastMessage(fcmTokens, messageRequest);
+                                fcmMessagingService.sendMulticastMessage(fcmTokens, userId, messageRequest);
 
                         // 개별 응답 처리 - 실패한 토큰 비활성화
                         for (int i = 0; i < response.getResponses().size(); i++) {
@@ -144,11 +144,11 @@ public class CustomContentNotificationService {
 
                 try {
                     if (fcmTokens.size() == 1) {
-                        fcmMessagingService.sendMessage(fcmTokens.get(0), messageRequest);
+                        fcmMessagingService.sendMessage(fcmTokens.get(0), userId, messageRequest);
                         log.info("Sent failure notification (country: {}) to user: {}", countryCode, userId);
                     } else if (!fcmTokens.isEmpty()) {
                         com.google.firebase.messaging.BatchResponse response =
-                                fcmMessagingService.sendMulticastMessage(fcmTokens, messageRequest);
+                                fcmMessagingService.sendMulticastMessage(fcmTokens, userId, messageRequest);
 
                         // 개별 응답 처리 - 실패한 토큰 비활성화
                         for (int i = 0; i < response.getResponses().size(); i++) {
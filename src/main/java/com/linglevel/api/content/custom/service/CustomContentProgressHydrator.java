@@ -0,0 +1,50 @@
+package com.linglevel.api.content.custom.service;
+
+import com.linglevel.api.content.common.dto.ContentChunkCountDto;
+import com.linglevel.api.content.common.service.ContentProgressHydrator;
+import com.linglevel.api.content.custom.entity.CustomContentChunk;
+import com.linglevel.api.content.custom.entity.CustomContentProgress;
+import com.linglevel.api.content.custom.repository.CustomContentChunkRepository;
+import com.linglevel.api.content.custom.repository.CustomContentProgressRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class CustomContentProgressHydrator extends ContentProgressHydrator<CustomContentProgress> {
+
+    private final CustomContentProgressRepository customContentProgressRepository;
+    private final CustomContentChunkRepository customContentChunkRepository;
+
+    @Override
+    protected List<CustomContentProgress> findProgresses(String userId, Collection<String> customContentIds) {
+        return customContentProgressRepository.findByUserIdAndCustomIdIn(userId, customContentIds);
+    }
+
+    @Override
+    protected String contentIdOf(CustomContentProgress progress) {
+        return progress.getCustomId();
+    }
+
+    @Override
+    protected String chunkIdOf(CustomContentProgress progress) {
+        return progress.getChunkId();
+    }
+
+    @Override
+    protected Map<String, Integer> findChunkNumbers(Collection<String> chunkIds) {
+        return customContentChunkRepository.findChunkNumsByIdIn(chunkIds).stream()
+                .filter(chunk -> chunk.getChunkNum() != null)
+                .collect(Collectors.toMap(CustomContentChunk::getId, CustomContentChunk::getChunkNum));
+    }
+
+    @Override
+    protected List<ContentChunkCountDto> countChunks(Collection<String> customContentIds) {
+        return customContentChunkRepository.countChunksByCustomContentIds(customContentIds);
+    }
+}
@@ -5,16 +5,14 @@ import com.linglevel.api.content.custom.dto.CustomContentResponse;
 import com.linglevel.api.content.custom.dto.GetCustomContentsRequest;
 import com.linglevel.api.content.custom.dto.UpdateCustomContentRequest;
 import com.linglevel.api.content.custom.entity.CustomContent;
-import com.linglevel.api.content.custom.entity.CustomContentChunk;
 import com.linglevel.api.content.custom.entity.UserCustomContent;
 import com.linglevel.api.content.custom.exception.CustomContentErrorCode;
 import com.linglevel.api.content.custom.exception.CustomContentException;
-import com.linglevel.api.content.custom.repository.CustomContentChunkRepository;
 import com.linglevel.api.content.custom.repository.CustomContentRepository;
-import com.linglevel.api.content.custom.repository.CustomContentProgressRepository;
 import com.linglevel.api.content.custom.repository.UserCustomContentRepository;
 import com.linglevel.api.content.custom.entity.CustomContentProgress;
 import com.linglevel.api.content.common.ProgressStatus;
+import com.linglevel.api.content.common.service.ContentProgressBatch;
 import com.linglevel.api.user.entity.User;
 import com.linglevel.api.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -37,10 +35,8 @@ import java.util.stream.Collectors;
 public class CustomContentService {
 
     private final CustomContentRepository customContentRepository;
-    private final CustomContentChunkRepository customContentChunkRepository;
-    private final CustomContentProgressRepository customContentProgressRepository;
     private final UserCustomContentRepository userCustomContentRepository;
-    private final CustomContentChunkService customContentChunkService;
+    private final CustomContentProgressHydrator customContentProgressHydrator;
 
     public PageResponse<CustomContentResponse> getCustomContents(String userId, GetCustomContentsRequest request) {
         log.info("Getting custom contents for user: {} with request: {}", userId, request);
@@ -59,8 +55,12 @@ public class CustomContentService {
         // UserCustomContent와 CustomContent를 aggregation으로 조인하여 한 번에 조회
         Page<CustomContent> page = customContentRepository.findCustomContentsByUserWithFilters(userId, request, pageable);
 
-        List<CustomContentResponse> responses = page.getContent().stream()
-                .map(content -> mapToResponse(content, userId))
+        List<CustomContent> contents = page.getContent();
+        ContentProgressBatch<CustomContentProgress> progressBatch = customContentProgressHydrator.hydrate(
+                userId, contents.stream().map(CustomContent::getId).collect(Collectors.toList()));
+
+        List<CustomContentResponse> responses = contents.stream()
+                .map(content -> mapToResponse(content, progressBatch))
                 .collect(Collectors.toList());
 
         return new PageResponse<>(responses, page);
@@ -76,7 +76,7 @@ public class CustomContentService {
         CustomContent content = customContentRepository.findByIdAndIsDeletedFalse(customContentId)
                 .orElseThrow(() -> new CustomContentException(CustomContentErrorCode.CUSTOM_CONTENT_NOT_FOUND));
 
-        return mapToResponse(content, userId);
+        return mapToResponse(content, customContentProgressHydrator.hydrate(userId, List.of(customContentId)));
     }
 
     @Transactional
@@ -98,7 +98,7 @@ public class CustomContentService {
         }
 
         CustomContent updatedContent = customContentRepository.save(content);
-        return mapToResponse(updatedContent, userId);
+        return mapToResponse(updatedContent, customContentProgressHydrator.hydrate(userId, List.of(customContentId)));
     }
 
     @Transactional
@@ -113,43 +113,32 @@ public class CustomContentService {
         log.info("Deleted UserCustomContent mapping for user: {} and content: {}", userId, customContentId);
     }
 
-    private CustomContentResponse mapToResponse(CustomContent content, String userId) {
-        // 진도 정보 조회
+    private CustomContentResponse mapToResponse(CustomContent content, ContentProgressBatch<CustomContentProgress> progressBatch) {
+        // 진도 정보 조회 (페이지 단위로 미리 조회된 결과 사용)
         int currentReadChunkNumber = 0;
         double progressPercentage = 0.0;
         boolean isCompleted = false;
         com.linglevel.api.content.common.DifficultyLevel currentDifficultyLevel = content.getDifficultyLevel(); // Fallback: CustomContent의 난이도
 
-        if (userId != null) {
-            CustomContentProgress progress = customContentProgressRepository
-                .findByUserIdAndCustomId(userId, content.getId())
-                .orElse(null);
-
-            if (progress != null) {
-                // [DTO_MAPPING] chunk에서 chunkNum 조회 (안전하게 처리)
-                try {
-                    CustomContentChunk chunk = customContentChunkService.findById(progress.getChunkId());
-                    currentReadChunkNumber = chunk.getChunkNum() != null ? chunk.getChunkNum() : 0;
-                } catch (Exception e) {
-                    log.warn("Failed to find chunk for progress: {}", progress.getChunkId(), e);
-                    currentReadChunkNumber = 0;
-                }
-
-                // Progress가 있으면 currentDifficultyLevel 사용
-                if (progress.getCurrentDifficultyLevel() != null) {
-                    currentDifficultyLevel = progress.getCurrentDifficultyLevel();
-                }
+        CustomContentProgress progress = progressBatch.progressOf(content.getId()).orElse(null);
 
-                // V2: 현재 난이도 기준으로 동적으로 청크 수 계산
-                long totalChunksForLevel = customContentChunkRepository.countByCustomContentIdAndDifficultyLevelAndIsDeletedFalse(content.getId(), currentDifficultyLevel);
+        if (progress != null) {
+            // [DTO_MAPPING] chunk에서 chunkNum 조회 (청크가 없으면 0)
+            currentReadChunkNumber = progressBatch.chunkNumberOf(progress.getChunkId());
 
-                if (totalChunksForLevel > 0) {
-                    progressPercentage = (double) currentReadChunkNumber / totalChunksForLevel * 100.0;
-                }
+            // Progress가 있으면 currentDifficultyLevel 사용
+            if (progress.getCurrentDifficultyLevel() != null) {
+                currentDifficultyLevel = progress.getCurrentDifficultyLevel();
+            }
 
-                isCompleted = progress.getIsCompleted() != null ? progress.getIsCompleted() : false;
+            // V2: 현재 난이도 기준으로 동적으로 청크 수 계산
+            long totalChunksForLevel = progressBatch.chunkCountOf(content.getId(), currentDifficultyLevel);
 
+            if (totalChunksForLevel > 0) {
+                progressPercentage = (double) currentReadChunkNumber / totalChunksForLevel * 100.0;
             }
+
+            isCompleted = progress.getIsCompleted() != null ? progress.getIsCompleted() : false;
         }
         CustomContentResponse response = new CustomContentResponse();
         response.setId(content.getId());
@@ -158,7 +147,7 @@ public class CustomContentService {
         response.setCoverImageUrl(content.getCoverImageUrl());
         response.setDifficultyLevel(content.getDifficultyLevel());
         response.setTargetDifficultyLevels(content.getTargetDifficultyLevels());
-        response.setChunkCount((int) customContentChunkRepository.countByCustomContentIdAndDifficultyLevelAndIsDeletedFalse(content.getId(), currentDifficultyLevel));
+        response.setChunkCount((int) progressBatch.chunkCountOf(content.getId(), currentDifficultyLevel));
         response.setCurrentReadChunkNumber(currentReadChunkNumber);
         response.setProgressPercentage(progressPercentage);
         response.setCurrentDifficultyLevel(currentDifficultyLevel);
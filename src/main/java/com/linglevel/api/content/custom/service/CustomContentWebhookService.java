@@ -7,7 +7,6 @@ import com.linglevel.api.content.custom.entity.CustomContent;
 import com.linglevel.api.content.custom.exception.CustomContentErrorCode;
 import com.linglevel.api.content.custom.exception.CustomContentException;
 import com.linglevel.api.content.custom.repository.ContentRequestRepository;
-import com.linglevel.api.content.custom.repository.CustomContentRepository;
 import com.linglevel.api.s3.service.S3AiService;
 import com.linglevel.api.s3.service.S3TransferService;
 import com.linglevel.api.s3.service.S3UrlService;
@@ -27,10 +26,8 @@ import java.time.Instant;
 public class CustomContentWebhookService {
 
     private final ContentRequestRepository contentRequestRepository;
-    private final CustomContentRepository customContentRepository;
     private final UserCustomContentService userCustomContentService;
     private final CustomContentImportService customContentImportService;
-    private final CustomContentReadingTimeService customContentReadingTimeService;
     private final S3AiService s3AiService;
     private final S3TransferService s3TransferService;
     private final S3UrlService s3UrlService;
@@ -53,31 +50,25 @@ public class CustomContentWebhookService {
                     pathStrategy
             );
             
-            // 2. Create the main CustomContent entity
-            CustomContent savedContent = customContentImportService.createCustomContent(contentRequest, aiResult);
+            // 2. Prepare the CustomContent entity with a pre-assigned ID
+            CustomContent customContent = customContentImportService.prepareCustomContent(contentRequest, aiResult);
 
-            // 3. Create UserCustomContent mapping for this user
-            userCustomContentService.createMapping(contentRequest, savedContent);
-
-            // 4. Transfer S3 images from AI temp location to static location
-            transferS3ImagesAndUpdateCoverUrl(request.getRequestId(), savedContent, aiResult);
+            // 3. Transfer S3 images from AI temp location to static location
+            transferS3ImagesAndUpdateCoverUrl(request.getRequestId(), customContent, aiResult);
 
-            // Save updated content with permanent cover image URL
-            savedContent = customContentRepository.save(savedContent);
+            // 4. Persist content and all chunks (reading time computed in memory)
+            CustomContent savedContent = customContentImportService.saveCustomContent(customContent, aiResult);
 
-            // 5. Create all associated chunks with permanent image URLs
-            customContentImportService.createCustomContentChunks(savedContent, aiResult);
-
-            // 6. Calculate and update reading time
-            customContentReadingTimeService.updateReadingTime(savedContent.getId());
+            // 5. Create UserCustomContent mapping for this user
+            userCustomContentService.createMapping(contentRequest, savedContent);
 
-            // 7. Update ContentRequest status
+            // 6. Update ContentRequest status
             contentRequest.setResultCustomContentId(savedContent.getId());
             contentRequest.setStatus(ContentRequestStatus.COMPLETED);
             contentRequest.setCompletedAt(Instant.now());
             contentRequestRepository.save(contentRequest);
 
-            // 8. Send notification
+            // 7. Send notification
             notificationService.sendContentCompletedNotification(
                     contentRequest.getUserId(),
                     request.getRequestId(),
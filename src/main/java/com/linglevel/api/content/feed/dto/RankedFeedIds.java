@@ -0,0 +1,20 @@
+package com.linglevel.api.content.feed.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 필터/정렬 조합별로 캐시되는 정렬된 Feed ID 목록
+ * ids는 상위 일부만 담을 수 있으며, totalCount는 필터에 해당하는 전체 Feed 수입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankedFeedIds implements Serializable {
+    private List<String> ids;
+    private long totalCount;
+}
@@ -3,6 +3,8 @@ package com.linglevel.api.content.feed.entity;
 import com.linglevel.api.content.common.ContentCategory;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -15,6 +17,12 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "feeds")
+@CompoundIndexes({
+    @CompoundIndex(name = "deleted_published_idx", def = "{'deleted': 1, 'publishedAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "deleted_category_published_idx", def = "{'deleted': 1, 'category': 1, 'publishedAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "deleted_view_count_idx", def = "{'deleted': 1, 'viewCount': -1, '_id': -1}"),
+    @CompoundIndex(name = "deleted_category_view_count_idx", def = "{'deleted': 1, 'category': 1, 'viewCount': -1, '_id': -1}")
+})
 public class Feed {
 
     @Id
@@ -27,6 +35,9 @@ public class Feed {
     @Indexed(unique = true)
     private String url;
 
+    @Indexed
+    private String normalizedUrl;
+
     private String thumbnailUrl;
 
     private String author;
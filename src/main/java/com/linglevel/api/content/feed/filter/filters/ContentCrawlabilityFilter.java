@@ -3,14 +3,15 @@ package com.linglevel.api.content.feed.filter.filters;
 import com.linglevel.api.content.feed.filter.FeedFilter;
 import com.linglevel.api.content.feed.filter.FeedFilterResult;
 import com.linglevel.api.content.feed.entity.FeedSource;
-import com.linglevel.api.crawling.dsl.CrawlerDsl;
+import com.linglevel.api.content.feed.service.ArticlePageCache;
+import com.linglevel.api.crawling.dsl.CompiledDsl;
 import com.linglevel.api.crawling.entity.CrawlingDsl;
 import com.linglevel.api.crawling.repository.CrawlingDslRepository;
+import com.linglevel.api.crawling.service.CompiledDslCache;
 import com.linglevel.api.crawling.service.CrawlingService;
 import com.rometools.rome.feed.synd.SyndEntry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.springframework.stereotype.Component;
 
@@ -26,6 +27,8 @@ public class ContentCrawlabilityFilter implements FeedFilter {
     private static final String FILTER_NAME = "ContentCrawlabilityFilter";
     private final CrawlingDslRepository crawlingDslRepository;
     private final CrawlingService crawlingService;
+    private final ArticlePageCache articlePageCache;
+    private final CompiledDslCache compiledDslCache;
 
     @Override
     public FeedFilterResult filter(SyndEntry entry, FeedSource feedSource) {
@@ -68,17 +71,20 @@ public class ContentCrawlabilityFilter implements FeedFilter {
             return true;
         }
 
+        CompiledDsl contentDsl = compiledDslCache
+                .get(crawlingDsl.getDomain(), CompiledDslCache.CONTENT, crawlingDsl.getContentDsl())
+                .orElse(null);
+        if (contentDsl == null) {
+            return false;
+        }
+
         // 3. 실제 크롤링 시도
         try {
             log.debug("Testing crawlability for URL: {} with DSL", url);
 
-            Document doc = Jsoup.connect(url)
-                .timeout(10000)
-                .userAgent("Mozilla/5.0")
-                .get();
+            Document doc = articlePageCache.getDocument(url);
 
-            CrawlerDsl crawler = new CrawlerDsl(doc);
-            String extractedContent = crawler.executeAsString(crawlingDsl.getContentDsl());
+            String extractedContent = contentDsl.executeAsString(doc);
 
             // 추출된 콘텐츠가 없거나 너무 짧으면 실패
             if (extractedContent == null || extractedContent.trim().isEmpty()) {
@@ -98,7 +104,7 @@ public class ContentCrawlabilityFilter implements FeedFilter {
             return true;
 
         } catch (Exception e) {
-            log.warn("Failed to test crawlability for URL: {}", url, e);
+            log.warn("Failed to test crawlability for URL: {} - {}", url, e.getMessage());
             // 크롤링 실패는 soft-delete 처리 (콘텐츠를 추출할 수 없음)
             return false;
         }
@@ -7,13 +7,11 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
-public interface FeedRepository extends MongoRepository<Feed, String> {
+public interface FeedRepository extends MongoRepository<Feed, String>, FeedRepositoryCustom {
 
     boolean existsByUrl(String url);
 
     Optional<Feed> findByUrl(String url);
 
-    List<Feed> findByDeletedFalse();
-
     Optional<Feed> findByIdAndDeletedFalse(String id);
 }
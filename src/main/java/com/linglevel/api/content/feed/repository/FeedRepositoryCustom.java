@@ -0,0 +1,40 @@
+package com.linglevel.api.content.feed.repository;
+
+import com.linglevel.api.content.feed.dto.GetFeedsRequest;
+import com.linglevel.api.content.feed.entity.Feed;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface FeedRepositoryCustom {
+
+    /**
+     * 필터와 정렬(LATEST/POPULAR)을 적용한 상위 Feed ID 목록 (ID만 조회)
+     */
+    List<String> findRankedFeedIds(GetFeedsRequest request, int limit);
+
+    /**
+     * 필터와 정렬(LATEST/POPULAR)을 적용한 Feed 페이지 조회
+     */
+    List<Feed> findFeedsWithFilters(GetFeedsRequest request, long offset, int limit);
+
+    long countFeedsWithFilters(GetFeedsRequest request);
+
+    /**
+     * 추천 점수 계산에 필요한 필드만 조회
+     */
+    List<Feed> findRecommendationCandidates(GetFeedsRequest request);
+
+    /**
+     * 이미 저장된 Feed URL 조회 (원본 url 또는 정규화 url이 일치하는 Feed, URL 필드만 조회)
+     * @return 일치한 Feed의 정규화 URL 목록
+     */
+    Set<String> findExistingNormalizedUrls(Collection<String> urls, Collection<String> normalizedUrls);
+
+    /**
+     * Feed 일괄 저장 (unordered bulk insert, 중복 URL 등으로 실패한 문서는 건너뜀)
+     * @return 실제로 저장된 Feed 목록
+     */
+    List<Feed> insertAllIgnoringDuplicates(List<Feed> feeds);
+}
@@ -0,0 +1,158 @@
+package com.linglevel.api.content.feed.repository;
+
+import com.linglevel.api.content.common.ContentCategory;
+import com.linglevel.api.content.feed.dto.GetFeedsRequest;
+import com.linglevel.api.content.feed.entity.Feed;
+import com.linglevel.api.content.feed.entity.FeedContentType;
+import com.linglevel.api.common.util.UrlNormalizer;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Slf4j
+public class FeedRepositoryImpl implements FeedRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<String> findRankedFeedIds(GetFeedsRequest request, int limit) {
+        Query query = buildQuery(request)
+                .with(buildSort(request.getSortOrder()))
+                .limit(limit);
+        query.fields().include("_id");
+
+        return mongoTemplate.find(query, Feed.class).stream()
+                .map(Feed::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Feed> findFeedsWithFilters(GetFeedsRequest request, long offset, int limit) {
+        Query query = buildQuery(request)
+                .with(buildSort(request.getSortOrder()))
+                .skip(offset)
+                .limit(limit);
+
+        return mongoTemplate.find(query, Feed.class);
+    }
+
+    @Override
+    public long countFeedsWithFilters(GetFeedsRequest request) {
+        return mongoTemplate.count(buildQuery(request), Feed.class);
+    }
+
+    @Override
+    public List<Feed> findRecommendationCandidates(GetFeedsRequest request) {
+        Query query = buildQuery(request);
+        query.fields().include("_id", "category", "avgReadTimeSeconds", "publishedAt", "createdAt");
+
+        return mongoTemplate.find(query, Feed.class);
+    }
+
+    @Override
+    public Set<String> findExistingNormalizedUrls(Collection<String> urls, Collection<String> normalizedUrls) {
+        if (urls.isEmpty() && normalizedUrls.isEmpty()) {
+            return Set.of();
+        }
+
+        // normalizedUrl이 없는 기존 Feed도 원본 url로 찾을 수 있도록 두 필드를 함께 조회
+        Query query = new Query(new Criteria().orOperator(
+                Criteria.where("url").in(urls),
+                Criteria.where("normalizedUrl").in(normalizedUrls)
+        ));
+        query.fields().include("url", "normalizedUrl");
+
+        return mongoTemplate.find(query, Feed.class).stream()
+                .map(feed -> feed.getNormalizedUrl() != null ? feed.getNormalizedUrl() : UrlNormalizer.normalize(feed.getUrl()))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<Feed> insertAllIgnoringDuplicates(List<Feed> feeds) {
+        if (feeds.isEmpty()) {
+            return List.of();
+        }
+
+        // bulk insert는 생성된 ID를 엔티티에 돌려주지 않으므로 미리 할당
+        feeds.stream()
+                .filter(feed -> feed.getId() == null)
+                .forEach(feed -> feed.setId(new ObjectId().toHexString()));
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Feed.class)
+                    .insert(feeds)
+                    .execute();
+            return feeds;
+        } catch (BulkOperationException e) {
+            // 동시에 수집된 같은 URL(unique 인덱스 위반) 등 실패한 문서만 제외
+            Set<Integer> failedIndexes = e.getErrors().stream()
+                    .map(BulkWriteError::getIndex)
+                    .collect(Collectors.toSet());
+            log.warn("Bulk insert of feeds partially failed: {} of {} skipped", failedIndexes.size(), feeds.size());
+
+            List<Feed> inserted = new ArrayList<>(feeds.size() - failedIndexes.size());
+            for (int i = 0; i < feeds.size(); i++) {
+                if (!failedIndexes.contains(i)) {
+                    inserted.add(feeds.get(i));
+                }
+            }
+            return inserted;
+        }
+    }
+
+    /**
+     * 동적 쿼리 빌드 (deleted=false가 항상 선두 조건이 되도록 하여 복합 인덱스를 사용)
+     */
+    private Query buildQuery(GetFeedsRequest request) {
+        Query query = new Query(Criteria.where("deleted").is(false));
+
+        applyCategoryFilter(query, request.getCategory());
+        applyContentTypesFilter(query, request.getContentTypes());
+
+        return query;
+    }
+
+    /**
+     * 카테고리 필터 적용
+     */
+    private void applyCategoryFilter(Query query, ContentCategory category) {
+        if (category == null) {
+            return;
+        }
+
+        query.addCriteria(Criteria.where("category").is(category));
+    }
+
+    /**
+     * 콘텐츠 타입 필터 적용
+     */
+    private void applyContentTypesFilter(Query query, List<FeedContentType> contentTypes) {
+        if (contentTypes == null || contentTypes.isEmpty()) {
+            return;
+        }
+
+        query.addCriteria(Criteria.where("contentType").in(contentTypes));
+    }
+
+    /**
+     * 정렬 조건 (동일 값은 _id 역순으로 고정하여 페이지 간 중복/누락 방지)
+     */
+    private Sort buildSort(GetFeedsRequest.SortOrder sortOrder) {
+        if (sortOrder == GetFeedsRequest.SortOrder.POPULAR) {
+            return Sort.by(Sort.Direction.DESC, "viewCount", "_id");
+        }
+
+        return Sort.by(Sort.Direction.DESC, "publishedAt", "_id");
+    }
+}
@@ -20,6 +20,7 @@ public class FeedCrawlingScheduler {
 
     /**
      * 매일 새벽 3시에 활성화된 모든 FeedSource 크롤링 (한국 시간 기준)
+     * 소스별/엔트리별로 병렬 크롤링하여 같은 시각의 다른 배치와 겹치는 시간을 줄임
      */
     @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
     public void scheduledCrawling() {
@@ -29,13 +30,11 @@ public class FeedCrawlingScheduler {
 
         log.info("Found {} active FeedSources to crawl", sources.size());
 
-        int totalCrawled = 0;
-        for (FeedSource source : sources) {
-            int count = feedCrawlingService.crawlFeedSource(source);
-            totalCrawled += count;
-        }
+        long startTime = System.currentTimeMillis();
+        int totalCrawled = feedCrawlingService.crawlFeedSources(sources);
 
-        log.info("Scheduled crawling completed: {} feeds collected", totalCrawled);
+        log.info("Scheduled crawling completed: {} feeds collected in {}ms",
+            totalCrawled, System.currentTimeMillis() - startTime);
     }
 
     /**
@@ -45,12 +44,7 @@ public class FeedCrawlingScheduler {
         log.info("Manual crawling triggered for all sources");
 
         List<FeedSource> sources = feedSourceRepository.findByIsActiveTrue();
-        int totalCrawled = 0;
-
-        for (FeedSource source : sources) {
-            int count = feedCrawlingService.crawlFeedSource(source);
-            totalCrawled += count;
-        }
+        int totalCrawled = feedCrawlingService.crawlFeedSources(sources);
 
         log.info("Manual crawling completed: {} feeds collected", totalCrawled);
         return totalCrawled;
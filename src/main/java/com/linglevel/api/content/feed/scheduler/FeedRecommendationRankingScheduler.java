@@ -0,0 +1,28 @@
+package com.linglevel.api.content.feed.scheduler;
+
+import com.linglevel.api.content.feed.service.FeedRecommendationRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeedRecommendationRankingScheduler {
+
+    private final FeedRecommendationRankingService feedRecommendationRankingService;
+
+    /**
+     * 추천순 랭킹 주기적 재계산 (한국 시간 기준)
+     * 랭킹의 신선도 점수는 재계산 시각 기준이므로, 새벽 선호도 집계 외에도 주기적으로 기준 시각을 갱신함
+     */
+    @Scheduled(cron = "${feed.recommendation.rebuild-cron:0 30 * * * *}", zone = "Asia/Seoul")
+    public void rebuildRankings() {
+        try {
+            feedRecommendationRankingService.rebuildAll();
+        } catch (Exception e) {
+            log.error("Failed to rebuild feed recommendation rankings", e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.linglevel.api.content.feed.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.DataNode;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.TextNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크롤링 실행 중 가져온 기사 페이지 캐시
+ * 썸네일 DSL과 크롤링 가능성 필터가 같은 URL을 각각 요청/파싱하지 않도록 Document를 공유합니다.
+ * - 크롤링 실행({@link #beginRun()} ~ {@link #endRun()}) 동안에만 보관하고, 진행 중인 실행이 모두 끝나면 비움
+ *   (이미 저장된 URL은 크롤링 전에 제외되므로 실행 간에 페이지를 재사용할 일이 없음)
+ * - 실행 밖에서의 조회는 캐시하지 않음
+ * - 파싱된 Document의 추정 메모리 크기 기준 바이트 상한을 넘으면 가장 오래 사용되지 않은 페이지부터 제거 (LRU)
+ */
+@Component
+@Slf4j
+public class ArticlePageCache {
+
+    // Jsoup 노드/속성 객체 하나당 대략적인 고정 오버헤드 (필드, 자식 목록, 참조 포함)
+    private static final long NODE_OVERHEAD_BYTES = 160;
+    private static final long ATTRIBUTE_OVERHEAD_BYTES = 64;
+
+    private final FeedPageFetcher feedPageFetcher;
+    private final long maxBytes;
+
+    private final LinkedHashMap<String, CachedPage> pages = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    private int activeRuns;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictedCounter;
+
+    public ArticlePageCache(FeedPageFetcher feedPageFetcher,
+                            MeterRegistry meterRegistry,
+                            @Value("${feed.page-cache.max-bytes:16777216}") long maxBytes) {
+        this.feedPageFetcher = feedPageFetcher;
+        this.maxBytes = maxBytes;
+
+        Gauge.builder("feed.page.cache.bytes", this, ArticlePageCache::bytes)
+                .description("Approximate size of cached article pages")
+                .register(meterRegistry);
+        this.hitCounter = meterRegistry.counter("feed.page.cache.hits");
+        this.missCounter = meterRegistry.counter("feed.page.cache.misses");
+        this.evictedCounter = meterRegistry.counter("feed.page.cache.evicted");
+    }
+
+    /**
+     * 크롤링 실행 시작 (실행이 겹쳐도 모두 끝날 때까지 캐시 유지)
+     */
+    public void beginRun() {
+        synchronized (pages) {
+            activeRuns++;
+        }
+    }
+
+    /**
+     * 크롤링 실행 종료, 진행 중인 실행이 없으면 보관 중인 페이지를 모두 비움
+     */
+    public void endRun() {
+        synchronized (pages) {
+            activeRuns = Math.max(0, activeRuns - 1);
+            if (activeRuns == 0) {
+                pages.clear();
+                totalBytes = 0;
+            }
+        }
+    }
+
+    /**
+     * url의 파싱된 Document 조회 (이번 실행에서 처음 조회할 때만 요청)
+     * 반환된 Document는 여러 호출자가 공유하므로 읽기 전용으로 사용해야 합니다.
+     */
+    public Document getDocument(String url) throws Exception {
+        CachedPage cached = get(url);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached.document;
+        }
+
+        missCounter.increment();
+        // 바이트 스트림에서 파싱해야 Content-Type/meta charset을 감지하고, 기준 URL도 리다이렉트 이후 주소가 됨
+        Document document = feedPageFetcher.execute(url, () -> Jsoup.connect(url)
+                .timeout(FeedPageFetcher.TIMEOUT_MILLIS)
+                .userAgent(FeedPageFetcher.USER_AGENT)
+                .execute()
+                .parse());
+        put(url, new CachedPage(document));
+        return document;
+    }
+
+    /**
+     * 파싱된 Document가 차지하는 메모리 추정치 (노드/속성 오버헤드 + 문자열 크기)
+     */
+    static long estimateBytes(Document document) {
+        long[] bytes = {0};
+        document.traverse((node, depth) -> {
+            bytes[0] += NODE_OVERHEAD_BYTES;
+            if (node instanceof TextNode text) {
+                bytes[0] += (long) text.getWholeText().length() * Character.BYTES;
+            } else if (node instanceof DataNode data) {
+                bytes[0] += (long) data.getWholeData().length() * Character.BYTES;
+            } else if (node instanceof Comment comment) {
+                bytes[0] += (long) comment.getData().length() * Character.BYTES;
+            } else if (node.attributesSize() > 0) {
+                for (Attribute attribute : node.attributes()) {
+                    bytes[0] += ATTRIBUTE_OVERHEAD_BYTES
+                            + (long) (attribute.getKey().length() + attribute.getValue().length()) * Character.BYTES;
+                }
+            }
+        });
+        return bytes[0];
+    }
+
+    long bytes() {
+        synchronized (pages) {
+            return totalBytes;
+        }
+    }
+
+    private CachedPage get(String url) {
+        synchronized (pages) {
+            return pages.get(url);
+        }
+    }
+
+    private void put(String url, CachedPage page) {
+        if (page.bytes > maxBytes) {
+            return;
+        }
+
+        synchronized (pages) {
+            if (activeRuns == 0) {
+                return;
+            }
+
+            CachedPage previous = pages.put(url, page);
+            if (previous != null) {
+                totalBytes -= previous.bytes;
+            }
+            totalBytes += page.bytes;
+
+            Iterator<Map.Entry<String, CachedPage>> iterator = pages.entrySet().iterator();
+            while (totalBytes > maxBytes && iterator.hasNext()) {
+                CachedPage eldest = iterator.next().getValue();
+                iterator.remove();
+                totalBytes -= eldest.bytes;
+                evictedCounter.increment();
+            }
+        }
+    }
+
+    private static class CachedPage {
+        private final Document document;
+        private final long bytes;
+
+        private CachedPage(Document document) {
+            this.document = document;
+            this.bytes = estimateBytes(document);
+        }
+    }
+}
@@ -1,99 +1,266 @@
 package com.linglevel.api.content.feed.service;
 
+import com.linglevel.api.common.util.UrlNormalizer;
 import com.linglevel.api.content.feed.entity.Feed;
 import com.linglevel.api.content.feed.entity.FeedSource;
 import com.linglevel.api.content.feed.repository.FeedRepository;
 import com.linglevel.api.content.feed.repository.FeedSourceRepository;
 import com.linglevel.api.content.feed.filter.FeedFilterChain;
 import com.linglevel.api.content.feed.filter.FeedFilterResult;
-import com.linglevel.api.crawling.dsl.CrawlerDsl;
+import com.linglevel.api.crawling.dsl.CompiledDsl;
+import com.linglevel.api.crawling.service.CompiledDslCache;
 import com.rometools.rome.feed.synd.SyndEntry;
 import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.SyndFeedInput;
 import com.rometools.rome.io.XmlReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.HtmlUtils;
 
 import java.net.URL;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FeedCrawlingService {
 
+    // coverImageDsl은 FeedSource에 있으므로 CrawlingDsl 도메인과 겹치지 않는 scope 사용 (FeedSource ID 기준)
+    private static final String FEED_SOURCE_DSL_SCOPE = "feed-source:";
+
     private final FeedRepository feedRepository;
     private final FeedSourceRepository feedSourceRepository;
     private final FeedFilterChain feedFilterChain;
+    private final FeedRecommendationRankingService feedRecommendationRankingService;
+    private final FeedPageFetcher feedPageFetcher;
+    private final ArticlePageCache articlePageCache;
+    private final CompiledDslCache compiledDslCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${feed.crawl.source-parallelism:4}")
+    private int sourceParallelism;
+
+    @Value("${feed.crawl.entry-parallelism:8}")
+    private int entryParallelism;
+
+    /**
+     * 삭제된 FeedSource의 컴파일된 coverImageDsl 캐시 제거
+     */
+    public void evictCoverImageDsl(String feedSourceId) {
+        compiledDslCache.invalidate(FEED_SOURCE_DSL_SCOPE + feedSourceId);
+    }
+
+    /**
+     * 여러 FeedSource를 병렬로 크롤링
+     * 외부 요청은 FeedPageFetcher가 전체/도메인별 동시 요청 수를 제한합니다.
+     *
+     * @return 수집된 Feed 총 개수
+     */
+    public int crawlFeedSources(List<FeedSource> sources) {
+        if (sources.isEmpty()) {
+            return 0;
+        }
+
+        int threads = Math.max(1, Math.min(sourceParallelism, sources.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        try {
+            for (FeedSource source : sources) {
+                futures.add(executor.submit(() -> crawlFeedSource(source)));
+            }
+
+            int totalCrawled = 0;
+            for (Future<Integer> future : futures) {
+                totalCrawled += awaitCount(future);
+            }
+            return totalCrawled;
+        } finally {
+            executor.shutdown();
+        }
+    }
 
     /**
      * RSS FeedSource를 파싱하여 Feed 생성/업데이트
+     * 엔트리별 처리(썸네일/크롤링 가능성 검사 요청 포함)는 병렬로 실행합니다.
      *
      * @param feedSource RSS Feed 소스
      * @return 수집된 Feed 개수
      */
     public int crawlFeedSource(FeedSource feedSource) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        // 기사 페이지는 이번 크롤링 동안에만 공유하고 끝나면 비움
+        articlePageCache.beginRun();
+
         try {
             log.info("Crawling RSS FeedSource: {} ({})", feedSource.getName(), feedSource.getUrl());
 
-
-            SyndFeedInput input = new SyndFeedInput();
-            input.setAllowDoctypes(true);
-            SyndFeed rssFeed = input.build(new XmlReader(new URL(feedSource.getUrl())));
+            SyndFeed rssFeed = feedPageFetcher.execute(feedSource.getUrl(), () -> {
+                SyndFeedInput input = new SyndFeedInput();
+                input.setAllowDoctypes(true);
+                return input.build(new XmlReader(new URL(feedSource.getUrl())));
+            });
 
             List<SyndEntry> entries = rssFeed.getEntries();
             log.info("Found {} entries in RSS feed: {}", entries.size(), feedSource.getName());
 
-            int crawledCount = 0;
-            int filteredCount = 0;
-
-            for (SyndEntry entry : entries) {
-                try {
-                    String feedUrl = entry.getLink();
+            // 이미 저장된 URL은 필터 체인(외부 요청 포함)을 실행하기 전에 한 번의 쿼리로 제외
+            List<SyndEntry> newEntries = findNewEntries(entries);
+            log.info("{} new entries to process in RSS feed: {}", newEntries.size(), feedSource.getName());
 
-                    if (feedRepository.existsByUrl(feedUrl)) {
-                        log.debug("Feed already exists: {}", feedUrl);
-                        continue;
-                    }
+            List<Feed> savedFeeds = feedRepository.insertAllIgnoringDuplicates(processEntries(newEntries, feedSource));
 
-                    // 필터링 체크
-                    FeedFilterResult filterResult = feedFilterChain.executeFilters(entry, feedSource);
-
-                    Feed feed = convertEntryToFeed(entry, feedSource);
-                    if (feed != null) {
-                        if (!filterResult.isPassed()) {
-                            feed.setDeleted(true);
-                            feed.setDeletedAt(Instant.now());
-                            filteredCount++;
-                        }
-
-                        feedRepository.save(feed);
-                        crawledCount++;
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to convert RSS entry to Feed: {}", entry.getLink(), e);
+            int crawledCount = savedFeeds.size();
+            int filteredCount = 0;
+            List<Feed> addedFeeds = new ArrayList<>();
+            for (Feed feed : savedFeeds) {
+                if (Boolean.TRUE.equals(feed.getDeleted())) {
+                    filteredCount++;
+                } else {
+                    addedFeeds.add(feed);
                 }
             }
 
             feedSource.setUpdatedAt(Instant.now());
             feedSourceRepository.save(feedSource);
 
+            // 추천 랭킹에 새 Feed만 반영 (전체 재계산 없이)
+            feedRecommendationRankingService.addFeeds(addedFeeds);
+
+            meterRegistry.counter("feed.crawl.source.collected", "source", feedSource.getName()).increment(crawledCount);
             log.info("RSS crawling completed: {} feeds collected, {} filtered (soft-deleted) from {}",
                 crawledCount, filteredCount, feedSource.getName());
             return crawledCount;
 
         } catch (Exception e) {
+            outcome = "failure";
             log.error("Failed to crawl RSS FeedSource: {}", feedSource.getName(), e);
             return 0;
+        } finally {
+            articlePageCache.endRun();
+            long durationNanos = sample.stop(Timer.builder("feed.crawl.source")
+                    .description("Time taken to crawl a feed source")
+                    .tag("source", feedSource.getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            log.info("Crawled FeedSource {} in {}ms", feedSource.getName(), TimeUnit.NANOSECONDS.toMillis(durationNanos));
         }
     }
 
+    /**
+     * 이미 저장된 Feed의 엔트리를 제외한 새 엔트리 목록 (정규화 URL 기준, 피드 내 중복도 제거)
+     */
+    private List<SyndEntry> findNewEntries(List<SyndEntry> entries) {
+        Map<String, SyndEntry> entriesByNormalizedUrl = new LinkedHashMap<>();
+        for (SyndEntry entry : entries) {
+            if (entry.getLink() != null) {
+                entriesByNormalizedUrl.putIfAbsent(UrlNormalizer.normalize(entry.getLink()), entry);
+            }
+        }
+
+        if (entriesByNormalizedUrl.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> urls = entriesByNormalizedUrl.values().stream()
+                .map(SyndEntry::getLink)
+                .collect(Collectors.toList());
+        Set<String> existingUrls = feedRepository.findExistingNormalizedUrls(urls, entriesByNormalizedUrl.keySet());
+
+        return entriesByNormalizedUrl.entrySet().stream()
+                .filter(entry -> !existingUrls.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 새 엔트리를 병렬로 검사/변환 (저장은 호출 측에서 한 번에)
+     * 필터에 걸린 엔트리도 다음 크롤링에서 다시 검사하지 않도록 soft-delete 상태로 포함합니다.
+     */
+    private List<Feed> processEntries(List<SyndEntry> entries, FeedSource feedSource) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        int threads = Math.max(1, Math.min(entryParallelism, entries.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Feed>> futures = new ArrayList<>();
+
+        try {
+            for (SyndEntry entry : entries) {
+                futures.add(executor.submit(() -> processEntry(entry, feedSource)));
+            }
+
+            List<Feed> feeds = new ArrayList<>(futures.size());
+            for (Future<Feed> future : futures) {
+                Feed feed = awaitEntry(future);
+                if (feed != null) {
+                    feeds.add(feed);
+                }
+            }
+            return feeds;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Feed processEntry(SyndEntry entry, FeedSource feedSource) {
+        try {
+            // 필터링 체크
+            FeedFilterResult filterResult = feedFilterChain.executeFilters(entry, feedSource);
+
+            Feed feed = convertEntryToFeed(entry, feedSource);
+            if (feed != null && !filterResult.isPassed()) {
+                feed.setDeleted(true);
+                feed.setDeletedAt(Instant.now());
+            }
+            return feed;
+        } catch (Exception e) {
+            log.error("Failed to convert RSS entry to Feed: {}", entry.getLink(), e);
+            return null;
+        }
+    }
+
+    private int awaitCount(Future<Integer> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Feed source crawl failed unexpectedly", e.getCause());
+        }
+        return 0;
+    }
+
+    private Feed awaitEntry(Future<Feed> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Feed entry processing failed unexpectedly", e.getCause());
+        }
+        return null;
+    }
+
     /**
      * RSS Entry를 Feed 엔티티로 변환
      */
@@ -129,6 +296,7 @@ public class FeedCrawlingService {
                 .contentType(feedSource.getContentType())
                 .title(title.trim())
                 .url(url)
+                .normalizedUrl(UrlNormalizer.normalize(url))
                 .thumbnailUrl(thumbnailUrl)
                 .author(author != null && !author.trim().isEmpty() ? author.trim() : null)
                 .description(description)
@@ -217,23 +385,22 @@ public class FeedCrawlingService {
         }
 
         // 2. RSS에 썸네일이 없고, coverImageDsl이 설정되어 있으면 크롤링
-        if (feedSource.getCoverImageDsl() != null && !feedSource.getCoverImageDsl().trim().isEmpty()) {
+        CompiledDsl coverImageDsl = compiledDslCache
+                .get(FEED_SOURCE_DSL_SCOPE + feedSource.getId(), CompiledDslCache.COVER_IMAGE, feedSource.getCoverImageDsl())
+                .orElse(null);
+        if (coverImageDsl != null) {
             try {
                 log.debug("RSS thumbnail not found, crawling article: {}", articleUrl);
-                Document doc = Jsoup.connect(articleUrl)
-                    .timeout(10000)
-                    .userAgent("Mozilla/5.0")
-                    .get();
+                Document doc = articlePageCache.getDocument(articleUrl);
 
-                CrawlerDsl crawler = new CrawlerDsl(doc);
-                String crawledThumbnail = crawler.executeAsString(feedSource.getCoverImageDsl());
+                String crawledThumbnail = coverImageDsl.executeAsString(doc);
 
                 if (crawledThumbnail != null && !crawledThumbnail.trim().isEmpty()) {
                     log.debug("Thumbnail found via DSL: {}", crawledThumbnail);
                     return crawledThumbnail.trim();
                 }
             } catch (Exception e) {
-                log.warn("Failed to crawl thumbnail from article: {}", articleUrl, e);
+                log.warn("Failed to crawl thumbnail from article: {} - {}", articleUrl, e.getMessage());
             }
         }
 
@@ -0,0 +1,75 @@
+package com.linglevel.api.content.feed.service;
+
+import com.linglevel.api.content.feed.dto.GetFeedsRequest;
+import com.linglevel.api.content.feed.dto.RankedFeedIds;
+import com.linglevel.api.content.feed.entity.FeedContentType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 정렬된 Feed ID 목록의 짧은 TTL 캐시 (Redis)
+ * 같은 필터/정렬 조합의 2페이지 이후 요청이 컬렉션을 다시 스캔하지 않도록 합니다.
+ * Redis 장애 시에는 캐시 없이 바로 계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeedRankingCache {
+
+    private static final String KEY_PREFIX = "feed:ranked:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${feed.ranking-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    public RankedFeedIds getOrLoad(GetFeedsRequest request, String userId, Supplier<RankedFeedIds> loader) {
+        String key = buildKey(request, userId);
+
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached instanceof RankedFeedIds rankedFeedIds) {
+                return rankedFeedIds;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read feed ranking cache - key: {}", key, e);
+        }
+
+        RankedFeedIds loaded = loader.get();
+
+        try {
+            redisTemplate.opsForValue().set(key, loaded, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("Failed to write feed ranking cache - key: {}", key, e);
+        }
+
+        return loaded;
+    }
+
+    /**
+     * 캐시 키: 정렬 + 카테고리 + 콘텐츠 타입 (추천순은 사용자별)
+     */
+    String buildKey(GetFeedsRequest request, String userId) {
+        String contentTypes = request.getContentTypes() == null || request.getContentTypes().isEmpty()
+                ? "ALL"
+                : request.getContentTypes().stream()
+                        .map(FeedContentType::name)
+                        .distinct()
+                        .sorted()
+                        .collect(Collectors.joining(","));
+        String category = request.getCategory() != null ? request.getCategory().name() : "ALL";
+
+        String key = KEY_PREFIX + request.getSortOrder().name() + ":" + category + ":" + contentTypes;
+        if (request.getSortOrder() == GetFeedsRequest.SortOrder.RECOMMENDED) {
+            key += ":" + userId;
+        }
+        return key;
+    }
+}
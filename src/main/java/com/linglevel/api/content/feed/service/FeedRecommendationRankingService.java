@@ -0,0 +1,329 @@
+package com.linglevel.api.content.feed.service;
+
+import com.linglevel.api.content.common.ContentCategory;
+import com.linglevel.api.content.feed.dto.GetFeedsRequest;
+import com.linglevel.api.content.feed.dto.RankedFeedIds;
+import com.linglevel.api.content.feed.entity.Feed;
+import com.linglevel.api.content.feed.repository.FeedRepository;
+import com.linglevel.api.content.recommendation.entity.UserCategoryPreference;
+import com.linglevel.api.content.recommendation.repository.UserCategoryPreferenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 추천순 Feed 랭킹 사전 계산 (Redis Sorted Set)
+ * 요청마다 전체 Feed 점수를 계산하지 않도록 상위 N개 ID를 미리 정렬해 둡니다.
+ * - 카테고리별 세트: 사용자와 무관한 품질/신선도 점수
+ * - 기본 세트: 선호도가 없는 사용자용 (최신순)
+ * - 사용자별 세트: 카테고리별 세트를 사용자 선호도로 병합 (첫 조회 시 생성, 최근 조회한 사용자만 유지)
+ * 새 Feed는 전체 재계산 없이 각 세트에 추가한 뒤 상위 N개로 잘라냅니다.
+ * 신선도는 재계산 시각(기준 시각) 기준으로 계산하며, 새 Feed도 같은 기준 시각으로 점수를 매겨 세트 안의 점수를 일관되게 유지합니다.
+ * 기준 시각은 주기적인 재계산으로 갱신됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FeedRecommendationRankingService {
+
+    private static final String KEY_PREFIX = "feed:recommend:";
+    private static final String DEFAULT_KEY = KEY_PREFIX + "default";
+    private static final String ACTIVE_USERS_KEY = KEY_PREFIX + "users";
+    private static final String AS_OF_KEY = KEY_PREFIX + "as-of";
+    private static final String NO_PREFERENCE_KEY = KEY_PREFIX + "no-preference";
+    private static final String NO_CATEGORY = "NONE";
+    private static final int USER_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final FeedRepository feedRepository;
+    private final FeedRecommendationService feedRecommendationService;
+    private final UserCategoryPreferenceRepository userCategoryPreferenceRepository;
+
+    @Value("${feed.ranking-cache.max-ids:1000}")
+    private int topN;
+
+    @Value("${feed.recommendation.ttl-hours:48}")
+    private long ttlHours;
+
+    /**
+     * 사용자의 추천순 Feed ID 한 페이지 조회
+     * 전체 개수는 랭킹에 들어 있는 상위 N개까지만 반환 (그 이후는 같은 점수 순서로 이어서 조회할 수 없음)
+     * @return 사전 계산된 랭킹이 없으면 empty (호출 측에서 기존 방식으로 계산)
+     */
+    public Optional<RankedFeedIds> findRankedPage(String userId, long offset, int limit) {
+        try {
+            String key = userId != null ? userKey(userId) : DEFAULT_KEY;
+            Set<Object> members = zSet().reverseRange(key, offset, offset + limit - 1);
+
+            if ((members == null || members.isEmpty()) && !Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                key = userId != null ? materializeUser(userId) : null;
+                if (key == null) {
+                    return Optional.empty();
+                }
+                members = zSet().reverseRange(key, offset, offset + limit - 1);
+            }
+
+            if (userId != null && !DEFAULT_KEY.equals(key)) {
+                zSet().add(ACTIVE_USERS_KEY, userId, System.currentTimeMillis());
+            }
+
+            Long totalCount = zSet().zCard(key);
+            List<String> ids = members == null ? List.of() : members.stream()
+                    .map(Object::toString)
+                    .collect(Collectors.toList());
+            return Optional.of(new RankedFeedIds(ids, totalCount != null ? totalCount : ids.size()));
+        } catch (Exception e) {
+            log.warn("Failed to read precomputed feed ranking - userId: {}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 전체 랭킹 재계산
+     * 공용 세트는 Feed 컬렉션에서 다시 만들고, 최근 조회한 사용자의 세트는 최신 선호도로 다시 병합합니다.
+     */
+    public void rebuildAll() {
+        long startTime = System.currentTimeMillis();
+        Instant asOf = Instant.ofEpochMilli(startTime);
+
+        List<Feed> candidates = feedRepository.findRecommendationCandidates(new GetFeedsRequest());
+
+        Map<String, List<TypedTuple<Object>>> categoryRankings = new HashMap<>();
+        for (String category : categoryNames()) {
+            categoryRankings.put(category, new ArrayList<>());
+        }
+        for (Feed feed : candidates) {
+            categoryRankings.get(categoryName(feed.getCategory()))
+                    .add(new DefaultTypedTuple<>(feed.getId(), feedRecommendationService.calculateBaseScore(feed, asOf)));
+        }
+        categoryRankings.replaceAll((category, tuples) -> topTuples(tuples.stream()));
+
+        categoryRankings.forEach((category, tuples) -> replace(categoryKey(category), tuples));
+        replace(DEFAULT_KEY, topTuples(candidates.stream()
+                .map(feed -> new DefaultTypedTuple<Object>(feed.getId(), createdAtScore(feed)))));
+        redisTemplate.opsForValue().set(AS_OF_KEY, asOf.toEpochMilli(), ttl());
+
+        int rebuiltUsers = rebuildActiveUsers(categoryRankings);
+        // 선호도가 새로 생겼을 수 있으므로 선호도 없음 표시는 다음 조회 때 다시 확인
+        redisTemplate.delete(NO_PREFERENCE_KEY);
+
+        log.info("Feed recommendation rankings rebuilt - Feeds: {}, Users: {}, Duration: {}ms",
+                candidates.size(), rebuiltUsers, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 새로 수집된 Feed를 기존 랭킹에 반영 (전체 재계산 없이 추가 후 상위 N개 유지)
+     * 점수는 기존 세트와 같은 기준 시각으로 계산하며, 아직 랭킹이 만들어지지 않았다면 다음 재계산에 맡기고 건너뜁니다.
+     */
+    public void addFeeds(List<Feed> feeds) {
+        if (feeds.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(DEFAULT_KEY))) {
+                log.debug("Feed recommendation rankings not built yet, skipping patch of {} feeds", feeds.size());
+                return;
+            }
+
+            Instant asOf = rankingAsOf();
+            if (asOf == null) {
+                log.debug("Feed recommendation ranking time not found, skipping patch of {} feeds", feeds.size());
+                return;
+            }
+
+            Map<String, Set<TypedTuple<Object>>> baseTuplesByCategory = new HashMap<>();
+            for (Feed feed : feeds) {
+                baseTuplesByCategory.computeIfAbsent(categoryName(feed.getCategory()), category -> new HashSet<>())
+                        .add(new DefaultTypedTuple<>(feed.getId(), feedRecommendationService.calculateBaseScore(feed, asOf)));
+            }
+            baseTuplesByCategory.forEach((category, tuples) -> addAndTrim(categoryKey(category), tuples));
+
+            addAndTrim(DEFAULT_KEY, feeds.stream()
+                    .map(feed -> new DefaultTypedTuple<Object>(feed.getId(), createdAtScore(feed)))
+                    .collect(Collectors.<TypedTuple<Object>>toSet()));
+
+            int patchedUsers = 0;
+            for (List<String> userIds : activeUserBatches()) {
+                for (UserCategoryPreference preference : userCategoryPreferenceRepository.findByUserIdIn(userIds)) {
+                    String key = userKey(preference.getUserId());
+                    if (preference.getCategoryScores() == null || !Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                        continue;
+                    }
+
+                    Set<TypedTuple<Object>> tuples = feeds.stream()
+                            .map(feed -> new DefaultTypedTuple<Object>(feed.getId(),
+                                    feedRecommendationService.calculateCategoryWeight(feed.getCategory(), preference.getCategoryScores())
+                                            + feedRecommendationService.calculateBaseScore(feed, asOf)))
+                            .collect(Collectors.<TypedTuple<Object>>toSet());
+                    addAndTrim(key, tuples);
+                    patchedUsers++;
+                }
+            }
+
+            log.info("Patched feed recommendation rankings - Feeds: {}, Users: {}", feeds.size(), patchedUsers);
+        } catch (Exception e) {
+            log.warn("Failed to patch feed recommendation rankings with {} feeds", feeds.size(), e);
+        }
+    }
+
+    /**
+     * 첫 조회 사용자의 랭킹을 카테고리별 세트에서 병합해 생성
+     * 선호도가 없는 사용자도 표시해 두어 다음 재계산 전까지 매 요청마다 선호도를 다시 조회하지 않음
+     * @return 조회할 키 (선호도가 없으면 기본 세트, 공용 세트가 없으면 null)
+     */
+    private String materializeUser(String userId) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(DEFAULT_KEY))) {
+            return null;
+        }
+
+        if (Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(NO_PREFERENCE_KEY, userId))) {
+            return DEFAULT_KEY;
+        }
+
+        Optional<UserCategoryPreference> preference = userCategoryPreferenceRepository.findByUserId(userId);
+        if (preference.isEmpty() || preference.get().getCategoryScores() == null) {
+            redisTemplate.opsForSet().add(NO_PREFERENCE_KEY, userId);
+            redisTemplate.expire(NO_PREFERENCE_KEY, ttl());
+            return DEFAULT_KEY;
+        }
+
+        Map<String, List<TypedTuple<Object>>> categoryRankings = new HashMap<>();
+        for (String category : categoryNames()) {
+            Set<TypedTuple<Object>> tuples = zSet().reverseRangeWithScores(categoryKey(category), 0, topN - 1);
+            categoryRankings.put(category, tuples != null ? new ArrayList<>(tuples) : List.of());
+        }
+
+        String key = userKey(userId);
+        replace(key, mergeForUser(preference.get().getCategoryScores(), categoryRankings));
+        return key;
+    }
+
+    private int rebuildActiveUsers(Map<String, List<TypedTuple<Object>>> categoryRankings) {
+        zSet().removeRangeByScore(ACTIVE_USERS_KEY, 0, System.currentTimeMillis() - ttl().toMillis());
+
+        int rebuiltUsers = 0;
+        for (List<String> userIds : activeUserBatches()) {
+            Map<String, UserCategoryPreference> preferences = userCategoryPreferenceRepository.findByUserIdIn(userIds).stream()
+                    .collect(Collectors.toMap(UserCategoryPreference::getUserId, preference -> preference, (a, b) -> a));
+
+            for (String userId : userIds) {
+                UserCategoryPreference preference = preferences.get(userId);
+                if (preference == null || preference.getCategoryScores() == null) {
+                    redisTemplate.delete(userKey(userId));
+                    continue;
+                }
+
+                replace(userKey(userId), mergeForUser(preference.getCategoryScores(), categoryRankings));
+                rebuiltUsers++;
+            }
+        }
+        return rebuiltUsers;
+    }
+
+    private List<List<String>> activeUserBatches() {
+        Set<Object> members = zSet().range(ACTIVE_USERS_KEY, 0, -1);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> userIds = members.stream().map(Object::toString).collect(Collectors.toList());
+        List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < userIds.size(); from += USER_BATCH_SIZE) {
+            batches.add(userIds.subList(from, Math.min(from + USER_BATCH_SIZE, userIds.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * 카테고리별 상위 목록에 사용자 카테고리 점수를 더해 상위 N개 선택
+     * 최종 점수는 FeedRecommendationService의 점수 계산과 동일합니다.
+     */
+    private List<TypedTuple<Object>> mergeForUser(Map<ContentCategory, Double> categoryScores,
+                                                  Map<String, List<TypedTuple<Object>>> categoryRankings) {
+        return topTuples(categoryRankings.entrySet().stream()
+                .flatMap(entry -> {
+                    ContentCategory category = NO_CATEGORY.equals(entry.getKey()) ? null : ContentCategory.valueOf(entry.getKey());
+                    double categoryWeight = feedRecommendationService.calculateCategoryWeight(category, categoryScores);
+                    return entry.getValue().stream()
+                            .map(tuple -> new DefaultTypedTuple<>(tuple.getValue(), tuple.getScore() + categoryWeight));
+                }));
+    }
+
+    private List<TypedTuple<Object>> topTuples(Stream<? extends TypedTuple<Object>> tuples) {
+        return tuples
+                .sorted(Comparator.comparingDouble((TypedTuple<Object> tuple) -> tuple.getScore()).reversed())
+                .limit(topN)
+                .collect(Collectors.<TypedTuple<Object>>toList());
+    }
+
+    /**
+     * 임시 키에 쓴 뒤 RENAME으로 교체하여 조회 중인 세트가 비는 순간이 없도록 함
+     * 동시에 같은 세트를 만드는 경우 서로 덮어쓰지 않도록 임시 키는 호출마다 고유하게 생성
+     */
+    private void replace(String key, List<TypedTuple<Object>> tuples) {
+        if (tuples.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+
+        String tempKey = key + ":tmp:" + UUID.randomUUID();
+        zSet().add(tempKey, new LinkedHashSet<>(tuples));
+        redisTemplate.rename(tempKey, key);
+        redisTemplate.expire(key, ttl());
+    }
+
+    private void addAndTrim(String key, Set<TypedTuple<Object>> tuples) {
+        zSet().add(key, tuples);
+        // 점수 오름차순 기준으로 상위 N개를 제외한 나머지 제거
+        zSet().removeRange(key, 0, -(topN + 1));
+    }
+
+    private Instant rankingAsOf() {
+        Object asOf = redisTemplate.opsForValue().get(AS_OF_KEY);
+        return asOf instanceof Number number ? Instant.ofEpochMilli(number.longValue()) : null;
+    }
+
+    private double createdAtScore(Feed feed) {
+        return feed.getCreatedAt() != null ? feed.getCreatedAt().toEpochMilli() : 0;
+    }
+
+    private List<String> categoryNames() {
+        List<String> names = Arrays.stream(ContentCategory.values())
+                .map(Enum::name)
+                .collect(Collectors.toCollection(ArrayList::new));
+        names.add(NO_CATEGORY);
+        return names;
+    }
+
+    private String categoryName(ContentCategory category) {
+        return category != null ? category.name() : NO_CATEGORY;
+    }
+
+    private String categoryKey(String category) {
+        return KEY_PREFIX + "category:" + category;
+    }
+
+    private String userKey(String userId) {
+        return KEY_PREFIX + "user:" + userId;
+    }
+
+    private Duration ttl() {
+        return Duration.ofHours(ttlHours);
+    }
+
+    private ZSetOperations<String, Object> zSet() {
+        return redisTemplate.opsForZSet();
+    }
+}
@@ -64,24 +64,44 @@ public class FeedRecommendationService {
      * Feed의 추천 점수 계산
      */
     private double calculateScore(Feed feed, Map<ContentCategory, Double> categoryScores) {
-        double categoryScore = calculateCategoryScore(feed, categoryScores);
+        return calculateCategoryWeight(feed.getCategory(), categoryScores) + calculateBaseScore(feed);
+    }
+
+    /**
+     * 사용자와 무관한 점수 (품질 + 신선도, 가중치 적용)
+     */
+    double calculateBaseScore(Feed feed) {
+        return calculateBaseScore(feed, Instant.now());
+    }
+
+    /**
+     * asOf 시각 기준 사용자와 무관한 점수
+     * 사전 계산된 랭킹은 한 세트 안의 점수가 같은 기준 시각으로 계산되도록 이 메서드를 사용합니다.
+     */
+    double calculateBaseScore(Feed feed, Instant asOf) {
         double qualityScore = calculateQualityScore(feed);
-        double freshnessScore = calculateFreshnessScore(feed);
+        double freshnessScore = calculateFreshnessScore(feed, asOf);
 
-        return (categoryScore * CATEGORY_WEIGHT)
-             + (qualityScore * QUALITY_WEIGHT)
+        return (qualityScore * QUALITY_WEIGHT)
              + (freshnessScore * FRESHNESS_WEIGHT);
     }
 
+    /**
+     * 사용자 선호도에 따른 카테고리 점수 (가중치 적용)
+     */
+    double calculateCategoryWeight(ContentCategory category, Map<ContentCategory, Double> categoryScores) {
+        return calculateCategoryScore(category, categoryScores) * CATEGORY_WEIGHT;
+    }
+
     /**
      * 카테고리 매칭 점수 계산 (0.0 ~ 1.0)
      */
-    private double calculateCategoryScore(Feed feed, Map<ContentCategory, Double> categoryScores) {
-        if (feed.getCategory() == null) {
+    private double calculateCategoryScore(ContentCategory category, Map<ContentCategory, Double> categoryScores) {
+        if (category == null) {
             return 0.0; // 카테고리 없으면 0점
         }
 
-        Double score = categoryScores.get(feed.getCategory());
+        Double score = categoryScores.get(category);
         return score != null ? score : 0.0;
     }
 
@@ -112,14 +132,13 @@ public class FeedRecommendationService {
      * 신선도 점수 계산 (0.0 ~ 1.0)
      * 최근 발행일수록 높은 점수
      */
-    private double calculateFreshnessScore(Feed feed) {
+    private double calculateFreshnessScore(Feed feed, Instant asOf) {
         if (feed.getPublishedAt() == null) {
             return 0.5; // 중립적 점수
         }
 
-        Instant now = Instant.now();
         Instant publishedAt = feed.getPublishedAt();
-        long daysSincePublished = java.time.Duration.between(publishedAt, now).toDays();
+        long daysSincePublished = java.time.Duration.between(publishedAt, asOf).toDays();
 
         // 발행 기간별 점수
         if (daysSincePublished < 1) {
@@ -3,15 +3,21 @@ package com.linglevel.api.content.feed.service;
 import com.linglevel.api.common.dto.PageResponse;
 import com.linglevel.api.content.feed.dto.FeedResponse;
 import com.linglevel.api.content.feed.dto.GetFeedsRequest;
+import com.linglevel.api.content.feed.dto.RankedFeedIds;
 import com.linglevel.api.content.feed.entity.Feed;
 import com.linglevel.api.content.feed.exception.FeedErrorCode;
 import com.linglevel.api.content.feed.exception.FeedException;
 import com.linglevel.api.content.feed.repository.FeedRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,36 +26,56 @@ public class FeedService {
 
     private final FeedRepository feedRepository;
     private final FeedRecommendationService feedRecommendationService;
+    private final FeedRankingCache feedRankingCache;
+    private final FeedRecommendationRankingService feedRecommendationRankingService;
 
-    public PageResponse<FeedResponse> getFeeds(GetFeedsRequest request, String userId) {
-        List<Feed> allFeeds = feedRepository.findByDeletedFalse();
+    @Value("${feed.ranking-cache.max-ids:1000}")
+    private int maxRankedIds;
 
-        if (request.getContentTypes() != null && !request.getContentTypes().isEmpty()) {
-            allFeeds = allFeeds.stream()
-                    .filter(feed -> request.getContentTypes().contains(feed.getContentType()))
-                    .collect(java.util.stream.Collectors.toList());
+    public PageResponse<FeedResponse> getFeeds(GetFeedsRequest request, String userId) {
+        int limit = request.getLimit();
+        long offset = (long) (request.getPage() - 1) * limit;
+
+        // 필터 없는 추천순은 사전 계산된 랭킹(상위 maxRankedIds개)에서 해당 페이지 ID만 조회
+        // 다른 정렬과 섞이지 않도록 전체 개수도 랭킹 크기까지만 노출
+        if (isUnfilteredRecommendation(request)) {
+            Optional<RankedFeedIds> precomputed = feedRecommendationRankingService.findRankedPage(userId, offset, limit);
+            if (precomputed.isPresent()) {
+                RankedFeedIds page = precomputed.get();
+                return toPageResponse(request, findFeedsInOrder(page.getIds()), (int) page.getTotalCount());
+            }
         }
 
-        if (request.getCategory() != null) {
-            allFeeds = allFeeds.stream()
-                    .filter(feed -> request.getCategory().equals(feed.getCategory()))
-                    .collect(java.util.stream.Collectors.toList());
+        RankedFeedIds ranked = feedRankingCache.getOrLoad(request, userId, () -> loadRankedFeedIds(request, userId));
+        List<String> rankedIds = ranked.getIds();
+        int totalCount = (int) ranked.getTotalCount();
+
+        List<Feed> pagedFeeds;
+        if (offset + limit <= rankedIds.size() || rankedIds.size() >= totalCount) {
+            // 캐시된 정렬 목록에서 해당 페이지 ID만 잘라서 조회
+            int from = (int) Math.min(offset, rankedIds.size());
+            int to = (int) Math.min(offset + limit, rankedIds.size());
+            pagedFeeds = findFeedsInOrder(rankedIds.subList(from, to));
+        } else {
+            // 캐시된 상위 목록을 넘어서는 깊은 페이지는 인덱스를 타는 쿼리로 직접 조회
+            pagedFeeds = feedRepository.findFeedsWithFilters(request, offset, limit);
         }
 
-        List<Feed> sortedFeeds = sortFeeds(allFeeds, request.getSortOrder(), userId);
+        return toPageResponse(request, pagedFeeds, totalCount);
+    }
 
-        int totalCount = sortedFeeds.size();
-        int totalPages = (int) Math.ceil((double) totalCount / request.getLimit());
-        int offset = (request.getPage() - 1) * request.getLimit();
+    private boolean isUnfilteredRecommendation(GetFeedsRequest request) {
+        return request.getSortOrder() == GetFeedsRequest.SortOrder.RECOMMENDED
+                && request.getCategory() == null
+                && (request.getContentTypes() == null || request.getContentTypes().isEmpty());
+    }
 
-        List<Feed> pagedFeeds = sortedFeeds.stream()
-                .skip(offset)
-                .limit(request.getLimit())
-                .collect(java.util.stream.Collectors.toList());
+    private PageResponse<FeedResponse> toPageResponse(GetFeedsRequest request, List<Feed> pagedFeeds, int totalCount) {
+        int totalPages = (int) Math.ceil((double) totalCount / request.getLimit());
 
         List<FeedResponse> feedResponses = pagedFeeds.stream()
                 .map(this::mapToResponse)
-                .collect(java.util.stream.Collectors.toList());
+                .collect(Collectors.toList());
 
         return PageResponse.<FeedResponse>builder()
                 .data(feedResponses)
@@ -62,33 +88,39 @@ public class FeedService {
     }
 
     /**
-     * Feed 정렬
+     * 필터/정렬 조합의 정렬된 Feed ID 목록 계산
+     * - LATEST/POPULAR: 복합 인덱스 순서대로 상위 maxRankedIds개 ID만 조회
+     * - RECOMMENDED: 점수 계산에 필요한 필드만 조회하여 사용자 선호도로 정렬
+     */
+    private RankedFeedIds loadRankedFeedIds(GetFeedsRequest request, String userId) {
+        if (request.getSortOrder() == GetFeedsRequest.SortOrder.RECOMMENDED) {
+            List<Feed> candidates = feedRepository.findRecommendationCandidates(request);
+            List<String> ids = feedRecommendationService.sortByRecommendation(candidates, userId).stream()
+                    .map(Feed::getId)
+                    .collect(Collectors.toList());
+            return new RankedFeedIds(ids, ids.size());
+        }
+
+        List<String> ids = feedRepository.findRankedFeedIds(request, maxRankedIds);
+        long totalCount = ids.size() < maxRankedIds ? ids.size() : feedRepository.countFeedsWithFilters(request);
+        return new RankedFeedIds(ids, totalCount);
+    }
+
+    /**
+     * ID 순서를 유지하여 Feed 조회 (캐시 이후 삭제된 Feed는 제외)
      */
-    private List<Feed> sortFeeds(List<Feed> feeds, GetFeedsRequest.SortOrder sortOrder, String userId) {
-        switch (sortOrder) {
-            case POPULAR:
-                return feeds.stream()
-                        .sorted((f1, f2) -> {
-                            int v1 = f1.getViewCount() != null ? f1.getViewCount() : 0;
-                            int v2 = f2.getViewCount() != null ? f2.getViewCount() : 0;
-                            return Integer.compare(v2, v1);
-                        })
-                        .collect(java.util.stream.Collectors.toList());
-
-            case RECOMMENDED:
-                return feedRecommendationService.sortByRecommendation(feeds, userId);
-
-            case LATEST:
-            default:
-                // 최신순: publishedAt 내림차순
-                return feeds.stream()
-                        .sorted((f1, f2) -> {
-                            if (f1.getPublishedAt() == null) return 1;
-                            if (f2.getPublishedAt() == null) return -1;
-                            return f2.getPublishedAt().compareTo(f1.getPublishedAt());
-                        })
-                        .collect(java.util.stream.Collectors.toList());
+    private List<Feed> findFeedsInOrder(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
+
+        Map<String, Feed> feedsById = feedRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Feed::getId, Function.identity()));
+
+        return ids.stream()
+                .map(feedsById::get)
+                .filter(feed -> feed != null && !Boolean.TRUE.equals(feed.getDeleted()))
+                .collect(Collectors.toList());
     }
 
     public FeedResponse getFeed(String feedId, String userId) {
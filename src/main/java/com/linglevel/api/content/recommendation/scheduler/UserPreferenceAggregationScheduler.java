@@ -1,6 +1,7 @@
 package com.linglevel.api.content.recommendation.scheduler;
 
 import com.linglevel.api.content.common.ContentCategory;
+import com.linglevel.api.content.feed.service.FeedRecommendationRankingService;
 import com.linglevel.api.content.recommendation.entity.ContentAccessLog;
 import com.linglevel.api.content.recommendation.entity.UserCategoryPreference;
 import com.linglevel.api.content.recommendation.repository.ContentAccessLogRepository;
@@ -23,6 +24,7 @@ public class UserPreferenceAggregationScheduler {
 
     private final ContentAccessLogRepository contentAccessLogRepository;
     private final UserCategoryPreferenceRepository userCategoryPreferenceRepository;
+    private final FeedRecommendationRankingService feedRecommendationRankingService;
 
     @Scheduled(cron = "0 0 3 * * *")
     public void aggregateUserPreferences() {
@@ -74,6 +76,17 @@ public class UserPreferenceAggregationScheduler {
         } catch (Exception e) {
             log.error("Critical error during user preference aggregation. Success: {}, Failure: {}",
                     successCount, failureCount, e);
+        } finally {
+            // 갱신된 선호도와 Feed 신선도로 추천 랭킹 재계산
+            rebuildFeedRankings();
+        }
+    }
+
+    private void rebuildFeedRankings() {
+        try {
+            feedRecommendationRankingService.rebuildAll();
+        } catch (Exception e) {
+            log.error("Failed to rebuild feed recommendation rankings", e);
         }
     }
 
@@ -0,0 +1,83 @@
+package com.linglevel.api.crawling.dsl;
+
+import com.linglevel.api.crawling.dsl.ast.ASTNode;
+import lombok.Getter;
+import org.jsoup.nodes.Document;
+
+import java.util.List;
+
+/**
+ * 한 번 파싱해 둔 DSL 프로그램
+ * AST는 불변이고 실행 상태는 매 실행마다 새 DslInterpreter에 두므로 여러 스레드에서 공유할 수 있습니다.
+ */
+@Getter
+public final class CompiledDsl {
+    private final String source;
+    private final ASTNode ast;
+
+    private CompiledDsl(String source, ASTNode ast) {
+        this.source = source;
+        this.ast = ast;
+    }
+
+    /**
+     * DSL 표현식을 토큰화/파싱 (셀렉터도 이 시점에 미리 컴파일)
+     *
+     * @throws RuntimeException 문법 오류 또는 잘못된 CSS 셀렉터
+     */
+    public static CompiledDsl compile(String dsl) {
+        List<Token> tokens = new DslTokenizer(dsl).tokenize();
+        ASTNode ast = new DslParser(tokens).parse();
+        return new CompiledDsl(dsl, ast);
+    }
+
+    /**
+     * document에 대해 실행하여 결과 반환
+     *
+     * @return 추출된 값 (String, List, Element 등)
+     * @throws RuntimeException 실행 중 오류
+     */
+    public Object execute(Document document) {
+        return new DslInterpreter(document).evaluate(ast);
+    }
+
+    /**
+     * document에 대해 실행하여 문자열 결과 반환 (List는 빈 줄로 연결)
+     *
+     * @return 추출된 문자열 (null 가능)
+     * @throws RuntimeException 실행 중 오류
+     */
+    public String executeAsString(Document document) {
+        return asString(execute(document));
+    }
+
+    static String asString(Object result) {
+        if (result == null) {
+            return null;
+        }
+
+        if (result instanceof String) {
+            return (String) result;
+        }
+
+        if (result instanceof List) {
+            List<?> list = (List<?>) result;
+            if (list.isEmpty()) {
+                return null;
+            }
+            // Join list elements with newline
+            StringBuilder sb = new StringBuilder();
+            for (Object item : list) {
+                if (item != null) {
+                    if (sb.length() > 0) {
+                        sb.append("\n\n");
+                    }
+                    sb.append(item.toString());
+                }
+            }
+            return sb.length() > 0 ? sb.toString() : null;
+        }
+
+        return result.toString();
+    }
+}
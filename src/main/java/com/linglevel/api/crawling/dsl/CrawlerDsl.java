@@ -1,12 +1,9 @@
 package com.linglevel.api.crawling.dsl;
 
-import com.linglevel.api.crawling.dsl.ast.ASTNode;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 
-import java.util.List;
-
 /**
  * Crawler DSL 인터프리터
  *
@@ -31,6 +28,7 @@ public class CrawlerDsl {
 
     /**
      * DSL 표현식을 실행하여 결과 반환
+     * 같은 DSL을 반복 실행한다면 CompiledDsl을 재사용하는 편이 좋습니다.
      *
      * @param dsl DSL 표현식
      * @return 추출된 값 (String, List, Element 등)
@@ -41,21 +39,9 @@ public class CrawlerDsl {
         }
 
         try {
-            // Tokenize
-            DslTokenizer tokenizer = new DslTokenizer(dsl);
-            List<Token> tokens = tokenizer.tokenize();
-
-            // Parse
-            DslParser parser = new DslParser(tokens);
-            ASTNode ast = parser.parse();
-
-            // Interpret
-            DslInterpreter interpreter = new DslInterpreter(document);
-            return interpreter.evaluate(ast);
-
+            return CompiledDsl.compile(dsl).execute(document);
         } catch (Exception e) {
-            log.error("Error executing DSL: {} - {}: {}", dsl, e.getClass().getSimpleName(), e.getMessage());
-            log.error("Stack trace:", e);
+            log.warn("Error executing DSL: {} - {}: {}", dsl, e.getClass().getSimpleName(), e.getMessage());
             return null;
         }
     }
@@ -67,33 +53,6 @@ public class CrawlerDsl {
      * @return 추출된 문자열 (null 가능)
      */
     public String executeAsString(String dsl) {
-        Object result = execute(dsl);
-        if (result == null) {
-            return null;
-        }
-
-        if (result instanceof String) {
-            return (String) result;
-        }
-
-        if (result instanceof List) {
-            List<?> list = (List<?>) result;
-            if (list.isEmpty()) {
-                return null;
-            }
-            // Join list elements with newline
-            StringBuilder sb = new StringBuilder();
-            for (Object item : list) {
-                if (item != null) {
-                    if (sb.length() > 0) {
-                        sb.append("\n\n");
-                    }
-                    sb.append(item.toString());
-                }
-            }
-            return sb.length() > 0 ? sb.toString() : null;
-        }
-
-        return result.toString();
+        return CompiledDsl.asString(execute(dsl));
     }
 }
@@ -1,21 +1,25 @@
 package com.linglevel.api.crawling.dsl.ast;
 
 import com.linglevel.api.crawling.dsl.DslInterpreter;
-import lombok.RequiredArgsConstructor;
-import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
 
-@RequiredArgsConstructor
 public class Selector1Node implements ASTNode {
     private final String selector;
+    // CSS 셀렉터는 AST 생성 시 한 번만 파싱 (Document는 Element 하위 타입이므로 함께 처리)
+    private final Evaluator evaluator;
+
+    public Selector1Node(String selector) {
+        this.selector = selector;
+        this.evaluator = QueryParser.parse(selector);
+    }
 
     @Override
     public Object evaluate(DslInterpreter interpreter) {
         Object context = interpreter.getCurrentContext();
-        if (context instanceof Document) {
-            return ((Document) context).selectFirst(selector);
-        } else if (context instanceof Element) {
-            return ((Element) context).selectFirst(selector);
+        if (context instanceof Element) {
+            return ((Element) context).selectFirst(evaluator);
         }
         return null;
     }
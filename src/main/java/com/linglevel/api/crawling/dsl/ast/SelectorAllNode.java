@@ -1,27 +1,31 @@
 package com.linglevel.api.crawling.dsl.ast;
 
 import com.linglevel.api.crawling.dsl.DslInterpreter;
-import lombok.RequiredArgsConstructor;
-import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
 import org.jsoup.select.Elements;
 
 import java.util.ArrayList;
 import java.util.List;
 
-@RequiredArgsConstructor
 public class SelectorAllNode implements ASTNode {
     private final String selector;
+    // CSS 셀렉터는 AST 생성 시 한 번만 파싱 (Document는 Element 하위 타입이므로 함께 처리)
+    private final Evaluator evaluator;
+
+    public SelectorAllNode(String selector) {
+        this.selector = selector;
+        this.evaluator = QueryParser.parse(selector);
+    }
 
     @Override
     public Object evaluate(DslInterpreter interpreter) {
         Object context = interpreter.getCurrentContext();
         Elements elements = null;
 
-        if (context instanceof Document) {
-            elements = ((Document) context).select(selector);
-        } else if (context instanceof Element) {
-            elements = ((Element) context).select(selector);
+        if (context instanceof Element) {
+            elements = ((Element) context).select(evaluator);
         }
 
         if (elements == null || elements.isEmpty()) {
@@ -0,0 +1,75 @@
+package com.linglevel.api.crawling.service;
+
+import com.linglevel.api.crawling.dsl.CompiledDsl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 컴파일된 DSL 캐시
+ * 도메인(또는 피드 소스)과 필드별로 CompiledDsl을 보관해 매 크롤링마다 토큰화/파싱하지 않습니다.
+ * - 보관된 DSL 원문과 다르면 다시 컴파일 (DSL 버전이 바뀐 경우)
+ * - 컴파일에 실패한 DSL도 기록해 같은 오류를 반복 로깅하지 않음
+ * - DSL 수정/삭제 시 invalidate로 제거
+ */
+@Component
+@Slf4j
+public class CompiledDslCache {
+
+    public static final String TITLE = "title";
+    public static final String CONTENT = "content";
+    public static final String COVER_IMAGE = "coverImage";
+
+    private static final String KEY_DELIMITER = "|";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * scope/field에 해당하는 컴파일된 DSL 조회 (없거나 원문이 바뀌었으면 컴파일)
+     *
+     * @param scope DSL 소유자 (CrawlingDsl 도메인 등)
+     * @param field DSL 필드 이름
+     * @param dsl   현재 DSL 원문
+     * @return 컴파일된 DSL (DSL이 비어 있거나 문법 오류면 empty)
+     */
+    public Optional<CompiledDsl> get(String scope, String field, String dsl) {
+        if (dsl == null || dsl.trim().isEmpty()) {
+            return Optional.empty();
+        }
+
+        Entry entry = entries.compute(key(scope, field), (key, cached) ->
+                cached != null && cached.source().equals(dsl) ? cached : compile(scope, field, dsl));
+        return Optional.ofNullable(entry.compiled());
+    }
+
+    /**
+     * scope의 모든 필드 캐시 제거
+     */
+    public void invalidate(String scope) {
+        String prefix = scope + KEY_DELIMITER;
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private Entry compile(String scope, String field, String dsl) {
+        try {
+            return new Entry(dsl, CompiledDsl.compile(dsl));
+        } catch (Exception e) {
+            log.warn("Failed to compile {} DSL for {}: {}", field, scope, e.getMessage());
+            return new Entry(dsl, null);
+        }
+    }
+
+    private String key(String scope, String field) {
+        return scope + KEY_DELIMITER + field;
+    }
+
+    private record Entry(String source, CompiledDsl compiled) {
+    }
+}
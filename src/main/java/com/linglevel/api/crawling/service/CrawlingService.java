@@ -28,6 +28,7 @@ import java.util.regex.Pattern;
 public class  CrawlingService {
 
     private final CrawlingDslRepository crawlingDslRepository;
+    private final CompiledDslCache compiledDslCache;
 
     public DslLookupResponse lookupDsl(String url, boolean validateOnly) {
         if (url == null || url.trim().isEmpty()) {
@@ -130,6 +131,7 @@ public class  CrawlingService {
         crawlingDsl.setUpdatedAt(Instant.now());
 
         CrawlingDsl updated = crawlingDslRepository.save(crawlingDsl);
+        compiledDslCache.invalidate(domain);
 
         return UpdateDslResponse.builder()
                 .id(updated.getId())
@@ -148,6 +150,7 @@ public class  CrawlingService {
             throw new CrawlingException(CrawlingErrorCode.DOMAIN_NOT_FOUND);
         }
         crawlingDslRepository.deleteByDomain(domain);
+        compiledDslCache.invalidate(domain);
     }
 
     public String extractDomain(String url) {
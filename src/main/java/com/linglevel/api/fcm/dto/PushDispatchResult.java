@@ -0,0 +1,52 @@
+package com.linglevel.api.fcm.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 배치 전송 결과
+ */
+@Getter
+public class PushDispatchResult {
+    private int sentCount;
+    private int failedCount;
+    private long deactivatedCount;
+    private final List<String> sentTokens = new ArrayList<>();
+    private final List<String> failedTokens = new ArrayList<>();
+    private final Set<String> successfulUserIds = new HashSet<>();
+    private final Set<String> failedUserIds = new HashSet<>();
+
+    public void recordSent(String fcmToken, String userId) {
+        sentCount++;
+        sentTokens.add(fcmToken);
+        if (userId != null) {
+            successfulUserIds.add(userId);
+        }
+    }
+
+    public void recordFailed(String fcmToken, String userId) {
+        failedCount++;
+        failedTokens.add(fcmToken);
+        if (userId != null) {
+            failedUserIds.add(userId);
+        }
+    }
+
+    public void merge(PushDispatchResult other) {
+        sentCount += other.sentCount;
+        failedCount += other.failedCount;
+        deactivatedCount += other.deactivatedCount;
+        sentTokens.addAll(other.sentTokens);
+        failedTokens.addAll(other.failedTokens);
+        successfulUserIds.addAll(other.successfulUserIds);
+        failedUserIds.addAll(other.failedUserIds);
+    }
+
+    public void setDeactivatedCount(long deactivatedCount) {
+        this.deactivatedCount = deactivatedCount;
+    }
+}
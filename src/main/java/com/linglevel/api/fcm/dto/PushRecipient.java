@@ -0,0 +1,19 @@
+package com.linglevel.api.fcm.dto;
+
+import com.linglevel.api.fcm.entity.FcmToken;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 배치 전송 대상 한 건 (사용자 + 해당 사용자의 토큰 + 보낼 메시지)
+ * 같은 사용자라도 토큰별로 다른 메시지를 보내야 하면 여러 건으로 나눠서 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PushRecipient {
+    private final String userId;
+    private final List<FcmToken> tokens;
+    private final FcmMessageRequest message;
+}
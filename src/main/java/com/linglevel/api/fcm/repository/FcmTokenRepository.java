@@ -2,7 +2,11 @@ package com.linglevel.api.fcm.repository;
 
 import com.linglevel.api.fcm.entity.FcmToken;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +25,10 @@ public interface FcmTokenRepository extends MongoRepository<FcmToken, String> {
     List<FcmToken> findByIsActive(Boolean isActive);
 
     List<FcmToken> findAllByFcmTokenIn(List<String> fcmTokens);
+
+    List<FcmToken> findByUserIdInAndIsActive(Collection<String> userIds, Boolean isActive);
+
+    @Query("{ 'fcmToken': { $in: ?0 } }")
+    @Update("{ '$set': { 'isActive': false, 'updatedAt': ?1 } }")
+    long deactivateByFcmTokenIn(Collection<String> fcmTokens, LocalDateTime updatedAt);
 }
\ No newline at end of file
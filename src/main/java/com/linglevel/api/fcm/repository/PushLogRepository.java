@@ -9,10 +9,12 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PushLogRepository extends MongoRepository<PushLog, String> {
+public interface PushLogRepository extends MongoRepository<PushLog, String>, PushLogRepositoryCustom {
 
     Optional<PushLog> findByCampaignId(String campaignId);
 
+    boolean existsByCampaignId(String campaignId);
+
     List<PushLog> findByCampaignGroup(String campaignGroup);
 
     List<PushLog> findByUserId(String userId);
@@ -0,0 +1,22 @@
+package com.linglevel.api.fcm.repository;
+
+import com.linglevel.api.fcm.entity.PushLog;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PushLogRepositoryCustom {
+
+    /**
+     * 송신 로그 일괄 저장 (campaignId 기준 unordered bulk upsert)
+     * 오픈 로그가 먼저 만든 문서에는 송신 정보만 채우며, 같은 배치를 다시 저장해도 중복이 생기지 않음
+     */
+    void upsertSentLogs(List<PushLog> pushLogs);
+
+    /**
+     * 오픈 시간 기록
+     * @param createIfMissing 송신 로그가 아직 버퍼에 있어 저장되지 않은 경우에만 true (문서를 먼저 생성)
+     * @return 이번 호출로 처음 오픈 처리되었으면 true, 이미 오픈되었거나 문서가 없으면 false
+     */
+    boolean markOpened(String campaignId, String userId, LocalDateTime openedAt, boolean createIfMissing);
+}
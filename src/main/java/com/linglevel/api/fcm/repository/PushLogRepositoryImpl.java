@@ -0,0 +1,63 @@
+package com.linglevel.api.fcm.repository;
+
+import com.linglevel.api.fcm.entity.PushLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PushLogRepositoryImpl implements PushLogRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void upsertSentLogs(List<PushLog> pushLogs) {
+        if (pushLogs.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PushLog.class);
+        for (PushLog pushLog : pushLogs) {
+            Update update = new Update()
+                    .set("fcmMessageId", pushLog.getFcmMessageId())
+                    .set("campaignGroup", pushLog.getCampaignGroup())
+                    .set("userId", pushLog.getUserId())
+                    .set("sentAt", pushLog.getSentAt())
+                    .set("sentSuccess", pushLog.getSentSuccess())
+                    .setOnInsert("createdAt", pushLog.getCreatedAt())
+                    .setOnInsert("version", 0L);
+            bulkOps.upsert(new Query(Criteria.where("campaignId").is(pushLog.getCampaignId())), update);
+        }
+        bulkOps.execute();
+    }
+
+    @Override
+    public boolean markOpened(String campaignId, String userId, LocalDateTime openedAt, boolean createIfMissing) {
+        Query query = new Query(Criteria.where("campaignId").is(campaignId).and("openedAt").is(null));
+        if (!createIfMissing) {
+            return mongoTemplate.updateFirst(query, new Update().set("openedAt", openedAt), PushLog.class)
+                    .getModifiedCount() > 0;
+        }
+
+        // 이미 오픈된 문서는 조건에 맞지 않아 upsert가 unique 인덱스에 막힘 → 중복 오픈으로 처리
+        Update update = new Update()
+                .set("openedAt", openedAt)
+                .setOnInsert("userId", userId)
+                .setOnInsert("createdAt", openedAt)
+                .setOnInsert("version", 0L);
+
+        try {
+            mongoTemplate.upsert(query, update, PushLog.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
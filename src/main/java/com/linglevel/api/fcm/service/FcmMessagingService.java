@@ -7,13 +7,13 @@ import com.linglevel.api.fcm.entity.PushLog;
 import com.linglevel.api.fcm.exception.FcmErrorCode;
 import com.linglevel.api.fcm.exception.FcmException;
 import com.linglevel.api.fcm.repository.FcmTokenRepository;
-import com.linglevel.api.fcm.repository.PushLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -27,8 +27,8 @@ public class FcmMessagingService {
 
     private final FirebaseMessaging firebaseMessaging;
     private final FcmTokenRepository fcmTokenRepository;
-    private final PushLogRepository pushLogRepository;
     private final PushLogService pushLogService;
+    private final PushLogBuffer pushLogBuffer;
 
     private static final String ANALYTICS_LABEL_PREFIX = "notification_sent_";
 
@@ -36,30 +36,18 @@ public class FcmMessagingService {
      * 단일 사용자에게 알림 전송
      */
     public String sendMessage(String fcmToken, FcmMessageRequest messageRequest) {
-        String userId = getUserIdFromToken(fcmToken);
+        return sendMessage(fcmToken, getUserIdFromToken(fcmToken), messageRequest);
+    }
+
+    /**
+     * 단일 사용자에게 알림 전송 (토큰 소유자를 알고 있는 경우 재조회 없이 사용)
+     */
+    public String sendMessage(String fcmToken, String userId, FcmMessageRequest messageRequest) {
         String campaignGroup = messageRequest.getCampaignId();  // 원래의 campaignId를 그룹으로 사용
         String pushId = UUID.randomUUID().toString();
 
         try {
-            Map<String, String> data = buildDataWithUserId(messageRequest, userId);
-            data.put("campaignId", pushId);
-
-            Message.Builder messageBuilder = Message.builder()
-                    .setToken(fcmToken)
-                    .setNotification(Notification.builder()
-                            .setTitle(messageRequest.getTitle())
-                            .setBody(messageRequest.getBody())
-                            .build())
-                    .putAllData(data);
-
-            // Google Analytics 추적을 위한 FcmOptions 설정
-            if (campaignGroup != null) {
-                String analyticsLabel = ANALYTICS_LABEL_PREFIX + campaignGroup;
-                messageBuilder.setFcmOptions(FcmOptions.withAnalyticsLabel(analyticsLabel));
-                log.debug("Analytics label set: {}", analyticsLabel);
-            }
-
-            Message message = messageBuilder.build();
+            Message message = buildMessage(fcmToken, userId, pushId, messageRequest);
             String fcmMessageId = firebaseMessaging.send(message);
             log.debug("FCM message sent successfully - pushId: {}, fcmMessageId: {}", pushId, fcmMessageId);
 
@@ -84,119 +72,105 @@ public class FcmMessagingService {
      * 여러 사용자에게 동시 알림 전송 (각 토큰마다 userId 포함)
      */
     public BatchResponse sendMulticastMessage(List<String> fcmTokens, FcmMessageRequest messageRequest) {
-        String campaignGroup = messageRequest.getCampaignId();  // 원래의 campaignId를 그룹으로 사용
+        if (fcmTokens == null || fcmTokens.isEmpty()) {
+            throw new FcmException(FcmErrorCode.MESSAGE_SEND_FAILED);
+        }
 
-        try {
-            if (fcmTokens == null || fcmTokens.isEmpty()) {
-                throw new FcmException(FcmErrorCode.MESSAGE_SEND_FAILED);
-            }
+        return sendMulticast(fcmTokens, getTokenToUserIdMap(fcmTokens), messageRequest);
+    }
 
-            // 각 토큰마다 userId를 포함한 개별 메시지 생성
-            Map<String, String> tokenToUserId = getTokenToUserIdMap(fcmTokens);
-            List<Message> messages = new ArrayList<>();
-            Map<Integer, String> indexToPushId = new java.util.HashMap<>();  // 인덱스별 pushId 매핑
-
-            // Google Analytics 추적을 위한 FcmOptions 설정
-            String analyticsLabel = null;
-            FcmOptions fcmOptions = null;
-            if (campaignGroup != null) {
-                analyticsLabel = ANALYTICS_LABEL_PREFIX + campaignGroup;
-                fcmOptions = FcmOptions.withAnalyticsLabel(analyticsLabel);
-            }
+    /**
+     * 한 사용자의 여러 토큰에 동시 알림 전송 (토큰 소유자 재조회 없음)
+     */
+    public BatchResponse sendMulticastMessage(List<String> fcmTokens, String userId, FcmMessageRequest messageRequest) {
+        if (fcmTokens == null || fcmTokens.isEmpty()) {
+            throw new FcmException(FcmErrorCode.MESSAGE_SEND_FAILED);
+        }
 
-            int index = 0;
-            for (String fcmToken : fcmTokens) {
-                String userId = tokenToUserId.get(fcmToken);
-                String pushId = UUID.randomUUID().toString();
-                indexToPushId.put(index, pushId);
-
-                Map<String, String> data = buildDataWithUserId(messageRequest, userId);
-                data.put("campaignId", pushId);
-
-                Message.Builder messageBuilder = Message.builder()
-                        .setToken(fcmToken)
-                        .setNotification(Notification.builder()
-                                .setTitle(messageRequest.getTitle())
-                                .setBody(messageRequest.getBody())
-                                .build())
-                        .putAllData(data);
-
-                if (fcmOptions != null) {
-                    messageBuilder.setFcmOptions(fcmOptions);
-                }
-
-                messages.add(messageBuilder.build());
-                index++;
-            }
+        Map<String, String> tokenToUserId = new HashMap<>();
+        fcmTokens.forEach(fcmToken -> tokenToUserId.put(fcmToken, userId));
+        return sendMulticast(fcmTokens, tokenToUserId, messageRequest);
+    }
+
+    private BatchResponse sendMulticast(List<String> fcmTokens, Map<String, String> tokenToUserId, FcmMessageRequest messageRequest) {
+        String campaignGroup = messageRequest.getCampaignId();  // 원래의 campaignId를 그룹으로 사용
+
+        // 각 토큰마다 userId를 포함한 개별 메시지 생성
+        List<Message> messages = new ArrayList<>();
+        List<String> pushIds = new ArrayList<>();
+        String analyticsLabel = campaignGroup != null ? ANALYTICS_LABEL_PREFIX + campaignGroup : null;
 
+        for (String fcmToken : fcmTokens) {
+            String pushId = UUID.randomUUID().toString();
+            pushIds.add(pushId);
+            messages.add(buildMessage(fcmToken, tokenToUserId.get(fcmToken), pushId, messageRequest));
+        }
+
+        try {
             BatchResponse response = firebaseMessaging.sendEach(messages);
             log.info("Batch messages sent to {} tokens - Success: {}, Failed: {} (Analytics: {})",
                      fcmTokens.size(), response.getSuccessCount(), response.getFailureCount(),
                      analyticsLabel != null ? analyticsLabel : "N/A");
 
-            // 배치로 로그 저장 (자체 UUID와 FCM messageId 함께 저장)
-            savePushLogsBatch(fcmTokens, campaignGroup, response, indexToPushId);
+            // 발송 시점의 토큰-사용자 매핑을 그대로 사용하여 로그 적재 (자체 UUID와 FCM messageId 함께 저장)
+            enqueuePushLogs(fcmTokens, tokenToUserId, pushIds, campaignGroup, response);
 
             return response;
 
         } catch (FirebaseMessagingException e) {
             log.error("Failed to send multicast FCM message: {}", e.getMessage());
 
-            savePushLogsAllFailed(fcmTokens, campaignGroup);
+            enqueuePushLogs(fcmTokens, tokenToUserId, pushIds, campaignGroup, null);
 
             throw new FcmException(FcmErrorCode.MESSAGE_SEND_FAILED);
         }
     }
 
     /**
-     * 푸시 로그를 배치로 저장 (성공/실패 혼합)
+     * 푸시 로그를 버퍼에 적재 (response가 null이면 전체 실패로 기록)
      */
-    private void savePushLogsBatch(List<String> fcmTokens, String campaignGroup, BatchResponse response, Map<Integer, String> indexToPushId) {
-        try {
-            Map<String, String> tokenToUserId = getTokenToUserIdMap(fcmTokens);
-            List<PushLog> logsToSave = new ArrayList<>();
-            LocalDateTime now = LocalDateTime.now();
-
-            for (int i = 0; i < response.getResponses().size(); i++) {
-                String fcmToken = fcmTokens.get(i);
-                String userId = tokenToUserId.get(fcmToken);
-                SendResponse sendResponse = response.getResponses().get(i);
-                boolean success = sendResponse.isSuccessful();
-                String pushId = indexToPushId.get(i);  // 미리 생성된 UUID
-
-                if (userId != null && pushId != null) {
-                    String fcmMessageId = success ? sendResponse.getMessageId() : null;
-                    logsToSave.add(createPushLog(pushId, userId, success, campaignGroup, fcmMessageId, now));
-                }
+    private void enqueuePushLogs(List<String> fcmTokens, Map<String, String> tokenToUserId, List<String> pushIds,
+                                 String campaignGroup, BatchResponse response) {
+        List<PushLog> logs = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < fcmTokens.size(); i++) {
+            String userId = tokenToUserId.get(fcmTokens.get(i));
+            if (userId == null) {
+                continue;
             }
 
-            savePushLogsIfNotEmpty(logsToSave, campaignGroup);
-        } catch (Exception e) {
-            log.error("Failed to batch save push logs for campaignGroup: {}", campaignGroup, e);
+            SendResponse sendResponse = response != null ? response.getResponses().get(i) : null;
+            boolean success = sendResponse != null && sendResponse.isSuccessful();
+            String fcmMessageId = success ? sendResponse.getMessageId() : null;
+            logs.add(PushLogService.createSentLog(pushIds.get(i), userId, success, campaignGroup, fcmMessageId, now));
         }
+
+        pushLogBuffer.enqueueAll(logs);
     }
 
     /**
-     * 전체 실패 시 푸시 로그를 배치로 저장
+     * 토큰 하나에 대한 FCM 메시지 생성
+     * data에 userId와 자체 pushId(campaignId)를 넣고, 캠페인 그룹이 있으면 Analytics 라벨을 설정합니다.
      */
-    private void savePushLogsAllFailed(List<String> fcmTokens, String campaignGroup) {
-        try {
-            Map<String, String> tokenToUserId = getTokenToUserIdMap(fcmTokens);
-            List<PushLog> logsToSave = new ArrayList<>();
-            LocalDateTime now = LocalDateTime.now();
-
-            for (String fcmToken : fcmTokens) {
-                String userId = tokenToUserId.get(fcmToken);
-                if (userId != null) {
-                    String pushId = UUID.randomUUID().toString();
-                    logsToSave.add(createPushLog(pushId, userId, false, campaignGroup, null, now));
-                }
-            }
-
-            savePushLogsIfNotEmpty(logsToSave, campaignGroup);
-        } catch (Exception e) {
-            log.error("Failed to batch save failed push logs for campaignGroup: {}", campaignGroup, e);
+    public Message buildMessage(String fcmToken, String userId, String pushId, FcmMessageRequest messageRequest) {
+        Map<String, String> data = buildDataWithUserId(messageRequest, userId);
+        data.put("campaignId", pushId);
+
+        Message.Builder messageBuilder = Message.builder()
+                .setToken(fcmToken)
+                .setNotification(Notification.builder()
+                        .setTitle(messageRequest.getTitle())
+                        .setBody(messageRequest.getBody())
+                        .build())
+                .putAllData(data);
+
+        // Google Analytics 추적을 위한 FcmOptions 설정
+        if (messageRequest.getCampaignId() != null) {
+            messageBuilder.setFcmOptions(FcmOptions.withAnalyticsLabel(ANALYTICS_LABEL_PREFIX + messageRequest.getCampaignId()));
         }
+
+        return messageBuilder.build();
     }
 
     /**
@@ -212,31 +186,6 @@ public class FcmMessagingService {
                 ));
     }
 
-    /**
-     * PushLog 객체 생성
-     */
-    private PushLog createPushLog(String pushId, String userId, boolean success, String campaignGroup, String fcmMessageId, LocalDateTime now) {
-        return PushLog.builder()
-                .campaignId(pushId)  // 자체 UUID를 campaignId로 사용
-                .fcmMessageId(fcmMessageId)  // FCM messageId (선택적)
-                .campaignGroup(campaignGroup)  // 캠페인 그룹
-                .userId(userId)
-                .sentAt(now)
-                .sentSuccess(success)
-                .createdAt(now)
-                .build();
-    }
-
-    /**
-     * PushLog 목록이 비어있지 않으면 배치 저장
-     */
-    private void savePushLogsIfNotEmpty(List<PushLog> logsToSave, String campaignGroup) {
-        if (!logsToSave.isEmpty()) {
-            pushLogRepository.saveAll(logsToSave);
-            log.debug("Batch saved {} push logs for campaignGroup: {}", logsToSave.size(), campaignGroup);
-        }
-    }
-
     /**
      * FCM 토큰으로 사용자 ID 조회
      */
@@ -250,8 +199,8 @@ public class FcmMessagingService {
      */
     private Map<String, String> buildDataWithUserId(FcmMessageRequest messageRequest, String userId) {
         Map<String, String> data = messageRequest.getData() != null
-                ? new java.util.HashMap<>(messageRequest.getData())
-                : new java.util.HashMap<>();
+                ? new HashMap<>(messageRequest.getData())
+                : new HashMap<>();
         if (userId != null) {
             data.put("userId", userId);
         }
@@ -16,6 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -71,6 +72,25 @@ public class FcmTokenService {
         }
     }
 
+    /**
+     * 여러 FCM 토큰을 한 번의 updateMany로 비활성화합니다.
+     * 배치 전송에서 실패한 토큰을 모아서 처리할 때 사용됩니다.
+     */
+    public long deactivateTokens(Collection<String> fcmTokens) {
+        if (fcmTokens == null || fcmTokens.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            long deactivated = fcmTokenRepository.deactivateByFcmTokenIn(fcmTokens, LocalDateTime.now());
+            log.info("Deactivated {} invalid FCM token(s) in bulk", deactivated);
+            return deactivated;
+        } catch (Exception e) {
+            log.error("Failed to bulk deactivate {} FCM token(s)", fcmTokens.size(), e);
+            return 0;
+        }
+    }
+
     /**
      * 특정 사용자의 특정 디바이스 FCM 토큰을 비활성화합니다.
      * 로그아웃 시 사용됩니다.
@@ -0,0 +1,191 @@
+package com.linglevel.api.fcm.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import com.linglevel.api.fcm.dto.PushDispatchResult;
+import com.linglevel.api.fcm.dto.PushRecipient;
+import com.linglevel.api.fcm.entity.FcmToken;
+import com.linglevel.api.fcm.entity.PushLog;
+import com.linglevel.api.fcm.repository.FcmTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 사용자에게 보내는 푸시 알림의 공용 전송 파이프라인
+ * - 토큰 조회: 대상 사용자 전체를 한 번의 $in 쿼리로 조회
+ * - 전송: sendEach 최대 크기(500)로 묶어서 설정된 동시 실행 수만큼 병렬 전송
+ * - 후처리: PushLog는 버퍼에 적재(비동기 일괄 저장), 실패 토큰은 마지막에 한 번의 updateMany로 비활성화
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PushDispatchService {
+
+    public static final int MAX_MESSAGES_PER_BATCH = 500;
+
+    // 토큰 자체가 더 이상 유효하지 않은 경우에만 비활성화
+    // (INVALID_ARGUMENT/THIRD_PARTY_AUTH_ERROR 등은 페이로드나 인증 문제라 모든 토큰에 동시에 발생할 수 있음)
+    private static final Set<MessagingErrorCode> INVALID_TOKEN_ERROR_CODES = EnumSet.of(
+            MessagingErrorCode.UNREGISTERED,
+            MessagingErrorCode.SENDER_ID_MISMATCH
+    );
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final FcmMessagingService fcmMessagingService;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final FcmTokenService fcmTokenService;
+    private final PushLogBuffer pushLogBuffer;
+    private final ExecutorService pushDispatchExecutor;
+
+    /**
+     * 사용자 목록의 활성 토큰을 한 번에 조회하여 사용자별로 묶어 반환합니다.
+     * 활성 토큰이 없는 사용자는 결과에 포함되지 않습니다.
+     */
+    public Map<String, List<FcmToken>> resolveActiveTokens(Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return fcmTokenRepository.findByUserIdInAndIsActive(userIds, true).stream()
+                .collect(Collectors.groupingBy(FcmToken::getUserId));
+    }
+
+    /**
+     * 수신자 목록을 배치로 묶어 전송합니다.
+     */
+    public PushDispatchResult dispatch(List<PushRecipient> recipients) {
+        PushDispatchResult result = new PushDispatchResult();
+
+        List<PendingPush> pending = new ArrayList<>();
+        for (PushRecipient recipient : recipients) {
+            for (FcmToken token : recipient.getTokens()) {
+                String pushId = UUID.randomUUID().toString();
+                Message message = fcmMessagingService.buildMessage(
+                        token.getFcmToken(), recipient.getUserId(), pushId, recipient.getMessage());
+                pending.add(new PendingPush(recipient.getUserId(), token.getFcmToken(), pushId,
+                        recipient.getMessage().getCampaignId(), message));
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return result;
+        }
+
+        List<List<PendingPush>> batches = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += MAX_MESSAGES_PER_BATCH) {
+            batches.add(pending.subList(from, Math.min(from + MAX_MESSAGES_PER_BATCH, pending.size())));
+        }
+
+        // 공용 전송 스레드 풀(fcm.dispatch.max-in-flight)로 동시 전송 수를 제한
+        List<Future<BatchOutcome>> futures = new ArrayList<>();
+        for (List<PendingPush> batch : batches) {
+            futures.add(pushDispatchExecutor.submit(() -> sendBatch(batch)));
+        }
+
+        Set<String> tokensToDeactivate = new HashSet<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                BatchOutcome outcome = futures.get(i).get();
+                result.merge(outcome.result);
+                tokensToDeactivate.addAll(outcome.invalidTokens);
+            } catch (ExecutionException e) {
+                log.error("Push dispatch batch of {} messages failed unexpectedly", batches.get(i).size(), e.getCause());
+                recordBatchFailed(result, batches.get(i));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // 남은 배치는 취소하고, 전송 여부를 알 수 없으므로 실패로 집계 (토큰 비활성화는 다음 실행에 맡김)
+                int unfinishedMessages = 0;
+                for (int j = i; j < futures.size(); j++) {
+                    futures.get(j).cancel(true);
+                    unfinishedMessages += batches.get(j).size();
+                    batches.get(j).forEach(push -> result.recordFailed(push.fcmToken(), push.userId()));
+                }
+                log.error("Push dispatch interrupted - {} of {} batches ({} messages) not completed",
+                        futures.size() - i, futures.size(), unfinishedMessages);
+                return result;
+            }
+        }
+
+        result.setDeactivatedCount(fcmTokenService.deactivateTokens(tokensToDeactivate));
+
+        log.info("Push dispatch completed - Messages: {}, Batches: {}, Sent: {}, Failed: {}, Deactivated: {}",
+                pending.size(), batches.size(), result.getSentCount(), result.getFailedCount(),
+                result.getDeactivatedCount());
+
+        return result;
+    }
+
+    /**
+     * 예기치 않게 중단된 배치는 전체를 실패로 기록 (토큰 문제가 아니므로 비활성화하지 않음)
+     */
+    private void recordBatchFailed(PushDispatchResult result, List<PendingPush> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PushLog> logsToSave = new ArrayList<>(batch.size());
+        for (PendingPush push : batch) {
+            result.recordFailed(push.fcmToken(), push.userId());
+            logsToSave.add(createPushLog(push, false, null, now));
+        }
+        pushLogBuffer.enqueueAll(logsToSave);
+    }
+
+    private BatchOutcome sendBatch(List<PendingPush> batch) {
+        BatchOutcome outcome = new BatchOutcome();
+        List<PushLog> logsToSave = new ArrayList<>(batch.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            BatchResponse response = firebaseMessaging.sendEach(
+                    batch.stream().map(PendingPush::message).collect(Collectors.toList()));
+
+            List<SendResponse> responses = response.getResponses();
+            for (int i = 0; i < responses.size(); i++) {
+                PendingPush push = batch.get(i);
+                SendResponse sendResponse = responses.get(i);
+
+                if (sendResponse.isSuccessful()) {
+                    outcome.result.recordSent(push.fcmToken(), push.userId());
+                    logsToSave.add(createPushLog(push, true, sendResponse.getMessageId(), now));
+                } else {
+                    outcome.result.recordFailed(push.fcmToken(), push.userId());
+                    logsToSave.add(createPushLog(push, false, null, now));
+
+                    FirebaseMessagingException exception = sendResponse.getException();
+                    if (exception != null && INVALID_TOKEN_ERROR_CODES.contains(exception.getMessagingErrorCode())) {
+                        outcome.invalidTokens.add(push.fcmToken());
+                    }
+                }
+            }
+        } catch (FirebaseMessagingException e) {
+            // 배치 전체 실패는 토큰 문제가 아니므로 실패 기록만 남김
+            log.error("Failed to send push batch of {} messages: {}", batch.size(), e.getMessage());
+            for (PendingPush push : batch) {
+                outcome.result.recordFailed(push.fcmToken(), push.userId());
+                logsToSave.add(createPushLog(push, false, null, now));
+            }
+        }
+
+        pushLogBuffer.enqueueAll(logsToSave);
+        return outcome;
+    }
+
+    private PushLog createPushLog(PendingPush push, boolean success, String fcmMessageId, LocalDateTime now) {
+        return PushLogService.createSentLog(push.pushId(), push.userId(), success, push.campaignGroup(), fcmMessageId, now);
+    }
+
+    private record PendingPush(String userId, String fcmToken, String pushId, String campaignGroup, Message message) {}
+
+    private static class BatchOutcome {
+        private final PushDispatchResult result = new PushDispatchResult();
+        private final List<String> invalidTokens = new ArrayList<>();
+    }
+}
@@ -0,0 +1,243 @@
+package com.linglevel.api.fcm.service;
+
+import com.linglevel.api.fcm.entity.PushLog;
+import com.linglevel.api.fcm.repository.PushLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * PushLog 비동기 적재 버퍼
+ * 발송 경로에서는 메모리 버퍼에 넣기만 하고, 백그라운드 스레드가 주기적으로 bulk upsert로 저장합니다.
+ * - 버퍼가 가득 차면 백그라운드 flush를 앞당기고 offerTimeout까지만 기다린 뒤 버림(dropped)으로 집계
+ *   (발송 스레드에서 DB에 쓰지 않음)
+ * - 저장에 실패한 배치는 버퍼에 다시 넣어 다음 flush에서 재시도 (upsert라 재시도해도 중복 없음)
+ * - 아직 저장되지 않은 campaignId를 추적해 오픈 로그가 송신 로그보다 먼저 도착한 경우를 구분
+ * - 종료 시 남은 로그를 모두 저장
+ */
+@Component
+@Slf4j
+public class PushLogBuffer {
+
+    private final PushLogRepository pushLogRepository;
+    private final BlockingQueue<PushLog> buffer;
+    private final int flushBatchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    // 버퍼에 들어왔지만 아직 저장되지 않은 송신 로그의 campaignId
+    private final Set<String> pendingCampaignIds = ConcurrentHashMap.newKeySet();
+
+    private final Counter enqueuedCounter;
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+    private final Counter backpressureCounter;
+    private final Counter flushFailureCounter;
+    private final Counter requeuedCounter;
+
+    public PushLogBuffer(PushLogRepository pushLogRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${fcm.push-log.buffer-capacity:20000}") int capacity,
+                         @Value("${fcm.push-log.flush-batch-size:1000}") int flushBatchSize,
+                         @Value("${fcm.push-log.flush-interval-ms:1000}") long flushIntervalMillis,
+                         @Value("${fcm.push-log.offer-timeout-ms:50}") long offerTimeoutMillis) {
+        this.pushLogRepository = pushLogRepository;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.flushBatchSize = flushBatchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "push-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("push.log.buffer.size", buffer, Collection::size)
+                .description("Push logs waiting to be written")
+                .register(meterRegistry);
+        this.enqueuedCounter = meterRegistry.counter("push.log.buffer.enqueued");
+        this.flushedCounter = meterRegistry.counter("push.log.buffer.flushed");
+        this.droppedCounter = meterRegistry.counter("push.log.buffer.dropped");
+        this.backpressureCounter = meterRegistry.counter("push.log.buffer.backpressure");
+        this.flushFailureCounter = meterRegistry.counter("push.log.buffer.flush.failures");
+        this.requeuedCounter = meterRegistry.counter("push.log.buffer.requeued");
+    }
+
+    @PostConstruct
+    void start() {
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void drain() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(flushIntervalMillis * 5, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int written = flush();
+        if (buffer.isEmpty()) {
+            log.info("Push log buffer drained on shutdown - {} log(s) written", written);
+        } else {
+            droppedCounter.increment(buffer.size());
+            pendingCampaignIds.clear();
+            log.error("Push log buffer drained on shutdown - {} log(s) written, {} log(s) lost", written, buffer.size());
+        }
+    }
+
+    public void enqueue(PushLog pushLog) {
+        // flush가 저장 후 지우기 전에 등록되도록 버퍼에 넣기 전에 추가
+        markPending(pushLog);
+        if (buffer.offer(pushLog)) {
+            enqueuedCounter.increment();
+            return;
+        }
+
+        // 버퍼가 가득 찬 경우 백그라운드 flush를 앞당기고 잠시만 기다림
+        backpressureCounter.increment();
+        requestFlush();
+
+        if (offerWithTimeout(pushLog)) {
+            enqueuedCounter.increment();
+        } else {
+            droppedCounter.increment();
+            unmarkPending(List.of(pushLog));
+            log.warn("Push log buffer full, dropping log - campaignId: {}", pushLog.getCampaignId());
+        }
+    }
+
+    public void enqueueAll(Collection<PushLog> pushLogs) {
+        pushLogs.forEach(this::enqueue);
+    }
+
+    /**
+     * 버퍼에 쌓인 로그를 모두 저장합니다.
+     * 저장에 실패하면 해당 배치를 버퍼에 다시 넣고 중단합니다. (다음 flush에서 재시도)
+     * @return 저장된 로그 수
+     */
+    public int flush() {
+        int written = 0;
+        int batch;
+        while ((batch = flushBatch()) > 0) {
+            written += batch;
+        }
+        return written;
+    }
+
+    public int size() {
+        return buffer.size();
+    }
+
+    /**
+     * 송신 로그가 버퍼에 있고 아직 저장되지 않았는지 여부
+     */
+    public boolean isPending(String campaignId) {
+        return campaignId != null && pendingCampaignIds.contains(campaignId);
+    }
+
+    private void markPending(PushLog pushLog) {
+        if (pushLog.getCampaignId() != null) {
+            pendingCampaignIds.add(pushLog.getCampaignId());
+        }
+    }
+
+    private void unmarkPending(List<PushLog> pushLogs) {
+        for (PushLog pushLog : pushLogs) {
+            if (pushLog.getCampaignId() != null) {
+                pendingCampaignIds.remove(pushLog.getCampaignId());
+            }
+        }
+    }
+
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flusher.execute(this::flushSafely);
+        } catch (Exception e) {
+            flushRequested.set(false);
+            log.warn("Failed to request push log flush", e);
+        }
+    }
+
+    private boolean offerWithTimeout(PushLog pushLog) {
+        try {
+            return buffer.offer(pushLog, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void flushSafely() {
+        flushRequested.set(false);
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Unexpected error while flushing push logs", e);
+        }
+    }
+
+    /**
+     * @return 저장된 로그 수 (버퍼가 비었거나 저장에 실패하면 0)
+     */
+    private int flushBatch() {
+        List<PushLog> batch = new ArrayList<>(flushBatchSize);
+        buffer.drainTo(batch, flushBatchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            pushLogRepository.upsertSentLogs(batch);
+            unmarkPending(batch);
+            flushedCounter.increment(batch.size());
+            log.debug("Flushed {} push logs", batch.size());
+            return batch.size();
+        } catch (Exception e) {
+            flushFailureCounter.increment();
+            log.error("Failed to flush {} push logs, requeueing for retry", batch.size(), e);
+            requeue(batch);
+            return 0;
+        }
+    }
+
+    private void requeue(List<PushLog> batch) {
+        int requeued = 0;
+        List<PushLog> dropped = new ArrayList<>();
+        for (PushLog pushLog : batch) {
+            if (buffer.offer(pushLog)) {
+                requeued++;
+            } else {
+                dropped.add(pushLog);
+            }
+        }
+        unmarkPending(dropped);
+        requeuedCounter.increment(requeued);
+        if (requeued < batch.size()) {
+            droppedCounter.increment(batch.size() - requeued);
+            log.warn("Push log buffer full while requeueing, dropped {} log(s)", batch.size() - requeued);
+        }
+    }
+}
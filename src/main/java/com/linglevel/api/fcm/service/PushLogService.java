@@ -6,7 +6,6 @@ import com.linglevel.api.fcm.exception.FcmException;
 import com.linglevel.api.fcm.repository.PushLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -17,9 +16,10 @@ import java.time.LocalDateTime;
 public class PushLogService {
 
     private final PushLogRepository pushLogRepository;
+    private final PushLogBuffer pushLogBuffer;
 
     /**
-     * 푸시 알림 송신 로그 저장
+     * 푸시 알림 송신 로그 저장 (버퍼에 적재 후 백그라운드에서 일괄 저장)
      * @param campaignId 각 메시지의 고유 ID (자체 UUID)
      * @param userId 사용자 ID
      * @param success 발송 성공 여부
@@ -27,51 +27,47 @@ public class PushLogService {
      * @param fcmMessageId FCM messageId (선택적, FCM 추적용)
      */
     public void logSent(String campaignId, String userId, boolean success, String campaignGroup, String fcmMessageId) {
-        try {
-            PushLog pushLog = PushLog.builder()
-                    .campaignId(campaignId)
-                    .fcmMessageId(fcmMessageId)
-                    .campaignGroup(campaignGroup)
-                    .userId(userId)
-                    .sentAt(LocalDateTime.now())
-                    .sentSuccess(success)
-                    .createdAt(LocalDateTime.now())
-                    .build();
+        pushLogBuffer.enqueue(createSentLog(campaignId, userId, success, campaignGroup, fcmMessageId, LocalDateTime.now()));
+    }
 
-            pushLogRepository.save(pushLog);
-        } catch (Exception e) {
-            log.error("Failed to save push log - campaignId: {}, userId: {}", campaignId, userId, e);
-            throw new FcmException(FcmErrorCode.PUSH_LOG_SAVE_FAILED);
-        }
+    /**
+     * 송신 로그 엔티티 생성
+     */
+    public static PushLog createSentLog(String campaignId, String userId, boolean success, String campaignGroup,
+                                        String fcmMessageId, LocalDateTime sentAt) {
+        return PushLog.builder()
+                .campaignId(campaignId)
+                .fcmMessageId(fcmMessageId)
+                .campaignGroup(campaignGroup)
+                .userId(userId)
+                .sentAt(sentAt)
+                .sentSuccess(success)
+                .createdAt(sentAt)
+                .build();
     }
 
     /**
-     * 푸시 알림 오픈 로그 업데이트 (낙관적 락을 통한 동시성 제어)
+     * 푸시 알림 오픈 로그 업데이트
+     * 송신 로그는 버퍼를 거쳐 비동기로 저장되므로, 아직 버퍼에 있으면 오픈 정보로 먼저 문서를 만들고
+     * 이후 flush 시 송신 정보가 같은 문서에 채워집니다. 버퍼에도 DB에도 없는 campaignId는 PUSH_LOG_NOT_FOUND.
      * @param userId 사용자 ID
      * @param campaignId 메시지 고유 ID
      * @param openedAt 오픈 시간
      */
     public void logOpened(String userId, String campaignId, LocalDateTime openedAt) {
         try {
-            // campaignId가 유니크하므로 campaignId만으로 조회
-            PushLog pushLog = pushLogRepository.findByCampaignId(campaignId)
-                    .orElseThrow(() -> new FcmException(FcmErrorCode.PUSH_LOG_NOT_FOUND));
-
-            // 멱등성 보장: 이미 오픈되었으면 무시
-            if (pushLog.getOpenedAt() != null) {
+            boolean pending = pushLogBuffer.isPending(campaignId);
+            if (!pushLogRepository.markOpened(campaignId, userId, openedAt, pending)) {
+                if (!pending && !pushLogRepository.existsByCampaignId(campaignId)) {
+                    throw new FcmException(FcmErrorCode.PUSH_LOG_NOT_FOUND);
+                }
+                // 멱등성 보장: 이미 오픈되었으면 무시
                 log.debug("Push already opened, ignoring duplicate - campaignId: {}, userId: {}",
                         campaignId, userId);
                 return;
             }
-
-            pushLog.setOpenedAt(openedAt);
-            pushLogRepository.save(pushLog);
             log.debug("Logged push opened - campaignId: {}, userId: {}", campaignId, userId);
 
-        } catch (OptimisticLockingFailureException e) {
-            // 낙관적 락 충돌: 다른 요청이 먼저 업데이트함 (정상 케이스)
-            log.debug("Optimistic lock conflict on push opened - campaignId: {} (already updated by another request)",
-                    campaignId);
         } catch (FcmException e) {
             throw e;
         } catch (Exception e) {
@@ -1,5 +1,7 @@
 package com.linglevel.api.s3.service;
 
+import com.linglevel.api.s3.thumbnail.ThumbnailRenderer;
+import com.linglevel.api.s3.thumbnail.ThumbnailSpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -7,13 +9,19 @@ import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import com.sksamuel.scrimage.ImmutableImage;
-import com.sksamuel.scrimage.webp.WebpWriter;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -28,18 +36,12 @@ public class ImageResizeService {
 
     private final S3StaticService s3StaticService;
 
-    private static final int THUMBNAIL_SIZE = 256;
-
     public String createSmallImage(String originalS3Key) {
         try {
             log.info("Creating small image from: {}", originalS3Key);
 
-            String thumbnailS3Key = generateSmallImagePath(originalS3Key);
-            InputStream originalImageStream = downloadImageFromS3(originalS3Key);
-            byte[] thumbnailBytes = resizeToThumbnail(originalImageStream);
-            uploadThumbnailToS3(thumbnailS3Key, thumbnailBytes);
-
-            String thumbnailUrl = s3StaticService.getPublicUrl(thumbnailS3Key);
+            String thumbnailUrl = renderAndUpload(originalS3Key, List.of(ThumbnailSpec.SMALL_WEBP))
+                    .get(ThumbnailSpec.SMALL_WEBP);
             log.info("Small image created successfully: {}", thumbnailUrl);
 
             return thumbnailUrl;
@@ -50,26 +52,74 @@ public class ImageResizeService {
         }
     }
 
+    /**
+     * 원본 하나로 여러 규격의 썸네일 생성
+     * 이미 존재하는 썸네일 키는 건너뛰고, 모두 존재하면 원본을 내려받지 않습니다.
+     *
+     * @return 규격별 공개 URL (건너뛴 규격 포함)
+     */
+    public Map<ThumbnailSpec, String> createThumbnails(String originalS3Key, List<ThumbnailSpec> specs) {
+        try {
+            Map<ThumbnailSpec, String> urls = new LinkedHashMap<>();
+            List<ThumbnailSpec> missing = new ArrayList<>();
+            for (ThumbnailSpec spec : specs) {
+                String key = spec.keyFor(originalS3Key);
+                if (exists(key)) {
+                    urls.put(spec, s3StaticService.getPublicUrl(key));
+                } else {
+                    missing.add(spec);
+                }
+            }
+
+            if (!missing.isEmpty()) {
+                urls.putAll(renderAndUpload(originalS3Key, missing));
+            } else {
+                log.debug("All thumbnails already exist for {}", originalS3Key);
+            }
+            return urls;
 
-    private String generateSmallImagePath(String originalS3Key) {
-        int lastSlashIndex = originalS3Key.lastIndexOf('/');
-        if (lastSlashIndex == -1) {
-            return "small_" + removeExtension(originalS3Key) + ".webp";
+        } catch (Exception e) {
+            log.error("Failed to create thumbnails for {}", originalS3Key, e);
+            throw new RuntimeException("Thumbnail creation failed", e);
         }
+    }
 
-        String directoryPath = originalS3Key.substring(0, lastSlashIndex + 1);
-        String fileName = originalS3Key.substring(lastSlashIndex + 1);
-        String fileNameWithoutExt = removeExtension(fileName);
+    private Map<ThumbnailSpec, String> renderAndUpload(String originalS3Key, List<ThumbnailSpec> specs) throws IOException {
+        ImmutableImage original;
+        try (InputStream originalImageStream = downloadImageFromS3(originalS3Key)) {
+            original = decode(originalImageStream);
+        }
 
-        return directoryPath + "small_" + fileNameWithoutExt + ".webp";
+        Map<ThumbnailSpec, byte[]> rendered = new LinkedHashMap<>();
+        for (ThumbnailSpec spec : specs) {
+            rendered.put(spec, render(original, spec));
+        }
+
+        Map<ThumbnailSpec, String> urls = new LinkedHashMap<>();
+        for (Map.Entry<ThumbnailSpec, byte[]> entry : rendered.entrySet()) {
+            ThumbnailSpec spec = entry.getKey();
+            String thumbnailS3Key = spec.keyFor(originalS3Key);
+            uploadThumbnailToS3(thumbnailS3Key, entry.getValue(), spec.format().getContentType());
+            urls.put(spec, s3StaticService.getPublicUrl(thumbnailS3Key));
+        }
+        return urls;
     }
 
-    private String removeExtension(String fileName) {
-        int lastDotIndex = fileName.lastIndexOf('.');
-        if (lastDotIndex == -1) {
-            return fileName;
+    private boolean exists(String s3Key) {
+        try {
+            s3StaticClient.headObject(HeadObjectRequest.builder()
+                    .bucket(staticBucketName)
+                    .key(s3Key)
+                    .build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
         }
-        return fileName.substring(0, lastDotIndex);
     }
 
     private InputStream downloadImageFromS3(String s3Key) {
@@ -85,32 +135,33 @@ public class ImageResizeService {
         }
     }
 
-    private byte[] resizeToThumbnail(InputStream imageStream) throws IOException {
+    private ImmutableImage decode(InputStream imageStream) throws IOException {
         try {
-            ImmutableImage originalImage = ImmutableImage.loader().fromStream(imageStream);
-
-            ImmutableImage resizedImage = originalImage.scaleTo(THUMBNAIL_SIZE, THUMBNAIL_SIZE)
-                    .cover(THUMBNAIL_SIZE, THUMBNAIL_SIZE);
-
-            byte[] webpBytes = resizedImage.bytes(WebpWriter.DEFAULT.withQ(85));
-
-            log.info("Successfully converted to WebP using Scrimage, size: {} bytes", webpBytes.length);
-
-            return webpBytes;
-
+            return ThumbnailRenderer.decode(imageStream);
         } catch (Exception e) {
-            log.error("Failed to convert image to WebP using Scrimage: {}", e.getMessage(), e);
-            throw new IOException("WebP conversion failed", e);
+            log.error("Failed to decode image using Scrimage: {}", e.getMessage(), e);
+            throw new IOException("Image decoding failed", e);
         }
     }
 
+    private byte[] render(ImmutableImage original, ThumbnailSpec spec) throws IOException {
+        try {
+            byte[] bytes = ThumbnailRenderer.render(original, spec);
+            log.info("Successfully converted to {} {}px using Scrimage, size: {} bytes",
+                    spec.format(), spec.size(), bytes.length);
+            return bytes;
+        } catch (Exception e) {
+            log.error("Failed to convert image to {} using Scrimage: {}", spec.format(), e.getMessage(), e);
+            throw new IOException(spec.format() + " conversion failed", e);
+        }
+    }
 
-    private void uploadThumbnailToS3(String s3Key, byte[] imageBytes) {
+    private void uploadThumbnailToS3(String s3Key, byte[] imageBytes, String contentType) {
         try {
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(staticBucketName)
                     .key(s3Key)
-                    .contentType("image/webp")
+                    .contentType(contentType)
                     .build();
 
             s3StaticClient.putObject(putObjectRequest, RequestBody.fromBytes(imageBytes));
@@ -119,4 +170,4 @@ public class ImageResizeService {
             throw new RuntimeException("Failed to upload thumbnail to S3: " + s3Key, e);
         }
     }
-}
\ No newline at end of file
+}
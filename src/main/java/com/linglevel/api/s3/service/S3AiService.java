@@ -8,14 +8,18 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
-import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -41,10 +45,10 @@ public class S3AiService {
                     .key(key)
                     .build();
             
-            var response = s3AiClient.getObject(getObjectRequest);
-            String jsonContent = new String(response.readAllBytes());
-            
-            return objectMapper.readValue(jsonContent, targetClass);
+            // 본문 전체를 String으로 읽지 않고 응답 스트림에서 바로 파싱
+            try (var response = s3AiClient.getObject(getObjectRequest)) {
+                return objectMapper.readValue(response, targetClass);
+            }
         } catch (IOException e) {
             log.error("Failed to read JSON from S3 AI: {}", e.getMessage());
             throw new RuntimeException("File download failed", e);
@@ -54,40 +58,46 @@ public class S3AiService {
         }
     }
 
-    public List<String> listImagesInFolder(String folderId, S3PathStrategy pathStrategy) {
+    public String getOutputBucketName() {
+        return aiOutputBucketName;
+    }
+
+    /**
+     * 폴더의 이미지 객체 목록 조회 (1000개를 넘는 목록도 페이지를 따라가며 모두 조회)
+     */
+    public List<S3Object> listImageObjectsInFolder(String folderId, S3PathStrategy pathStrategy) {
         try {
             String prefix = pathStrategy.generateImageFolderPath(folderId);
             ListObjectsV2Request listObjectsRequest = ListObjectsV2Request.builder()
                     .bucket(aiOutputBucketName)
                     .prefix(prefix)
                     .build();
-            
-            ListObjectsV2Response response = s3AiClient.listObjectsV2(listObjectsRequest);
-            
-            List<String> rawKeys = response.contents().stream()
-                    .map(S3Object::key)
+
+            List<S3Object> objects = new ArrayList<>();
+            s3AiClient.listObjectsV2Paginator(listObjectsRequest).contents().forEach(objects::add);
+
+            Set<String> imageKeys = new HashSet<>(pathStrategy.processImageKeys(
+                    objects.stream().map(S3Object::key).toList()));
+
+            return objects.stream()
+                    .filter(object -> imageKeys.contains(object.key()))
                     .toList();
-            
-            return pathStrategy.processImageKeys(rawKeys);
         } catch (Exception e) {
             log.error("Failed to list images from S3 AI folder {}: {}", folderId, e.getMessage());
             throw new RuntimeException("Failed to list images", e);
         }
     }
 
-    public byte[] downloadImageFile(String imageKey) {
-        try {
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(aiOutputBucketName)
-                    .key(imageKey)
-                    .build();
-            
-            var response = s3AiClient.getObject(getObjectRequest);
-            return response.readAllBytes();
-        } catch (Exception e) {
-            log.error("Failed to download image from S3 AI: {}", e.getMessage());
-            throw new RuntimeException("Failed to download image", e);
-        }
+    /**
+     * 객체 본문 스트림 열기 (호출자가 닫아야 함)
+     */
+    public ResponseInputStream<GetObjectResponse> openObject(String key) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(aiOutputBucketName)
+                .key(key)
+                .build();
+
+        return s3AiClient.getObject(getObjectRequest);
     }
 
     public void uploadJsonToInputBucket(String requestId, Object data, S3PathStrategy pathStrategy) {
@@ -14,6 +14,7 @@ import software.amazon.awssdk.services.s3.model.*;
 import java.util.List;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 
 @Service
@@ -74,6 +75,53 @@ public class S3StaticService {
         }
     }
 
+    /**
+     * 스트림을 힙에 모으지 않고 그대로 업로드 (contentLength를 알아야 함)
+     */
+    public String uploadFromStream(InputStream inputStream, long contentLength, String key, String contentType) {
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(staticBucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .build();
+
+            s3StaticClient.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, contentLength));
+
+            log.debug("Successfully streamed file to S3 Static: {}", key);
+            return getPublicUrl(key);
+
+        } catch (Exception e) {
+            log.error("Failed to stream file to S3 Static: {}", e.getMessage());
+            throw new RuntimeException("File upload failed", e);
+        }
+    }
+
+    /**
+     * 다른 버킷의 객체를 S3 서버 측에서 복사 (애플리케이션 메모리를 거치지 않음)
+     */
+    public String copyFromBucket(String sourceBucket, String sourceKey, String key, String contentType) {
+        try {
+            CopyObjectRequest copyObjectRequest = CopyObjectRequest.builder()
+                    .sourceBucket(sourceBucket)
+                    .sourceKey(sourceKey)
+                    .destinationBucket(staticBucketName)
+                    .destinationKey(key)
+                    .contentType(contentType)
+                    .metadataDirective(MetadataDirective.REPLACE)
+                    .build();
+
+            s3StaticClient.copyObject(copyObjectRequest);
+
+            log.debug("Successfully copied file to S3 Static: {} -> {}", sourceKey, key);
+            return getPublicUrl(key);
+
+        } catch (Exception e) {
+            log.error("Failed to copy file to S3 Static: {}", e.getMessage());
+            throw new RuntimeException("File copy failed", e);
+        }
+    }
+
     public String getPublicUrl(String key) {
         return staticUrl + "/" + key;
     }
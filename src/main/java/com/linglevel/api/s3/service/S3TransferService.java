@@ -2,39 +2,208 @@ package com.linglevel.api.s3.service;
 
 import com.linglevel.api.s3.strategy.S3PathStrategy;
 import com.linglevel.api.s3.utils.S3FileUtils;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * AI 버킷 → Static 버킷 이미지 이동 엔진 (책/기사/커스텀 콘텐츠 가져오기 공용)
+ * - 목록: 페이지를 따라가며 1000개를 넘는 폴더도 모두 조회
+ * - 이동: 서버 측 CopyObject, 복사 권한이 없으면(교차 계정) 힙에 모으지 않는 스트리밍 전달로 전환 (가져오기 한 번 동안만 유지)
+ * - 실행: 모든 가져오기가 공유하는 고정 크기 워커 풀로 동시 전송 수 제한
+ * - 재시도: 일시적인 오류(네트워크, 5xx, 스로틀링)는 지수 백오프로 재시도
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class S3TransferService {
 
+    private static final String MODE_COPY = "copy";
+    private static final String MODE_STREAM = "stream";
+
     private final S3AiService s3AiService;
     private final S3StaticService s3StaticService;
+    private final ExecutorService executor;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary bytesSummary;
+    private final Counter retryCounter;
+    private final Counter failureCounter;
+
+    public S3TransferService(S3AiService s3AiService,
+                             S3StaticService s3StaticService,
+                             MeterRegistry meterRegistry,
+                             @Value("${aws.s3.transfer.max-concurrency:8}") int maxConcurrency,
+                             @Value("${aws.s3.transfer.max-attempts:3}") int maxAttempts,
+                             @Value("${aws.s3.transfer.backoff-ms:200}") long backoffMillis) {
+        this.s3AiService = s3AiService;
+        this.s3StaticService = s3StaticService;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, maxConcurrency), runnable -> {
+            Thread thread = new Thread(runnable, "s3-transfer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.meterRegistry = meterRegistry;
+        this.bytesSummary = DistributionSummary.builder("s3.transfer.bytes")
+                .description("Size of transferred objects")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.retryCounter = meterRegistry.counter("s3.transfer.retries");
+        this.failureCounter = meterRegistry.counter("s3.transfer.failures");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
 
     public void transferImagesFromAiToStatic(String sourceId, String targetId, S3PathStrategy pathStrategy) {
         try {
             log.info("Starting image transfer from AI bucket to Static bucket for sourceId: {} to targetId: {}", sourceId, targetId);
-            
-            List<String> imageKeys = s3AiService.listImagesInFolder(sourceId, pathStrategy);
-            
-            for (String imageKey : imageKeys) {
-                byte[] imageBytes = s3AiService.downloadImageFile(imageKey);
-                String contentType = S3FileUtils.getContentTypeFromKey(imageKey);
-
-                String newKey = imageKey.replace(sourceId, targetId);
-                s3StaticService.uploadFileFromBytes(imageBytes, newKey, contentType);
+
+            List<S3Object> images = s3AiService.listImageObjectsInFolder(sourceId, pathStrategy);
+            if (images.isEmpty()) {
+                log.info("No images to transfer for sourceId: {}", sourceId);
+                return;
             }
-            
-            log.info("Successfully transferred {} images to Static bucket", imageKeys.size());
-            
+
+            String sourceBucket = s3AiService.getOutputBucketName();
+            // 서버 측 복사가 거부되면 이번 가져오기의 나머지 전송만 바로 스트리밍으로 처리
+            AtomicBoolean copyDenied = new AtomicBoolean();
+            List<Future<?>> futures = new ArrayList<>(images.size());
+            try {
+                for (S3Object image : images) {
+                    String newKey = image.key().replace(sourceId, targetId);
+                    // 백오프 대기 중 인터럽트(InterruptedException)를 전달하려면 Callable로 제출해야 함
+                    futures.add(executor.submit(() -> {
+                        transferWithRetry(sourceBucket, image, newKey, copyDenied);
+                        return null;
+                    }));
+                }
+
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException | ExecutionException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw e;
+            }
+
+            log.info("Successfully transferred {} images to Static bucket", images.size());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Image transfer interrupted", e);
+        } catch (ExecutionException e) {
+            log.error("Failed to transfer images from AI to Static bucket: {}", e.getCause().getMessage());
+            throw new RuntimeException("Image transfer failed", e.getCause());
         } catch (Exception e) {
             log.error("Failed to transfer images from AI to Static bucket: {}", e.getMessage());
             throw new RuntimeException("Image transfer failed", e);
         }
     }
-}
\ No newline at end of file
+
+    private void transferWithRetry(String sourceBucket, S3Object image, String newKey, AtomicBoolean copyDenied) throws InterruptedException {
+        String contentType = S3FileUtils.getContentTypeFromKey(image.key());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transfer(sourceBucket, image, newKey, contentType, copyDenied);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    failureCounter.increment();
+                    throw e;
+                }
+                retryCounter.increment();
+                long delay = backoffMillis * (1L << (attempt - 1));
+                log.warn("Retrying transfer of {} in {}ms (attempt {}/{}): {}",
+                        image.key(), delay, attempt + 1, maxAttempts, e.getMessage());
+                TimeUnit.MILLISECONDS.sleep(delay);
+            }
+        }
+    }
+
+    private void transfer(String sourceBucket, S3Object image, String newKey, String contentType, AtomicBoolean copyDenied) {
+        if (!copyDenied.get()) {
+            long start = System.nanoTime();
+            try {
+                s3StaticService.copyFromBucket(sourceBucket, image.key(), newKey, contentType);
+                record(MODE_COPY, start, image.size());
+                return;
+            } catch (RuntimeException e) {
+                if (!isAccessDenied(e)) {
+                    throw e;
+                }
+                log.warn("Server-side copy from {} denied, falling back to streaming transfer", sourceBucket);
+                copyDenied.set(true);
+            }
+        }
+
+        long start = System.nanoTime();
+        try (ResponseInputStream<GetObjectResponse> source = s3AiService.openObject(image.key())) {
+            long contentLength = source.response().contentLength();
+            s3StaticService.uploadFromStream(source, contentLength, newKey, contentType);
+            record(MODE_STREAM, start, contentLength);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to close source stream", e);
+        }
+    }
+
+    private void record(String mode, long startNanos, Long bytes) {
+        Timer.builder("s3.transfer.latency")
+                .description("Latency of a single object transfer")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        if (bytes != null) {
+            bytesSummary.record(bytes);
+        }
+    }
+
+    private boolean isAccessDenied(Throwable e) {
+        S3Exception s3Exception = findCause(e, S3Exception.class);
+        return s3Exception != null && s3Exception.statusCode() == 403;
+    }
+
+    private boolean isRetryable(Throwable e) {
+        S3Exception s3Exception = findCause(e, S3Exception.class);
+        if (s3Exception != null) {
+            int status = s3Exception.statusCode();
+            return status >= 500 || status == 429;
+        }
+        return findCause(e, SdkClientException.class) != null;
+    }
+
+    private <T extends Throwable> T findCause(Throwable e, Class<T> type) {
+        for (Throwable current = e; current != null; current = current.getCause()) {
+            if (type.isInstance(current)) {
+                return type.cast(current);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.linglevel.api.s3.thumbnail;
+
+import com.sksamuel.scrimage.nio.ImageWriter;
+import com.sksamuel.scrimage.nio.JpegWriter;
+import com.sksamuel.scrimage.nio.PngWriter;
+import com.sksamuel.scrimage.webp.WebpWriter;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ThumbnailFormat {
+    WEBP("webp", "image/webp", WebpWriter.DEFAULT.withQ(85)),
+    JPEG("jpg", "image/jpeg", JpegWriter.compression(85).withProgressive(true)),
+    PNG("png", "image/png", PngWriter.MaxCompression);
+
+    private final String extension;
+    private final String contentType;
+    private final ImageWriter writer;
+}
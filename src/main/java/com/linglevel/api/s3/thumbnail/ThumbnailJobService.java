@@ -0,0 +1,131 @@
+package com.linglevel.api.s3.thumbnail;
+
+import com.linglevel.api.s3.service.ImageResizeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 커버 썸네일 비동기 생성 파이프라인
+ * - 가져오기 요청 스레드는 작업만 등록하고 바로 반환
+ * - CPU 코어 수 크기의 전용 워커 풀이 제한된 작업 큐를 처리 (큐가 가득 차면 작업을 버리고 원본 URL 유지)
+ * - 같은 원본에 대한 작업이 진행 중이면 새로 만들지 않고 진행 중인 작업을 공유
+ * - 완료되면 콜백으로 SMALL_WEBP URL을 전달 (coverImageUrl 갱신용)
+ */
+@Service
+@Slf4j
+public class ThumbnailJobService {
+
+    private final ImageResizeService imageResizeService;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<Map<ThumbnailSpec, String>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Timer jobTimer;
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    public ThumbnailJobService(ImageResizeService imageResizeService,
+                               MeterRegistry meterRegistry,
+                               @Value("${image.thumbnail.workers:0}") int workers,
+                               @Value("${image.thumbnail.queue-capacity:200}") int queueCapacity) {
+        this.imageResizeService = imageResizeService;
+
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("image.thumbnail.queue.size", executor.getQueue(), Collection::size)
+                .description("Thumbnail jobs waiting for a worker")
+                .register(meterRegistry);
+        this.jobTimer = Timer.builder("image.thumbnail.job")
+                .description("Time to render and upload all thumbnails of one source")
+                .register(meterRegistry);
+        this.completedCounter = meterRegistry.counter("image.thumbnail.completed");
+        this.failedCounter = meterRegistry.counter("image.thumbnail.failed");
+        this.rejectedCounter = meterRegistry.counter("image.thumbnail.rejected");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 커버 이미지 기본 규격으로 썸네일 작업 등록
+     */
+    public CompletableFuture<Map<ThumbnailSpec, String>> submitCover(String originalS3Key, Consumer<String> onCoverReady) {
+        return submit(originalS3Key, ThumbnailSpec.COVER_SPECS, urls -> {
+            String coverUrl = urls.get(ThumbnailSpec.SMALL_WEBP);
+            if (coverUrl != null) {
+                onCoverReady.accept(coverUrl);
+            }
+        });
+    }
+
+    /**
+     * 썸네일 작업 등록
+     * 실패하거나 큐가 가득 차도 예외를 던지지 않으며, 콜백은 성공했을 때만 호출됩니다.
+     */
+    public CompletableFuture<Map<ThumbnailSpec, String>> submit(String originalS3Key, List<ThumbnailSpec> specs,
+                                                                Consumer<Map<ThumbnailSpec, String>> onComplete) {
+        CompletableFuture<Map<ThumbnailSpec, String>> job = inFlight.computeIfAbsent(originalS3Key,
+                key -> start(key, specs));
+        job.whenComplete((urls, error) -> inFlight.remove(originalS3Key, job));
+
+        return job.thenApply(urls -> {
+            try {
+                onComplete.accept(urls);
+            } catch (Exception e) {
+                log.warn("Thumbnail completion callback failed for {}", originalS3Key, e);
+            }
+            return urls;
+        });
+    }
+
+    private CompletableFuture<Map<ThumbnailSpec, String>> start(String originalS3Key, List<ThumbnailSpec> specs) {
+        CompletableFuture<Map<ThumbnailSpec, String>> job = new CompletableFuture<>();
+        try {
+            executor.execute(() -> run(originalS3Key, specs, job));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Thumbnail queue is full, skipping thumbnails for {}", originalS3Key);
+            job.completeExceptionally(e);
+        }
+        return job;
+    }
+
+    private void run(String originalS3Key, List<ThumbnailSpec> specs, CompletableFuture<Map<ThumbnailSpec, String>> job) {
+        long start = System.nanoTime();
+        try {
+            Map<ThumbnailSpec, String> urls = imageResizeService.createThumbnails(originalS3Key, specs);
+            completedCounter.increment();
+            job.complete(urls);
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("Failed to create thumbnails for {}, keeping original URL", originalS3Key, e);
+            job.completeExceptionally(e);
+        } finally {
+            jobTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.linglevel.api.s3.thumbnail;
+
+import com.sksamuel.scrimage.ImmutableImage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 썸네일 디코딩/리사이즈/인코딩 (S3와 무관한 순수 CPU 작업)
+ * 원본은 한 번만 디코딩하고 규격마다 리사이즈와 인코딩만 반복합니다.
+ */
+public final class ThumbnailRenderer {
+
+    private ThumbnailRenderer() {
+    }
+
+    public static ImmutableImage decode(InputStream imageStream) throws IOException {
+        return ImmutableImage.loader().fromStream(imageStream);
+    }
+
+    public static byte[] render(ImmutableImage original, ThumbnailSpec spec) throws IOException {
+        ImmutableImage resized = original.scaleTo(spec.size(), spec.size())
+                .cover(spec.size(), spec.size());
+        return resized.bytes(spec.format().getWriter());
+    }
+}
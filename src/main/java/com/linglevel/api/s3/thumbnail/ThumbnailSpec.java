@@ -0,0 +1,33 @@
+package com.linglevel.api.s3.thumbnail;
+
+import java.util.List;
+
+/**
+ * 썸네일 출력 규격 (정사각형 크기, 포맷, 파일명 접두사)
+ * 같은 원본과 규격은 항상 같은 키를 가지므로 이미 만들어진 썸네일은 다시 만들지 않습니다.
+ */
+public record ThumbnailSpec(String prefix, int size, ThumbnailFormat format) {
+
+    public static final ThumbnailSpec SMALL_WEBP = new ThumbnailSpec("small_", 256, ThumbnailFormat.WEBP);
+    public static final ThumbnailSpec MEDIUM_WEBP = new ThumbnailSpec("medium_", 512, ThumbnailFormat.WEBP);
+    public static final ThumbnailSpec SMALL_JPEG = new ThumbnailSpec("small_", 256, ThumbnailFormat.JPEG);
+
+    /**
+     * 커버 이미지 기본 규격 (SMALL_WEBP가 coverImageUrl로 사용됨)
+     */
+    public static final List<ThumbnailSpec> COVER_SPECS = List.of(SMALL_WEBP, MEDIUM_WEBP, SMALL_JPEG);
+
+    /**
+     * 원본 키로 썸네일 키 생성 (예: books/1/cover.jpg → books/1/small_cover.webp)
+     */
+    public String keyFor(String originalKey) {
+        int lastSlashIndex = originalKey.lastIndexOf('/');
+        String directoryPath = originalKey.substring(0, lastSlashIndex + 1);
+        String fileName = originalKey.substring(lastSlashIndex + 1);
+
+        int lastDotIndex = fileName.lastIndexOf('.');
+        String fileNameWithoutExt = lastDotIndex == -1 ? fileName : fileName.substring(0, lastDotIndex);
+
+        return directoryPath + prefix + fileNameWithoutExt + "." + format.getExtension();
+    }
+}
@@ -0,0 +1,21 @@
+package com.linglevel.api.streak.dto;
+
+import com.linglevel.api.fcm.entity.FcmToken;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 리마인더 버킷 집계 결과
+ * 해당 시간대 사용자 중 오늘 학습을 완료하지 않았고 활성 FCM 토큰이 있는 사용자입니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderTarget {
+    private String userId;
+    private Integer currentStreak;
+    private List<FcmToken> tokens;
+}
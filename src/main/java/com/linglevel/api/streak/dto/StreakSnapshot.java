@@ -0,0 +1,32 @@
+package com.linglevel.api.streak.dto;
+
+import com.linglevel.api.streak.entity.StreakStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 홈 화면 스트릭 위젯용 사용자별 스냅샷 (Redis)
+ * todayStatus/yesterdayStatus는 date(KST) 기준이며, 날짜가 바뀌면 스냅샷을 다시 만듭니다.
+ * 날짜 필드는 ISO 문자열로 저장합니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreakSnapshot implements Serializable {
+    private String userId;
+    private String date;
+    private int currentStreak;
+    private int longestStreak;
+    private String streakStartDate;
+    private long totalStudyDays;
+    private long totalContentsRead;
+    private int availableFreezes;
+    private long totalReadingTimeSeconds;
+    private StreakStatus todayStatus;
+    private StreakStatus yesterdayStatus;
+}
@@ -0,0 +1,35 @@
+package com.linglevel.api.streak.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * 선호 학습 시간(preferredStudyHour)별 알림 대상 버킷
+ * 매시간 학습 권장 알림에서 해당 시간대 사용자만 인덱스로 조회하기 위해 사용합니다.
+ */
+@Document(collection = "studyReminderBuckets")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyReminderBucket {
+    @Id
+    private String id;
+
+    @Indexed(unique = true)
+    private String userId;
+
+    @Indexed
+    private Integer preferredStudyHour;
+
+    private Instant updatedAt;
+}
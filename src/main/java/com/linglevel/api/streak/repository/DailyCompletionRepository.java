@@ -5,12 +5,18 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface DailyCompletionRepository extends MongoRepository<DailyCompletion, String> {
     boolean existsByUserIdAndCompletionDate(String userId, LocalDate completionDate);
 
+    /**
+     * 여러 사용자의 특정 날짜 학습 완료 기록을 한 번에 조회 (알림 배치용)
+     */
+    List<DailyCompletion> findByUserIdInAndCompletionDate(Collection<String> userIds, LocalDate completionDate);
+
     Optional<DailyCompletion> findByUserIdAndCompletionDate(String userId, LocalDate completionDate);
 
     Optional<DailyCompletion> findTopByUserIdAndCompletionDateBeforeOrderByCompletionDateDesc(String userId, LocalDate date);
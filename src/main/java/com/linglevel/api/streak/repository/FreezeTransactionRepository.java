@@ -9,6 +9,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 public interface FreezeTransactionRepository extends MongoRepository<FreezeTransaction, String> {
@@ -19,4 +20,6 @@ public interface FreezeTransactionRepository extends MongoRepository<FreezeTrans
 
     List<FreezeTransaction> findByUserIdAndAmountAndCreatedAtBetween(String userId, int amount, Instant start, Instant end);
 
+    List<FreezeTransaction> findByUserIdInAndAmountAndCreatedAtBetween(Collection<String> userIds, int amount, Instant start, Instant end);
+
 }
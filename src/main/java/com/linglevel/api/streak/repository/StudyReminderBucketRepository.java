@@ -0,0 +1,57 @@
+package com.linglevel.api.streak.repository;
+
+import com.linglevel.api.streak.dto.ReminderTarget;
+import com.linglevel.api.streak.entity.StudyReminderBucket;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface StudyReminderBucketRepository extends MongoRepository<StudyReminderBucket, String>, StudyReminderBucketRepositoryCustom {
+
+    long countByPreferredStudyHour(Integer preferredStudyHour);
+
+    /**
+     * 특정 시간대 버킷의 활성 사용자 중 오늘 학습 미완료 + 활성 FCM 토큰 보유자를 한 번의 집계로 조회
+     */
+    @Aggregation(pipeline = {
+        "{ $match: { preferredStudyHour: ?0 } }",
+        "{ $lookup: { from: 'userStudyReports', localField: 'userId', foreignField: 'userId', as: 'report' } }",
+        "{ $unwind: '$report' }",
+        "{ $match: { 'report.currentStreak': { $gt: 0 } } }",
+        """
+        {
+            $lookup: {
+                from: 'dailyCompletions',
+                localField: 'userId',
+                foreignField: 'userId',
+                pipeline: [
+                    { $match: { completionDate: ?1 } },
+                    { $limit: 1 },
+                    { $project: { _id: 1 } }
+                ],
+                as: 'todayCompletion'
+            }
+        }
+        """,
+        "{ $match: { todayCompletion: { $size: 0 } } }",
+        """
+        {
+            $lookup: {
+                from: 'fcmTokens',
+                localField: 'userId',
+                foreignField: 'userId',
+                pipeline: [
+                    { $match: { isActive: true } },
+                    { $project: { _id: 0, userId: 1, fcmToken: 1, countryCode: 1 } }
+                ],
+                as: 'tokens'
+            }
+        }
+        """,
+        "{ $match: { 'tokens.0': { $exists: true } } }",
+        "{ $project: { _id: 0, userId: 1, currentStreak: '$report.currentStreak', tokens: 1 } }"
+    })
+    List<ReminderTarget> findReminderTargets(Integer preferredStudyHour, LocalDate today);
+}
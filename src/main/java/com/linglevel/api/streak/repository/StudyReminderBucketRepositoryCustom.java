@@ -0,0 +1,8 @@
+package com.linglevel.api.streak.repository;
+
+public interface StudyReminderBucketRepositoryCustom {
+
+    void assignHour(String userId, Integer preferredStudyHour);
+
+    void syncFromStudyReports();
+}
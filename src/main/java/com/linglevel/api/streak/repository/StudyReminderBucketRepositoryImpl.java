@@ -0,0 +1,52 @@
+package com.linglevel.api.streak.repository;
+
+import com.linglevel.api.streak.entity.StudyReminderBucket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+
+@RequiredArgsConstructor
+public class StudyReminderBucketRepositoryImpl implements StudyReminderBucketRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 사용자의 버킷을 지정한 시간대로 이동 (없으면 생성)
+     */
+    @Override
+    public void assignHour(String userId, Integer preferredStudyHour) {
+        Query query = new Query(Criteria.where("userId").is(userId));
+        Update update = new Update()
+                .set("preferredStudyHour", preferredStudyHour)
+                .set("updatedAt", Instant.now());
+        mongoTemplate.upsert(query, update, StudyReminderBucket.class);
+    }
+
+    /**
+     * userStudyReports의 preferredStudyHour를 서버 측 $merge로 버킷 컬렉션에 일괄 반영
+     * 증분 갱신에서 누락된 사용자(기존 데이터 포함)를 보정하기 위한 용도입니다.
+     */
+    @Override
+    public void syncFromStudyReports() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("preferredStudyHour").ne(null)),
+                Aggregation.project("userId", "preferredStudyHour")
+                        .and("preferredStudyHourUpdatedAt").as("updatedAt")
+                        .andExclude("_id"),
+                Aggregation.merge()
+                        .intoCollection("studyReminderBuckets")
+                        .on("userId")
+                        .whenMatched(MergeOperation.WhenDocumentsMatch.mergeDocuments())
+                        .whenDocumentsDontMatch(MergeOperation.WhenDocumentsDontMatch.insertNewDocument())
+                        .build()
+        );
+
+        mongoTemplate.aggregate(aggregation, "userStudyReports", org.bson.Document.class);
+    }
+}
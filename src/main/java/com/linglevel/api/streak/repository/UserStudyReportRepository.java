@@ -8,11 +8,9 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
-public interface UserStudyReportRepository extends MongoRepository<UserStudyReport, String> {
+public interface UserStudyReportRepository extends MongoRepository<UserStudyReport, String>, UserStudyReportRepositoryCustom {
     Optional<UserStudyReport> findByUserId(String userId);
 
-    long countByCurrentStreakGreaterThanEqual(int currentStreak);
-
     List<UserStudyReport> findByCurrentStreakGreaterThan(int currentStreak);
 
     /**
@@ -0,0 +1,8 @@
+package com.linglevel.api.streak.repository;
+
+import java.util.Map;
+
+public interface UserStudyReportRepositoryCustom {
+
+    Map<Integer, Long> countUsersByCurrentStreak();
+}
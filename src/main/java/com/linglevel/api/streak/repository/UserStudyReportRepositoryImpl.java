@@ -0,0 +1,33 @@
+package com.linglevel.api.streak.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class UserStudyReportRepositoryImpl implements UserStudyReportRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * currentStreak 값별 사용자 수 (currentStreak가 없으면 0으로 집계)
+     */
+    @Override
+    public Map<Integer, Long> countUsersByCurrentStreak() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.group("currentStreak").count().as("count")
+        );
+
+        Map<Integer, Long> counts = new HashMap<>();
+        for (Document document : mongoTemplate.aggregate(aggregation, "userStudyReports", Document.class)) {
+            Object streak = document.get("_id");
+            int currentStreak = streak instanceof Number number ? number.intValue() : 0;
+            counts.merge(currentStreak, ((Number) document.get("count")).longValue(), Long::sum);
+        }
+        return counts;
+    }
+}
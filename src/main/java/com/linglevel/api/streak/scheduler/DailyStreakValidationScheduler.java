@@ -1,8 +1,6 @@
 package com.linglevel.api.streak.scheduler;
 
-import com.linglevel.api.streak.entity.UserStudyReport;
-import com.linglevel.api.streak.repository.UserStudyReportRepository;
-import com.linglevel.api.streak.service.StreakService;
+import com.linglevel.api.streak.service.StreakValidationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,8 +9,6 @@ import org.springframework.stereotype.Component;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.time.temporal.ChronoUnit;
-import java.util.List;
 
 /**
  * 매일 자정(KST)에 실행되어 스트릭 검증 및 프리즈 자동 소모를 처리하는 배치 작업
@@ -22,14 +18,15 @@ import java.util.List;
  * 2. 프리즈 자동 소모 (있는 경우)
  * 3. 프리즈 없으면 스트릭 리셋
  * 4. FreezeTransaction 기록
+ *
+ * 실제 처리는 {@link StreakValidationService}가 커서 페이지 단위로 병렬 수행합니다.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class DailyStreakValidationScheduler {
 
-    private final UserStudyReportRepository userStudyReportRepository;
-    private final StreakService streakService;
+    private final StreakValidationService streakValidationService;
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
@@ -41,54 +38,18 @@ public class DailyStreakValidationScheduler {
 
         log.info("[Streak Validation] Starting daily streak validation for date: {}", yesterday);
 
-        int processedCount = 0;
-        int freezeUsedCount = 0;
-        int streakResetCount = 0;
-        int maintainedCount = 0;
-
         try {
-            List<UserStudyReport> activeReports = userStudyReportRepository
-                    .findByCurrentStreakGreaterThan(0);
-
-            log.info("[Streak Validation] Found {} active users with streak > 0", activeReports.size());
-
-            for (UserStudyReport report : activeReports) {
-                try {
-                    processedCount++;
-
-                    boolean wasReset = streakService.processMissedDays(report, today);
-
-                    if (wasReset) {
-                        streakResetCount++;
-                    } else {
-                        // 스트릭 유지됨 (어제 완료 또는 프리즈 소진)
-                        long daysSinceLastCompletion = ChronoUnit.DAYS.between(
-                                report.getLastCompletionDate(), today);
-
-                        if (daysSinceLastCompletion == 1) {
-                            maintainedCount++;
-                        } else if (daysSinceLastCompletion > 1) {
-                            freezeUsedCount++;
-                        }
-                    }
-
-                    report.setUpdatedAt(Instant.now());
-                    userStudyReportRepository.save(report);
-
-                } catch (Exception e) {
-                    log.error("[Streak Validation] Failed to process user: {}", report.getUserId(), e);
-                }
-            }
+            StreakValidationService.ValidationResult result = streakValidationService.validate(today);
 
             Instant endTime = Instant.now();
             long durationMillis = java.time.Duration.between(startTime, endTime).toMillis();
 
-            log.info("[Streak Validation] Completed. Processed: {}, Maintained: {}, Freeze Used: {}, Reset: {}, Duration: {}ms",
-                    processedCount, maintainedCount, freezeUsedCount, streakResetCount, durationMillis);
+            log.info("[Streak Validation] Completed. Processed: {}, Maintained: {}, Freeze Used: {}, Reset: {}, Failed: {}, Duration: {}ms",
+                    result.getProcessed().get(), result.getMaintained().get(), result.getFreezeUsed().get(),
+                    result.getReset().get(), result.getFailed().get(), durationMillis);
 
         } catch (Exception e) {
-            log.error("[Streak Validation] Critical error during streak validation. Processed: {}, Freeze Used: {}, Reset: {}",
-                    processedCount, freezeUsedCount, streakResetCount, e);
+            log.error("[Streak Validation] Critical error during streak validation", e);
         }
     }
 }
@@ -1,15 +1,18 @@
 package com.linglevel.api.streak.scheduler;
 
-import com.google.firebase.messaging.BatchResponse;
 import com.linglevel.api.fcm.dto.FcmMessageRequest;
+import com.linglevel.api.fcm.dto.PushDispatchResult;
+import com.linglevel.api.fcm.dto.PushRecipient;
 import com.linglevel.api.fcm.entity.FcmToken;
-import com.linglevel.api.fcm.repository.FcmTokenRepository;
-import com.linglevel.api.fcm.service.FcmMessagingService;
+import com.linglevel.api.fcm.service.PushDispatchService;
 import com.linglevel.api.i18n.CountryCode;
 import com.linglevel.api.i18n.LanguageCode;
+import com.linglevel.api.streak.dto.ReminderTarget;
+import com.linglevel.api.streak.entity.DailyCompletion;
 import com.linglevel.api.streak.entity.StreakReminderMessage;
 import com.linglevel.api.streak.entity.UserStudyReport;
 import com.linglevel.api.streak.repository.DailyCompletionRepository;
+import com.linglevel.api.streak.repository.StudyReminderBucketRepository;
 import com.linglevel.api.streak.repository.UserStudyReportRepository;
 import com.linglevel.api.streak.service.StudyTimeAnalysisService;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +26,9 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -33,10 +38,9 @@ public class LearningEncouragementScheduler {
 
     private final UserStudyReportRepository userStudyReportRepository;
     private final DailyCompletionRepository dailyCompletionRepository;
-    private final FcmTokenRepository fcmTokenRepository;
-    private final FcmMessagingService fcmMessagingService;
+    private final StudyReminderBucketRepository studyReminderBucketRepository;
+    private final PushDispatchService pushDispatchService;
     private final StudyTimeAnalysisService studyTimeAnalysisService;
-    private final com.linglevel.api.fcm.service.FcmTokenService fcmTokenService;
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     private static final String NOTIFICATION_TYPE = "learning_encouragement";
@@ -65,104 +69,80 @@ public class LearningEncouragementScheduler {
         LocalDate today = LocalDate.now(KST);
         log.info("[Learning Encouragement] Starting at {} (KST {}:00)", startTime, currentHour);
 
-        int activeUserCount = 0;
+        int activeBucketUsers = 0;
+        int activeDueUsers = 0;
         int churnedUserCount = 0;
-        int usersMatchingTime = 0;
-        int usersWithoutCompletion = 0;
-        int usersWithTokens = 0;
+        int churnedMatchingTime = 0;
+        int churnedWithoutCompletion = 0;
+        int churnedWithTokens = 0;
         int notificationsSent = 0;
         int notificationsFailed = 0;
 
         try {
             // 1. 활성 유저 알림 처리
             int[] activeResults = processActiveUsers(today, currentHour);
-            activeUserCount = activeResults[0];
-            usersMatchingTime += activeResults[1];
-            usersWithoutCompletion += activeResults[2];
-            usersWithTokens += activeResults[3];
-            notificationsSent += activeResults[4];
-            notificationsFailed += activeResults[5];
+            activeBucketUsers = activeResults[0];
+            activeDueUsers = activeResults[1];
+            notificationsSent += activeResults[2];
+            notificationsFailed += activeResults[3];
 
             // 2. 이탈 유저 복귀 알림 처리 (Day 1-4)
             int[] churnedResults = processChurnedUsers(today, currentHour, startTime);
             churnedUserCount = churnedResults[0];
-            usersMatchingTime += churnedResults[1];
-            usersWithoutCompletion += churnedResults[2];
-            usersWithTokens += churnedResults[3];
+            churnedMatchingTime = churnedResults[1];
+            churnedWithoutCompletion = churnedResults[2];
+            churnedWithTokens = churnedResults[3];
             notificationsSent += churnedResults[4];
             notificationsFailed += churnedResults[5];
 
             Instant endTime = Instant.now();
             long durationMillis = Duration.between(startTime, endTime).toMillis();
 
-            log.info("[Learning Encouragement] Completed. Active: {}, Churned: {}, Matching Time: {}, " +
-                            "Without Completion: {}, With Tokens: {}, Sent: {}, Failed: {}, Duration: {}ms",
-                    activeUserCount, churnedUserCount, usersMatchingTime, usersWithoutCompletion, usersWithTokens,
-                    notificationsSent, notificationsFailed, durationMillis);
+            log.info("[Learning Encouragement] Completed. Active - In Bucket: {}, Due: {} | " +
+                            "Churned - Candidates: {}, Matching Time: {}, Without Completion: {}, With Tokens: {} | " +
+                            "Sent: {}, Failed: {}, Duration: {}ms",
+                    activeBucketUsers, activeDueUsers, churnedUserCount, churnedMatchingTime, churnedWithoutCompletion,
+                    churnedWithTokens, notificationsSent, notificationsFailed, durationMillis);
 
         } catch (Exception e) {
-            log.error("[Learning Encouragement] Critical error. " +
-                            "Active: {}, Churned: {}, Matching Time: {}, Without Completion: {}, With Tokens: {}, " +
+            log.error("[Learning Encouragement] Critical error. Active - In Bucket: {}, Due: {} | " +
+                            "Churned - Candidates: {}, Matching Time: {}, Without Completion: {}, With Tokens: {} | " +
                             "Sent: {}, Failed: {}",
-                    activeUserCount, churnedUserCount, usersMatchingTime, usersWithoutCompletion, usersWithTokens,
-                    notificationsSent, notificationsFailed, e);
+                    activeBucketUsers, activeDueUsers, churnedUserCount, churnedMatchingTime, churnedWithoutCompletion,
+                    churnedWithTokens, notificationsSent, notificationsFailed, e);
         }
     }
 
     /**
      * 활성 유저 알림 처리
-     * @return [candidateUsers, usersMatchingTime, usersWithoutCompletion, usersWithTokens, notificationsSent, notificationsFailed]
+     * 선호 학습 시간 버킷(studyReminderBuckets)에서 현재 시간대 사용자만 조회합니다.
+     * 오늘 미완료/토큰 보유 여부는 한 번의 집계에서 함께 걸러지므로 단계별 인원은 따로 집계하지 않습니다.
+     * @return [usersInBucket, dueUsers, notificationsSent, notificationsFailed]
      */
-    private int[] processActiveUsers(LocalDate today, int currentHour) {
-        int candidateUsers = 0;
-        int usersMatchingTime = 0;
-        int usersWithoutCompletion = 0;
-        int usersWithTokens = 0;
+    int[] processActiveUsers(LocalDate today, int currentHour) {
+        int usersInBucket = 0;
+        int dueUsers = 0;
         int notificationsSent = 0;
         int notificationsFailed = 0;
 
         try {
-            // 1. 활성 유저 조회 (currentStreak > 0)
-            List<UserStudyReport> activeUsers = userStudyReportRepository.findByCurrentStreakGreaterThan(0);
-            candidateUsers = activeUsers.size();
-
-            log.debug("[Learning Encouragement - Active] Found {} active users", candidateUsers);
+            // 1. 현재 시간대 버킷 사용자 수 (인덱스 카운트)
+            // 첫 학습 시 버킷이 배정되고 새벽 배치에서 재계산되므로 여기서 사용자 전체를 스캔하지 않음
+            usersInBucket = (int) studyReminderBucketRepository.countByPreferredStudyHour(currentHour);
 
-            // 2. 평소 학습 시간이 현재 시각과 일치하는 사용자 필터링
-            for (UserStudyReport report : activeUsers) {
-                String userId = report.getUserId();
-
-                // 2-1. 평소 학습 시간 확인 (DB에서 조회)
-                Optional<Integer> usualStudyHour = studyTimeAnalysisService.getPreferredStudyHour(userId);
-                if (usualStudyHour.isEmpty() || usualStudyHour.get() != currentHour) {
-                    continue;
-                }
-                usersMatchingTime++;
-
-                // 2-2. 오늘 학습 완료 여부 확인
-                boolean hasCompletedToday = dailyCompletionRepository
-                        .existsByUserIdAndCompletionDate(userId, today);
-                if (hasCompletedToday) {
-                    continue;
-                }
-                usersWithoutCompletion++;
-
-                // 2-3. FCM 토큰 조회
-                List<FcmToken> tokens = fcmTokenRepository.findByUserIdAndIsActive(userId, true);
-                if (tokens.isEmpty()) {
-                    log.debug("[Learning Encouragement] No active FCM tokens for user: {}", userId);
-                    continue;
-                }
-                usersWithTokens++;
+            // 2. 현재 시간대 + 활성 스트릭 + 오늘 미완료 + 활성 토큰 보유 사용자를 한 번의 집계로 조회
+            List<ReminderTarget> targets = studyReminderBucketRepository.findReminderTargets(currentHour, today);
+            dueUsers = targets.size();
 
-                List<String> fcmTokens = tokens.stream()
-                        .map(FcmToken::getFcmToken)
-                        .collect(Collectors.toList());
+            log.debug("[Learning Encouragement - Active] {} users in bucket {}:00, {} due for reminder",
+                    usersInBucket, currentHour, dueUsers);
 
-                // 2-4. 언어 결정
-                LanguageCode languageCode = determineLanguageFromTokens(tokens);
+            List<PushRecipient> recipients = new ArrayList<>();
+            for (ReminderTarget target : targets) {
+                // 2-1. 언어 결정
+                LanguageCode languageCode = determineLanguageFromTokens(target.getTokens());
 
-                // 2-5. 학습 권장 메시지 생성
+                // 2-2. 학습 권장 메시지 생성
                 StreakReminderMessage.Message message = StreakReminderMessage.LEARNING_ENCOURAGEMENT
                         .getRandomMessage(languageCode);
 
@@ -174,44 +154,18 @@ public class LearningEncouragementScheduler {
                         .action("open_app")
                         .build();
 
-                // 2-6. 알림 전송
-                try {
-                    if (fcmTokens.size() == 1) {
-                        fcmMessagingService.sendMessage(fcmTokens.get(0), messageRequest);
-                        notificationsSent++;
-                        log.debug("[Learning Encouragement - Active] Sent to user: {} (lang: {}, hour: {})",
-                                userId, languageCode, currentHour);
-                    } else {
-                        BatchResponse response = fcmMessagingService.sendMulticastMessage(fcmTokens, messageRequest);
-
-                        for (int i = 0; i < response.getResponses().size(); i++) {
-                            if (response.getResponses().get(i).isSuccessful()) {
-                                notificationsSent++;
-                            } else {
-                                notificationsFailed++;
-                                String failedToken = fcmTokens.get(i);
-                                log.warn("[Learning Encouragement] Failed to send to user: {}, token error: {}",
-                                        userId, response.getResponses().get(i).getException().getMessage());
-                                fcmTokenService.deactivateToken(failedToken);
-                            }
-                        }
-
-                        log.debug("[Learning Encouragement] Multicast to user: {} - Success: {}, Failed: {}",
-                                userId, response.getSuccessCount(), response.getFailureCount());
-                    }
-                } catch (Exception e) {
-                    notificationsFailed += fcmTokens.size();
-                    log.error("[Learning Encouragement - Active] Failed to send notification to user: {}", userId, e);
-                    if (e instanceof com.linglevel.api.fcm.exception.FcmException) {
-                        fcmTokens.forEach(fcmTokenService::deactivateToken);
-                    }
-                }
+                recipients.add(new PushRecipient(target.getUserId(), target.getTokens(), messageRequest));
             }
+
+            // 3. 공용 파이프라인으로 일괄 전송
+            PushDispatchResult result = pushDispatchService.dispatch(recipients);
+            notificationsSent = result.getSentCount();
+            notificationsFailed = result.getFailedCount();
         } catch (Exception e) {
             log.error("[Learning Encouragement - Active] Error processing active users", e);
         }
 
-        return new int[]{candidateUsers, usersMatchingTime, usersWithoutCompletion, usersWithTokens, notificationsSent, notificationsFailed};
+        return new int[]{usersInBucket, dueUsers, notificationsSent, notificationsFailed};
     }
 
     /**
@@ -250,37 +204,50 @@ public class LearningEncouragementScheduler {
                 return new int[]{0, 0, 0, 0, 0, 0};
             }
 
-            // 각 이탈 유저에 대해 처리
+            // 1. 평소 학습 시간 확인 (리포트에 저장된 값 우선, 없으면 계산)
+            List<UserStudyReport> matchingUsers = new ArrayList<>();
             for (UserStudyReport report : allChurnedCandidates) {
-                String userId = report.getUserId();
-
-                // 1. 평소 학습 시간 확인 (DB에서 조회)
-                Optional<Integer> usualStudyHour = studyTimeAnalysisService.getPreferredStudyHour(userId);
-                if (usualStudyHour.isEmpty() || usualStudyHour.get() != currentHour) {
-                    continue;
+                Optional<Integer> usualStudyHour = report.getPreferredStudyHour() != null
+                        ? Optional.of(report.getPreferredStudyHour())
+                        : studyTimeAnalysisService.getPreferredStudyHour(report.getUserId());
+                if (usualStudyHour.isPresent() && usualStudyHour.get() == currentHour) {
+                    matchingUsers.add(report);
                 }
-                usersMatchingTime++;
+            }
+            usersMatchingTime = matchingUsers.size();
 
-                // 2. 오늘 학습 완료 여부 확인 (복귀했으면 스킵)
-                boolean hasCompletedToday = dailyCompletionRepository
-                        .existsByUserIdAndCompletionDate(userId, today);
-                if (hasCompletedToday) {
-                    continue;
-                }
-                usersWithoutCompletion++;
+            if (matchingUsers.isEmpty()) {
+                return new int[]{candidateUsers, 0, 0, 0, 0, 0};
+            }
 
-                // 3. FCM 토큰 조회
-                List<FcmToken> tokens = fcmTokenRepository.findByUserIdAndIsActive(userId, true);
+            // 2. 오늘 학습 완료 여부 확인 (복귀했으면 스킵)
+            List<String> matchingUserIds = matchingUsers.stream()
+                    .map(UserStudyReport::getUserId)
+                    .collect(Collectors.toList());
+            Set<String> completedToday = dailyCompletionRepository
+                    .findByUserIdInAndCompletionDate(matchingUserIds, today).stream()
+                    .map(DailyCompletion::getUserId)
+                    .collect(Collectors.toSet());
+
+            List<UserStudyReport> pendingUsers = matchingUsers.stream()
+                    .filter(report -> !completedToday.contains(report.getUserId()))
+                    .collect(Collectors.toList());
+            usersWithoutCompletion = pendingUsers.size();
+
+            // 3. FCM 토큰 일괄 조회
+            Map<String, List<FcmToken>> tokensByUser = pushDispatchService.resolveActiveTokens(
+                    pendingUsers.stream().map(UserStudyReport::getUserId).collect(Collectors.toList()));
+
+            List<PushRecipient> recipients = new ArrayList<>();
+            for (UserStudyReport report : pendingUsers) {
+                String userId = report.getUserId();
+                List<FcmToken> tokens = tokensByUser.getOrDefault(userId, List.of());
                 if (tokens.isEmpty()) {
                     log.debug("[Learning Encouragement - Churned] No active FCM tokens for user: {}", userId);
                     continue;
                 }
                 usersWithTokens++;
 
-                List<String> fcmTokens = tokens.stream()
-                        .map(FcmToken::getFcmToken)
-                        .collect(Collectors.toList());
-
                 // 4. 언어 결정
                 LanguageCode languageCode = determineLanguageFromTokens(tokens);
 
@@ -302,39 +269,13 @@ public class LearningEncouragementScheduler {
                         .action("open_app")
                         .build();
 
-                // 6. 알림 전송
-                try {
-                    if (fcmTokens.size() == 1) {
-                        fcmMessagingService.sendMessage(fcmTokens.get(0), messageRequest);
-                        notificationsSent++;
-                        log.debug("[Learning Encouragement - Churned] Sent to user: {} (lang: {}, type: {})",
-                                userId, languageCode, messageType);
-                    } else {
-                        BatchResponse response = fcmMessagingService.sendMulticastMessage(fcmTokens, messageRequest);
-
-                        for (int i = 0; i < response.getResponses().size(); i++) {
-                            if (response.getResponses().get(i).isSuccessful()) {
-                                notificationsSent++;
-                            } else {
-                                notificationsFailed++;
-                                String failedToken = fcmTokens.get(i);
-                                log.warn("[Learning Encouragement - Churned] Failed to send to user: {}, token error: {}",
-                                        userId, response.getResponses().get(i).getException().getMessage());
-                                fcmTokenService.deactivateToken(failedToken);
-                            }
-                        }
-
-                        log.debug("[Learning Encouragement - Churned] Multicast to user: {} - Success: {}, Failed: {}",
-                                userId, response.getSuccessCount(), response.getFailureCount());
-                    }
-                } catch (Exception e) {
-                    notificationsFailed += fcmTokens.size();
-                    log.error("[Learning Encouragement - Churned] Failed to send notification to user: {}", userId, e);
-                    if (e instanceof com.linglevel.api.fcm.exception.FcmException) {
-                        fcmTokens.forEach(fcmTokenService::deactivateToken);
-                    }
-                }
+                recipients.add(new PushRecipient(userId, tokens, messageRequest));
             }
+
+            // 6. 공용 파이프라인으로 일괄 전송
+            PushDispatchResult result = pushDispatchService.dispatch(recipients);
+            notificationsSent = result.getSentCount();
+            notificationsFailed = result.getFailedCount();
         } catch (Exception e) {
             log.error("[Learning Encouragement - Churned] Error processing churned users", e);
         }
@@ -1,6 +1,7 @@
 package com.linglevel.api.streak.scheduler;
 
 import com.linglevel.api.streak.entity.UserStudyReport;
+import com.linglevel.api.streak.repository.StudyReminderBucketRepository;
 import com.linglevel.api.streak.repository.UserStudyReportRepository;
 import com.linglevel.api.streak.service.StudyTimeAnalysisService;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,8 @@ import java.util.List;
 /**
  * 사용자의 선호 학습 시간(preferredStudyHour)을 주기적으로 재계산하는 스케줄러
  * 매일 새벽 3시에 실행하여 모든 활성 사용자의 학습 패턴을 업데이트합니다.
+ * 시간대 변경은 리마인더 버킷(studyReminderBuckets)에 즉시 반영되고,
+ * 배치 마지막에 버킷 전체를 userStudyReports 기준으로 한 번 더 동기화합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -23,6 +26,7 @@ public class PreferredStudyHourUpdateScheduler {
 
     private final UserStudyReportRepository userStudyReportRepository;
     private final StudyTimeAnalysisService studyTimeAnalysisService;
+    private final StudyReminderBucketRepository studyReminderBucketRepository;
 
     private static final int BATCH_SIZE = 100; // 한 번에 처리할 사용자 수
 
@@ -70,6 +74,8 @@ public class PreferredStudyHourUpdateScheduler {
                 }
             }
 
+            syncReminderBuckets();
+
             Instant endTime = Instant.now();
 
             log.info("[Preferred Study Hour Update] Completed. Total: {}, Updated: {}, Failed: {}, Duration: {}ms",
@@ -80,4 +86,13 @@ public class PreferredStudyHourUpdateScheduler {
                     totalUsers, updatedUsers, failedUsers, e);
         }
     }
+
+    private void syncReminderBuckets() {
+        try {
+            studyReminderBucketRepository.syncFromStudyReports();
+            log.info("[Preferred Study Hour Update] Reminder buckets synchronized");
+        } catch (Exception e) {
+            log.error("[Preferred Study Hour Update] Failed to synchronize reminder buckets", e);
+        }
+    }
 }
@@ -1,10 +1,10 @@
 package com.linglevel.api.streak.scheduler;
 
-import com.google.firebase.messaging.BatchResponse;
 import com.linglevel.api.fcm.dto.FcmMessageRequest;
+import com.linglevel.api.fcm.dto.PushDispatchResult;
+import com.linglevel.api.fcm.dto.PushRecipient;
 import com.linglevel.api.fcm.entity.FcmToken;
-import com.linglevel.api.fcm.repository.FcmTokenRepository;
-import com.linglevel.api.fcm.service.FcmMessagingService;
+import com.linglevel.api.fcm.service.PushDispatchService;
 import com.linglevel.api.i18n.CountryCode;
 import com.linglevel.api.i18n.LanguageCode;
 import com.linglevel.api.streak.entity.DailyCompletion;
@@ -25,7 +25,8 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -41,9 +42,7 @@ public class StreakProtectionScheduler {
     private final UserStudyReportRepository userStudyReportRepository;
     private final DailyCompletionRepository dailyCompletionRepository;
     private final FreezeTransactionRepository freezeTransactionRepository;
-    private final FcmTokenRepository fcmTokenRepository;
-    private final FcmMessagingService fcmMessagingService;
-    private final com.linglevel.api.fcm.service.FcmTokenService fcmTokenService;
+    private final PushDispatchService pushDispatchService;
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     private static final String NOTIFICATION_TYPE = "streak_protection";
@@ -73,83 +72,20 @@ public class StreakProtectionScheduler {
 
             log.info("[Streak Protection] Found {} active users with streak > 0", candidateUsers);
 
-            // 2. 오늘 학습 완료하지 않은 사용자 필터링 및 알림 전송
-            for (UserStudyReport report : activeUsers) {
-                String userId = report.getUserId();
-
-                // 2-1. 오늘 학습 완료 여부 확인
-                boolean hasCompletedToday = dailyCompletionRepository
-                        .existsByUserIdAndCompletionDate(userId, today);
-                if (hasCompletedToday) {
-                    continue; // 이미 학습 완료한 사용자는 스킵
-                }
-                usersWithoutCompletion++;
-
-                // 2-2. FCM 토큰 조회
-                List<FcmToken> tokens = fcmTokenRepository.findByUserIdAndIsActive(userId, true);
-                if (tokens.isEmpty()) {
-                    log.debug("[Streak Protection] No active FCM tokens for user: {}", userId);
-                    continue;
-                }
-                usersWithTokens++;
-
-                List<String> fcmTokens = tokens.stream()
-                        .map(FcmToken::getFcmToken)
-                        .collect(Collectors.toList());
-
-                // 2-3. 언어 결정
-                LanguageCode languageCode = determineLanguageFromTokens(tokens);
-
-                // 2-4. 어제 프리즈 사용 여부 확인
-                boolean usedFreezeYesterday = checkIfFreezeUsedYesterday(userId, today);
-
-                // 2-5. 메시지 타입 결정 (프리즈 사용 여부에 따라)
-                StreakReminderMessage messageType = usedFreezeYesterday
-                        ? StreakReminderMessage.STREAK_SAVED_BY_FREEZE
-                        : StreakReminderMessage.STREAK_PROTECTION;
-
-                StreakReminderMessage.Message message = messageType.getRandomMessage(languageCode);
-                String body = String.format(message.getBodyFormat(), report.getCurrentStreak());
-
-                FcmMessageRequest messageRequest = FcmMessageRequest.builder()
-                        .title(message.getTitle())
-                        .body(body)
-                        .type(NOTIFICATION_TYPE)
-                        .campaignId(CAMPAIGN_ID)
-                        .action("open_app")
-                        .build();
-
-                // 2-5. 알림 전송
-                try {
-                    if (fcmTokens.size() == 1) {
-                        fcmMessagingService.sendMessage(fcmTokens.get(0), messageRequest);
-                        notificationsSent++;
-                        log.debug("[Streak Protection] Sent to user: {} (streak: {}, lang: {}, type: {})",
-                                userId, report.getCurrentStreak(), languageCode, messageType);
-                    } else {
-                        BatchResponse response = fcmMessagingService.sendMulticastMessage(fcmTokens, messageRequest);
-
-                        for (int i = 0; i < response.getResponses().size(); i++) {
-                            if (response.getResponses().get(i).isSuccessful()) {
-                                notificationsSent++;
-                            } else {
-                                notificationsFailed++;
-                                String failedToken = fcmTokens.get(i);
-                                log.warn("[Streak Protection] Failed to send to user: {}, token error: {}",
-                                        userId, response.getResponses().get(i).getException().getMessage());
-                                fcmTokenService.deactivateToken(failedToken);
-                            }
-                        }
-
-                        log.debug("[Streak Protection] Multicast to user: {} - Success: {}, Failed: {}",
-                                userId, response.getSuccessCount(), response.getFailureCount());
-                    }
-                } catch (Exception e) {
-                    notificationsFailed++;
-                    log.warn("[Streak Protection] Failed to send notification to user: {}", userId, e);
-                }
+            // 2. BATCH_SIZE 단위로 완료 여부/프리즈/토큰을 한 번에 조회하여 수신자 목록 생성
+            List<PushRecipient> recipients = new ArrayList<>();
+            for (int from = 0; from < activeUsers.size(); from += BATCH_SIZE) {
+                List<UserStudyReport> batch = activeUsers.subList(from, Math.min(from + BATCH_SIZE, activeUsers.size()));
+                int[] counts = collectRecipients(batch, today, recipients);
+                usersWithoutCompletion += counts[0];
+                usersWithTokens += counts[1];
             }
 
+            // 3. 공용 파이프라인으로 일괄 전송
+            PushDispatchResult result = pushDispatchService.dispatch(recipients);
+            notificationsSent = result.getSentCount();
+            notificationsFailed = result.getFailedCount();
+
             long durationMillis = Duration.between(startTime, Instant.now()).toMillis();
 
             log.info("[Streak Protection] Completed. Candidates: {}, Without completion: {}, With tokens: {}, " +
@@ -164,18 +100,80 @@ public class StreakProtectionScheduler {
     }
 
     /**
-     * 어제 프리즈가 사용되었는지 확인합니다.
+     * 사용자 배치에 대해 오늘 미완료 + 활성 토큰 보유 사용자의 알림 수신자를 생성합니다.
+     * @return [usersWithoutCompletion, usersWithTokens]
+     */
+    private int[] collectRecipients(List<UserStudyReport> batch, LocalDate today, List<PushRecipient> recipients) {
+        List<String> userIds = batch.stream()
+                .map(UserStudyReport::getUserId)
+                .collect(Collectors.toList());
+
+        // 1. 오늘 학습 완료한 사용자 제외
+        Set<String> completedToday = dailyCompletionRepository.findByUserIdInAndCompletionDate(userIds, today).stream()
+                .map(DailyCompletion::getUserId)
+                .collect(Collectors.toSet());
+
+        List<UserStudyReport> pending = batch.stream()
+                .filter(report -> !completedToday.contains(report.getUserId()))
+                .collect(Collectors.toList());
+        if (pending.isEmpty()) {
+            return new int[]{0, 0};
+        }
+
+        List<String> pendingUserIds = pending.stream()
+                .map(UserStudyReport::getUserId)
+                .collect(Collectors.toList());
+
+        // 2. FCM 토큰과 어제 프리즈 사용 여부 조회
+        Map<String, List<FcmToken>> tokensByUser = pushDispatchService.resolveActiveTokens(pendingUserIds);
+        Set<String> usedFreezeYesterday = findUsersWhoUsedFreezeYesterday(pendingUserIds, today);
+
+        int usersWithTokens = 0;
+        for (UserStudyReport report : pending) {
+            String userId = report.getUserId();
+            List<FcmToken> tokens = tokensByUser.getOrDefault(userId, List.of());
+            if (tokens.isEmpty()) {
+                log.debug("[Streak Protection] No active FCM tokens for user: {}", userId);
+                continue;
+            }
+            usersWithTokens++;
+
+            // 3. 언어 및 메시지 타입 결정 (프리즈 사용 여부에 따라)
+            LanguageCode languageCode = determineLanguageFromTokens(tokens);
+            StreakReminderMessage messageType = usedFreezeYesterday.contains(userId)
+                    ? StreakReminderMessage.STREAK_SAVED_BY_FREEZE
+                    : StreakReminderMessage.STREAK_PROTECTION;
+
+            StreakReminderMessage.Message message = messageType.getRandomMessage(languageCode);
+            String body = String.format(message.getBodyFormat(), report.getCurrentStreak());
+
+            FcmMessageRequest messageRequest = FcmMessageRequest.builder()
+                    .title(message.getTitle())
+                    .body(body)
+                    .type(NOTIFICATION_TYPE)
+                    .campaignId(CAMPAIGN_ID)
+                    .action("open_app")
+                    .build();
+
+            recipients.add(new PushRecipient(userId, tokens, messageRequest));
+        }
+
+        return new int[]{pending.size(), usersWithTokens};
+    }
+
+    /**
+     * 어제 프리즈를 사용한 사용자 ID를 조회합니다.
      * 어제 날짜(00:00 ~ 23:59)에 amount가 -1인 트랜잭션이 있으면 프리즈 사용됨
      */
-    private boolean checkIfFreezeUsedYesterday(String userId, LocalDate today) {
+    private Set<String> findUsersWhoUsedFreezeYesterday(List<String> userIds, LocalDate today) {
         LocalDate yesterday = today.minusDays(1);
         Instant yesterdayStart = yesterday.atStartOfDay(KST).toInstant();
         Instant yesterdayEnd = today.atStartOfDay(KST).toInstant();
 
-        List<FreezeTransaction> transactions = freezeTransactionRepository
-                .findByUserIdAndAmountAndCreatedAtBetween(userId, -1, yesterdayStart, yesterdayEnd);
-
-        return !transactions.isEmpty();
+        return freezeTransactionRepository
+                .findByUserIdInAndAmountAndCreatedAtBetween(userIds, -1, yesterdayStart, yesterdayEnd).stream()
+                .map(FreezeTransaction::getUserId)
+                .collect(Collectors.toSet());
     }
 
     /**
@@ -0,0 +1,79 @@
+package com.linglevel.api.streak.service;
+
+import com.linglevel.api.streak.entity.DailyCompletion;
+import com.linglevel.api.streak.entity.StreakStatus;
+import com.linglevel.api.streak.entity.UserStudyReport;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 누락일 처리 규칙
+ * DB에 접근하지 않고 어떤 날짜에 프리즈를 소모할지, 스트릭이 리셋되는지만 계산합니다.
+ * 실제 기록은 호출 측({@link StreakService}, {@link StreakValidationService})이 결과에 따라 수행합니다.
+ */
+@Getter
+final class MissedDaysPlan {
+
+    private static final MissedDaysPlan NO_GAP = new MissedDaysPlan(0, List.of(), false);
+
+    private final int daysMissed;
+    private final List<LocalDate> frozenDates;
+    private final boolean reset;
+
+    private MissedDaysPlan(int daysMissed, List<LocalDate> frozenDates, boolean reset) {
+        this.daysMissed = daysMissed;
+        this.frozenDates = frozenDates;
+        this.reset = reset;
+    }
+
+    /**
+     * 마지막 완료일 다음 날부터 어제까지 누락일마다 프리즈를 소모하고, 부족하면 그 시점에 리셋
+     *
+     * @param alreadyFrozen 이미 프리즈 처리된 날짜인지 여부 (해당 날짜는 다시 소모하지 않음)
+     */
+    static MissedDaysPlan plan(UserStudyReport report, LocalDate today, Predicate<LocalDate> alreadyFrozen) {
+        if (report.getLastCompletionDate() == null) {
+            return NO_GAP;
+        }
+
+        long daysSinceLastCompletion = ChronoUnit.DAYS.between(report.getLastCompletionDate(), today);
+        if (daysSinceLastCompletion <= 1) {
+            return NO_GAP;
+        }
+
+        int daysMissed = (int) daysSinceLastCompletion - 1;
+        List<LocalDate> frozenDates = new ArrayList<>();
+
+        for (int i = 1; i <= daysMissed; i++) {
+            LocalDate missedDate = report.getLastCompletionDate().plusDays(i);
+
+            if (alreadyFrozen.test(missedDate)) {
+                continue;
+            }
+
+            if (frozenDates.size() < report.getAvailableFreezes()) {
+                frozenDates.add(missedDate);
+            } else {
+                return new MissedDaysPlan(daysMissed, frozenDates, true);
+            }
+        }
+
+        return new MissedDaysPlan(daysMissed, frozenDates, false);
+    }
+
+    /**
+     * FREEZE_USED 상태의 DailyCompletion이 있으면 이미 프리즈 처리된 날짜
+     */
+    static boolean isFreezeProcessed(DailyCompletion completion) {
+        return completion != null && completion.getStreakStatus() == StreakStatus.FREEZE_USED;
+    }
+
+    boolean hasGap() {
+        return daysMissed > 0;
+    }
+}
@@ -0,0 +1,75 @@
+package com.linglevel.api.streak.service;
+
+import com.linglevel.api.streak.repository.UserStudyReportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * currentStreak 상위 백분위 계산용 분포표 (프로세스 내)
+ * 요청마다 전체 컬렉션을 count하지 않도록 주기적으로 streak별 사용자 수를 한 번 집계해 둡니다.
+ * 분포는 refresh-ms 주기만큼 늦게 반영될 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StreakPercentileTable {
+
+    private final UserStudyReportRepository userStudyReportRepository;
+
+    private volatile Distribution distribution;
+
+    @Scheduled(fixedDelayString = "${streak.percentile.refresh-ms:600000}")
+    public void refresh() {
+        try {
+            Map<Integer, Long> counts = userStudyReportRepository.countUsersByCurrentStreak();
+
+            NavigableMap<Integer, Long> atLeast = new TreeMap<>();
+            long cumulative = 0;
+            for (Map.Entry<Integer, Long> entry : new TreeMap<>(counts).descendingMap().entrySet()) {
+                cumulative += entry.getValue();
+                atLeast.put(entry.getKey(), cumulative);
+            }
+
+            this.distribution = new Distribution(atLeast, cumulative);
+            log.debug("Streak percentile table refreshed: {} users, {} distinct streaks", cumulative, atLeast.size());
+        } catch (Exception e) {
+            log.warn("Failed to refresh streak percentile table", e);
+        }
+    }
+
+    /**
+     * 상위 몇 % (같거나 높은 streak를 가진 사용자 비율, 소수점 첫째 자리)
+     */
+    public double percentile(int currentStreak) {
+        if (currentStreak == 0) {
+            return 0.0;
+        }
+
+        if (distribution == null) {
+            refresh();
+        }
+        Distribution current = distribution;
+        if (current == null || current.totalUsers() <= 1) {
+            return 100.0;
+        }
+
+        Map.Entry<Integer, Long> entry = current.usersAtLeast().ceilingEntry(currentStreak);
+        // 집계 이후 streak가 새 최고치가 된 사용자도 최소 본인은 포함
+        long usersWithHigherOrEqualStreak = Math.max(1, entry != null ? entry.getValue() : 0);
+
+        double percentile = ((double) usersWithHigherOrEqualStreak / current.totalUsers()) * 100;
+        return Math.round(percentile * 10.0) / 10.0;
+    }
+
+    /**
+     * @param usersAtLeast streak → streak 이상인 사용자 수
+     */
+    private record Distribution(NavigableMap<Integer, Long> usersAtLeast, long totalUsers) {
+    }
+}
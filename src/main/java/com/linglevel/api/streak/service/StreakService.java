@@ -6,6 +6,7 @@ import com.linglevel.api.streak.dto.*;
 import com.linglevel.api.streak.entity.*;
 import com.linglevel.api.streak.repository.DailyCompletionRepository;
 import com.linglevel.api.streak.repository.FreezeTransactionRepository;
+import com.linglevel.api.streak.repository.StudyReminderBucketRepository;
 import com.linglevel.api.streak.repository.UserStudyReportRepository;
 import com.linglevel.api.user.ticket.entity.TicketTransaction;
 import com.linglevel.api.user.ticket.repository.TicketTransactionRepository;
@@ -42,9 +43,50 @@ public class StreakService {
     private final FreezeTransactionRepository freezeTransactionRepository;
     private final TicketTransactionRepository ticketTransactionRepository;
     private final ReadingSessionService readingSessionService;
+    private final StreakSnapshotCache streakSnapshotCache;
+    private final StreakPercentileTable streakPercentileTable;
+    private final StudyReminderBucketRepository studyReminderBucketRepository;
 
+    /**
+     * 홈 화면 스트릭 위젯 조회
+     * 오늘 날짜의 Redis 스냅샷이 있으면 키 하나만 읽고, 없으면 DB에서 만들어 캐시합니다.
+     */
     @Transactional
     public StreakResponse getStreakInfo(String userId, LanguageCode languageCode) {
+        LocalDate today = getKstToday();
+        StreakSnapshot snapshot = streakSnapshotCache.get(userId, today);
+        if (snapshot == null) {
+            snapshot = loadStreakSnapshot(userId, today);
+            streakSnapshotCache.put(snapshot);
+        }
+
+        int currentStreak = snapshot.getCurrentStreak();
+        StreakStatus todayStatus = snapshot.getTodayStatus();
+
+        // Calculate expected rewards for today (if not completed yet)
+        RewardInfo expectedRewards = null;
+        if (todayStatus != StreakStatus.COMPLETED) {
+            int expectedStreak = currentStreak + 1;
+            expectedRewards = calculateExpectedRewards(expectedStreak);
+        }
+
+        return StreakResponse.builder()
+                .currentStreak(currentStreak)
+                .todayStatus(todayStatus)
+                .yesterdayStatus(snapshot.getYesterdayStatus())
+                .longestStreak(snapshot.getLongestStreak())
+                .streakStartDate(snapshot.getStreakStartDate() != null ? LocalDate.parse(snapshot.getStreakStartDate()) : null)
+                .totalStudyDays(snapshot.getTotalStudyDays())
+                .totalContentsRead(snapshot.getTotalContentsRead())
+                .availableFreezes(snapshot.getAvailableFreezes())
+                .totalReadingTimeSeconds(snapshot.getTotalReadingTimeSeconds())
+                .percentile(streakPercentileTable.percentile(currentStreak))
+                .encouragementMessage(getEncouragementMessage(currentStreak, todayStatus, languageCode))
+                .expectedRewards(expectedRewards)
+                .build();
+    }
+
+    private StreakSnapshot loadStreakSnapshot(String userId, LocalDate today) {
         UserStudyReport report = userStudyReportRepository.findByUserId(userId)
                 .orElseGet(() -> {
                     UserStudyReport newReport = createNewUserStudyReport(userId);
@@ -53,35 +95,49 @@ public class StreakService {
                     return newReport;
                 });
 
-        LocalDate today = getKstToday();
         StreakStatus todayStatus = calculateTodayStatus(userId, today);
         StreakStatus yesterdayStatus = calculateTodayStatus(userId, today.minusDays(1));
         long totalStudyDays = dailyCompletionRepository.countByUserId(userId);
-        long totalContentsRead = report.getCompletedContentIds() != null ? report.getCompletedContentIds().size() : 0;
 
-        // Calculate expected rewards for today (if not completed yet)
-        RewardInfo expectedRewards = null;
-        if (todayStatus != StreakStatus.COMPLETED) {
-            int expectedStreak = report.getCurrentStreak() + 1;
-            expectedRewards = calculateExpectedRewards(expectedStreak);
-        }
+        return buildSnapshot(report, today, totalStudyDays, todayStatus, yesterdayStatus);
+    }
 
-        return StreakResponse.builder()
+    private StreakSnapshot buildSnapshot(UserStudyReport report, LocalDate today, long totalStudyDays,
+                                         StreakStatus todayStatus, StreakStatus yesterdayStatus) {
+        return StreakSnapshot.builder()
+                .userId(report.getUserId())
+                .date(today.toString())
                 .currentStreak(report.getCurrentStreak())
-                .todayStatus(todayStatus)
-                .yesterdayStatus(yesterdayStatus)
                 .longestStreak(report.getLongestStreak())
-                .streakStartDate(report.getStreakStartDate())
+                .streakStartDate(report.getStreakStartDate() != null ? report.getStreakStartDate().toString() : null)
                 .totalStudyDays(totalStudyDays)
-                .totalContentsRead(totalContentsRead)
+                .totalContentsRead(report.getCompletedContentIds() != null ? report.getCompletedContentIds().size() : 0)
                 .availableFreezes(report.getAvailableFreezes())
                 .totalReadingTimeSeconds(report.getTotalReadingTimeSeconds())
-                .percentile(calculatePercentile(report))
-                .encouragementMessage(getEncouragementMessage(report.getCurrentStreak(), todayStatus, languageCode))
-                .expectedRewards(expectedRewards)
+                .todayStatus(todayStatus)
+                .yesterdayStatus(yesterdayStatus)
                 .build();
     }
 
+    /**
+     * 오늘 스냅샷이 캐시에 있으면 바뀐 리포트 값으로 갱신 (없으면 다음 조회 때 DB에서 생성)
+     *
+     * @param todayStatus 바뀐 오늘 상태 (null이면 유지)
+     * @param addedStudyDays 새로 생긴 DailyCompletion 수
+     */
+    private void writeThroughSnapshot(UserStudyReport report, StreakStatus todayStatus, long addedStudyDays) {
+        LocalDate today = getKstToday();
+        StreakSnapshot cached = streakSnapshotCache.get(report.getUserId(), today);
+        if (cached == null) {
+            return;
+        }
+
+        streakSnapshotCache.put(buildSnapshot(report, today,
+                cached.getTotalStudyDays() + addedStudyDays,
+                todayStatus != null ? todayStatus : cached.getTodayStatus(),
+                cached.getYesterdayStatus()));
+    }
+
     @Transactional
     public boolean updateStreak(String userId, ContentType contentType, String contentId) {
         LocalDate today = getKstToday();
@@ -137,6 +193,7 @@ public class StreakService {
         report.setLastLearningTimestamp(Instant.now());
         report.setUpdatedAt(Instant.now());
         userStudyReportRepository.save(report);
+        writeThroughSnapshot(report, null, 0);
 
         log.info("Streak updated for user: {}. Current streak: {}", userId, report.getCurrentStreak());
         return true;
@@ -210,25 +267,6 @@ public class StreakService {
         return LocalDate.now(KST_ZONE);
     }
 
-    private double calculatePercentile(UserStudyReport report) {
-        if (report.getCurrentStreak() == 0) {
-            return 0.0;
-        }
-
-        long totalUsers = userStudyReportRepository.count();
-        if (totalUsers <= 1) {
-            return 100.0;
-        }
-
-        // Calculate "top X%" - users with higher or equal streak
-        long usersWithHigherOrEqualStreak = userStudyReportRepository.countByCurrentStreakGreaterThanEqual(report.getCurrentStreak());
-
-        double percentile = ((double) usersWithHigherOrEqualStreak / totalUsers) * 100;
-
-        // 소수점 첫째 자리까지 반올림
-        return Math.round(percentile * 10.0) / 10.0;
-    }
-
     private EncouragementMessage getEncouragementMessage(int currentStreak, StreakStatus todayStatus, LanguageCode languageCode) {
         if (todayStatus != StreakStatus.COMPLETED) {
             return EncouragementMessage.builder().build();
@@ -301,6 +339,7 @@ public class StreakService {
 
         report.setTotalReadingTimeSeconds(report.getTotalReadingTimeSeconds() + studyTimeSeconds);
         userStudyReportRepository.save(report);
+        writeThroughSnapshot(report, null, 0);
     }
 
     @Transactional
@@ -351,8 +390,20 @@ public class StreakService {
             dailyCompletion.setStreakStatus(StreakStatus.COMPLETED);
         }
 
+        // 선호 학습 시간이 아직 없으면(첫 학습) 이번 학습 시각으로 정해 새벽 재계산 전에도 리마인더 대상에 포함
+        boolean assignReminderHour = report.getPreferredStudyHour() == null;
+        if (assignReminderHour) {
+            report.setPreferredStudyHour(completedContent.getCompletedAt().atZone(KST_ZONE).getHour());
+            report.setPreferredStudyHourUpdatedAt(Instant.now());
+        }
+
+        boolean newStudyDay = dailyCompletion.getId() == null;
         userStudyReportRepository.save(report);
         dailyCompletionRepository.save(dailyCompletion);
+        if (assignReminderHour) {
+            studyReminderBucketRepository.assignHour(userId, report.getPreferredStudyHour());
+        }
+        writeThroughSnapshot(report, dailyCompletion.getStreakStatus(), newStudyDay ? 1 : 0);
     }
 
     /**
@@ -369,31 +420,24 @@ public class StreakService {
             return false;
         }
 
-        long daysSinceLastCompletion = ChronoUnit.DAYS.between(report.getLastCompletionDate(), today);
+        MissedDaysPlan plan = MissedDaysPlan.plan(report, today,
+                date -> wasFreezeProcessedForDate(report.getUserId(), date));
 
-        if (daysSinceLastCompletion <= 1) {
+        if (!plan.hasGap()) {
             return false;
         }
 
-        int daysMissed = (int) daysSinceLastCompletion - 1;
-        log.warn("User {} missed {} days. Processing gap.", report.getUserId(), daysMissed);
-
-        int consumed = 0;
-
-        for (int i = 1; i <= daysMissed; i++) {
-            LocalDate missedDate = report.getLastCompletionDate().plusDays(i);
+        log.warn("User {} missed {} days. Processing gap.", report.getUserId(), plan.getDaysMissed());
 
-            if (wasFreezeProcessedForDate(report.getUserId(), missedDate)) {
-                continue;
-            }
+        for (LocalDate frozenDate : plan.getFrozenDates()) {
+            consumeFreezeForDate(report, frozenDate);
+        }
+        writeThroughFrozenDays(report.getUserId(), today, plan.getFrozenDates());
 
-            if (consumed < report.getAvailableFreezes()) {
-                consumeFreezeForDate(report, missedDate);
-                consumed++;
-            } else {
-                resetStreak(report, consumed);
-                return true;
-            }
+        int consumed = plan.getFrozenDates().size();
+        if (plan.isReset()) {
+            resetStreak(report, consumed);
+            return true;
         }
 
         report.setAvailableFreezes(report.getAvailableFreezes() - consumed);
@@ -402,6 +446,28 @@ public class StreakService {
         return false;
     }
 
+    /**
+     * 프리즈로 채운 날짜를 스냅샷에 반영 (리포트 값은 호출 측 저장 후 writeThroughSnapshot으로 반영)
+     */
+    private void writeThroughFrozenDays(String userId, LocalDate today, List<LocalDate> frozenDates) {
+        if (frozenDates.isEmpty()) {
+            return;
+        }
+
+        StreakSnapshot cached = streakSnapshotCache.get(userId, today);
+        if (cached == null) {
+            return;
+        }
+
+        StreakStatus yesterdayStatus = frozenDates.contains(today.minusDays(1))
+                ? StreakStatus.FREEZE_USED
+                : cached.getYesterdayStatus();
+        streakSnapshotCache.put(cached.toBuilder()
+                .totalStudyDays(cached.getTotalStudyDays() + frozenDates.size())
+                .yesterdayStatus(yesterdayStatus)
+                .build());
+    }
+
     private void resetStreak(UserStudyReport report, int freezesConsumed) {
         int previousStreak = report.getCurrentStreak();
         report.setCurrentStreak(0);
@@ -416,7 +482,7 @@ public class StreakService {
     private boolean wasFreezeProcessedForDate(String userId, LocalDate date) {
         return dailyCompletionRepository
                 .findByUserIdAndCompletionDate(userId, date)
-                .map(completion -> completion.getStreakStatus() == StreakStatus.FREEZE_USED)
+                .map(MissedDaysPlan::isFreezeProcessed)
                 .orElse(false);
     }
 
@@ -842,7 +908,9 @@ public class StreakService {
             report.setLastCompletionDate(null);
             report.setStreakStartDate(null);
             report.setUpdatedAt(Instant.now());
-            return userStudyReportRepository.save(report);
+            UserStudyReport saved = userStudyReportRepository.save(report);
+            streakSnapshotCache.evict(userId);
+            return saved;
         }
 
         // 스트릭 재계산
@@ -917,7 +985,9 @@ public class StreakService {
         log.info("Recalculated UserStudyReport for user {}. Current streak: {}, Longest streak: {}",
                 userId, currentStreak, longestStreak);
 
-        return userStudyReportRepository.save(report);
+        UserStudyReport saved = userStudyReportRepository.save(report);
+        streakSnapshotCache.evict(userId);
+        return saved;
     }
 
     @Transactional
@@ -1096,6 +1166,7 @@ public class StreakService {
         int finalFreezes = Math.min(MAX_FREEZE_COUNT, freezesBeforeRecovery + availableFreezes);
         finalReport.setAvailableFreezes(finalFreezes);
         userStudyReportRepository.save(finalReport);
+        streakSnapshotCache.evict(userId);
 
         int usedFreezes = earnedFreezes - availableFreezes;
         log.info("Streak recovery completed for user {} from {} to {}. Earned {} freezes, used {} freezes. Final freezes: {}",
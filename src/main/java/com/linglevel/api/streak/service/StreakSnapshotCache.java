@@ -0,0 +1,67 @@
+package com.linglevel.api.streak.service;
+
+import com.linglevel.api.streak.dto.StreakSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 스트릭 스냅샷 캐시 (Redis, 키 하나)
+ * StreakService의 쓰기 경로에서 write-through로 갱신하고, 다른 경로에서 스트릭이 바뀌면 삭제합니다.
+ * 다른 날짜의 스냅샷은 없는 것으로 취급합니다.
+ * Redis 장애 시에는 캐시 없이 DB에서 계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StreakSnapshotCache {
+
+    private static final String KEY_PREFIX = "streak:snapshot:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${streak.snapshot-cache.ttl-hours:26}")
+    private long ttlHours;
+
+    public StreakSnapshot get(String userId, LocalDate today) {
+        try {
+            Object cached = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            if (cached instanceof StreakSnapshot snapshot && today.toString().equals(snapshot.getDate())) {
+                return snapshot;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read streak snapshot - userId: {}", userId, e);
+        }
+        return null;
+    }
+
+    public void put(StreakSnapshot snapshot) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + snapshot.getUserId(), snapshot, Duration.ofHours(ttlHours));
+        } catch (Exception e) {
+            log.warn("Failed to write streak snapshot - userId: {}", snapshot.getUserId(), e);
+        }
+    }
+
+    public void evict(String userId) {
+        evictAll(List.of(userId));
+    }
+
+    public void evictAll(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(userIds.stream().map(userId -> KEY_PREFIX + userId).toList());
+        } catch (Exception e) {
+            log.warn("Failed to evict {} streak snapshots", userIds.size(), e);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.linglevel.api.streak.service;
+
+import com.linglevel.api.streak.entity.DailyCompletion;
+import com.linglevel.api.streak.entity.FreezeTransaction;
+import com.linglevel.api.streak.entity.StreakStatus;
+import com.linglevel.api.streak.entity.UserStudyReport;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 자정 스트릭 검증 엔진
+ *
+ * currentStreak > 0 인 UserStudyReport를 커서로 읽어 고정 크기 페이지로 나누고,
+ * 페이지 단위로 DailyCompletion / FreezeTransaction을 $in 쿼리 한 번씩 선조회한 뒤
+ * 제한된 워커 풀에서 누락일 처리를 수행하고 결과를 unordered BulkOperations로 기록합니다.
+ *
+ * 누락일 판단 규칙은 {@link StreakService#processMissedDays}와 같은 {@link MissedDaysPlan}을 사용합니다.
+ * 프리즈 DailyCompletion 기록에 실패한 사용자(동시에 학습 완료 등)는 이번 검증에서 제외하고
+ * 해당 사용자의 FreezeTransaction/리포트는 기록하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StreakValidationService {
+
+    private final MongoTemplate mongoTemplate;
+    private final StreakSnapshotCache streakSnapshotCache;
+
+    @Value("${streak.validation.page-size:500}")
+    private int pageSize;
+
+    @Value("${streak.validation.worker-threads:4}")
+    private int workerThreads;
+
+    public ValidationResult validate(LocalDate today) {
+        ValidationResult result = new ValidationResult();
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                workerThreads, workerThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerThreads * 2),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        List<PageTask> pages = new ArrayList<>();
+
+        Query query = new Query(Criteria.where("currentStreak").gt(0));
+        query.fields().include("userId", "currentStreak", "lastCompletionDate", "streakStartDate", "availableFreezes");
+        query.cursorBatchSize(pageSize);
+
+        try (Stream<UserStudyReport> stream = mongoTemplate.stream(query, UserStudyReport.class)) {
+            List<UserStudyReport> page = new ArrayList<>(pageSize);
+            Iterator<UserStudyReport> iterator = stream.iterator();
+
+            while (iterator.hasNext()) {
+                page.add(iterator.next());
+                if (page.size() >= pageSize) {
+                    pages.add(submitPage(executor, page, today, result));
+                    page = new ArrayList<>(pageSize);
+                }
+            }
+
+            if (!page.isEmpty()) {
+                pages.add(submitPage(executor, page, today, result));
+            }
+
+            awaitPages(pages, result);
+        } finally {
+            executor.shutdown();
+        }
+
+        return result;
+    }
+
+    private PageTask submitPage(ExecutorService executor, List<UserStudyReport> page, LocalDate today, ValidationResult result) {
+        return new PageTask(executor.submit(() -> processPage(page, today, result)), page.size());
+    }
+
+    /**
+     * 모든 페이지 완료 대기
+     * 실패한 페이지의 사용자는 failed로 집계하고, 인터럽트되면 남은 페이지를 취소한 뒤 검증 중단으로 예외를 던집니다.
+     */
+    private void awaitPages(List<PageTask> pages, ValidationResult result) {
+        for (int i = 0; i < pages.size(); i++) {
+            PageTask page = pages.get(i);
+            try {
+                page.future().get();
+            } catch (ExecutionException e) {
+                result.failed.addAndGet(page.size());
+                log.error("[Streak Validation] Page processing failed - {} users counted as failed", page.size(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pages.subList(i, pages.size()).forEach(remaining -> remaining.future().cancel(true));
+                throw new IllegalStateException("Streak validation interrupted with "
+                        + (pages.size() - i) + " of " + pages.size() + " pages unfinished", e);
+            }
+        }
+    }
+
+    private void processPage(List<UserStudyReport> page, LocalDate today, ValidationResult result) {
+        LocalDate earliestMissedDate = page.stream()
+                .map(UserStudyReport::getLastCompletionDate)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .map(date -> date.plusDays(1))
+                .orElse(today);
+
+        Set<String> userIds = page.stream()
+                .map(UserStudyReport::getUserId)
+                .collect(Collectors.toSet());
+
+        Map<String, Map<LocalDate, DailyCompletion>> completionsByUser = earliestMissedDate.isBefore(today)
+                ? prefetchCompletions(userIds, earliestMissedDate, today)
+                : Map.of();
+
+        Map<String, ReportOutcome> outcomes = new LinkedHashMap<>();
+        List<FreezeTransaction> freezeTransactions = new ArrayList<>();
+        List<DailyCompletion> freezeCompletions = new ArrayList<>();
+
+        for (UserStudyReport report : page) {
+            try {
+                result.processed.incrementAndGet();
+
+                if (report.getLastCompletionDate() == null) {
+                    log.warn("Cannot process missed days: lastCompletionDate is null for user {}", report.getUserId());
+                    continue;
+                }
+
+                Map<LocalDate, DailyCompletion> completions = completionsByUser.getOrDefault(report.getUserId(), Map.of());
+                MissedDaysPlan plan = MissedDaysPlan.plan(report, today,
+                        date -> MissedDaysPlan.isFreezeProcessed(completions.get(date)));
+
+                if (!plan.hasGap()) {
+                    if (ChronoUnit.DAYS.between(report.getLastCompletionDate(), today) == 1) {
+                        result.maintained.incrementAndGet();
+                    }
+                    continue;
+                }
+
+                Instant now = Instant.now();
+                for (LocalDate frozenDate : plan.getFrozenDates()) {
+                    freezeTransactions.add(freezeTransaction(report, frozenDate, now));
+                    freezeCompletions.add(freezeCompletion(report, frozenDate, now));
+                }
+                applyPlan(report, plan);
+                outcomes.put(report.getUserId(), new ReportOutcome(report, plan.isReset()));
+            } catch (Exception e) {
+                result.failed.incrementAndGet();
+                log.error("[Streak Validation] Failed to process user: {}", report.getUserId(), e);
+            }
+        }
+
+        // 프리즈 DailyCompletion을 먼저 기록하고, 실패한 사용자는 트랜잭션/리포트 기록에서 제외
+        Set<String> failedUserIds = insertFreezeCompletions(freezeCompletions);
+        for (String userId : failedUserIds) {
+            if (outcomes.remove(userId) != null) {
+                result.failed.incrementAndGet();
+            }
+        }
+
+        insertFreezeTransactions(freezeTransactions.stream()
+                .filter(transaction -> !failedUserIds.contains(transaction.getUserId()))
+                .collect(Collectors.toList()));
+        bulkUpdateReports(outcomes.values().stream().map(ReportOutcome::report).collect(Collectors.toList()));
+
+        for (ReportOutcome outcome : outcomes.values()) {
+            if (outcome.reset()) {
+                result.reset.incrementAndGet();
+            } else {
+                result.freezeUsed.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 계획에 따라 리포트 값 변경 ({@link StreakService#processMissedDays}와 같은 결과)
+     */
+    private void applyPlan(UserStudyReport report, MissedDaysPlan plan) {
+        int consumed = plan.getFrozenDates().size();
+        if (plan.isReset()) {
+            log.warn("Insufficient freezes for user {}. Streak reset from {} to 0. Consumed {} freezes.",
+                    report.getUserId(), report.getCurrentStreak(), consumed);
+            report.setCurrentStreak(0);
+            report.setLastCompletionDate(null);
+            report.setStreakStartDate(null);
+            report.setAvailableFreezes(0);
+            return;
+        }
+
+        report.setAvailableFreezes(report.getAvailableFreezes() - consumed);
+    }
+
+    private FreezeTransaction freezeTransaction(UserStudyReport report, LocalDate missedDate, Instant now) {
+        return FreezeTransaction.builder()
+                .userId(report.getUserId())
+                .amount(-1)
+                .description("Auto-consumed for missed day: " + missedDate)
+                .createdAt(now)
+                .build();
+    }
+
+    private DailyCompletion freezeCompletion(UserStudyReport report, LocalDate missedDate, Instant now) {
+        return DailyCompletion.builder()
+                .id(new ObjectId().toHexString())
+                .userId(report.getUserId())
+                .completionDate(missedDate)
+                .firstCompletionCount(0)
+                .totalCompletionCount(0)
+                .completedContents(new ArrayList<>())
+                .streakCount(report.getCurrentStreak())
+                .streakStatus(StreakStatus.FREEZE_USED)
+                .createdAt(now)
+                .build();
+    }
+
+    private Map<String, Map<LocalDate, DailyCompletion>> prefetchCompletions(
+            Set<String> userIds, LocalDate fromDate, LocalDate today) {
+
+        Query query = new Query(Criteria.where("userId").in(userIds)
+                .and("completionDate").gte(fromDate).lt(today));
+        query.fields().include("userId", "completionDate", "streakStatus");
+
+        return mongoTemplate.find(query, DailyCompletion.class).stream()
+                .collect(Collectors.groupingBy(
+                        DailyCompletion::getUserId,
+                        Collectors.toMap(DailyCompletion::getCompletionDate, c -> c, (a, b) -> a)));
+    }
+
+    /**
+     * 프리즈 DailyCompletion 일괄 저장
+     * 일부가 실패(중복 키 등)하면 같은 사용자의 나머지 문서도 삭제하여 사용자 단위로 모두 기록되거나 모두 빠지도록 합니다.
+     *
+     * @return 기록에 실패한 사용자 ID
+     */
+    private Set<String> insertFreezeCompletions(List<DailyCompletion> completions) {
+        if (completions.isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DailyCompletion.class)
+                    .insert(completions)
+                    .execute();
+            return Set.of();
+        } catch (BulkOperationException e) {
+            Set<String> failedUserIds = e.getErrors().stream()
+                    .map(error -> completions.get(error.getIndex()).getUserId())
+                    .collect(Collectors.toSet());
+            log.warn("[Streak Validation] Freeze DailyCompletion insert failed for {} users ({} errors), skipping them",
+                    failedUserIds.size(), e.getErrors().size());
+
+            Set<Integer> failedIndexes = e.getErrors().stream()
+                    .map(BulkWriteError::getIndex)
+                    .collect(Collectors.toSet());
+            List<String> insertedIdsToRollback = new ArrayList<>();
+            for (int i = 0; i < completions.size(); i++) {
+                DailyCompletion completion = completions.get(i);
+                if (!failedIndexes.contains(i) && failedUserIds.contains(completion.getUserId())) {
+                    insertedIdsToRollback.add(completion.getId());
+                }
+            }
+            if (!insertedIdsToRollback.isEmpty()) {
+                mongoTemplate.remove(new Query(Criteria.where("_id").in(insertedIdsToRollback)), DailyCompletion.class);
+            }
+            return failedUserIds;
+        }
+    }
+
+    private void insertFreezeTransactions(List<FreezeTransaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, FreezeTransaction.class)
+                    .insert(transactions)
+                    .execute();
+        } catch (BulkOperationException e) {
+            log.error("[Streak Validation] Bulk insert of FreezeTransaction partially failed: {} errors",
+                    e.getErrors().size());
+        }
+    }
+
+    private void bulkUpdateReports(List<UserStudyReport> reports) {
+        if (reports.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserStudyReport.class);
+
+        for (UserStudyReport report : reports) {
+            Update update = new Update()
+                    .set("currentStreak", report.getCurrentStreak())
+                    .set("lastCompletionDate", report.getLastCompletionDate())
+                    .set("streakStartDate", report.getStreakStartDate())
+                    .set("availableFreezes", report.getAvailableFreezes())
+                    .set("updatedAt", now);
+            bulkOps.updateOne(new Query(Criteria.where("_id").is(report.getId())), update);
+        }
+
+        try {
+            bulkOps.execute();
+        } catch (BulkOperationException e) {
+            log.error("[Streak Validation] Bulk update of UserStudyReport partially failed: {} errors",
+                    e.getErrors().size());
+        }
+
+        // 자정 이후 검증 전에 만들어진 오늘 스냅샷은 리셋/프리즈 결과를 반영하지 못하므로 삭제
+        streakSnapshotCache.evictAll(reports.stream().map(UserStudyReport::getUserId).toList());
+    }
+
+    private record PageTask(Future<?> future, int size) {}
+
+    private record ReportOutcome(UserStudyReport report, boolean reset) {}
+
+    @Getter
+    public static class ValidationResult {
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger maintained = new AtomicInteger();
+        private final AtomicInteger freezeUsed = new AtomicInteger();
+        private final AtomicInteger reset = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+    }
+}
@@ -3,6 +3,7 @@ package com.linglevel.api.streak.service;
 import com.linglevel.api.streak.entity.DailyCompletion;
 import com.linglevel.api.streak.entity.UserStudyReport;
 import com.linglevel.api.streak.repository.DailyCompletionRepository;
+import com.linglevel.api.streak.repository.StudyReminderBucketRepository;
 import com.linglevel.api.streak.repository.UserStudyReportRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +29,7 @@ public class StudyTimeAnalysisService {
 
     private final DailyCompletionRepository dailyCompletionRepository;
     private final UserStudyReportRepository userStudyReportRepository;
+    private final StudyReminderBucketRepository studyReminderBucketRepository;
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     private static final int ANALYSIS_DAYS = 7; // 최근 7일 분석
 
@@ -56,6 +58,7 @@ public class StudyTimeAnalysisService {
     /**
      * 사용자의 선호 학습 시간을 계산하고 DB에 저장합니다.
      * PreferredStudyHourUpdateScheduler에서 주기적으로 호출됩니다.
+     * 시간대가 바뀐 경우에만 리마인더 버킷을 갱신합니다.
      */
     public Optional<Integer> calculateAndSavePreferredStudyHour(String userId) {
         Optional<UserStudyReport> reportOpt = userStudyReportRepository.findByUserId(userId);
@@ -69,11 +72,17 @@ public class StudyTimeAnalysisService {
 
         if (calculatedHour.isPresent()) {
             UserStudyReport report = reportOpt.get();
+            boolean hourChanged = !calculatedHour.get().equals(report.getPreferredStudyHour());
+
             report.setPreferredStudyHour(calculatedHour.get());
             report.setPreferredStudyHourUpdatedAt(Instant.now());
             report.setUpdatedAt(Instant.now());
             userStudyReportRepository.save(report);
 
+            if (hourChanged) {
+                studyReminderBucketRepository.assignHour(userId, calculatedHour.get());
+            }
+
             log.debug("[StudyTimeAnalysis] Calculated and saved preferred hour for user: {} - {}:00",
                     userId, calculatedHour.get());
         }
@@ -4,6 +4,7 @@ import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -28,6 +29,7 @@ public class TicketTransaction {
     
     private TransactionStatus status;
     
+    @Indexed(sparse = true)
     private String reservationId; // 예약 그룹 ID
     
     @CreatedDate
@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface TicketTransactionRepository extends MongoRepository<TicketTransaction, String> {
+public interface TicketTransactionRepository extends MongoRepository<TicketTransaction, String>, TicketTransactionRepositoryCustom {
 
     Page<TicketTransaction> findByUserIdOrderByCreatedAtDesc(String userId, Pageable pageable);
 
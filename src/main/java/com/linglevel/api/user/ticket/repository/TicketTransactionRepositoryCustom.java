@@ -0,0 +1,25 @@
+package com.linglevel.api.user.ticket.repository;
+
+import com.linglevel.api.user.ticket.entity.TicketTransaction;
+import com.linglevel.api.user.ticket.entity.TransactionStatus;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface TicketTransactionRepositoryCustom {
+
+    /**
+     * 예약 거래 상태를 from → to로 원자적으로 변경
+     * 동시에 호출되어도 한 요청만 변경에 성공합니다.
+     *
+     * @return 변경 전 거래, 해당 상태의 예약이 없으면 빈 값
+     */
+    Optional<TicketTransaction> transitionReservation(String reservationId, TransactionStatus from, TransactionStatus to);
+
+    /**
+     * 사용자별 잔고에 반영된 거래(CONFIRMED, RESERVED) 금액 합계
+     * 거래가 없는 사용자는 결과에 포함되지 않습니다.
+     */
+    Map<String, Long> sumBalanceAmountsByUserIds(Collection<String> userIds);
+}
@@ -0,0 +1,52 @@
+package com.linglevel.api.user.ticket.repository;
+
+import com.linglevel.api.user.ticket.entity.TicketTransaction;
+import com.linglevel.api.user.ticket.entity.TransactionStatus;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class TicketTransactionRepositoryImpl implements TicketTransactionRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<TicketTransaction> transitionReservation(String reservationId, TransactionStatus from, TransactionStatus to) {
+        Query query = new Query(Criteria.where("reservationId").is(reservationId).and("status").is(from));
+        Update update = new Update().set("status", to);
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, TicketTransaction.class));
+    }
+
+    @Override
+    public Map<String, Long> sumBalanceAmountsByUserIds(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").in(userIds)
+                        .and("status").in(TransactionStatus.CONFIRMED, TransactionStatus.RESERVED)),
+                Aggregation.group("userId").sum("amount").as("total")
+        );
+
+        List<Document> results = mongoTemplate.aggregate(aggregation, TicketTransaction.class, Document.class)
+                .getMappedResults();
+
+        Map<String, Long> totals = new HashMap<>(results.size());
+        for (Document result : results) {
+            totals.put(result.getString("_id"), ((Number) result.get("total")).longValue());
+        }
+        return totals;
+    }
+}
@@ -5,6 +5,6 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.Optional;
 
-public interface UserTicketRepository extends MongoRepository<UserTicket, String> {
+public interface UserTicketRepository extends MongoRepository<UserTicket, String>, UserTicketRepositoryCustom {
     Optional<UserTicket> findByUserId(String userId);
 }
\ No newline at end of file
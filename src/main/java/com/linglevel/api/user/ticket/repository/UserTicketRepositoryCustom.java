@@ -0,0 +1,29 @@
+package com.linglevel.api.user.ticket.repository;
+
+import com.linglevel.api.user.ticket.entity.UserTicket;
+
+import java.util.Optional;
+
+public interface UserTicketRepositoryCustom {
+
+    /**
+     * 잔고가 amount 이상일 때만 원자적으로 차감
+     *
+     * @return 차감 후 지갑, 지갑이 없거나 잔고가 부족하면 빈 값
+     */
+    Optional<UserTicket> debit(String userId, int amount);
+
+    /**
+     * 원자적으로 잔고 증가
+     *
+     * @return 증가 후 지갑, 지갑이 없으면 빈 값
+     */
+    Optional<UserTicket> credit(String userId, int amount);
+
+    /**
+     * 지갑이 없을 때만 초기 잔고로 생성 (upsert)
+     *
+     * @return 이번 호출로 새로 생성되었으면 true
+     */
+    boolean createIfAbsent(String userId, int initialBalance);
+}
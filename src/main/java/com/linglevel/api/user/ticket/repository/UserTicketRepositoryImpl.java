@@ -0,0 +1,61 @@
+package com.linglevel.api.user.ticket.repository;
+
+import com.linglevel.api.user.ticket.entity.UserTicket;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class UserTicketRepositoryImpl implements UserTicketRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<UserTicket> debit(String userId, int amount) {
+        Query query = new Query(Criteria.where("userId").is(userId).and("balance").gte(amount));
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, balanceUpdate(-amount),
+                FindAndModifyOptions.options().returnNew(true), UserTicket.class));
+    }
+
+    @Override
+    public Optional<UserTicket> credit(String userId, int amount) {
+        Query query = new Query(Criteria.where("userId").is(userId));
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, balanceUpdate(amount),
+                FindAndModifyOptions.options().returnNew(true), UserTicket.class));
+    }
+
+    @Override
+    public boolean createIfAbsent(String userId, int initialBalance) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = new Query(Criteria.where("userId").is(userId));
+        Update update = new Update()
+                .setOnInsert("balance", initialBalance)
+                .setOnInsert("version", 0L)
+                .setOnInsert("createdAt", now)
+                .setOnInsert("updatedAt", now);
+
+        try {
+            UpdateResult result = mongoTemplate.upsert(query, update, UserTicket.class);
+            return result.getUpsertedId() != null;
+        } catch (DuplicateKeyException e) {
+            // 동시에 생성된 경우 (userId unique 인덱스) 다른 요청이 이미 만든 것
+            return false;
+        }
+    }
+
+    // 저장 없이 갱신하므로 @Version과 수정 시각도 직접 올림
+    private Update balanceUpdate(int delta) {
+        return new Update()
+                .inc("balance", delta)
+                .inc("version", 1)
+                .set("updatedAt", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,83 @@
+package com.linglevel.api.user.ticket.scheduler;
+
+import com.linglevel.api.user.ticket.entity.UserTicket;
+import com.linglevel.api.user.ticket.repository.TicketTransactionRepository;
+import com.linglevel.api.user.ticket.repository.UserTicketRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 티켓 잔고와 거래 내역 대조 스케줄러
+ * 매일 새벽 4시 30분에 모든 지갑의 잔고가 반영된 거래(CONFIRMED, RESERVED) 합계와 같은지 확인합니다.
+ * 불일치는 자동으로 고치지 않고 로그와 메트릭(ticket.ledger.mismatches)으로만 알립니다.
+ */
+@Component
+@Slf4j
+public class TicketLedgerReconciliationScheduler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final UserTicketRepository userTicketRepository;
+    private final TicketTransactionRepository ticketTransactionRepository;
+    private final AtomicLong lastMismatches = new AtomicLong();
+
+    public TicketLedgerReconciliationScheduler(UserTicketRepository userTicketRepository,
+                                               TicketTransactionRepository ticketTransactionRepository,
+                                               MeterRegistry meterRegistry) {
+        this.userTicketRepository = userTicketRepository;
+        this.ticketTransactionRepository = ticketTransactionRepository;
+        meterRegistry.gauge("ticket.ledger.mismatches", lastMismatches);
+    }
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void reconcile() {
+        Instant startTime = Instant.now();
+        log.info("[Ticket Ledger Reconciliation] Starting");
+
+        long checked = 0;
+        long mismatches = 0;
+
+        try {
+            PageRequest pageRequest = PageRequest.of(0, BATCH_SIZE, Sort.by("id"));
+            Page<UserTicket> page;
+            do {
+                page = userTicketRepository.findAll(pageRequest);
+                List<UserTicket> wallets = page.getContent();
+
+                Map<String, Long> ledgerTotals = ticketTransactionRepository.sumBalanceAmountsByUserIds(
+                        wallets.stream().map(UserTicket::getUserId).toList());
+
+                for (UserTicket wallet : wallets) {
+                    long ledgerTotal = ledgerTotals.getOrDefault(wallet.getUserId(), 0L);
+                    if (wallet.getBalance() != ledgerTotal) {
+                        mismatches++;
+                        log.warn("[Ticket Ledger Reconciliation] Mismatch for user: {} - balance: {}, ledger: {}",
+                                wallet.getUserId(), wallet.getBalance(), ledgerTotal);
+                    }
+                }
+
+                checked += wallets.size();
+                pageRequest = pageRequest.next();
+            } while (page.hasNext());
+
+            lastMismatches.set(mismatches);
+            log.info("[Ticket Ledger Reconciliation] Completed. Checked: {}, Mismatches: {}, Duration: {}ms",
+                    checked, mismatches, Duration.between(startTime, Instant.now()).toMillis());
+
+        } catch (Exception e) {
+            log.error("[Ticket Ledger Reconciliation] Critical error. Checked: {}, Mismatches: {}",
+                    checked, mismatches, e);
+        }
+    }
+}
@@ -10,17 +10,22 @@ import com.linglevel.api.user.ticket.exception.TicketException;
 import com.linglevel.api.user.ticket.repository.TicketTransactionRepository;
 import com.linglevel.api.user.ticket.repository.UserTicketRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class TicketService {
+
+    private static final int WELCOME_BONUS = 10; // 🎁 이벤트: 최초 10개 티켓 지급
     
     private final UserTicketRepository userTicketRepository;
     private final TicketTransactionRepository ticketTransactionRepository;
@@ -46,57 +51,40 @@ public class TicketService {
 
     @Transactional
     public String reserveTicket(String userId, int amount, String description) {
-        UserTicket userTicket = getOrCreateUserTicket(userId);
-        
-        // 잔고 확인
-        if (userTicket.getBalance() < amount) {
-            throw new TicketException(TicketErrorCode.INSUFFICIENT_BALANCE);
-        }
-        
+        // 잔고 확인과 차감을 한 번의 조건부 $inc로 처리 (예약 상태)
+        debit(userId, amount);
+
         String reservationId = UUID.randomUUID().toString();
-        
-        // 티켓 차감 (예약 상태)
-        userTicket.setBalance(userTicket.getBalance() - amount);
-        userTicketRepository.save(userTicket);
-        
+
         // 예약 거래 내역 기록
-        TicketTransaction transaction = TicketTransaction.builder()
+        appendTransaction(userId, -amount, TicketTransaction.builder()
                 .userId(userId)
                 .amount(-amount)
                 .description(description)
                 .status(TransactionStatus.RESERVED)
                 .reservationId(reservationId)
-                .build();
-        ticketTransactionRepository.save(transaction);
-        
+                .build());
+
         return reservationId;
     }
 
     @Transactional
     public void confirmReservation(String reservationId) {
-        TicketTransaction transaction = ticketTransactionRepository
-                .findByReservationIdAndStatus(reservationId, TransactionStatus.RESERVED)
+        // 예약 상태를 확정으로 변경 (RESERVED인 경우에만)
+        ticketTransactionRepository
+                .transitionReservation(reservationId, TransactionStatus.RESERVED, TransactionStatus.CONFIRMED)
                 .orElseThrow(() -> new TicketException(TicketErrorCode.RESERVATION_NOT_FOUND));
-        
-        // 예약 상태를 확정으로 변경
-        transaction.setStatus(TransactionStatus.CONFIRMED);
-        ticketTransactionRepository.save(transaction);
     }
 
     @Transactional
     public void cancelReservation(String reservationId) {
+        // 상태 변경에 성공한 요청만 티켓을 복구하므로 중복 취소에도 한 번만 환불됨
         TicketTransaction transaction = ticketTransactionRepository
-                .findByReservationIdAndStatus(reservationId, TransactionStatus.RESERVED)
+                .transitionReservation(reservationId, TransactionStatus.RESERVED, TransactionStatus.CANCELLED)
                 .orElseThrow(() -> new TicketException(TicketErrorCode.RESERVATION_NOT_FOUND));
-        
+
         // 티켓 복구
-        UserTicket userTicket = getOrCreateUserTicket(transaction.getUserId());
-        userTicket.setBalance(userTicket.getBalance() + Math.abs(transaction.getAmount()));
-        userTicketRepository.save(userTicket);
-        
-        // 예약 상태를 취소로 변경
-        transaction.setStatus(TransactionStatus.CANCELLED);
-        ticketTransactionRepository.save(transaction);
+        credit(transaction.getUserId(), Math.abs(transaction.getAmount()));
     }
     
     /**
@@ -108,26 +96,16 @@ public class TicketService {
      */
     @Transactional
     public int spendTicket(String userId, int amount, String description) {
-        UserTicket userTicket = getOrCreateUserTicket(userId);
-        
-        // 잔고 확인
-        if (userTicket.getBalance() < amount) {
-            throw new TicketException(TicketErrorCode.INSUFFICIENT_BALANCE);
-        }
-        
-        // 티켓 차감
-        userTicket.setBalance(userTicket.getBalance() - amount);
-        userTicketRepository.save(userTicket);
-        
+        UserTicket userTicket = debit(userId, amount);
+
         // 거래 내역 기록
-        TicketTransaction transaction = TicketTransaction.builder()
+        appendTransaction(userId, -amount, TicketTransaction.builder()
                 .userId(userId)
                 .amount(-amount) // 음수로 저장
                 .description(description)
                 .status(TransactionStatus.CONFIRMED)
-                .build();
-        ticketTransactionRepository.save(transaction);
-        
+                .build());
+
         return userTicket.getBalance();
     }
     
@@ -140,49 +118,82 @@ public class TicketService {
      */
     @Transactional
     public int grantTicket(String userId, int amount, String description) {
-        UserTicket userTicket = getOrCreateUserTicket(userId);
-        
-        // 티켓 지급
-        userTicket.setBalance(userTicket.getBalance() + amount);
-        userTicketRepository.save(userTicket);
-        
+        UserTicket userTicket = credit(userId, amount);
+
         // 거래 내역 기록
-        TicketTransaction transaction = TicketTransaction.builder()
+        appendTransaction(userId, amount, TicketTransaction.builder()
                 .userId(userId)
                 .amount(amount) // 양수로 저장
                 .description(description)
                 .status(TransactionStatus.CONFIRMED)
-                .build();
-        ticketTransactionRepository.save(transaction);
-        
+                .build());
+
         return userTicket.getBalance();
     }
 
     private UserTicket getOrCreateUserTicket(String userId) {
         return userTicketRepository.findByUserId(userId)
-                .orElseGet(() -> createDefaultUserTicket(userId));
+                .orElseGet(() -> {
+                    createWalletIfAbsent(userId);
+                    return userTicketRepository.findByUserId(userId)
+                            .orElseThrow(() -> new TicketException(TicketErrorCode.TICKET_NOT_FOUND));
+                });
     }
 
     /**
-     * 기본 사용자 티켓을 생성합니다
+     * 잔고가 충분할 때만 차감
+     * 대부분은 조건부 $inc 한 번으로 끝나고, 실패했을 때만 지갑 유무를 확인합니다.
+     */
+    private UserTicket debit(String userId, int amount) {
+        Optional<UserTicket> debited = userTicketRepository.debit(userId, amount);
+        if (debited.isEmpty() && createWalletIfAbsent(userId)) {
+            debited = userTicketRepository.debit(userId, amount);
+        }
+        return debited.orElseThrow(() -> new TicketException(TicketErrorCode.INSUFFICIENT_BALANCE));
+    }
+
+    private UserTicket credit(String userId, int amount) {
+        Optional<UserTicket> credited = userTicketRepository.credit(userId, amount);
+        if (credited.isEmpty()) {
+            createWalletIfAbsent(userId);
+            credited = userTicketRepository.credit(userId, amount);
+        }
+        return credited.orElseThrow(() -> new TicketException(TicketErrorCode.TICKET_NOT_FOUND));
+    }
+
+    /**
+     * 잔고 변경 직후 거래 내역 추가
+     * 기록에 실패하면 잔고 변경을 되돌려 잔고와 거래 내역이 어긋나지 않게 합니다.
+     */
+    private void appendTransaction(String userId, int appliedDelta, TicketTransaction transaction) {
+        try {
+            ticketTransactionRepository.save(transaction);
+        } catch (RuntimeException e) {
+            log.error("Failed to append ticket transaction for user: {}, reverting balance change of {}",
+                    userId, appliedDelta, e);
+            userTicketRepository.credit(userId, -appliedDelta);
+            throw e;
+        }
+    }
+
+    /**
+     * 지갑이 없으면 생성합니다 (upsert, 동시 요청에도 한 번만 생성)
      * 🎁 이벤트: 최초 지갑 생성 시 10개 티켓 지급
+     *
+     * @return 이번 호출로 생성되었으면 true
      */
-    private UserTicket createDefaultUserTicket(String userId) {
-        UserTicket userTicket = UserTicket.builder()
-                .userId(userId)
-                .balance(10) // 🎁 이벤트: 최초 10개 티켓 지급
-                .build();
-        UserTicket savedUserTicket = userTicketRepository.save(userTicket);
+    private boolean createWalletIfAbsent(String userId) {
+        if (!userTicketRepository.createIfAbsent(userId, WELCOME_BONUS)) {
+            return false;
+        }
 
-        TicketTransaction welcomeTransaction = TicketTransaction.builder()
+        appendTransaction(userId, WELCOME_BONUS, TicketTransaction.builder()
                 .userId(userId)
-                .amount(10)
+                .amount(WELCOME_BONUS)
                 .description("Welcome bonus for new user")
                 .status(TransactionStatus.CONFIRMED)
-                .build();
-        ticketTransactionRepository.save(welcomeTransaction);
-        
-        return savedUserTicket;
+                .build());
+        return true;
     }
 
     private TicketTransactionResponse toTicketTransactionResponse(TicketTransaction transaction) {
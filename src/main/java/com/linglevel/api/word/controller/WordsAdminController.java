@@ -87,10 +87,12 @@ public class WordsAdminController {
                     - 이미 존재하는 단어: 재사용하고 isEssential=true로 업데이트
                     - 존재하지 않는 단어: AI로 분석하여 새로 생성
 
+                    - AI 분석은 동시 실행 수와 초당 호출 수를 제한하여 병렬로 수행하고, 결과는 청크 단위로 일괄 저장합니다
+                    - 진행 상황은 청크마다 체크포인트로 기록되어, 중단된 작업은 다시 호출하면 이어서 진행합니다
+
                     **주의사항:**
-                    - 이 작업은 매우 오래 걸릴 수 있습니다 (3000개 단어 × AI 호출)
-                    - 비동기 처리를 권장하지만, 현재는 동기 처리로 구현되어 있습니다
-                    - Rate limit을 고려하여 천천히 호출하세요
+                    - 이 작업은 오래 걸릴 수 있습니다 (진행률/예상 남은 시간은 oxford3000.job.* 메트릭으로 확인)
+                    - 동기 처리로 구현되어 있으며, 같은 서버에서 동시에 한 작업만 실행할 수 있습니다 (409)
 
                     **파라미터:**
                     - targetLanguage: 번역 대상 언어 (예: KO, JA)
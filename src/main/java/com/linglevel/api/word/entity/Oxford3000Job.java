@@ -0,0 +1,72 @@
+package com.linglevel.api.word.entity;
+
+import com.linglevel.api.i18n.LanguageCode;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Oxford 3000 일괄 초기화 작업 체크포인트 (대상 언어별 1개)
+ * 중단된 작업(RUNNING)은 다음 실행 시 processedWords를 건너뛰고 이어서 진행
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "oxford3000Jobs")
+public class Oxford3000Job {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED
+    }
+
+    /**
+     * 대상 언어 코드 (예: "KO")
+     */
+    @Id
+    private String id;
+
+    private LanguageCode targetLanguageCode;
+
+    private Status status;
+
+    /**
+     * 작업 시작 시점에 처리 대상이던 단어 수
+     */
+    private Integer totalWords;
+
+    /**
+     * 작업 시작 시점에 이미 등록되어 있던 단어 수
+     */
+    private Integer alreadyExistCount;
+
+    /**
+     * 처리 완료된 CSV 단어 (소문자)
+     */
+    @Builder.Default
+    private List<String> processedWords = new ArrayList<>();
+
+    /**
+     * 이번 실행에서 실패한 단어 (재개 시 다시 시도)
+     */
+    @Builder.Default
+    private List<String> failedWords = new ArrayList<>();
+
+    @Builder.Default
+    private Integer successCount = 0;
+
+    @Builder.Default
+    private Integer newlyCreatedCount = 0;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+}
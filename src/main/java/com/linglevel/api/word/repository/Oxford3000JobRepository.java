@@ -0,0 +1,9 @@
+package com.linglevel.api.word.repository;
+
+import com.linglevel.api.word.entity.Oxford3000Job;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface Oxford3000JobRepository extends MongoRepository<Oxford3000Job, String>, Oxford3000JobRepositoryCustom {
+}
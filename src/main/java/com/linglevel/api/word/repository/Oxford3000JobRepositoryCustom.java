@@ -0,0 +1,21 @@
+package com.linglevel.api.word.repository;
+
+import com.linglevel.api.word.entity.Oxford3000Job;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface Oxford3000JobRepositoryCustom {
+
+    /**
+     * 청크 처리 결과를 체크포인트에 반영 (처리/실패 단어 $addToSet, 카운트 $inc)
+     */
+    void recordProgress(String jobId, Collection<String> processedWords, Collection<String> failedWords,
+                        int successCount, int newlyCreatedCount, LocalDateTime updatedAt);
+
+    /**
+     * 작업 완료 처리
+     * @return 완료 처리된 작업 (없으면 null)
+     */
+    Oxford3000Job markCompleted(String jobId, LocalDateTime completedAt);
+}
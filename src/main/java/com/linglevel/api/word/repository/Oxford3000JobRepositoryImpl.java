@@ -0,0 +1,49 @@
+package com.linglevel.api.word.repository;
+
+import com.linglevel.api.word.entity.Oxford3000Job;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@RequiredArgsConstructor
+public class Oxford3000JobRepositoryImpl implements Oxford3000JobRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void recordProgress(String jobId, Collection<String> processedWords, Collection<String> failedWords,
+                               int successCount, int newlyCreatedCount, LocalDateTime updatedAt) {
+        Update update = new Update()
+                .inc("successCount", successCount)
+                .inc("newlyCreatedCount", newlyCreatedCount)
+                .set("updatedAt", updatedAt);
+        if (!processedWords.isEmpty()) {
+            update.addToSet("processedWords").each(processedWords.toArray());
+        }
+        if (!failedWords.isEmpty()) {
+            update.addToSet("failedWords").each(failedWords.toArray());
+        }
+
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(jobId)), update, Oxford3000Job.class);
+    }
+
+    @Override
+    public Oxford3000Job markCompleted(String jobId, LocalDateTime completedAt) {
+        Update update = new Update()
+                .set("status", Oxford3000Job.Status.COMPLETED)
+                .set("completedAt", completedAt)
+                .set("updatedAt", completedAt);
+
+        return mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(jobId)),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Oxford3000Job.class);
+    }
+}
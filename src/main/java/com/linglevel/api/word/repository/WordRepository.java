@@ -8,11 +8,12 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface WordRepository extends MongoRepository<Word, String> {
+public interface WordRepository extends MongoRepository<Word, String>, WordRepositoryCustom {
     /**
      * 단어와 언어 쌍으로 검색
      * 같은 단어도 언어 쌍별로 다른 Word 문서가 존재할 수 있음
@@ -32,6 +33,11 @@ public interface WordRepository extends MongoRepository<Word, String> {
         LanguageCode targetLanguageCode
     );
 
+    /**
+     * 여러 단어를 target 언어로 한 번에 검색
+     */
+    List<Word> findAllByWordInAndTargetLanguageCode(Collection<String> words, LanguageCode targetLanguageCode);
+
     @Query("{'word': {$regex: ?0, $options: 'i'}}")
     Page<Word> findByWordContainingIgnoreCase(String word, Pageable pageable);
 
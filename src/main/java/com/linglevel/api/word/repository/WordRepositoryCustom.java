@@ -0,0 +1,22 @@
+package com.linglevel.api.word.repository;
+
+import com.linglevel.api.i18n.LanguageCode;
+import com.linglevel.api.word.entity.Word;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface WordRepositoryCustom {
+
+    /**
+     * Word 일괄 저장 (unordered bulk insert, 언어 쌍 unique 인덱스 위반 등으로 실패한 문서는 건너뜀)
+     * @return 실제로 저장된 Word 목록
+     */
+    List<Word> insertAllIgnoringDuplicates(List<Word> words);
+
+    /**
+     * 원형 단어들의 target 언어 Word를 한 번에 필수 단어로 표시
+     * @return 실제로 변경된 문서 수
+     */
+    long markEssential(Collection<String> words, LanguageCode targetLanguageCode);
+}
@@ -0,0 +1,70 @@
+package com.linglevel.api.word.repository;
+
+import com.linglevel.api.i18n.LanguageCode;
+import com.linglevel.api.word.entity.Word;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Slf4j
+public class WordRepositoryImpl implements WordRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Word> insertAllIgnoringDuplicates(List<Word> words) {
+        if (words.isEmpty()) {
+            return List.of();
+        }
+
+        // bulk insert는 생성된 ID를 엔티티에 돌려주지 않으므로 미리 할당
+        words.stream()
+                .filter(word -> word.getId() == null)
+                .forEach(word -> word.setId(new ObjectId().toHexString()));
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Word.class)
+                    .insert(words)
+                    .execute();
+            return words;
+        } catch (BulkOperationException e) {
+            Set<Integer> failedIndexes = e.getErrors().stream()
+                    .map(BulkWriteError::getIndex)
+                    .collect(Collectors.toSet());
+            log.warn("Bulk insert of words partially failed: {} of {} skipped", failedIndexes.size(), words.size());
+
+            List<Word> inserted = new ArrayList<>(words.size() - failedIndexes.size());
+            for (int i = 0; i < words.size(); i++) {
+                if (!failedIndexes.contains(i)) {
+                    inserted.add(words.get(i));
+                }
+            }
+            return inserted;
+        }
+    }
+
+    @Override
+    public long markEssential(Collection<String> words, LanguageCode targetLanguageCode) {
+        if (words.isEmpty()) {
+            return 0;
+        }
+
+        Query query = new Query(Criteria.where("word").in(words)
+                .and("targetLanguageCode").is(targetLanguageCode)
+                .and("isEssential").ne(true));
+
+        return mongoTemplate.updateMulti(query, new Update().set("isEssential", true), Word.class)
+                .getModifiedCount();
+    }
+}
@@ -4,11 +4,12 @@ import com.linglevel.api.word.entity.WordVariant;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface WordVariantRepository extends MongoRepository<WordVariant, String> {
+public interface WordVariantRepository extends MongoRepository<WordVariant, String>, WordVariantRepositoryCustom {
     Optional<WordVariant> findByWord(String word);
 
     List<WordVariant> findAllByWord(String word);
@@ -18,4 +19,6 @@ public interface WordVariantRepository extends MongoRepository<WordVariant, Stri
     Optional<WordVariant> findByWordAndOriginalForm(String word, String originalForm);
 
     List<WordVariant> findAllByOriginalForm(String originalForm);
+
+    List<WordVariant> findAllByOriginalFormIn(Collection<String> originalForms);
 }
@@ -0,0 +1,14 @@
+package com.linglevel.api.word.repository;
+
+import com.linglevel.api.word.entity.WordVariant;
+
+import java.util.List;
+
+public interface WordVariantRepositoryCustom {
+
+    /**
+     * WordVariant 일괄 저장 (unordered bulk insert, (word, originalForm) unique 인덱스 위반은 건너뜀)
+     * @return 실제로 저장된 WordVariant 목록
+     */
+    List<WordVariant> insertAllIgnoringDuplicates(List<WordVariant> variants);
+}
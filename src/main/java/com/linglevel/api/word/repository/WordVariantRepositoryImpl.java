@@ -0,0 +1,53 @@
+package com.linglevel.api.word.repository;
+
+import com.linglevel.api.word.entity.WordVariant;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Slf4j
+public class WordVariantRepositoryImpl implements WordVariantRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<WordVariant> insertAllIgnoringDuplicates(List<WordVariant> variants) {
+        if (variants.isEmpty()) {
+            return List.of();
+        }
+
+        variants.stream()
+                .filter(variant -> variant.getId() == null)
+                .forEach(variant -> variant.setId(new ObjectId().toHexString()));
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WordVariant.class)
+                    .insert(variants)
+                    .execute();
+            return variants;
+        } catch (BulkOperationException e) {
+            Set<Integer> failedIndexes = e.getErrors().stream()
+                    .map(BulkWriteError::getIndex)
+                    .collect(Collectors.toSet());
+            log.warn("Bulk insert of word variants partially failed: {} of {} skipped", failedIndexes.size(), variants.size());
+
+            List<WordVariant> inserted = new ArrayList<>(variants.size() - failedIndexes.size());
+            for (int i = 0; i < variants.size(); i++) {
+                if (!failedIndexes.contains(i)) {
+                    inserted.add(variants.get(i));
+                }
+            }
+            return inserted;
+        }
+    }
+}
@@ -0,0 +1,460 @@
+package com.linglevel.api.word.service;
+
+import com.linglevel.api.common.ai.AiUnavailableException;
+import com.linglevel.api.i18n.LanguageCode;
+import com.linglevel.api.word.dto.Oxford3000InitResponse;
+import com.linglevel.api.word.dto.VariantType;
+import com.linglevel.api.word.dto.WordAnalysisResult;
+import com.linglevel.api.word.entity.Oxford3000Job;
+import com.linglevel.api.word.entity.Word;
+import com.linglevel.api.word.entity.WordVariant;
+import com.linglevel.api.word.exception.WordsErrorCode;
+import com.linglevel.api.word.exception.WordsException;
+import com.linglevel.api.word.repository.Oxford3000JobRepository;
+import com.linglevel.api.word.repository.WordRepository;
+import com.linglevel.api.word.repository.WordVariantRepository;
+import com.linglevel.api.word.validator.WordValidator;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Oxford 3000 일괄 초기화 작업
+ * - 청크 단위 처리: 변형/기존 Word 조회는 청크당 한 번, AI 분석은 제한된 워커 풀에서 병렬 실행
+ * - Bedrock 호출(재시도 포함)은 토큰 버킷으로 초당 호출 수 제한
+ * - 분석 결과(Word, WordVariant)는 청크별 bulk insert, 필수 단어 표시는 updateMulti 한 번
+ * - 청크가 끝날 때마다 체크포인트(Oxford3000Job)에 기록하여, 중단된 작업은 다음 실행 때 이어서 진행
+ */
+@Component
+@Slf4j
+public class Oxford3000BulkInitializer {
+
+    private static final int MAX_RETRY_ATTEMPTS = 3;
+
+    private final WordRepository wordRepository;
+    private final WordVariantRepository wordVariantRepository;
+    private final Oxford3000JobRepository oxford3000JobRepository;
+    private final WordService wordService;
+    private final WordAiService wordAiService;
+    private final WordValidator wordValidator;
+    private final WordLookupCache wordLookupCache;
+
+    private final int aiConcurrency;
+    private final int chunkSize;
+    private final long retryBackoffMillis;
+    private final Bucket aiCallBucket;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong processedWords = new AtomicLong();
+    private final AtomicLong remainingWords = new AtomicLong();
+    private volatile long runStartedNanos;
+
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+
+    public Oxford3000BulkInitializer(WordRepository wordRepository,
+                                     WordVariantRepository wordVariantRepository,
+                                     Oxford3000JobRepository oxford3000JobRepository,
+                                     WordService wordService,
+                                     WordAiService wordAiService,
+                                     WordValidator wordValidator,
+                                     WordLookupCache wordLookupCache,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${word.oxford3000.ai-concurrency:2}") int aiConcurrency,
+                                     @Value("${word.oxford3000.ai-calls-per-second:2}") int aiCallsPerSecond,
+                                     @Value("${word.oxford3000.chunk-size:50}") int chunkSize,
+                                     @Value("${word.oxford3000.retry-backoff-ms:1000}") long retryBackoffMillis) {
+        this.wordRepository = wordRepository;
+        this.wordVariantRepository = wordVariantRepository;
+        this.oxford3000JobRepository = oxford3000JobRepository;
+        this.wordService = wordService;
+        this.wordAiService = wordAiService;
+        this.wordValidator = wordValidator;
+        this.wordLookupCache = wordLookupCache;
+        this.aiConcurrency = Math.max(1, aiConcurrency);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.aiCallBucket = Bucket.builder()
+                .addLimit(Bandwidth.classic(aiCallsPerSecond, Refill.greedy(aiCallsPerSecond, Duration.ofSeconds(1))))
+                .build();
+
+        Gauge.builder("oxford3000.job.remaining", remainingWords, AtomicLong::get)
+                .description("Words left in the running Oxford 3000 job")
+                .register(meterRegistry);
+        Gauge.builder("oxford3000.job.throughput", this, Oxford3000BulkInitializer::throughput)
+                .description("Words per second processed by the running Oxford 3000 job")
+                .register(meterRegistry);
+        Gauge.builder("oxford3000.job.eta", this, Oxford3000BulkInitializer::etaSeconds)
+                .description("Estimated seconds until the running Oxford 3000 job completes")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.succeededCounter = meterRegistry.counter("oxford3000.job.words", "outcome", "succeeded");
+        this.failedCounter = meterRegistry.counter("oxford3000.job.words", "outcome", "failed");
+    }
+
+    /**
+     * 단어 목록을 필수 단어로 등록 (대상 언어의 중단된 작업이 있으면 이어서 진행)
+     *
+     * @param targetLanguage 번역 대상 언어
+     * @param wordsToProcess 아직 필수 단어로 등록되지 않은 CSV 단어
+     * @param alreadyExistCount 이미 등록되어 건너뛴 단어 수
+     */
+    public Oxford3000InitResponse run(LanguageCode targetLanguage, List<String> wordsToProcess, int alreadyExistCount) {
+        if (!running.compareAndSet(false, true)) {
+            throw new WordsException(WordsErrorCode.OXFORD3000_JOB_ALREADY_RUNNING);
+        }
+
+        try {
+            Oxford3000Job job = startOrResume(targetLanguage, wordsToProcess.size(), alreadyExistCount);
+
+            Set<String> alreadyProcessed = new HashSet<>(job.getProcessedWords());
+            List<String> pending = wordsToProcess.stream()
+                    .filter(word -> !alreadyProcessed.contains(word.toLowerCase(Locale.ROOT)))
+                    .collect(Collectors.toList());
+            log.info("Processing {} words ({} already processed by this job)",
+                     pending.size(), wordsToProcess.size() - pending.size());
+
+            processAll(job.getId(), pending, targetLanguage);
+
+            Oxford3000Job completed = oxford3000JobRepository.markCompleted(job.getId(), LocalDateTime.now());
+            return toResponse(completed);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Oxford3000Job startOrResume(LanguageCode targetLanguage, int totalWords, int alreadyExistCount) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<Oxford3000Job> existing = oxford3000JobRepository.findById(targetLanguage.getCode());
+
+        if (existing.isPresent() && existing.get().getStatus() == Oxford3000Job.Status.RUNNING) {
+            Oxford3000Job job = existing.get();
+            log.info("Resuming interrupted Oxford 3000 job for {} (started at {}, {} words processed)",
+                     targetLanguage, job.getStartedAt(), job.getProcessedWords().size());
+
+            // 이전 실행에서 실패한 단어는 다시 시도
+            job.setFailedWords(new ArrayList<>());
+            job.setUpdatedAt(now);
+            oxford3000JobRepository.save(job);
+            return job;
+        }
+
+        Oxford3000Job job = Oxford3000Job.builder()
+                .id(targetLanguage.getCode())
+                .targetLanguageCode(targetLanguage)
+                .status(Oxford3000Job.Status.RUNNING)
+                .totalWords(totalWords)
+                .alreadyExistCount(alreadyExistCount)
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+        oxford3000JobRepository.save(job);
+        return job;
+    }
+
+    private void processAll(String jobId, List<String> pending, LanguageCode targetLanguage) {
+        processedWords.set(0);
+        remainingWords.set(pending.size());
+        runStartedNanos = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(aiConcurrency);
+        try {
+            for (int from = 0; from < pending.size(); from += chunkSize) {
+                List<String> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+                ChunkResult result = processChunk(chunk, targetLanguage, executor);
+
+                oxford3000JobRepository.recordProgress(jobId, result.processedWords(), result.failedWords(),
+                        result.processedWords().size(), result.newlyCreatedCount(), LocalDateTime.now());
+
+                succeededCounter.increment(result.processedWords().size());
+                failedCounter.increment(result.failedWords().size());
+                processedWords.addAndGet(chunk.size());
+                remainingWords.addAndGet(-chunk.size());
+
+                log.info("Progress: {}/{} words processed ({} failed in last chunk), {} words/s, ETA {}s",
+                         processedWords.get(), pending.size(), result.failedWords().size(),
+                         String.format("%.2f", throughput()), Math.round(etaSeconds()));
+            }
+        } finally {
+            executor.shutdownNow();
+            runStartedNanos = 0;
+            remainingWords.set(0);
+        }
+    }
+
+    /**
+     * 청크 처리: 원형 찾기 → 없는 원형만 AI 분석 → bulk 저장 → 필수 단어 표시
+     */
+    private ChunkResult processChunk(List<String> chunk, LanguageCode targetLanguage, ExecutorService executor) {
+        List<String> failed = new ArrayList<>();
+
+        // 1. 전처리 후 WordVariant에서 원형 찾기 (청크당 한 번 조회)
+        Map<String, String> validatedByWord = new LinkedHashMap<>();
+        for (String word : chunk) {
+            try {
+                validatedByWord.put(word, wordValidator.validateAndPreprocess(word));
+            } catch (WordsException e) {
+                log.error("Invalid Oxford 3000 word '{}': {}", word, e.getMessage());
+                failed.add(word);
+            }
+        }
+
+        Map<String, String> originalByValidated = new HashMap<>();
+        if (!validatedByWord.isEmpty()) {
+            wordVariantRepository.findByWordIn(new ArrayList<>(new LinkedHashSet<>(validatedByWord.values())))
+                    .forEach(variant -> originalByValidated.putIfAbsent(variant.getWord(), variant.getOriginalForm()));
+        }
+
+        Map<String, String> originalByWord = new LinkedHashMap<>();
+        validatedByWord.forEach((word, validated) ->
+                originalByWord.put(word, originalByValidated.getOrDefault(validated, validated)));
+        Set<String> originals = new LinkedHashSet<>(originalByWord.values());
+
+        // 2. 대상 언어 Word가 이미 있는 원형 확인 (청크당 한 번 조회)
+        Set<String> existingOriginals = originals.isEmpty() ? Set.of() :
+                wordRepository.findAllByWordInAndTargetLanguageCode(originals, targetLanguage).stream()
+                        .map(Word::getWord)
+                        .collect(Collectors.toSet());
+
+        // 3. 없는 원형만 AI 분석 (워커 풀 + 토큰 버킷)
+        Map<String, Future<List<WordAnalysisResult>>> futures = new LinkedHashMap<>();
+        for (String original : originals) {
+            if (!existingOriginals.contains(original)) {
+                futures.put(original, executor.submit(() -> analyzeWithRetry(original, targetLanguage)));
+            }
+        }
+
+        Map<String, List<WordAnalysisResult>> analyses = new LinkedHashMap<>();
+        futures.forEach((original, future) -> {
+            try {
+                analyses.put(original, future.get());
+            } catch (ExecutionException e) {
+                log.error("Failed to analyze word '{}' after {} attempts: {}",
+                          original, MAX_RETRY_ATTEMPTS, e.getCause().getMessage(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while analyzing Oxford 3000 words", e);
+            }
+        });
+
+        // 4. 분석 결과 bulk 저장 후 필수 단어 표시
+        Set<String> createdOriginals = saveAnalyses(analyses, targetLanguage);
+
+        Set<String> essentialOriginals = new HashSet<>(existingOriginals);
+        essentialOriginals.addAll(createdOriginals);
+        if (!essentialOriginals.isEmpty()) {
+            wordRepository.markEssential(essentialOriginals, targetLanguage);
+            wordLookupCache.evictWords(essentialOriginals, targetLanguage);
+        }
+
+        List<String> processed = new ArrayList<>();
+        int newlyCreatedCount = 0;
+        for (Map.Entry<String, String> entry : originalByWord.entrySet()) {
+            String original = entry.getValue();
+            if (essentialOriginals.contains(original)) {
+                processed.add(entry.getKey().toLowerCase(Locale.ROOT));
+                if (createdOriginals.contains(original)) {
+                    newlyCreatedCount++;
+                }
+            } else {
+                failed.add(entry.getKey());
+            }
+        }
+
+        return new ChunkResult(processed, failed, newlyCreatedCount);
+    }
+
+    /**
+     * AI 분석 결과를 Word/WordVariant로 bulk insert (WordService.saveWordFromAnalysis와 같은 규칙)
+     *
+     * @return 요청한 원형의 Word가 분석 결과에 포함된 원형 목록
+     */
+    private Set<String> saveAnalyses(Map<String, List<WordAnalysisResult>> analyses, LanguageCode targetLanguage) {
+        if (analyses.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> createdOriginals = new HashSet<>();
+        Map<String, Word> candidates = new LinkedHashMap<>();
+        Map<String, WordVariant> inputVariants = new LinkedHashMap<>();
+
+        analyses.forEach((original, results) -> {
+            for (WordAnalysisResult result : results) {
+                Word word = candidates.computeIfAbsent(
+                        pairKey(result.getOriginalForm(), result.getSourceLanguageCode(), result.getTargetLanguageCode()),
+                        key -> wordService.convertAnalysisResultToWord(result));
+
+                if (original.equals(result.getOriginalForm())) {
+                    word.setIsEssential(true);
+                    createdOriginals.add(original);
+                }
+
+                List<VariantType> variantTypes = result.getVariantTypes() != null && !result.getVariantTypes().isEmpty()
+                        ? result.getVariantTypes()
+                        : List.of(VariantType.ORIGINAL_FORM);
+                inputVariants.putIfAbsent(variantKey(original, result.getOriginalForm()), WordVariant.builder()
+                        .word(original)
+                        .originalForm(result.getOriginalForm())
+                        .variantTypes(variantTypes)
+                        .build());
+            }
+
+            if (!createdOriginals.contains(original)) {
+                log.error("AI analysis of '{}' did not return the word itself as an original form", original);
+            }
+        });
+
+        // 언어 쌍별로 이미 저장된 Word 제외 후 bulk insert
+        Set<String> candidateWords = candidates.values().stream().map(Word::getWord).collect(Collectors.toSet());
+        Set<String> existingKeys = wordRepository.findAllByWordInAndTargetLanguageCode(candidateWords, targetLanguage).stream()
+                .map(word -> pairKey(word.getWord(), word.getSourceLanguageCode(), word.getTargetLanguageCode()))
+                .collect(Collectors.toSet());
+
+        List<Word> newWords = candidates.entrySet().stream()
+                .filter(entry -> !existingKeys.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+        List<Word> savedWords = wordRepository.insertAllIgnoringDuplicates(newWords);
+        wordLookupCache.evictWords(savedWords.stream().map(Word::getWord).toList(), targetLanguage);
+
+        // 새로 저장된 Word의 변형 형태 + 입력 단어 → 원형 WordVariant
+        List<WordVariant> relatedVariants = savedWords.stream()
+                .flatMap(word -> wordService.buildRelatedFormVariants(word).stream())
+                .collect(Collectors.toList());
+
+        Set<String> variantWords = new HashSet<>();
+        relatedVariants.forEach(variant -> variantWords.add(variant.getWord()));
+        inputVariants.values().forEach(variant -> variantWords.add(variant.getWord()));
+
+        List<WordVariant> existingVariants = wordVariantRepository.findByWordIn(new ArrayList<>(variantWords));
+        Set<String> existingVariantWords = existingVariants.stream()
+                .map(WordVariant::getWord)
+                .collect(Collectors.toSet());
+        Set<String> existingVariantKeys = existingVariants.stream()
+                .map(variant -> variantKey(variant.getWord(), variant.getOriginalForm()))
+                .collect(Collectors.toSet());
+
+        Map<String, WordVariant> newVariants = new LinkedHashMap<>();
+        relatedVariants.stream()
+                .filter(variant -> !existingVariantWords.contains(variant.getWord()))
+                .forEach(variant -> newVariants.putIfAbsent(variantKey(variant.getWord(), variant.getOriginalForm()), variant));
+        inputVariants.forEach((key, variant) -> {
+            if (!existingVariantKeys.contains(key)) {
+                newVariants.putIfAbsent(key, variant);
+            }
+        });
+
+        List<WordVariant> savedVariants = wordVariantRepository.insertAllIgnoringDuplicates(new ArrayList<>(newVariants.values()));
+        wordLookupCache.evictVariants(savedVariants.stream().map(WordVariant::getWord).collect(Collectors.toSet()));
+
+        log.info("Saved {} words and {} variants for {} analyzed words",
+                 savedWords.size(), savedVariants.size(), analyses.size());
+        return createdOriginals;
+    }
+
+    private List<WordAnalysisResult> analyzeWithRetry(String originalForm, LanguageCode targetLanguage) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            aiCallBucket.asBlocking().consume(1);
+            try {
+                return wordAiService.analyzeWordInBackground(originalForm, targetLanguage.getCode());
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_RETRY_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Failed to analyze word '{}' (attempt {}/{}): {}. Retrying...",
+                         originalForm, attempt, MAX_RETRY_ATTEMPTS, e.getMessage());
+                long backoffMillis = retryBackoffMillis * attempt;
+                // AI 보호 계층이 거절한 경우 안내된 시간만큼 기다린 뒤 재시도
+                if (e instanceof AiUnavailableException unavailable) {
+                    backoffMillis = Math.max(backoffMillis, TimeUnit.SECONDS.toMillis(unavailable.getRetryAfterSeconds()));
+                }
+                TimeUnit.MILLISECONDS.sleep(backoffMillis);
+            }
+        }
+    }
+
+    /**
+     * 실행 중인 작업의 초당 처리 단어 수 (실행 중이 아니면 0)
+     */
+    double throughput() {
+        long startedNanos = runStartedNanos;
+        if (startedNanos == 0) {
+            return 0;
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startedNanos) / 1_000_000_000.0;
+        return elapsedSeconds > 0 ? processedWords.get() / elapsedSeconds : 0;
+    }
+
+    /**
+     * 실행 중인 작업의 남은 예상 시간(초), 아직 처리량을 알 수 없으면 NaN
+     */
+    double etaSeconds() {
+        long remaining = remainingWords.get();
+        if (remaining == 0) {
+            return 0;
+        }
+
+        double throughput = throughput();
+        return throughput > 0 ? remaining / throughput : Double.NaN;
+    }
+
+    private Oxford3000InitResponse toResponse(Oxford3000Job job) {
+        int failureCount = job.getFailedWords().size();
+
+        log.info("============================================================");
+        log.info("Oxford 3000 initialization completed!");
+        log.info("Duration: {} seconds", Duration.between(job.getStartedAt(), job.getCompletedAt()).getSeconds());
+        log.info("Already registered (skipped): {}", job.getAlreadyExistCount());
+        log.info("Attempted to process: {}", job.getTotalWords());
+        log.info("Successfully processed: {}", job.getSuccessCount());
+        log.info("Newly created: {}", job.getNewlyCreatedCount());
+        log.info("Failed: {}", failureCount);
+        if (failureCount > 0) {
+            log.error("Failed words: {}", String.join(", ", job.getFailedWords()));
+        }
+        log.info("============================================================");
+
+        return Oxford3000InitResponse.builder()
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .totalWords(job.getTotalWords())
+                .successCount(job.getSuccessCount())
+                .failureCount(failureCount)
+                .alreadyExistCount(job.getAlreadyExistCount())
+                .newlyCreatedCount(job.getNewlyCreatedCount())
+                .failedWords(job.getFailedWords())
+                .message(String.format("Processed %d words (%d skipped, %d succeeded, %d failed)",
+                         job.getTotalWords(), job.getAlreadyExistCount(), job.getSuccessCount(), failureCount))
+                .build();
+    }
+
+    private static String pairKey(String word, LanguageCode sourceLanguage, LanguageCode targetLanguage) {
+        return word + ":" + sourceLanguage + ":" + targetLanguage;
+    }
+
+    private static String variantKey(String word, String originalForm) {
+        return word + "->" + originalForm;
+    }
+
+    private record ChunkResult(List<String> processedWords, List<String> failedWords, int newlyCreatedCount) {
+    }
+}
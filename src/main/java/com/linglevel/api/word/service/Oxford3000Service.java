@@ -17,11 +17,11 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,22 +30,20 @@ import java.util.stream.Collectors;
 public class Oxford3000Service {
 
     private final WordRepository wordRepository;
-    private final WordService wordService;
-    private final com.linglevel.api.word.validator.WordValidator wordValidator;
     private final com.linglevel.api.word.repository.WordVariantRepository wordVariantRepository;
+    private final WordLookupCache wordLookupCache;
+    private final Oxford3000BulkInitializer oxford3000BulkInitializer;
 
     private static final String OXFORD3000_CSV_PATH = "data/oxford3000_final_cleaned.csv";
-    private static final int MAX_RETRY_ATTEMPTS = 3;
 
     /**
      * Oxford 3000 단어를 초기화합니다.
+     * 실제 처리는 {@link Oxford3000BulkInitializer}가 청크 단위로 수행하며, 중단된 작업은 이어서 진행합니다.
      *
      * @param targetLanguage 번역 대상 언어
      * @return Oxford3000InitResponse
      */
-    @Transactional
     public Oxford3000InitResponse initializeOxford3000(LanguageCode targetLanguage) {
-        LocalDateTime startedAt = LocalDateTime.now();
         log.info("============================================================");
         log.info("Starting Oxford 3000 initialization");
         log.info("Target Language: {}", targetLanguage);
@@ -56,7 +54,7 @@ public class Oxford3000Service {
         log.info("Step 1: Loaded {} words from Oxford 3000 CSV", csvWords.size());
 
         // 2. 이미 등록된 essential 단어 목록 조회 (대소문자 무시)
-        List<String> existingEssentialWords = getEssentialWordsList(targetLanguage);
+        Set<String> existingEssentialWords = new HashSet<>(getEssentialWordsList(targetLanguage));
         log.info("Step 2: Found {} already registered essential words", existingEssentialWords.size());
 
         // 3. 차집합 계산 (등록이 필요한 단어만 필터링)
@@ -68,144 +66,7 @@ public class Oxford3000Service {
         log.info("Step 3: {} words already registered, {} words to process",
                  skippedCount, wordsToProcess.size());
 
-        log.info("============================================================");
-        log.info("Processing {} words...", wordsToProcess.size());
-        log.info("============================================================");
-
-        // 4. 통계 정보
-        int successCount = 0;
-        int failureCount = 0;
-        int newlyCreatedCount = 0;
-        List<String> failedWords = new ArrayList<>();
-
-        // 5. 각 단어 처리 (최대 3번 재시도)
-        for (int i = 0; i < wordsToProcess.size(); i++) {
-            String word = wordsToProcess.get(i);
-            boolean processed = false;
-
-            for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
-                try {
-                    boolean existed = processWord(word, targetLanguage);
-                    successCount++;
-
-                    if (!existed) {
-                        newlyCreatedCount++;
-                    }
-
-                    processed = true;
-
-                    // 진행 상황 로깅 (10개마다, 또는 100개마다)
-                    if ((wordsToProcess.size() <= 50 && (i + 1) % 10 == 0) ||
-                        (wordsToProcess.size() > 50 && (i + 1) % 100 == 0)) {
-                        log.info("Progress: {}/{} words processed ({} succeeded, {} failed)",
-                                 i + 1, wordsToProcess.size(), successCount, failureCount);
-                    }
-
-                    break; // 성공하면 재시도 중단
-
-                } catch (Exception e) {
-                    if (attempt < MAX_RETRY_ATTEMPTS) {
-                        log.warn("Failed to process word '{}' (attempt {}/{}): {}. Retrying...",
-                                 word, attempt, MAX_RETRY_ATTEMPTS, e.getMessage());
-                    } else {
-                        log.error("Failed to process word '{}' after {} attempts: {}",
-                                  word, MAX_RETRY_ATTEMPTS, e.getMessage(), e);
-                    }
-                }
-            }
-
-            // 모든 재시도 실패
-            if (!processed) {
-                failureCount++;
-                failedWords.add(word);
-            }
-        }
-
-        LocalDateTime completedAt = LocalDateTime.now();
-        long durationSeconds = java.time.Duration.between(startedAt, completedAt).getSeconds();
-
-        log.info("============================================================");
-        log.info("Oxford 3000 initialization completed!");
-        log.info("Duration: {} seconds ({} minutes)", durationSeconds, durationSeconds / 60);
-        log.info("Total CSV words: {}", csvWords.size());
-        log.info("Already registered (skipped): {}", skippedCount);
-        log.info("Attempted to process: {}", wordsToProcess.size());
-        log.info("Successfully processed: {}", successCount);
-        log.info("Newly created: {}", newlyCreatedCount);
-        log.info("Failed: {}", failureCount);
-        if (!failedWords.isEmpty()) {
-            log.error("Failed words: {}", String.join(", ", failedWords));
-        }
-        log.info("============================================================");
-
-        return Oxford3000InitResponse.builder()
-                .startedAt(startedAt)
-                .completedAt(completedAt)
-                .totalWords(wordsToProcess.size())
-                .successCount(successCount)
-                .failureCount(failureCount)
-                .alreadyExistCount(skippedCount)
-                .newlyCreatedCount(newlyCreatedCount)
-                .failedWords(failedWords)
-                .message(String.format("Processed %d words (%d skipped, %d succeeded, %d failed)",
-                         wordsToProcess.size(), skippedCount, successCount, failureCount))
-                .build();
-    }
-
-    /**
-     * 개별 단어 처리
-     *
-     * @param word 처리할 단어
-     * @param targetLanguage 번역 대상 언어
-     * @return true: 이미 존재했던 단어, false: 새로 생성된 단어
-     */
-    @Transactional
-    public boolean processWord(String word, LanguageCode targetLanguage) {
-        String validatedWord = wordValidator.validateAndPreprocess(word);
-        log.debug("Word validated and preprocessed: '{}' -> '{}'", word, validatedWord);
-
-        // 1. WordVariant에서 원형 찾기
-        List<WordVariant> variants =
-                wordVariantRepository.findAllByWord(validatedWord);
-        String originalForm;
-
-        if (!variants.isEmpty()) {
-            originalForm = variants.get(0).getOriginalForm();
-            log.info("Found variant '{}' -> original form '{}'", validatedWord, originalForm);
-        } else {
-            originalForm = validatedWord;
-        }
-
-        // 2. targetLanguage와 일치하는 Word가 있는지 확인
-        Optional<Word> existingWord = wordRepository.findByWordAndTargetLanguageCode(
-                originalForm, targetLanguage);
-
-        Word wordToUpdate;
-        boolean existed = existingWord.isPresent();
-
-        if (existed) {
-            // 이미 존재하면 재사용
-            wordToUpdate = existingWord.get();
-            log.info("Word '{}' already exists for target language {}, reusing",
-                     originalForm, targetLanguage);
-        } else {
-            // 없으면 AI로 생성
-            wordService.forceReanalyzeWord(originalForm, targetLanguage, false);
-
-            // 생성된 결과 조회
-            wordToUpdate = wordRepository.findByWordAndTargetLanguageCode(
-                    originalForm, targetLanguage)
-                    .orElseThrow(() -> new WordsException(WordsErrorCode.WORD_NOT_FOUND));
-        }
-
-        // 3. isEssential=true 설정
-        if (!Boolean.TRUE.equals(wordToUpdate.getIsEssential())) {
-            wordToUpdate.setIsEssential(true);
-            wordRepository.save(wordToUpdate);
-            log.info("Set isEssential=true for Oxford 3000 word: {}", wordToUpdate.getWord());
-        }
-
-        return existed;
+        return oxford3000BulkInitializer.run(targetLanguage, wordsToProcess, skippedCount);
     }
 
     /**
@@ -218,10 +79,12 @@ public class Oxford3000Service {
             try (BufferedReader reader = new BufferedReader(
                     new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
 
+                Set<String> seen = new HashSet<>();
                 return reader.lines()
                         .skip(1) // 헤더 스킵 ("word")
                         .map(String::trim)
                         .filter(line -> !line.isEmpty())
+                        .filter(line -> seen.add(line.toLowerCase())) // 대소문자 무시 중복 제거
                         .collect(Collectors.toList());
             }
 
@@ -278,13 +141,11 @@ public class Oxford3000Service {
                 .distinct()
                 .collect(Collectors.toList());
 
-        // 각 원형의 변형 형태들도 가져오기
+        // 각 원형의 변형 형태들도 가져오기 (한 번의 쿼리로 조회)
         List<String> allFormsIncludingVariants = new ArrayList<>(originalForms);
 
-        for (String originalForm : originalForms) {
-            List<WordVariant> variants =
-                    wordVariantRepository.findAllByOriginalForm(originalForm);
-            variants.stream()
+        if (!originalForms.isEmpty()) {
+            wordVariantRepository.findAllByOriginalFormIn(originalForms).stream()
                     .map(WordVariant::getWord)
                     .map(String::toLowerCase)
                     .forEach(allFormsIncludingVariants::add);
@@ -310,6 +171,7 @@ public class Oxford3000Service {
 
         word.setIsEssential(isEssential);
         wordRepository.save(word);
+        wordLookupCache.evictWord(word.getWord(), word.getTargetLanguageCode());
 
         log.info("Updated word '{}' isEssential={}", word.getWord(), isEssential);
     }
@@ -1,5 +1,9 @@
 package com.linglevel.api.word.service;
 
+import com.linglevel.api.common.ai.AiCallGuard;
+import com.linglevel.api.common.ai.AiUnavailableException;
+import com.linglevel.api.common.ai.AiUsageMetrics;
+import com.linglevel.api.common.ai.CompiledPromptTemplate;
 import com.linglevel.api.word.dto.WordAnalysisResult;
 import com.linglevel.api.word.exception.WordsErrorCode;
 import com.linglevel.api.word.exception.WordsException;
@@ -12,24 +16,38 @@ import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
-import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.ai.converter.BeanOutputConverter;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class WordAiService {
 
-    private final ChatModel chatModel;
+    private static final String OPERATION = "word-analysis";
+
+    private final ChatClient chatClient;
+    private final AiUsageMetrics aiUsageMetrics;
+    private final AiCallGuard aiCallGuard;
     private final Validator validator;
 
-    public WordAiService(ChatModel chatModel) {
-        this.chatModel = chatModel;
+    // 템플릿/JSON 스키마/컨버터는 한 번만 만들어 재사용
+    private final BeanOutputConverter<WordAnalysisResult[]> outputConverter;
+    private final CompiledPromptTemplate promptTemplate;
+
+    public WordAiService(ChatModel chatModel, AiUsageMetrics aiUsageMetrics, AiCallGuard aiCallGuard) {
+        this.chatClient = ChatClient.create(chatModel);
+        this.aiUsageMetrics = aiUsageMetrics;
+        this.aiCallGuard = aiCallGuard;
         ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
         this.validator = factory.getValidator();
+
+        this.outputConverter = new BeanOutputConverter<>(WordAnalysisResult[].class);
+        this.promptTemplate = CompiledPromptTemplate.compile(
+                PROMPT_TEMPLATE, Map.of("format", outputConverter.getFormat()), "word", "targetLanguage");
     }
 
     private static final String PROMPT_TEMPLATE = """
@@ -150,49 +168,34 @@ public class WordAiService {
             """;
 
     public List<WordAnalysisResult> analyzeWord(String word, String targetLanguage) {
-        try {
-            BeanOutputConverter<WordAnalysisResult[]> outputConverter =
-                new BeanOutputConverter<>(WordAnalysisResult[].class);
+        return analyzeWord(word, targetLanguage, false);
+    }
 
-            String format = outputConverter.getFormat();
+    /**
+     * 배치 작업용 단어 분석 (요청 트래픽용 AI 호출 자리를 사용하지 않음)
+     */
+    public List<WordAnalysisResult> analyzeWordInBackground(String word, String targetLanguage) {
+        return analyzeWord(word, targetLanguage, true);
+    }
 
-            PromptTemplate promptTemplate = new PromptTemplate(PROMPT_TEMPLATE);
-            Prompt prompt = promptTemplate.create(Map.of(
+    private List<WordAnalysisResult> analyzeWord(String word, String targetLanguage, boolean background) {
+        try {
+            Prompt prompt = new Prompt(promptTemplate.render(Map.of(
                 "word", word,
-                "targetLanguage", targetLanguage,
-                "format", format
-            ));
+                "targetLanguage", targetLanguage
+            )));
 
-            ChatResponse chatResponse = ChatClient.create(chatModel)
+            // 타임아웃/벌크헤드/서킷 브레이커로 거절된 호출도 지연 시간 메트릭에 error로 기록
+            Supplier<ChatResponse> call = () -> chatClient
                     .prompt(prompt)
                     .call()
                     .chatResponse();
+            ChatResponse chatResponse = aiUsageMetrics.record(OPERATION, () -> background
+                    ? aiCallGuard.executeBackground(OPERATION, call)
+                    : aiCallGuard.execute(OPERATION, call));
 
             String response = chatResponse.getResult().getOutput().getText();
 
-            // 토큰 사용량 및 비용 로깅
-            if (chatResponse.getMetadata() != null && chatResponse.getMetadata().getUsage() != null) {
-                var usage = chatResponse.getMetadata().getUsage();
-                long inputTokens = usage.getPromptTokens();
-                long outputTokens = usage.getGenerationTokens();
-                long totalTokens = usage.getTotalTokens();
-
-                double inputCostUsd = (inputTokens / 1000.0) * 0.00017;
-                double outputCostUsd = (outputTokens / 1000.0) * 0.000085;
-                double totalCostUsd = inputCostUsd + outputCostUsd;
-
-                // 환율: 1 USD = 1430 KRW
-                double totalCostKrw = totalCostUsd * 1430;
-
-                log.info("📊 Token Usage for word '{}': Input={}, Output={}, Total={}",
-                    word, inputTokens, outputTokens, totalTokens);
-                log.info("💰 Cost: ${} (₩{}) = Input: ${} + Output: ${}",
-                    String.format("%.6f", totalCostUsd),
-                    String.format("%.2f", totalCostKrw),
-                    String.format("%.6f", inputCostUsd),
-                    String.format("%.6f", outputCostUsd));
-            }
-
             // 전체 응답은 debug 레벨로만 출력 (응답이 길어서 info 레벨에서는 제외)
             log.debug("AI Response for word '{}' (target: {}): {}", word, targetLanguage, response);
 
@@ -223,6 +226,10 @@ public class WordAiService {
             log.info("✅ AI analysis completed for '{}': {} result(s) - {}", word, mergedResults.size(), summary);
 
             return mergedResults;
+        } catch (AiUnavailableException e) {
+            // 재시도 가능한 거절은 감싸지 않고 그대로 전달 (503)
+            log.warn("AI word analysis for '{}' rejected: {}", word, e.getReason());
+            throw e;
         } catch (Exception e) {
             log.error("Failed to analyze word '{}' with AI (target: {})", word, targetLanguage, e);
             throw new RuntimeException("AI word analysis failed for word: " + word, e);
@@ -0,0 +1,193 @@
+package com.linglevel.api.word.service;
+
+import com.linglevel.api.i18n.LanguageCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * AI 단어 분석 single-flight
+ * - 노드 내: 같은 키(정규화된 단어 + 대상 언어)의 동시 요청은 진행 중인 분석 하나를 공유하고 결과(또는 예외)를 함께 받음
+ * - 노드 간: Redis 리스(SET NX + TTL)를 잡은 노드만 분석하고, 나머지는 DB에 결과가 생길 때까지 조회하며 대기
+ *   리스가 풀렸는데 결과가 없으면(분석 실패) 직접 리스를 잡고, 리스 TTL만큼 기다려도 결과가 없으면 리스 없이 분석
+ * - Redis 장애 시에는 노드 내 coalescing만 적용
+ */
+@Component
+@Slf4j
+public class WordAnalysisSingleFlight {
+
+    private static final String LEASE_KEY_PREFIX = "word:analysis:lease:";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final boolean distributed;
+    private final Duration leaseTtl;
+    private final long pollMillis;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaderCounter;
+    private final Counter coalescedCounter;
+    private final Counter remoteWaitCounter;
+
+    public WordAnalysisSingleFlight(RedisTemplate<String, Object> redisTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${word.analysis.single-flight.distributed:true}") boolean distributed,
+                                    @Value("${word.analysis.single-flight.lease-seconds:30}") long leaseSeconds,
+                                    @Value("${word.analysis.single-flight.poll-ms:200}") long pollMillis) {
+        this.redisTemplate = redisTemplate;
+        this.distributed = distributed;
+        this.leaseTtl = Duration.ofSeconds(leaseSeconds);
+        this.pollMillis = pollMillis;
+
+        this.leaderCounter = meterRegistry.counter("word.analysis.single-flight", "role", "leader");
+        this.coalescedCounter = meterRegistry.counter("word.analysis.single-flight", "role", "coalesced");
+        this.remoteWaitCounter = meterRegistry.counter("word.analysis.single-flight", "role", "remote-wait");
+    }
+
+    /**
+     * 단어 조회/분석에 공통으로 사용할 정규화된 단어 (앞뒤 공백 제거 + 소문자)
+     */
+    public static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * single-flight 키 (word는 lookup/loader에서 사용하는 값 그대로 전달해야 같은 키가 같은 결과를 가리킴)
+     */
+    public static String key(String word, LanguageCode targetLanguage) {
+        return word + ":" + targetLanguage.getCode();
+    }
+
+    /**
+     * 같은 키의 분석을 한 번만 실행
+     *
+     * @param key 용도 접두사 + {@link #key(String, LanguageCode)}
+     * @param lookup 다른 노드가 저장한 결과 조회 (아직 없으면 null)
+     * @param loader AI 분석 + 저장
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> lookup, Supplier<T> loader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedCounter.increment();
+            log.debug("Joining in-flight word analysis: {}", key);
+            return (T) await(existing);
+        }
+
+        leaderCounter.increment();
+        try {
+            T result = distributed ? runWithLease(key, lookup, loader) : loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private <T> T runWithLease(String key, Supplier<T> lookup, Supplier<T> loader) {
+        String leaseKey = LEASE_KEY_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + leaseTtl.toNanos();
+        boolean waited = false;
+
+        while (true) {
+            Boolean acquired = tryAcquire(leaseKey, token);
+            if (acquired == null) {
+                return loader.get();
+            }
+
+            if (acquired) {
+                try {
+                    // 리스를 잡기 직전에 다른 노드가 저장을 끝냈을 수 있음
+                    T stored = waited ? lookup.get() : null;
+                    return stored != null ? stored : loader.get();
+                } finally {
+                    release(leaseKey, token);
+                }
+            }
+
+            if (!waited) {
+                remoteWaitCounter.increment();
+                log.debug("Word analysis {} is running on another node, waiting for its result", key);
+                waited = true;
+            }
+
+            sleep();
+            T stored = lookup.get();
+            if (stored != null) {
+                return stored;
+            }
+
+            if (System.nanoTime() > deadline) {
+                log.warn("Timed out waiting for remote word analysis {}, analyzing locally", key);
+                return loader.get();
+            }
+        }
+    }
+
+    /**
+     * @return 리스 획득 여부, Redis 장애 시 null
+     */
+    private Boolean tryAcquire(String leaseKey, String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey, token, leaseTtl));
+        } catch (Exception e) {
+            log.warn("Failed to acquire word analysis lease - key: {}", leaseKey, e);
+            return null;
+        }
+    }
+
+    private void release(String leaseKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey), token);
+        } catch (Exception e) {
+            log.warn("Failed to release word analysis lease - key: {}", leaseKey, e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(pollMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for word analysis", e);
+        }
+    }
+}
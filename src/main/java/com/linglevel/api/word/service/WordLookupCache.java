@@ -0,0 +1,216 @@
+package com.linglevel.api.word.service;
+
+import com.linglevel.api.i18n.LanguageCode;
+import com.linglevel.api.word.entity.Word;
+import com.linglevel.api.word.entity.WordVariant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 단어 조회 2단계 read-through 캐시
+ * - 변형 단어 → WordVariant 목록, (원형, 대상 언어) → Word, 무효 단어 → 실패 횟수(negative)
+ * - L1: 프로세스 내 LRU (엔트리 수 상한 + 짧은 TTL), L2: Redis (TTL)
+ * 이 인스턴스의 쓰기 경로는 해당 키를 L1/L2에서 바로 지우고, 다른 인스턴스의 L1은 TTL 안에 반영됩니다.
+ * 조회 결과가 없으면(null) 캐시하지 않습니다. Redis 장애 시에는 L1과 DB만 사용합니다.
+ */
+@Component
+@Slf4j
+public class WordLookupCache {
+
+    private static final String KEY_PREFIX = "word:lookup:";
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration redisTtl;
+    private final long localTtlMillis;
+
+    private final Map<String, LocalEntry> localEntries;
+
+    private final Counter l1HitCounter;
+    private final Counter l2HitCounter;
+    private final Counter missCounter;
+
+    public WordLookupCache(RedisTemplate<String, Object> redisTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${word.lookup-cache.l1-max-entries:20000}") int maxLocalEntries,
+                           @Value("${word.lookup-cache.l1-ttl-seconds:60}") long localTtlSeconds,
+                           @Value("${word.lookup-cache.redis-ttl-hours:24}") long redisTtlHours) {
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = Duration.ofHours(redisTtlHours);
+        this.localTtlMillis = Duration.ofSeconds(localTtlSeconds).toMillis();
+        this.localEntries = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > maxLocalEntries;
+            }
+        });
+
+        Gauge.builder("word.lookup.cache.l1.entries", localEntries, Map::size)
+                .description("Entries in the in-process word lookup cache")
+                .register(meterRegistry);
+        this.l1HitCounter = Counter.builder("word.lookup.cache.hits").tag("tier", "l1").register(meterRegistry);
+        this.l2HitCounter = Counter.builder("word.lookup.cache.hits").tag("tier", "l2").register(meterRegistry);
+        this.missCounter = Counter.builder("word.lookup.cache.misses").register(meterRegistry);
+    }
+
+    /**
+     * 변형 단어의 WordVariant 목록 (없으면 null)
+     */
+    public List<WordVariant> getVariants(String word, Supplier<List<WordVariant>> loader) {
+        CachedVariants cached = get(variantsKey(word), CachedVariants.class, () -> {
+            List<WordVariant> variants = loader.get();
+            return variants == null || variants.isEmpty() ? null : new CachedVariants(new ArrayList<>(variants));
+        });
+        return cached != null ? cached.getVariants() : null;
+    }
+
+    /**
+     * 원형 단어의 대상 언어 번역 (없으면 null)
+     */
+    public Word getWord(String originalForm, LanguageCode targetLanguage, Supplier<Word> loader) {
+        return get(wordKey(originalForm, targetLanguage), Word.class, loader);
+    }
+
+    /**
+     * 무효 단어의 AI 분석 실패 횟수 (무효 단어가 아니면 null)
+     */
+    public Integer getInvalidAttempts(String word, Supplier<Integer> loader) {
+        return get(invalidKey(word), Integer.class, loader);
+    }
+
+    public void evictVariants(Collection<String> words) {
+        evict(words.stream().map(this::variantsKey).toList());
+    }
+
+    public void evictWord(String originalForm, LanguageCode targetLanguage) {
+        evict(List.of(wordKey(originalForm, targetLanguage)));
+    }
+
+    public void evictWords(Collection<String> originalForms, LanguageCode targetLanguage) {
+        evict(originalForms.stream().map(originalForm -> wordKey(originalForm, targetLanguage)).toList());
+    }
+
+    public void evictInvalid(String word) {
+        evict(List.of(invalidKey(word)));
+    }
+
+    /**
+     * 단어 조회 캐시 전체 삭제 (단어 데이터를 일괄 삭제/재생성한 경우)
+     * Redis는 KEY_PREFIX 키를 SCAN으로 나눠 지우고, 다른 인스턴스의 L1은 TTL 안에 반영됩니다.
+     */
+    public void evictAll() {
+        localEntries.clear();
+
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_BATCH_SIZE).build();
+        long deleted = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= SCAN_BATCH_SIZE) {
+                    deleted += deleteBatch(batch);
+                    batch = new ArrayList<>(SCAN_BATCH_SIZE);
+                }
+            }
+            deleted += deleteBatch(batch);
+            log.info("Evicted all word lookup cache entries - redis keys: {}", deleted);
+        } catch (Exception e) {
+            log.warn("Failed to evict all word lookup cache entries - error: {}", e.getMessage());
+        }
+    }
+
+    private long deleteBatch(List<String> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Long deleted = redisTemplate.delete(batch);
+        return deleted != null ? deleted : 0;
+    }
+
+    private <T> T get(String key, Class<T> type, Supplier<T> loader) {
+        long now = System.currentTimeMillis();
+        LocalEntry local = localEntries.get(key);
+        if (local != null && local.expiresAt() > now && type.isInstance(local.value())) {
+            l1HitCounter.increment();
+            return type.cast(local.value());
+        }
+
+        try {
+            Object remote = redisTemplate.opsForValue().get(key);
+            if (type.isInstance(remote)) {
+                l2HitCounter.increment();
+                localEntries.put(key, new LocalEntry(remote, now + localTtlMillis));
+                return type.cast(remote);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read word lookup cache - key: {}, error: {}", key, e.getMessage());
+        }
+
+        missCounter.increment();
+        T loaded = loader.get();
+        if (loaded == null) {
+            return null;
+        }
+
+        localEntries.put(key, new LocalEntry(loaded, now + localTtlMillis));
+        try {
+            redisTemplate.opsForValue().set(key, loaded, redisTtl);
+        } catch (Exception e) {
+            log.warn("Failed to write word lookup cache - key: {}, error: {}", key, e.getMessage());
+        }
+        return loaded;
+    }
+
+    private void evict(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        keys.forEach(localEntries::remove);
+        try {
+            redisTemplate.delete(keys);
+        } catch (Exception e) {
+            log.warn("Failed to evict word lookup cache - keys: {}, error: {}", keys, e.getMessage());
+        }
+    }
+
+    private String variantsKey(String word) {
+        return KEY_PREFIX + "variants:" + word;
+    }
+
+    private String wordKey(String originalForm, LanguageCode targetLanguage) {
+        return KEY_PREFIX + "word:" + originalForm + ":" + targetLanguage.getCode();
+    }
+
+    private String invalidKey(String word) {
+        return KEY_PREFIX + "invalid:" + word;
+    }
+
+    private record LocalEntry(Object value, long expiresAt) {
+    }
+
+    /**
+     * Redis 직렬화용 WordVariant 목록 래퍼
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CachedVariants implements Serializable {
+        private List<WordVariant> variants;
+    }
+}
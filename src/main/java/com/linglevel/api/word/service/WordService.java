@@ -1,6 +1,7 @@
 package com.linglevel.api.word.service;
 
 import com.linglevel.api.bookmark.repository.WordBookmarkRepository;
+import com.linglevel.api.common.ai.AiUnavailableException;
 import com.linglevel.api.i18n.LanguageCode;
 import com.linglevel.api.word.dto.*;
 import com.linglevel.api.word.entity.InvalidWord;
@@ -32,6 +33,8 @@ public class WordService {
     private final WordVariantRepository wordVariantRepository;
     private final InvalidWordRepository invalidWordRepository;
     private final WordAiService wordAiService;
+    private final WordAnalysisSingleFlight wordAnalysisSingleFlight;
+    private final WordLookupCache wordLookupCache;
 
     public WordSearchResponse getOrCreateWords(String userId, String word, LanguageCode targetLanguage) {
         List<WordVariant> wordVariants = getOrCreateWordEntities(word, targetLanguage);
@@ -41,23 +44,10 @@ public class WordService {
 
         for (WordVariant wordVariant : wordVariants) {
             // 원형 단어를 targetLanguage로 번역된 것 가져오기
-            Word originalWord = wordRepository.findByWordAndTargetLanguageCode(
-                    wordVariant.getOriginalForm(),
-                    targetLanguage
-            ).orElseGet(() -> {
-                // 해당 언어로 번역된 Word가 없으면 AI로 새로 생성
-                log.info("Word '{}' not found for targetLanguage {}, creating new one...",
-                    wordVariant.getOriginalForm(), targetLanguage);
-
-                List<WordAnalysisResult> analysisResults = wordAiService.analyzeWord(
-                    wordVariant.getOriginalForm(),
-                    targetLanguage.getCode()
-                );
-
-                // Word 생성 및 저장 (빈 결과는 WordAiService에서 예외 발생)
-                Word newWord = convertAnalysisResultToWord(analysisResults.get(0));
-                return wordRepository.save(newWord);
-            });
+            String originalForm = wordVariant.getOriginalForm();
+            Word originalWord = Optional.ofNullable(wordLookupCache.getWord(originalForm, targetLanguage,
+                    () -> wordRepository.findByWordAndTargetLanguageCode(originalForm, targetLanguage).orElse(null)))
+                    .orElseGet(() -> createTranslatedWord(originalForm, targetLanguage));
 
             boolean isBookmarked = wordBookmarkRepository.existsByUserIdAndWord(userId, wordVariant.getOriginalForm());
 
@@ -79,38 +69,83 @@ public class WordService {
 
     @Transactional
     public List<WordVariant> getOrCreateWordEntities(String word, LanguageCode targetLanguage) {
+        // 캐시/DB 조회, single-flight 키, AI 분석 모두 같은 정규화된 단어 사용
+        String normalizedWord = WordAnalysisSingleFlight.normalize(word);
+
         // 1. WordVariant에서 검색 (변형 형태인지 확인)
-        List<WordVariant> existingVariants = wordVariantRepository.findAllByWord(word);
-        if (!existingVariants.isEmpty()) {
-            log.info("Found {} existing variants for word '{}'", existingVariants.size(), word);
+        List<WordVariant> existingVariants = wordLookupCache.getVariants(normalizedWord,
+                () -> wordVariantRepository.findAllByWord(normalizedWord));
+        if (existingVariants != null) {
+            log.debug("Found {} existing variants for word '{}'", existingVariants.size(), normalizedWord);
             return existingVariants;
         }
 
         // 2. InvalidWord 캐시 확인 - 3회 유예 후 차단
-        Optional<InvalidWord> cachedInvalidWord = invalidWordRepository.findByWord(word);
-        if (cachedInvalidWord.isPresent()) {
-            InvalidWord invalidWord = cachedInvalidWord.get();
-            if (invalidWord.getAttemptCount() >= 3) {
-                log.info("Word '{}' permanently blocked after {} failed attempts", word, invalidWord.getAttemptCount());
+        Integer invalidAttempts = wordLookupCache.getInvalidAttempts(normalizedWord,
+                () -> invalidWordRepository.findByWord(normalizedWord).map(InvalidWord::getAttemptCount).orElse(null));
+        if (invalidAttempts != null) {
+            if (invalidAttempts >= 3) {
+                log.info("Word '{}' permanently blocked after {} failed attempts", normalizedWord, invalidAttempts);
                 throw new WordsException(WordsErrorCode.WORD_IS_MEANINGLESS);
             }
             log.info("Word '{}' found in cache with {} attempts. Allowing retry (attempt {}/3)",
-                word, invalidWord.getAttemptCount(), invalidWord.getAttemptCount() + 1);
+                normalizedWord, invalidAttempts, invalidAttempts + 1);
         }
 
-        // 3. DB에 없으면 AI 호출 (실패 시에도 InvalidWord로 캐싱)
+        // 3. DB에 없으면 AI 호출 - 같은 단어의 동시 요청은 분석 하나를 공유
+        return wordAnalysisSingleFlight.execute(
+                "variants:" + WordAnalysisSingleFlight.key(normalizedWord, targetLanguage),
+                () -> {
+                    List<WordVariant> storedVariants = wordVariantRepository.findAllByWord(normalizedWord);
+                    return storedVariants.isEmpty() ? null : storedVariants;
+                },
+                () -> analyzeAndSaveVariants(normalizedWord, targetLanguage, invalidAttempts != null));
+    }
+
+    /**
+     * 해당 언어로 번역된 Word가 없으면 AI로 새로 생성 (동시 요청은 분석 하나를 공유)
+     */
+    private Word createTranslatedWord(String originalForm, LanguageCode targetLanguage) {
+        return wordAnalysisSingleFlight.execute(
+                "word:" + WordAnalysisSingleFlight.key(originalForm, targetLanguage),
+                () -> wordRepository.findByWordAndTargetLanguageCode(originalForm, targetLanguage).orElse(null),
+                () -> {
+                    log.info("Word '{}' not found for targetLanguage {}, creating new one...",
+                        originalForm, targetLanguage);
+
+                    List<WordAnalysisResult> analysisResults = wordAiService.analyzeWord(
+                        originalForm,
+                        targetLanguage.getCode()
+                    );
+
+                    // Word 생성 및 저장 (빈 결과는 WordAiService에서 예외 발생)
+                    Word newWord = convertAnalysisResultToWord(analysisResults.get(0));
+                    Word savedWord = wordRepository.save(newWord);
+                    wordLookupCache.evictWord(originalForm, targetLanguage);
+                    return savedWord;
+                });
+    }
+
+    private List<WordVariant> analyzeAndSaveVariants(String word, LanguageCode targetLanguage, boolean wasInvalid) {
+        // 실패 시에도 InvalidWord로 캐싱
         log.info("Word '{}' not found in database. Calling AI to analyze...", word);
         List<WordAnalysisResult> analysisResults;
         try {
             analysisResults = wordAiService.analyzeWord(word, targetLanguage.getCode());
 
             // AI 호출 성공 시 InvalidWord 캐시에서 제거 (일시적 오류였던 경우 복구)
-            cachedInvalidWord.ifPresent(invalidWord -> {
-                invalidWordRepository.delete(invalidWord);
-                log.info("Removed word '{}' from invalid word cache after successful AI analysis (was attempt {}/3)",
-                    word, invalidWord.getAttemptCount());
-            });
+            if (wasInvalid) {
+                invalidWordRepository.findByWord(word).ifPresent(invalidWord -> {
+                    invalidWordRepository.delete(invalidWord);
+                    log.info("Removed word '{}' from invalid word cache after successful AI analysis (was attempt {}/3)",
+                        word, invalidWord.getAttemptCount());
+                });
+                wordLookupCache.evictInvalid(word);
+            }
 
+        } catch (AiUnavailableException e) {
+            // AI 장애(타임아웃/과부하/서킷 오픈)는 단어 문제가 아니므로 InvalidWord로 캐싱하지 않음
+            throw e;
         } catch (Exception e) {
             // AI 호출 실패 또는 무의미한 단어인 경우 InvalidWord로 캐싱
             log.warn("AI call failed for word '{}'. Caching as invalid word to prevent retries.", word, e);
@@ -142,6 +177,7 @@ public class WordService {
             // 해당 언어 쌍으로 번역된 Word가 없으면 새로 저장
             Word newWord = convertAnalysisResultToWord(analysisResult);
             Word savedWord = wordRepository.save(newWord);
+            wordLookupCache.evictWord(originalForm, targetLanguageCode);
             log.info("Saved new word: {} ({} -> {})", originalForm, sourceLanguageCode, targetLanguageCode);
 
             // 변형 형태들을 WordVariant에 저장 (언어 중립적)
@@ -164,12 +200,13 @@ public class WordService {
 
         WordVariant inputVariant = createVariant(word, originalForm, variantTypes);
         wordVariantRepository.save(inputVariant);
+        wordLookupCache.evictVariants(List.of(word));
         log.info("Saved input variant: {} -> {} ({})", word, originalForm, variantTypes);
 
         return inputVariant;
     }
 
-    private Word convertAnalysisResultToWord(WordAnalysisResult result) {
+    public Word convertAnalysisResultToWord(WordAnalysisResult result) {
         // RelatedForms 구성
         RelatedForms relatedForms = RelatedForms.builder()
                 .conjugations(result.getConjugations())
@@ -189,11 +226,45 @@ public class WordService {
 
     @Transactional
     public void saveWordVariants(Word word) {
+        List<WordVariant> uniqueVariants = buildRelatedFormVariants(word);
+
+        // N+1 문제 해결: 한 번에 조회 후 필터링
+        if (!uniqueVariants.isEmpty()) {
+            List<String> variantWords = uniqueVariants.stream()
+                    .map(WordVariant::getWord)
+                    .collect(Collectors.toList());
+
+            // 이미 존재하는 variant들을 한 번의 쿼리로 조회
+            List<WordVariant> existingVariants = wordVariantRepository.findByWordIn(variantWords);
+            List<String> existingWords = existingVariants.stream()
+                    .map(WordVariant::getWord)
+                    .collect(Collectors.toList());
+
+            // 새로운 variant만 필터링하여 배치 저장
+            List<WordVariant> newVariants = uniqueVariants.stream()
+                    .filter(variant -> !existingWords.contains(variant.getWord()))
+                    .collect(Collectors.toList());
+
+            if (!newVariants.isEmpty()) {
+                wordVariantRepository.saveAll(newVariants);
+                wordLookupCache.evictVariants(newVariants.stream().map(WordVariant::getWord).toList());
+                newVariants.forEach(variant ->
+                    log.info("Saved variant: {} -> {} ({})", variant.getWord(), variant.getOriginalForm(), variant.getVariantTypes())
+                );
+            }
+        }
+    }
+
+    /**
+     * Word의 관련 변형 형태(활용형, 비교급, 복수형)로 WordVariant 목록 생성 (저장하지 않음)
+     * 같은 단어가 여러 번 나오면 variantTypes를 합칩니다.
+     */
+    public List<WordVariant> buildRelatedFormVariants(Word word) {
         List<WordVariant> variants = new ArrayList<>();
 
         RelatedForms relatedForms = word.getRelatedForms();
         if (relatedForms == null) {
-            return;
+            return variants;
         }
 
         // 동사 변형 저장
@@ -232,51 +303,26 @@ public class WordService {
             }
         }
 
-        // N+1 문제 해결: 한 번에 조회 후 필터링
-        if (!variants.isEmpty()) {
-            // 중복 제거 및 variantTypes 병합: 같은 단어가 여러 번 추가되는 경우 variantTypes를 합침
-            List<WordVariant> uniqueVariants = variants.stream()
-                    .collect(Collectors.toMap(
-                            WordVariant::getWord,
-                            variant -> variant,
-                            (existing, replacement) -> {
-                                // 같은 단어인 경우 variantTypes를 병합
-                                List<VariantType> mergedTypes = new ArrayList<>(existing.getVariantTypes());
-                                replacement.getVariantTypes().forEach(type -> {
-                                    if (!mergedTypes.contains(type)) {
-                                        mergedTypes.add(type);
-                                    }
-                                });
-                                existing.setVariantTypes(mergedTypes);
-                                return existing;
-                            }
-                    ))
-                    .values()
-                    .stream()
-                    .collect(Collectors.toList());
-
-            List<String> variantWords = uniqueVariants.stream()
-                    .map(WordVariant::getWord)
-                    .collect(Collectors.toList());
-
-            // 이미 존재하는 variant들을 한 번의 쿼리로 조회
-            List<WordVariant> existingVariants = wordVariantRepository.findByWordIn(variantWords);
-            List<String> existingWords = existingVariants.stream()
-                    .map(WordVariant::getWord)
-                    .collect(Collectors.toList());
-
-            // 새로운 variant만 필터링하여 배치 저장
-            List<WordVariant> newVariants = uniqueVariants.stream()
-                    .filter(variant -> !existingWords.contains(variant.getWord()))
-                    .collect(Collectors.toList());
-
-            if (!newVariants.isEmpty()) {
-                wordVariantRepository.saveAll(newVariants);
-                newVariants.forEach(variant ->
-                    log.info("Saved variant: {} -> {} ({})", variant.getWord(), variant.getOriginalForm(), variant.getVariantTypes())
-                );
-            }
-        }
+        // 중복 제거 및 variantTypes 병합: 같은 단어가 여러 번 추가되는 경우 variantTypes를 합침
+        return variants.stream()
+                .collect(Collectors.toMap(
+                        WordVariant::getWord,
+                        variant -> variant,
+                        (existing, replacement) -> {
+                            // 같은 단어인 경우 variantTypes를 병합
+                            List<VariantType> mergedTypes = new ArrayList<>(existing.getVariantTypes());
+                            replacement.getVariantTypes().forEach(type -> {
+                                if (!mergedTypes.contains(type)) {
+                                    mergedTypes.add(type);
+                                }
+                            });
+                            existing.setVariantTypes(mergedTypes);
+                            return existing;
+                        }
+                ))
+                .values()
+                .stream()
+                .collect(Collectors.toList());
     }
 
     private WordVariant createVariant(String variantWord, String originalForm, List<VariantType> types) {
@@ -299,6 +345,7 @@ public class WordService {
             InvalidWord invalidWord = existingInvalidWord.get();
             invalidWord.setAttemptCount(invalidWord.getAttemptCount() + 1);
             invalidWordRepository.save(invalidWord);
+            wordLookupCache.evictInvalid(word);
             log.info("Updated invalid word '{}' attempt count: {}", word, invalidWord.getAttemptCount());
         } else {
             // 새로 저장
@@ -310,6 +357,7 @@ public class WordService {
                     .attemptCount(1)
                     .build();
             invalidWordRepository.save(invalidWord);
+            wordLookupCache.evictInvalid(word);
             log.info("Cached invalid word '{}' permanently (attempt 1/3)", word);
         }
     }
@@ -366,6 +414,7 @@ public class WordService {
                             originalForm, targetLanguage
                     ).ifPresent(wordToDelete -> {
                         wordRepository.delete(wordToDelete);
+                        wordLookupCache.evictWord(originalForm, targetLanguage);
                         log.info("Deleted Word: {} (targetLanguage={})", originalForm, targetLanguage);
                     });
                 }
@@ -373,6 +422,7 @@ public class WordService {
                 if (deleteVariants) {
                     // Variant도 함께 삭제 (완전 초기화)
                     wordVariantRepository.deleteAll(existingVariants);
+                    wordLookupCache.evictVariants(List.of(word));
                     log.info("Deleted {} existing WordVariants for word '{}' (complete reset)", existingVariants.size(), word);
                 } else {
                     // Variant는 유지 (AI가 기존 관계 + 새로운 homograph 추가 가능)
@@ -28,6 +28,7 @@ public class WordVariantService {
 
     private final WordVariantRepository wordVariantRepository;
     private final WordAiService wordAiService;
+    private final WordLookupCache wordLookupCache;
 
     /**
      * 단어의 원형을 반환 (언어 중립적)
@@ -73,6 +74,7 @@ public class WordVariantService {
                 .build();
 
         WordVariant savedVariant = wordVariantRepository.save(newVariant);
+        wordLookupCache.evictVariants(List.of(word));
         log.info("Saved new WordVariant: {} -> {} ({})", word, result.getOriginalForm(), result.getVariantTypes());
 
         return savedVariant;
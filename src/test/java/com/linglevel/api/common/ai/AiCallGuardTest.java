@@ -0,0 +1,174 @@
+package com.linglevel.api.common.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("AI 호출 보호 계층 테스트")
+class AiCallGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AiCallGuard guard;
+
+    @AfterEach
+    void tearDown() {
+        if (guard != null) {
+            guard.shutdown();
+        }
+    }
+
+    private AiCallGuard createGuard(long timeoutMillis, int maxConcurrentCalls, long openMillis) {
+        guard = new AiCallGuard(meterRegistry, timeoutMillis, maxConcurrentCalls, 1, 50, 4, 2, 0.5, openMillis);
+        return guard;
+    }
+
+    @Test
+    @DisplayName("데드라인을 넘긴 호출은 기다리지 않고 TIMEOUT으로 거절")
+    void execute_TimesOut() {
+        // given
+        AiCallGuard guard = createGuard(100, 2, 60_000);
+        long start = System.nanoTime();
+
+        // when
+        AiUnavailableException exception = assertThrows(AiUnavailableException.class,
+                () -> guard.execute("test", () -> sleepAndReturn(5_000)));
+
+        // then
+        assertThat(exception.getReason()).isEqualTo(AiUnavailableException.Reason.TIMEOUT);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000);
+        assertThat(meterRegistry.get("ai.call.rejected").tag("reason", "timeout").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 넘으면 BULKHEAD_FULL로 거절")
+    void execute_RejectsWhenBulkheadIsFull() throws Exception {
+        // given
+        AiCallGuard guard = createGuard(5_000, 1, 60_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> guard.execute("test", () -> {
+            started.countDown();
+            await(release);
+            return "done";
+        }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        AiUnavailableException exception = assertThrows(AiUnavailableException.class,
+                () -> guard.execute("test", () -> "second"));
+
+        // then
+        assertThat(exception.getReason()).isEqualTo(AiUnavailableException.Reason.BULKHEAD_FULL);
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(guard.execute("test", () -> "third")).isEqualTo("third");
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 서킷이 열려 모델을 호출하지 않고 거절")
+    void execute_OpensCircuitAfterFailures() {
+        // given
+        AiCallGuard guard = createGuard(1_000, 2, 60_000);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalStateException.class, () -> guard.execute("test", () -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("model error");
+            }));
+        }
+        AiUnavailableException exception = assertThrows(AiUnavailableException.class,
+                () -> guard.execute("test", () -> {
+                    calls.incrementAndGet();
+                    return "ok";
+                }));
+
+        // then
+        assertThat(exception.getReason()).isEqualTo(AiUnavailableException.Reason.CIRCUIT_OPEN);
+        assertThat(exception.getRetryAfterSeconds()).isPositive();
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(guard.circuitState()).isEqualTo(AiCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("열림 시간이 지나면 시험 호출이 성공해 서킷이 닫힘")
+    void execute_ClosesCircuitAfterSuccessfulTrial() throws Exception {
+        // given
+        AiCallGuard guard = createGuard(1_000, 2, 100);
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalStateException.class, () -> guard.execute("test", () -> {
+                throw new IllegalStateException("model error");
+            }));
+        }
+        assertThat(guard.circuitState()).isEqualTo(AiCircuitBreaker.State.OPEN);
+
+        // when
+        Thread.sleep(150);
+        String result = guard.execute("test", () -> "recovered");
+
+        // then
+        assertThat(result).isEqualTo("recovered");
+        assertThat(guard.circuitState()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("background 자리를 기다리는 배치 호출은 시험 호출 허가를 차지하지 않음")
+    void executeBackground_DoesNotHoldTrialWhileWaiting() throws Exception {
+        // given: background 자리를 점유한 배치 호출이 있는 상태에서 서킷이 열림
+        AiCallGuard guard = createGuard(5_000, 2, 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> guard.executeBackground("bulk", () -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalStateException.class, () -> guard.execute("test", () -> {
+                throw new IllegalStateException("model error");
+            }));
+        }
+        assertThat(guard.circuitState()).isEqualTo(AiCircuitBreaker.State.OPEN);
+        Thread.sleep(150);
+        CompletableFuture<String> waiting = CompletableFuture.supplyAsync(() -> guard.executeBackground("bulk", () -> "second"));
+        Thread.sleep(50);
+
+        // when
+        String result = guard.execute("lookup", () -> "recovered");
+
+        // then
+        assertThat(result).isEqualTo("recovered");
+        assertThat(guard.circuitState()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(waiting.get(1, TimeUnit.SECONDS)).isEqualTo("second");
+    }
+
+    private static String sleepAndReturn(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "late";
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.linglevel.api.common.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AI 사용량 메트릭 테스트")
+class AiUsageMetricsTest {
+
+    private static final String MODEL = "test-model";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AiUsageMetrics aiUsageMetrics;
+
+    @BeforeEach
+    void setUp() {
+        aiUsageMetrics = new AiUsageMetrics(meterRegistry, MODEL, 0.2, 0.1);
+    }
+
+    @Test
+    @DisplayName("성공한 호출의 지연 시간, 토큰 수, 예상 비용을 기록")
+    void record_RecordsLatencyTokensAndCost() {
+        // given
+        ChatResponse response = mock(ChatResponse.class, RETURNS_DEEP_STUBS);
+        Usage usage = mock(Usage.class);
+        when(response.getMetadata().getUsage()).thenReturn(usage);
+        when(usage.getPromptTokens()).thenAnswer(invocation -> tokens(invocation, 2000));
+        when(usage.getGenerationTokens()).thenAnswer(invocation -> tokens(invocation, 500));
+
+        // when
+        ChatResponse result = aiUsageMetrics.record("word-analysis", () -> response);
+
+        // then
+        assertThat(result).isSameAs(response);
+        assertThat(meterRegistry.get("ai.chat.latency")
+                .tags("model", MODEL, "operation", "word-analysis", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.chat.tokens").tags("type", "input").counter().count()).isEqualTo(2000);
+        assertThat(meterRegistry.get("ai.chat.tokens").tags("type", "output").counter().count()).isEqualTo(500);
+        // 2000 / 1000 * 0.2 + 500 / 1000 * 0.1
+        assertThat(meterRegistry.get("ai.chat.cost").tags("model", MODEL).counter().count()).isCloseTo(0.45, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("실패한 호출은 error로 기록하고 예외를 그대로 전달")
+    void record_RecordsFailure() {
+        // when & then
+        assertThrows(IllegalStateException.class, () -> aiUsageMetrics.record("word-analysis", () -> {
+            throw new IllegalStateException("Bedrock unavailable");
+        }));
+
+        assertThat(meterRegistry.get("ai.chat.latency").tags("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("ai.chat.tokens").counter()).isNull();
+    }
+
+    // Usage의 토큰 수 반환 타입(Long/Integer)에 맞춰 반환
+    private static Object tokens(InvocationOnMock invocation, long count) {
+        return invocation.getMethod().getReturnType() == Integer.class ? (Object) (int) count : (Object) count;
+    }
+}
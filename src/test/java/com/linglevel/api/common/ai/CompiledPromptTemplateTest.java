@@ -0,0 +1,69 @@
+package com.linglevel.api.common.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.prompt.PromptTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("컴파일된 프롬프트 템플릿 테스트")
+class CompiledPromptTemplateTest {
+
+    private static final String TEMPLATE = """
+            Word: {word} | Target: {targetLanguage}
+
+            **If '{word}' is nonsensical, return []**
+
+            {format}
+            """;
+
+    private static final String FORMAT = "Respond with JSON matching this schema: {\"type\": \"array\"}";
+
+    @Test
+    @DisplayName("PromptTemplate으로 매번 렌더링한 결과와 같은 프롬프트 생성")
+    void render_MatchesPromptTemplate() {
+        // given
+        CompiledPromptTemplate compiled = CompiledPromptTemplate.compile(
+                TEMPLATE, Map.of("format", FORMAT), "word", "targetLanguage");
+
+        // when
+        String rendered = compiled.render(Map.of("word", "ran", "targetLanguage", "KO"));
+
+        // then
+        String expected = new PromptTemplate(TEMPLATE).render(Map.of(
+                "word", "ran",
+                "targetLanguage", "KO",
+                "format", FORMAT));
+        assertThat(rendered).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("같은 인스턴스를 다른 값으로 반복 렌더링")
+    void render_IsReusable() {
+        // given
+        CompiledPromptTemplate compiled = CompiledPromptTemplate.compile(
+                TEMPLATE, Map.of("format", FORMAT), "word", "targetLanguage");
+
+        // when
+        String first = compiled.render(Map.of("word", "ran", "targetLanguage", "KO"));
+        String second = compiled.render(Map.of("word", "saw", "targetLanguage", "JA"));
+
+        // then
+        assertThat(first).startsWith("Word: ran | Target: KO").contains("If 'ran'");
+        assertThat(second).startsWith("Word: saw | Target: JA").contains("If 'saw'");
+    }
+
+    @Test
+    @DisplayName("변수 값이 없으면 예외")
+    void render_MissingVariable() {
+        // given
+        CompiledPromptTemplate compiled = CompiledPromptTemplate.compile(
+                TEMPLATE, Map.of("format", FORMAT), "word", "targetLanguage");
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> compiled.render(Map.of("word", "ran")));
+    }
+}
@@ -0,0 +1,128 @@
+package com.linglevel.api.content.article.repository;
+
+import com.linglevel.api.common.AbstractDatabaseTest;
+import com.linglevel.api.content.article.dto.GetArticlesRequest;
+import com.linglevel.api.content.article.entity.Article;
+import com.linglevel.api.content.article.entity.ArticleProgress;
+import com.linglevel.api.content.common.ContentCategory;
+import com.linglevel.api.content.common.DifficultyLevel;
+import com.linglevel.api.content.common.ProgressStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@Import(ArticleRepositoryImpl.class)
+class ArticleRepositoryTest extends AbstractDatabaseTest {
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleProgressRepository articleProgressRepository;
+
+    private final String testUserId = "test-user-id";
+    private Article completed;
+    private Article inProgress;
+
+    @BeforeEach
+    void setUp() {
+        articleRepository.deleteAll();
+        articleProgressRepository.deleteAll();
+
+        completed = articleRepository.save(article("Completed", ContentCategory.TECH, 3));
+        inProgress = articleRepository.save(article("In Progress", ContentCategory.TECH, 2));
+        articleRepository.save(article("Not Started 1", ContentCategory.TECH, 1));
+        articleRepository.save(article("Not Started 2", ContentCategory.SPORTS, 4));
+
+        articleProgressRepository.save(progress(testUserId, completed.getId(), 100.0, true));
+        articleProgressRepository.save(progress(testUserId, inProgress.getId(), 30.0, false));
+        // 다른 사용자의 진도는 필터에 영향을 주지 않아야 함
+        articleProgressRepository.save(progress("other-user", completed.getId(), 10.0, false));
+    }
+
+    @Test
+    @DisplayName("진도가 없는 아티클만 조회하고 다른 필터와 함께 적용한다")
+    void findArticlesWithFilters_NotStarted() {
+        // given
+        GetArticlesRequest request = request(ProgressStatus.NOT_STARTED);
+        request.setCategory(ContentCategory.TECH);
+
+        // when
+        Page<Article> result = articleRepository.findArticlesWithFilters(request, testUserId, pageable(10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).extracting(Article::getTitle).containsExactly("Not Started 1");
+        assertThat(result.getContent().get(0).getCategory()).isEqualTo(ContentCategory.TECH);
+    }
+
+    @Test
+    @DisplayName("진행 중/완료 상태로 필터링한다")
+    void findArticlesWithFilters_InProgressAndCompleted() {
+        // when
+        Page<Article> inProgressResult = articleRepository.findArticlesWithFilters(
+                request(ProgressStatus.IN_PROGRESS), testUserId, pageable(10));
+        Page<Article> completedResult = articleRepository.findArticlesWithFilters(
+                request(ProgressStatus.COMPLETED), testUserId, pageable(10));
+
+        // then
+        assertThat(inProgressResult.getContent()).extracting(Article::getId).containsExactly(inProgress.getId());
+        assertThat(completedResult.getContent()).extracting(Article::getId).containsExactly(completed.getId());
+    }
+
+    @Test
+    @DisplayName("페이지와 전체 개수를 함께 반환한다")
+    void findArticlesWithFilters_PaginatesWithTotal() {
+        // when
+        Page<Article> result = articleRepository.findArticlesWithFilters(
+                request(ProgressStatus.NOT_STARTED), testUserId, pageable(1));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(Article::getTitle).containsExactly("Not Started 1");
+    }
+
+    private GetArticlesRequest request(ProgressStatus progress) {
+        GetArticlesRequest request = new GetArticlesRequest();
+        request.setProgress(progress);
+        return request;
+    }
+
+    private Pageable pageable(int size) {
+        return PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    private Article article(String title, ContentCategory category, long minutesAgo) {
+        Article article = new Article();
+        article.setTitle(title);
+        article.setAuthor("author");
+        article.setDifficultyLevel(DifficultyLevel.A1);
+        article.setCategory(category);
+        article.setTags(List.of("tag"));
+        article.setCreatedAt(Instant.now().minusSeconds(minutesAgo * 60));
+        return article;
+    }
+
+    private ArticleProgress progress(String userId, String articleId, double normalizedProgress, boolean isCompleted) {
+        ArticleProgress progress = new ArticleProgress();
+        progress.setUserId(userId);
+        progress.setArticleId(articleId);
+        progress.setNormalizedProgress(normalizedProgress);
+        progress.setIsCompleted(isCompleted);
+        return progress;
+    }
+}
@@ -0,0 +1,116 @@
+package com.linglevel.api.content.article.service;
+
+import com.linglevel.api.content.article.entity.ArticleChunk;
+import com.linglevel.api.content.article.entity.ArticleProgress;
+import com.linglevel.api.content.article.repository.ArticleChunkRepository;
+import com.linglevel.api.content.article.repository.ArticleProgressRepository;
+import com.linglevel.api.content.common.DifficultyLevel;
+import com.linglevel.api.content.common.dto.ContentChunkCountDto;
+import com.linglevel.api.content.common.service.ContentProgressBatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("아티클 목록 진도 일괄 조회 테스트")
+class ArticleProgressHydratorTest {
+
+    private static final String USER_ID = "user-1";
+
+    @Mock
+    private ArticleProgressRepository articleProgressRepository;
+
+    @Mock
+    private ArticleChunkRepository articleChunkRepository;
+
+    @InjectMocks
+    private ArticleProgressHydrator articleProgressHydrator;
+
+    @Test
+    @DisplayName("페이지 전체의 진도/청크 번호/청크 수를 각각 한 번의 쿼리로 조회")
+    void hydrate_LoadsPageWithThreeQueries() {
+        // given
+        List<String> articleIds = List.of("article-1", "article-2", "article-3");
+        when(articleProgressRepository.findByUserIdAndArticleIdIn(USER_ID, articleIds)).thenReturn(List.of(
+                progress("article-1", "chunk-1", DifficultyLevel.B1),
+                progress("article-2", "chunk-2", null)
+        ));
+        when(articleChunkRepository.findChunkNumbersByIdIn(Set.of("chunk-1", "chunk-2")))
+                .thenReturn(List.of(chunk("chunk-1", 3), chunk("chunk-2", 7)));
+        when(articleChunkRepository.countChunksByArticleIds(articleIds)).thenReturn(List.of(
+                new ContentChunkCountDto("article-1", DifficultyLevel.B1, 10),
+                new ContentChunkCountDto("article-1", DifficultyLevel.A1, 12),
+                new ContentChunkCountDto("article-3", DifficultyLevel.A1, 5)
+        ));
+
+        // when
+        ContentProgressBatch<ArticleProgress> batch = articleProgressHydrator.hydrate(USER_ID, articleIds);
+
+        // then
+        assertThat(batch.progressOf("article-1")).get().extracting(ArticleProgress::getChunkId).isEqualTo("chunk-1");
+        assertThat(batch.progressOf("article-3")).isEmpty();
+        assertThat(batch.chunkNumberOf("chunk-2")).isEqualTo(7);
+        assertThat(batch.chunkNumberOf("missing")).isZero();
+        assertThat(batch.chunkCountOf("article-1", DifficultyLevel.B1)).isEqualTo(10);
+        assertThat(batch.chunkCountOf("article-3", DifficultyLevel.A1)).isEqualTo(5);
+        assertThat(batch.chunkCountOf("article-2", DifficultyLevel.A1)).isZero();
+        verify(articleProgressRepository, times(1)).findByUserIdAndArticleIdIn(anyString(), anyCollection());
+        verify(articleChunkRepository, times(1)).findChunkNumbersByIdIn(anyCollection());
+        verify(articleChunkRepository, times(1)).countChunksByArticleIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 진도/청크 조회 없이 청크 수만 조회")
+    void hydrate_AnonymousUser() {
+        // given
+        List<String> articleIds = List.of("article-1");
+        when(articleChunkRepository.countChunksByArticleIds(articleIds))
+                .thenReturn(List.of(new ContentChunkCountDto("article-1", DifficultyLevel.A1, 4)));
+
+        // when
+        ContentProgressBatch<ArticleProgress> batch = articleProgressHydrator.hydrate(null, articleIds);
+
+        // then
+        assertThat(batch.progressOf("article-1")).isEmpty();
+        assertThat(batch.chunkCountOf("article-1", DifficultyLevel.A1)).isEqualTo(4);
+        verifyNoInteractions(articleProgressRepository);
+        verify(articleChunkRepository, never()).findChunkNumbersByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("빈 페이지는 쿼리를 실행하지 않음")
+    void hydrate_EmptyPage() {
+        // when
+        ContentProgressBatch<ArticleProgress> batch = articleProgressHydrator.hydrate(USER_ID, List.of());
+
+        // then
+        assertThat(batch.progressOf("article-1")).isEmpty();
+        verifyNoInteractions(articleProgressRepository, articleChunkRepository);
+    }
+
+    private ArticleProgress progress(String articleId, String chunkId, DifficultyLevel level) {
+        ArticleProgress progress = new ArticleProgress();
+        progress.setUserId(USER_ID);
+        progress.setArticleId(articleId);
+        progress.setChunkId(chunkId);
+        progress.setCurrentDifficultyLevel(level);
+        return progress;
+    }
+
+    private ArticleChunk chunk(String id, int chunkNumber) {
+        ArticleChunk chunk = new ArticleChunk();
+        chunk.setId(id);
+        chunk.setChunkNumber(chunkNumber);
+        return chunk;
+    }
+}
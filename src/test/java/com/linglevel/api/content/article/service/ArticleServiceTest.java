@@ -5,11 +5,10 @@ import com.linglevel.api.content.article.dto.ArticleResponse;
 import com.linglevel.api.content.article.dto.GetArticlesRequest;
 import com.linglevel.api.content.article.entity.Article;
 import com.linglevel.api.content.article.entity.ArticleProgress;
-import com.linglevel.api.content.article.repository.ArticleProgressRepository;
-import com.linglevel.api.content.article.repository.ArticleChunkRepository;
 import com.linglevel.api.content.article.repository.ArticleRepository;
 import com.linglevel.api.content.common.DifficultyLevel;
 import com.linglevel.api.content.common.ProgressStatus;
+import com.linglevel.api.content.common.service.ContentProgressBatch;
 import com.linglevel.api.user.entity.User;
 import com.linglevel.api.user.entity.UserRole;
 import com.linglevel.api.user.repository.UserRepository;
@@ -27,7 +26,9 @@ import org.springframework.data.domain.PageRequest;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -40,13 +41,7 @@ class ArticleServiceTest {
     private ArticleRepository articleRepository;
 
     @Mock
-    private ArticleProgressRepository articleProgressRepository;
-
-    @Mock
-    private ArticleChunkRepository articleChunkRepository;
-
-    @Mock
-    private ArticleChunkService articleChunkService;
+    private ArticleProgressHydrator articleProgressHydrator;
 
     @Mock
     private UserRepository userRepository;
@@ -123,6 +118,8 @@ class ArticleServiceTest {
         when(articleRepository.findArticlesWithFilters(any(), eq(testUser.getId()), any()))
             .thenReturn(articlePage);
 
+        mockNoArticleProgress();
+
         // When
         PageResponse<ArticleResponse> response = articleService.getArticles(request, testUser.getId());
 
@@ -153,6 +150,8 @@ class ArticleServiceTest {
         when(articleRepository.findArticlesWithFilters(any(), eq(testUser.getId()), any()))
             .thenReturn(articlePage);
 
+        mockNoArticleProgress();
+
         // When
         PageResponse<ArticleResponse> response = articleService.getArticles(request, testUser.getId());
 
@@ -226,18 +225,20 @@ class ArticleServiceTest {
     }
 
     private void mockArticleProgress(List<Article> articles, boolean isCompleted) {
-        com.linglevel.api.content.article.entity.ArticleChunk mockChunk = new com.linglevel.api.content.article.entity.ArticleChunk();
-        mockChunk.setId("test-chunk-id");
-        mockChunk.setChunkNumber(50);
-        when(articleChunkService.findById(anyString())).thenReturn(mockChunk);
+        Map<String, ArticleProgress> progresses = articles.stream()
+            .map(article -> createArticleProgress(testUser.getId(), article.getId(), isCompleted))
+            .collect(Collectors.toMap(ArticleProgress::getArticleId, Function.identity()));
 
-        when(articleChunkRepository.countByArticleIdAndDifficultyLevel(anyString(), any(DifficultyLevel.class))).thenReturn(100L);
+        Map<String, Map<DifficultyLevel, Long>> chunkCounts = articles.stream()
+            .collect(Collectors.toMap(Article::getId, article -> Map.of(DifficultyLevel.A1, 100L)));
 
-        for (Article article : articles) {
-            ArticleProgress progress = createArticleProgress(testUser.getId(), article.getId(), isCompleted);
-            when(articleProgressRepository.findByUserIdAndArticleId(testUser.getId(), article.getId()))
-                .thenReturn(Optional.of(progress));
-        }
+        when(articleProgressHydrator.hydrate(eq(testUser.getId()), anyCollection()))
+            .thenReturn(new ContentProgressBatch<>(progresses, Map.of("test-chunk-id", 50), chunkCounts));
+    }
+
+    private void mockNoArticleProgress() {
+        when(articleProgressHydrator.hydrate(eq(testUser.getId()), anyCollection()))
+            .thenReturn(ContentProgressBatch.empty());
     }
 
     private ArticleProgress createArticleProgress(String userId, String articleId, boolean isCompleted) {
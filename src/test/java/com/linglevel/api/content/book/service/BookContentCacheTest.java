@@ -0,0 +1,122 @@
+package com.linglevel.api.content.book.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("책 콘텐츠 2단계 캐시 테스트")
+class BookContentCacheTest {
+
+    private static final String VERSION_KEY = "book:content:version";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private BookContentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = new BookContentCache(redisTemplate, meterRegistry, 100, 24, 60_000);
+    }
+
+    @Test
+    @DisplayName("L1/L2 모두 없으면 로드 후 두 계층에 저장하고 이후에는 L1에서 반환")
+    void get_LoadsOnceThenServesFromL1() {
+        // when
+        String first = cache.get("k", String.class, this::load);
+        String second = cache.get("k", String.class, this::load);
+
+        // then
+        assertThat(first).isEqualTo("value-1");
+        assertThat(second).isEqualTo("value-1");
+        assertThat(loads.get()).isEqualTo(1);
+        verify(valueOperations).set(eq("book:content:v0:k"), eq("value-1"), any(Duration.class));
+        assertThat(meterRegistry.get("book.content.cache.hits").tag("tier", "l1").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("book.content.cache.misses").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("L1에 없고 L2(Redis)에 있으면 로드하지 않음")
+    void get_ServesFromL2() {
+        // given
+        when(valueOperations.get("book:content:v0:k")).thenReturn("remote");
+
+        // when
+        String value = cache.get("k", String.class, this::load);
+
+        // then
+        assertThat(value).isEqualTo("remote");
+        assertThat(loads.get()).isZero();
+        assertThat(meterRegistry.get("book.content.cache.hits").tag("tier", "l2").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버전을 올리면 이전 버전 키는 조회되지 않고 다시 로드")
+    void bumpVersion_InvalidatesPreviousEntries() {
+        // given
+        when(valueOperations.increment(VERSION_KEY)).thenReturn(1L);
+        cache.get("k", String.class, this::load);
+
+        // when
+        cache.bumpVersion();
+        String reloaded = cache.get("k", String.class, this::load);
+
+        // then
+        assertThat(reloaded).isEqualTo("value-2");
+        verify(valueOperations).set(eq("book:content:v1:k"), eq("value-2"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 로드 결과를 반환")
+    void get_RedisFailureFallsBackToLoader() {
+        // given
+        when(valueOperations.get(anyString())).thenThrow(new RuntimeException("redis down"));
+
+        // when
+        String value = cache.get("k", String.class, this::load);
+
+        // then
+        assertThat(value).isEqualTo("value-1");
+    }
+
+    @Test
+    @DisplayName("loader가 null을 반환하면 캐시하지 않음")
+    void get_NullIsNotCached() {
+        // when
+        String value = cache.get("missing", String.class, () -> null);
+
+        // then
+        assertThat(value).isNull();
+        verify(valueOperations, never()).set(startsWith("book:content:v0:missing"), any(), any(Duration.class));
+    }
+
+    private String load() {
+        return "value-" + loads.incrementAndGet();
+    }
+}
@@ -5,10 +5,10 @@ import com.linglevel.api.content.book.dto.BookResponse;
 import com.linglevel.api.content.book.dto.GetBooksRequest;
 import com.linglevel.api.content.book.entity.Book;
 import com.linglevel.api.content.book.entity.BookProgress;
-import com.linglevel.api.content.book.repository.BookProgressRepository;
 import com.linglevel.api.content.book.repository.BookRepository;
 import com.linglevel.api.content.common.DifficultyLevel;
 import com.linglevel.api.content.common.ProgressStatus;
+import com.linglevel.api.content.common.service.ContentProgressBatch;
 import com.linglevel.api.user.entity.User;
 import com.linglevel.api.user.entity.UserRole;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,7 +25,9 @@ import org.springframework.data.domain.PageRequest;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,7 +40,7 @@ class BookServiceTest {
     private BookRepository bookRepository;
 
     @Mock
-    private BookProgressRepository bookProgressRepository;
+    private BookProgressHydrator bookProgressHydrator;
 
     @InjectMocks
     private BookService bookService;
@@ -110,11 +112,7 @@ class BookServiceTest {
         when(bookRepository.findBooksWithFilters(any(), eq(testUser.getId()), any()))
             .thenReturn(bookPage);
 
-        for (Book book : books) {
-            BookProgress progress = createBookProgress(testUser.getId(), book.getId(), true);
-            when(bookProgressRepository.findByUserIdAndBookId(testUser.getId(), book.getId()))
-                .thenReturn(Optional.of(progress));
-        }
+        mockBookProgress(books, true);
 
         PageResponse<BookResponse> response = bookService.getBooks(request, testUser.getId());
 
@@ -151,6 +149,8 @@ class BookServiceTest {
         when(bookRepository.findBooksWithFilters(any(), eq(testUser.getId()), any()))
             .thenReturn(bookPage);
 
+        mockNoBookProgress();
+
         PageResponse<BookResponse> response = bookService.getBooks(request, testUser.getId());
 
         assertThat(response.getData()).hasSize(5);
@@ -180,6 +180,8 @@ class BookServiceTest {
         when(bookRepository.findBooksWithFilters(any(), eq(testUser.getId()), any()))
             .thenReturn(bookPage);
 
+        mockNoBookProgress();
+
         PageResponse<BookResponse> response = bookService.getBooks(request, testUser.getId());
 
         assertThat(response.getData()).hasSize(10);
@@ -206,6 +208,8 @@ class BookServiceTest {
         when(bookRepository.findBooksWithFilters(any(), eq(testUser.getId()), any()))
             .thenReturn(bookPage);
 
+        mockNoBookProgress();
+
         PageResponse<BookResponse> response = bookService.getBooks(request, testUser.getId());
 
         assertThat(response.getData()).hasSize(10);
@@ -239,11 +243,7 @@ class BookServiceTest {
         when(bookRepository.findBooksWithFilters(any(), eq(testUser.getId()), any()))
             .thenReturn(bookPage);
 
-        for (Book book : books) {
-            BookProgress progress = createBookProgress(testUser.getId(), book.getId(), false);
-            when(bookProgressRepository.findByUserIdAndBookId(testUser.getId(), book.getId()))
-                .thenReturn(Optional.of(progress));
-        }
+        mockBookProgress(books, false);
 
         PageResponse<BookResponse> response = bookService.getBooks(request, testUser.getId());
 
@@ -283,11 +283,17 @@ class BookServiceTest {
     }
 
     private void mockBookProgress(List<Book> books, boolean isCompleted) {
-        for (Book book : books) {
-            BookProgress progress = createBookProgress(testUser.getId(), book.getId(), isCompleted);
-            when(bookProgressRepository.findByUserIdAndBookId(testUser.getId(), book.getId()))
-                .thenReturn(Optional.of(progress));
-        }
+        Map<String, BookProgress> progresses = books.stream()
+            .map(book -> createBookProgress(testUser.getId(), book.getId(), isCompleted))
+            .collect(Collectors.toMap(BookProgress::getBookId, Function.identity()));
+
+        when(bookProgressHydrator.hydrate(eq(testUser.getId()), anyCollection()))
+            .thenReturn(new ContentProgressBatch<>(progresses, Map.of(), Map.of()));
+    }
+
+    private void mockNoBookProgress() {
+        when(bookProgressHydrator.hydrate(eq(testUser.getId()), anyCollection()))
+            .thenReturn(ContentProgressBatch.empty());
     }
 
     private BookProgress createBookProgress(String userId, String bookId, boolean isCompleted) {
@@ -0,0 +1,156 @@
+package com.linglevel.api.content.book.service;
+
+import com.linglevel.api.content.book.dto.ChunkCountByLevelDto;
+import com.linglevel.api.content.book.entity.Book;
+import com.linglevel.api.content.book.entity.Chapter;
+import com.linglevel.api.content.book.entity.Chunk;
+import com.linglevel.api.content.book.exception.BooksErrorCode;
+import com.linglevel.api.content.book.exception.BooksException;
+import com.linglevel.api.content.book.repository.BookRepository;
+import com.linglevel.api.content.book.repository.ChapterRepository;
+import com.linglevel.api.content.book.repository.ChunkRepository;
+import com.linglevel.api.content.common.DifficultyLevel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("책 구조 캐시 테스트")
+class BookStructureCacheTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private ChapterRepository chapterRepository;
+
+    @Mock
+    private ChunkRepository chunkRepository;
+
+    private BookStructureCache cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        BookContentCache bookContentCache = new BookContentCache(redisTemplate, new SimpleMeterRegistry(), 100, 24, 60_000);
+        cache = new BookStructureCache(bookContentCache, bookRepository, chapterRepository, chunkRepository);
+    }
+
+    @Test
+    @DisplayName("청크 위치는 책 구조와 청크를 한 번씩만 조회하고 이후에는 캐시에서 계산")
+    void getChunkLocation_LoadsOnce() {
+        // given
+        givenBook();
+
+        // when
+        BookStructureCache.ChunkLocation first = cache.getChunkLocation("book-1", "chunk-1");
+        BookStructureCache.ChunkLocation second = cache.getChunkLocation("book-1", "chunk-1");
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(first.chapterNumber()).isEqualTo(2);
+        assertThat(first.totalChunksInChapter()).isEqualTo(5);
+        assertThat(first.isLastChunkInChapter()).isFalse();
+        assertThat(cache.countChapters("book-1")).isEqualTo(2);
+        verify(bookRepository, times(1)).findById("book-1");
+        verify(chunkRepository, times(1)).findById("chunk-1");
+        verify(chunkRepository, times(1)).findChunkCountsByChapterIds(List.of("chapter-1", "chapter-2"));
+    }
+
+    @Test
+    @DisplayName("다른 책의 청크면 CHUNK_NOT_FOUND_IN_BOOK")
+    void getChunkLocation_ChunkOfOtherBook() {
+        // given
+        givenBook();
+        Chunk other = new Chunk();
+        other.setId("chunk-9");
+        other.setChapterId("other-chapter");
+        when(chunkRepository.findById("chunk-9")).thenReturn(Optional.of(other));
+
+        // when & then
+        assertThatThrownBy(() -> cache.getChunkLocation("book-1", "chunk-9"))
+                .isInstanceOf(BooksException.class)
+                .hasMessage(BooksErrorCode.CHUNK_NOT_FOUND_IN_BOOK.getMessage());
+    }
+
+    @Test
+    @DisplayName("책이 없으면 BOOK_NOT_FOUND이고 결과를 캐시하지 않음")
+    void getStructure_BookNotFound() {
+        // given
+        when(bookRepository.findById("missing")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> cache.getStructure("missing"))
+                .isInstanceOf(BooksException.class)
+                .hasMessage(BooksErrorCode.BOOK_NOT_FOUND.getMessage());
+        assertThatThrownBy(() -> cache.getStructure("missing"))
+                .isInstanceOf(BooksException.class);
+        verify(bookRepository, times(2)).findById("missing");
+    }
+
+    @Test
+    @DisplayName("invalidate 이후에는 다시 조회")
+    void invalidate_ReloadsStructure() {
+        // given
+        givenBook();
+        cache.getChunkLocation("book-1", "chunk-1");
+
+        // when
+        cache.invalidate();
+        cache.getChunkLocation("book-1", "chunk-1");
+
+        // then
+        verify(bookRepository, times(2)).findById("book-1");
+        verify(chunkRepository, times(2)).findById("chunk-1");
+    }
+
+    private void givenBook() {
+        Book book = new Book();
+        book.setId("book-1");
+        book.setDifficultyLevel(DifficultyLevel.B1);
+
+        Chunk chunk = new Chunk();
+        chunk.setId("chunk-1");
+        chunk.setChapterId("chapter-1");
+        chunk.setChunkNumber(3);
+        chunk.setDifficultyLevel(DifficultyLevel.B1);
+
+        when(bookRepository.findById("book-1")).thenReturn(Optional.of(book));
+        when(chapterRepository.findByBookIdOrderByChapterNumber("book-1"))
+                .thenReturn(List.of(chapter("chapter-1", 2), chapter("chapter-2", 3)));
+        when(chunkRepository.findChunkCountsByChapterIds(List.of("chapter-1", "chapter-2"))).thenReturn(List.of(
+                new ChunkCountByLevelDto("chapter-1", DifficultyLevel.B1, 5),
+                new ChunkCountByLevelDto("chapter-1", DifficultyLevel.A1, 8)));
+        lenient().when(chunkRepository.findById("chunk-1")).thenReturn(Optional.of(chunk));
+    }
+
+    private Chapter chapter(String id, int number) {
+        Chapter chapter = new Chapter();
+        chapter.setId(id);
+        chapter.setBookId("book-1");
+        chapter.setChapterNumber(number);
+        return chapter;
+    }
+}
@@ -5,7 +5,6 @@ import com.linglevel.api.content.book.entity.BookProgress;
 import com.linglevel.api.content.book.entity.Chapter;
 import com.linglevel.api.content.book.entity.Chunk;
 import com.linglevel.api.content.book.repository.BookProgressRepository;
-import com.linglevel.api.content.book.repository.ChapterRepository;
 import com.linglevel.api.content.book.repository.ChunkRepository;
 import com.linglevel.api.content.common.ContentType;
 import com.linglevel.api.content.common.DifficultyLevel;
@@ -21,7 +20,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
-import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -56,7 +54,7 @@ class ProgressServiceIntegrationTest {
     private StreakService streakService;
 
     @Mock
-    private ChapterRepository chapterRepository;
+    private BookStructureCache bookStructureCache;
 
     @InjectMocks
     private ProgressService progressService;
@@ -96,15 +94,12 @@ class ProgressServiceIntegrationTest {
         ProgressUpdateRequest request = new ProgressUpdateRequest();
         request.setChunkId(TEST_CHUNK_ID);
 
-        when(bookService.existsById(TEST_BOOK_ID)).thenReturn(true);
-        when(chunkService.findById(TEST_CHUNK_ID)).thenReturn(testChunk);
-        when(chapterService.findById(TEST_CHAPTER_ID)).thenReturn(testChapter);
-        when(bookProgressRepository.findByUserIdAndBookId(TEST_USER_ID, TEST_BOOK_ID))
-                .thenReturn(Optional.of(testProgress));
-        when(chunkRepository.countByChapterIdAndDifficultyLevel(TEST_CHAPTER_ID, DifficultyLevel.B1))
-                .thenReturn(5L); // 마지막 청크 (5/5)
-        when(chapterRepository.countByBookId(TEST_BOOK_ID))
+        when(bookStructureCache.getChunkLocation(TEST_BOOK_ID, TEST_CHUNK_ID))
+                .thenReturn(chunkLocation(5L)); // 마지막 청크 (5/5)
+        when(bookStructureCache.countChapters(TEST_BOOK_ID))
                 .thenReturn(10); // 총 10개 챕터
+        when(bookProgressRepository.applyChunkProgress(eq(TEST_USER_ID), eq(TEST_BOOK_ID), any()))
+                .thenReturn(testProgress);
         when(readingCompletionService.processReadingCompletion(TEST_USER_ID, ContentType.BOOK, TEST_CHAPTER_ID, null))
                 .thenReturn(120L);
 
@@ -124,15 +119,12 @@ class ProgressServiceIntegrationTest {
         ProgressUpdateRequest request = new ProgressUpdateRequest();
         request.setChunkId(TEST_CHUNK_ID);
 
-        when(bookService.existsById(TEST_BOOK_ID)).thenReturn(true);
-        when(chunkService.findById(TEST_CHUNK_ID)).thenReturn(testChunk);
-        when(chapterService.findById(TEST_CHAPTER_ID)).thenReturn(testChapter);
-        when(bookProgressRepository.findByUserIdAndBookId(TEST_USER_ID, TEST_BOOK_ID))
-                .thenReturn(Optional.of(testProgress));
-        when(chunkRepository.countByChapterIdAndDifficultyLevel(TEST_CHAPTER_ID, DifficultyLevel.B1))
-                .thenReturn(5L);
-        when(chapterRepository.countByBookId(TEST_BOOK_ID))
+        when(bookStructureCache.getChunkLocation(TEST_BOOK_ID, TEST_CHUNK_ID))
+                .thenReturn(chunkLocation(5L));
+        when(bookStructureCache.countChapters(TEST_BOOK_ID))
                 .thenReturn(10);
+        when(bookProgressRepository.applyChunkProgress(eq(TEST_USER_ID), eq(TEST_BOOK_ID), any()))
+                .thenReturn(testProgress);
         when(readingCompletionService.processReadingCompletion(TEST_USER_ID, ContentType.BOOK, TEST_CHAPTER_ID, null))
                 .thenReturn(120L);
 
@@ -152,15 +144,12 @@ class ProgressServiceIntegrationTest {
         ProgressUpdateRequest request = new ProgressUpdateRequest();
         request.setChunkId(TEST_CHUNK_ID);
 
-        when(bookService.existsById(TEST_BOOK_ID)).thenReturn(true);
-        when(chunkService.findById(TEST_CHUNK_ID)).thenReturn(testChunk);
-        when(chapterService.findById(TEST_CHAPTER_ID)).thenReturn(testChapter);
-        when(bookProgressRepository.findByUserIdAndBookId(TEST_USER_ID, TEST_BOOK_ID))
-                .thenReturn(Optional.of(testProgress));
-        when(chunkRepository.countByChapterIdAndDifficultyLevel(TEST_CHAPTER_ID, DifficultyLevel.B1))
-                .thenReturn(5L);
-        when(chapterRepository.countByBookId(TEST_BOOK_ID))
+        when(bookStructureCache.getChunkLocation(TEST_BOOK_ID, TEST_CHUNK_ID))
+                .thenReturn(chunkLocation(5L));
+        when(bookStructureCache.countChapters(TEST_BOOK_ID))
                 .thenReturn(10);
+        when(bookProgressRepository.applyChunkProgress(eq(TEST_USER_ID), eq(TEST_BOOK_ID), any()))
+                .thenReturn(testProgress);
         when(readingCompletionService.processReadingCompletion(TEST_USER_ID, ContentType.BOOK, TEST_CHAPTER_ID, null))
                 .thenReturn(30L); // 짧은 시간
 
@@ -181,15 +170,12 @@ class ProgressServiceIntegrationTest {
         ProgressUpdateRequest request = new ProgressUpdateRequest();
         request.setChunkId(TEST_CHUNK_ID);
 
-        when(bookService.existsById(TEST_BOOK_ID)).thenReturn(true);
-        when(chunkService.findById(TEST_CHUNK_ID)).thenReturn(testChunk);
-        when(chapterService.findById(TEST_CHAPTER_ID)).thenReturn(testChapter);
-        when(bookProgressRepository.findByUserIdAndBookId(TEST_USER_ID, TEST_BOOK_ID))
-                .thenReturn(Optional.of(testProgress));
-        when(chunkRepository.countByChapterIdAndDifficultyLevel(TEST_CHAPTER_ID, DifficultyLevel.B1))
-                .thenReturn(5L); // 총 5개 중 3번째
-        when(chapterRepository.countByBookId(TEST_BOOK_ID))
+        when(bookStructureCache.getChunkLocation(TEST_BOOK_ID, TEST_CHUNK_ID))
+                .thenReturn(chunkLocation(5L)); // 총 5개 중 3번째
+        when(bookStructureCache.countChapters(TEST_BOOK_ID))
                 .thenReturn(10);
+        when(bookProgressRepository.applyChunkProgress(eq(TEST_USER_ID), eq(TEST_BOOK_ID), any()))
+                .thenReturn(testProgress);
         when(readingCompletionService.processReadingCompletion(TEST_USER_ID, ContentType.BOOK, TEST_CHAPTER_ID, null))
                 .thenReturn(null); // 마지막 청크가 아니므로 세션 처리 없음
 
@@ -201,4 +187,10 @@ class ProgressServiceIntegrationTest {
         verify(streakService, never()).addCompletedContent(any(), any(), any(), anyBoolean());
         verify(streakService, never()).updateStreak(any(), any(), any());
     }
+
+    private BookStructureCache.ChunkLocation chunkLocation(long totalChunksInChapter) {
+        return new BookStructureCache.ChunkLocation(TEST_CHUNK_ID, TEST_CHAPTER_ID,
+                testChapter.getChapterNumber(), testChunk.getChunkNumber(), testChunk.getDifficultyLevel(),
+                totalChunksInChapter);
+    }
 }
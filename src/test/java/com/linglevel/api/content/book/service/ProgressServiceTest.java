@@ -1,12 +1,13 @@
 package com.linglevel.api.content.book.service;
 
+import com.linglevel.api.content.book.dto.BookProgressUpdate;
 import com.linglevel.api.content.book.dto.ProgressUpdateRequest;
 import com.linglevel.api.content.book.entity.BookProgress;
-import com.linglevel.api.content.book.entity.Chapter;
-import com.linglevel.api.content.book.entity.Chunk;
+import com.linglevel.api.content.book.exception.BooksErrorCode;
+import com.linglevel.api.content.book.exception.BooksException;
 import com.linglevel.api.content.book.repository.BookProgressRepository;
-import com.linglevel.api.content.book.repository.ChapterRepository;
 import com.linglevel.api.content.book.repository.ChunkRepository;
+import com.linglevel.api.content.common.DifficultyLevel;
 import com.linglevel.api.content.common.service.ProgressCalculationService;
 import com.linglevel.api.content.common.service.ReadingCompletionService;
 import com.linglevel.api.streak.service.StreakService;
@@ -19,11 +20,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
-import java.util.Optional;
-
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,7 +38,7 @@ class ProgressServiceTest {
     private BookProgressRepository bookProgressRepository;
 
     @Mock
-    private ChapterRepository chapterRepository;
+    private BookStructureCache bookStructureCache;
 
     @Mock
     private ChunkRepository chunkRepository;
@@ -61,57 +62,84 @@ class ProgressServiceTest {
     private ProgressService progressService;
 
     @Captor
-    private ArgumentCaptor<BookProgress> bookProgressCaptor;
+    private ArgumentCaptor<BookProgressUpdate> updateCaptor;
+
+    private static final String USER_ID = "test-user";
+    private static final String BOOK_ID = "test-book";
+    private static final String CHAPTER_ID = "test-chapter";
+    private static final String CHUNK_ID = "test-chunk";
+
+    @Test
+    @DisplayName("진행률 업데이트는 조회/저장 없이 원자적 업데이트 한 번으로 반영된다")
+    void updateProgress_appliesSingleAtomicUpdate() {
+        // Given: 100개 청크 중 1번째 청크
+        BookProgress updated = new BookProgress();
+        updated.setId("progress-id");
+        updated.setChunkId(CHUNK_ID);
+
+        when(bookStructureCache.getChunkLocation(BOOK_ID, CHUNK_ID)).thenReturn(location(1, 100));
+        when(bookStructureCache.countChapters(BOOK_ID)).thenReturn(10);
+        when(bookProgressRepository.applyChunkProgress(eq(USER_ID), eq(BOOK_ID), any())).thenReturn(updated);
+
+        // When
+        progressService.updateProgress(BOOK_ID, request(), USER_ID);
+
+        // Then
+        verify(bookProgressRepository).applyChunkProgress(eq(USER_ID), eq(BOOK_ID), updateCaptor.capture());
+        BookProgressUpdate update = updateCaptor.getValue();
+
+        assertThat(update.getChapterId()).isEqualTo(CHAPTER_ID);
+        assertThat(update.getChunkId()).isEqualTo(CHUNK_ID);
+        assertThat(update.getChapterNumber()).isEqualTo(1);
+        assertThat(update.getChapterProgressPercentage()).isEqualTo(1.0);
+        assertThat(update.isChapterCompleted()).isFalse();
+        assertThat(update.getTotalChapters()).isEqualTo(10);
+
+        verify(bookProgressRepository, never()).findByUserIdAndBookId(any(), any());
+        verify(bookProgressRepository, never()).save(any());
+        verify(bookService, never()).existsById(any());
+    }
 
     @Test
-    @DisplayName("오래된 Book 진행률 업데이트 시 V3 필드(chapterProgresses)가 정상적으로 마이그레이션된다")
-    void updateProgress_shouldLazyMigrate_forOldBookProgress() {
-        // Given: 마이그레이션되지 않은(V3 필드가 null인) BookProgress 설정
-        String userId = "test-user";
-        String bookId = "test-book";
-        String chunkId = "test-chunk";
-        String chapterId = "test-chapter";
-
-        // V3 필드(chapterProgresses)가 null인 레거시 데이터
-        BookProgress legacyProgress = new BookProgress();
-        legacyProgress.setId("legacy-progress-id");
-        legacyProgress.setUserId(userId);
-        legacyProgress.setBookId(bookId);
-        legacyProgress.setChapterProgresses(null); // This is the legacy state
-
-        Chunk currentChunk = new Chunk();
-        currentChunk.setId(chunkId);
-        currentChunk.setChapterId(chapterId);
-        currentChunk.setChunkNumber(1);
-
-        Chapter currentChapter = new Chapter();
-        currentChapter.setId(chapterId);
-        currentChapter.setBookId(bookId);
-        currentChapter.setChapterNumber(1);
+    @DisplayName("마지막 청크면 챕터 진행률 100%와 완료 상태로 업데이트된다")
+    void updateProgress_lastChunkCompletesChapter() {
+        // Given
+        when(bookStructureCache.getChunkLocation(BOOK_ID, CHUNK_ID)).thenReturn(location(7, 7));
+        when(bookStructureCache.countChapters(BOOK_ID)).thenReturn(3);
+        when(bookProgressRepository.applyChunkProgress(eq(USER_ID), eq(BOOK_ID), any())).thenReturn(new BookProgress());
+
+        // When
+        progressService.updateProgress(BOOK_ID, request(), USER_ID);
+
+        // Then
+        verify(bookProgressRepository).applyChunkProgress(eq(USER_ID), eq(BOOK_ID), updateCaptor.capture());
+        assertThat(updateCaptor.getValue().getChapterProgressPercentage()).isEqualTo(100.0);
+        assertThat(updateCaptor.getValue().isChapterCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("청크가 책에 속하지 않으면 진행률을 기록하지 않는다")
+    void updateProgress_chunkNotInBook() {
+        // Given
+        when(bookStructureCache.getChunkLocation(BOOK_ID, CHUNK_ID))
+                .thenThrow(new BooksException(BooksErrorCode.CHUNK_NOT_FOUND_IN_BOOK));
+
+        // When & Then
+        assertThatThrownBy(() -> progressService.updateProgress(BOOK_ID, request(), USER_ID))
+                .isInstanceOf(BooksException.class)
+                .hasMessage(BooksErrorCode.CHUNK_NOT_FOUND_IN_BOOK.getMessage());
+        verify(bookProgressRepository, never()).applyChunkProgress(any(), any(), any());
+        verify(readingCompletionService, never()).processReadingCompletion(any(), any(), any(), any());
+    }
+
+    private BookStructureCache.ChunkLocation location(int chunkNumber, long totalChunks) {
+        return new BookStructureCache.ChunkLocation(CHUNK_ID, CHAPTER_ID, 1, chunkNumber,
+                DifficultyLevel.B1, totalChunks);
+    }
 
+    private ProgressUpdateRequest request() {
         ProgressUpdateRequest request = new ProgressUpdateRequest();
-        request.setChunkId(chunkId);
-
-        // Mocking
-        when(bookService.existsById(bookId)).thenReturn(true);
-        when(bookProgressRepository.findByUserIdAndBookId(userId, bookId)).thenReturn(Optional.of(legacyProgress));
-        when(chunkService.findById(chunkId)).thenReturn(currentChunk);
-        // The service first finds the chunk, then gets the chapterId from it, then finds the chapter.
-        when(chapterService.findById(chapterId)).thenReturn(currentChapter);
-        when(chapterRepository.countByBookId(bookId)).thenReturn(10);
-        when(chunkRepository.countByChapterIdAndDifficultyLevel(any(), any())).thenReturn(100L);
-
-        // When: 진행률 업데이트 호출
-        progressService.updateProgress(bookId, request, userId);
-
-        // Then: V3 필드(chapterProgresses)가 채워진 상태로 저장되는지 검증
-        verify(bookProgressRepository).save(bookProgressCaptor.capture());
-        BookProgress savedProgress = bookProgressCaptor.getValue();
-
-        assertThat(savedProgress.getId()).isEqualTo("legacy-progress-id");
-        assertThat(savedProgress.getChapterProgresses()).isNotNull();
-        // ensureMigrated initializes the list, and the subsequent logic adds the first progress info
-        assertThat(savedProgress.getChapterProgresses()).hasSize(1);
-        assertThat(savedProgress.getChapterProgresses().get(0).getChapterNumber()).isEqualTo(1);
+        request.setChunkId(CHUNK_ID);
+        return request;
     }
 }
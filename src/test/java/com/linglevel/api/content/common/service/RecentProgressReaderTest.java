@@ -0,0 +1,111 @@
+package com.linglevel.api.content.common.service;
+
+import com.linglevel.api.content.article.entity.ArticleProgress;
+import com.linglevel.api.content.book.entity.BookProgress;
+import com.linglevel.api.content.common.ContentType;
+import com.linglevel.api.content.common.service.RecentProgressReader.RecentProgress;
+import com.linglevel.api.content.common.service.RecentProgressReader.RecentProgressPage;
+import com.linglevel.api.content.custom.entity.CustomContentProgress;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("최근 학습 콘텐츠 진도 병합 조회 테스트")
+class RecentProgressReaderTest {
+
+    private static final String USER_ID = "user-1";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private RecentProgressReader recentProgressReader;
+
+    @Test
+    @DisplayName("타입별 커서를 updatedAt 역순으로 병합하고 offset + limit 까지만 읽음")
+    void read_MergesCursorsByUpdatedAt() {
+        // given
+        givenCounts(3, 2, 1);
+        when(mongoTemplate.stream(any(Query.class), eq(BookProgress.class)))
+                .thenReturn(Stream.of(book("book-10", 10), book("book-7", 7), book("book-1", 1)));
+        when(mongoTemplate.stream(any(Query.class), eq(ArticleProgress.class)))
+                .thenReturn(Stream.of(article("article-9", 9), article("article-3", 3)));
+        when(mongoTemplate.stream(any(Query.class), eq(CustomContentProgress.class)))
+                .thenReturn(Stream.of(custom("custom-8", 8)));
+
+        // when
+        RecentProgressPage page = recentProgressReader.read(USER_ID, null, 2, 3);
+
+        // then
+        assertThat(page.totalCount()).isEqualTo(6);
+        assertThat(page.items())
+                .extracting(RecentProgress::contentId, RecentProgress::contentType)
+                .containsExactly(
+                        tuple("custom-8", ContentType.CUSTOM),
+                        tuple("book-7", ContentType.BOOK),
+                        tuple("article-3", ContentType.ARTICLE));
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(queryCaptor.capture(), eq(BookProgress.class));
+        assertThat(queryCaptor.getValue().getLimit()).isEqualTo(5);
+        assertThat(queryCaptor.getValue().getSortObject()).containsEntry("updatedAt", -1);
+    }
+
+    @Test
+    @DisplayName("offset이 전체 개수를 넘으면 커서를 열지 않음")
+    void read_OffsetBeyondTotal() {
+        // given
+        givenCounts(1, 0, 0);
+
+        // when
+        RecentProgressPage page = recentProgressReader.read(USER_ID, true, 10, 10);
+
+        // then
+        assertThat(page.items()).isEmpty();
+        assertThat(page.totalCount()).isEqualTo(1);
+        verify(mongoTemplate, never()).stream(any(Query.class), any());
+    }
+
+    private void givenCounts(long books, long articles, long customs) {
+        when(mongoTemplate.count(any(Query.class), eq(BookProgress.class))).thenReturn(books);
+        when(mongoTemplate.count(any(Query.class), eq(ArticleProgress.class))).thenReturn(articles);
+        when(mongoTemplate.count(any(Query.class), eq(CustomContentProgress.class))).thenReturn(customs);
+    }
+
+    private BookProgress book(String bookId, long updatedAt) {
+        BookProgress progress = new BookProgress();
+        progress.setBookId(bookId);
+        progress.setUpdatedAt(Instant.ofEpochSecond(updatedAt));
+        return progress;
+    }
+
+    private ArticleProgress article(String articleId, long updatedAt) {
+        ArticleProgress progress = new ArticleProgress();
+        progress.setArticleId(articleId);
+        progress.setUpdatedAt(Instant.ofEpochSecond(updatedAt));
+        return progress;
+    }
+
+    private CustomContentProgress custom(String customId, long updatedAt) {
+        CustomContentProgress progress = new CustomContentProgress();
+        progress.setCustomId(customId);
+        progress.setUpdatedAt(Instant.ofEpochSecond(updatedAt));
+        return progress;
+    }
+}
@@ -0,0 +1,153 @@
+package com.linglevel.api.content.custom.service;
+
+import com.linglevel.api.content.common.ChunkType;
+import com.linglevel.api.content.common.DifficultyLevel;
+import com.linglevel.api.content.common.service.ReadingTimeService;
+import com.linglevel.api.content.custom.dto.AiResultDto;
+import com.linglevel.api.content.custom.entity.ContentRequest;
+import com.linglevel.api.content.custom.entity.CustomContent;
+import com.linglevel.api.content.custom.entity.CustomContentChunk;
+import com.linglevel.api.content.custom.repository.CustomContentChunkRepository;
+import com.linglevel.api.content.custom.repository.CustomContentRepository;
+import com.linglevel.api.s3.service.S3UrlService;
+import com.linglevel.api.s3.strategy.CustomContentPathStrategy;
+import com.linglevel.api.s3.thumbnail.ThumbnailJobService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("커스텀 콘텐츠 가져오기 테스트")
+class CustomContentImportServiceTest {
+
+    @Mock
+    private CustomContentRepository customContentRepository;
+
+    @Mock
+    private CustomContentChunkRepository customContentChunkRepository;
+
+    @Mock
+    private S3UrlService s3UrlService;
+
+    @Mock
+    private ThumbnailJobService thumbnailJobService;
+
+    @Mock
+    private CustomContentPathStrategy pathStrategy;
+
+    @Spy
+    private ReadingTimeService readingTimeService;
+
+    @InjectMocks
+    private CustomContentImportService customContentImportService;
+
+    @Test
+    @DisplayName("청크 생성 중 읽기 시간을 계산하고 콘텐츠 insert 한 번, 청크 bulk insert 한 번으로 저장")
+    void saveCustomContent_InsertsOnceWithReadingTime() {
+        // given
+        AiResultDto aiResult = aiResult("B1",
+                leveledResult("B1", chapter(textChunk(600), textChunk(400)), chapter(textChunk(100))),
+                leveledResult("A1", chapter(textChunk(50))));
+        ContentRequest contentRequest = ContentRequest.builder()
+                .id("request-id")
+                .userId("user-id")
+                .build();
+        when(customContentRepository.insert(any(CustomContent.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CustomContent prepared = customContentImportService.prepareCustomContent(contentRequest, aiResult);
+
+        // when
+        CustomContent saved = customContentImportService.saveCustomContent(prepared, aiResult);
+
+        // then
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getContentRequestId()).isEqualTo("request-id");
+        assertThat(saved.getReadingTime()).isEqualTo(3);
+        assertThat(saved.getCreatedAt()).isNotNull();
+        verify(customContentRepository, times(1)).insert(any(CustomContent.class));
+        verify(customContentRepository, never()).save(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CustomContentChunk>> chunksCaptor = ArgumentCaptor.forClass(List.class);
+        verify(customContentChunkRepository, times(1)).insert(chunksCaptor.capture());
+        assertThat(chunksCaptor.getValue())
+                .hasSize(4)
+                .allSatisfy(chunk -> {
+                    assertThat(chunk.getCustomContentId()).isEqualTo(saved.getId());
+                    assertThat(chunk.getType()).isEqualTo(ChunkType.TEXT);
+                });
+        assertThat(chunksCaptor.getValue())
+                .extracting(CustomContentChunk::getDifficultyLevel)
+                .containsExactly(DifficultyLevel.B1, DifficultyLevel.B1, DifficultyLevel.B1, DifficultyLevel.A1);
+        verify(customContentChunkRepository, never()).saveAll(anyList());
+        verifyNoInteractions(thumbnailJobService);
+    }
+
+    @Test
+    @DisplayName("커버 이미지가 있으면 저장 후 썸네일 작업만 등록하고 완료 시 coverImageUrl 갱신")
+    void saveCustomContent_SubmitsCoverThumbnailJob() {
+        // given
+        AiResultDto aiResult = aiResult("B1", leveledResult("B1", chapter(textChunk(10))));
+        aiResult.setCoverImageUrl("cover.jpg");
+        ContentRequest contentRequest = ContentRequest.builder()
+                .id("request-id")
+                .userId("user-id")
+                .build();
+        when(customContentRepository.insert(any(CustomContent.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(pathStrategy.generateCoverImagePath(anyString())).thenReturn("custom/id/images/cover.jpg");
+
+        CustomContent prepared = customContentImportService.prepareCustomContent(contentRequest, aiResult);
+
+        // when
+        CustomContent saved = customContentImportService.saveCustomContent(prepared, aiResult);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<String>> callbackCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(thumbnailJobService).submitCover(eq("custom/id/images/cover.jpg"), callbackCaptor.capture());
+        verify(customContentRepository, never()).updateCoverImageUrl(anyString(), anyString());
+
+        callbackCaptor.getValue().accept("https://cdn/custom/id/images/small_cover.webp");
+        verify(customContentRepository).updateCoverImageUrl(saved.getId(), "https://cdn/custom/id/images/small_cover.webp");
+    }
+
+    private AiResultDto aiResult(String originalLevel, AiResultDto.LeveledResult... leveledResults) {
+        AiResultDto aiResult = new AiResultDto();
+        aiResult.setTitle("title");
+        aiResult.setOriginalTextLevel(originalLevel);
+        aiResult.setLeveledResults(List.of(leveledResults));
+        return aiResult;
+    }
+
+    private AiResultDto.LeveledResult leveledResult(String level, AiResultDto.Chapter... chapters) {
+        AiResultDto.LeveledResult leveledResult = new AiResultDto.LeveledResult();
+        leveledResult.setTextLevel(level);
+        leveledResult.setChapters(List.of(chapters));
+        return leveledResult;
+    }
+
+    private AiResultDto.Chapter chapter(AiResultDto.Chunk... chunks) {
+        AiResultDto.Chapter chapter = new AiResultDto.Chapter();
+        chapter.setChunks(List.of(chunks));
+        return chapter;
+    }
+
+    private AiResultDto.Chunk textChunk(int length) {
+        AiResultDto.Chunk chunk = new AiResultDto.Chunk();
+        chunk.setIsImage(false);
+        chunk.setChunkText("a".repeat(length));
+        return chunk;
+    }
+}
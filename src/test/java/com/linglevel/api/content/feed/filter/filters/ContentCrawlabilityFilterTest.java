@@ -2,10 +2,14 @@ package com.linglevel.api.content.feed.filter.filters;
 
 import com.linglevel.api.content.feed.entity.FeedSource;
 import com.linglevel.api.content.feed.filter.FeedFilterResult;
+import com.linglevel.api.content.feed.service.ArticlePageCache;
+import com.linglevel.api.content.feed.service.FeedPageFetcher;
 import com.linglevel.api.crawling.entity.CrawlingDsl;
 import com.linglevel.api.crawling.repository.CrawlingDslRepository;
+import com.linglevel.api.crawling.service.CompiledDslCache;
 import com.linglevel.api.crawling.service.CrawlingService;
 import com.rometools.rome.feed.synd.SyndEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,7 +38,10 @@ class ContentCrawlabilityFilterTest {
 
     @BeforeEach
     void setUp() {
-        filter = new ContentCrawlabilityFilter(crawlingDslRepository, crawlingService);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filter = new ContentCrawlabilityFilter(crawlingDslRepository, crawlingService,
+                new ArticlePageCache(new FeedPageFetcher(meterRegistry, 4, 1, 0), meterRegistry, 1_000_000),
+                new CompiledDslCache());
     }
 
     @Test
@@ -0,0 +1,193 @@
+package com.linglevel.api.content.feed.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("기사 페이지 캐시 테스트")
+class ArticlePageCacheTest {
+
+    private HttpServer server;
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/old", exchange -> {
+            exchange.getResponseHeaders().add("Location", "/new/article");
+            exchange.sendResponseHeaders(301, -1);
+            exchange.close();
+        });
+        server.createContext("/new/article", exchange -> {
+            byte[] body = "<html><head><meta property=\"og:image\" content=\"thumb.jpg\"></head><body></body></html>"
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/euc-kr", exchange -> {
+            byte[] body = "<html><head><meta charset=\"euc-kr\"></head><body><p>한국어 기사</p></body></html>"
+                    .getBytes(Charset.forName("EUC-KR"));
+            exchange.getResponseHeaders().add("Content-Type", "text/html");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/", exchange -> {
+            fullResponses.incrementAndGet();
+            byte[] body = ("<html><body><p>" + exchange.getRequestURI().getPath() + "</p></body></html>")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("크롤링 실행 중에는 같은 URL을 한 번만 요청하고 같은 Document를 공유")
+    void getDocument_SharesDocumentWithinRun() throws Exception {
+        // given
+        ArticlePageCache cache = createCache(1_000_000);
+
+        // when
+        Document first = cache.getDocument(url("/article"));
+        Document second = cache.getDocument(url("/article"));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.select("p").text()).isEqualTo("/article");
+        assertThat(fullResponses.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진행 중인 크롤링 실행이 모두 끝나면 보관 중인 페이지를 비움")
+    void endRun_ReleasesPagesAfterLastRun() throws Exception {
+        // given: 겹쳐서 실행된 두 크롤링
+        ArticlePageCache cache = createCache(1_000_000);
+        cache.beginRun();
+        cache.getDocument(url("/article"));
+
+        // when & then
+        cache.endRun();
+        assertThat(cache.bytes()).isPositive();
+        cache.getDocument(url("/article"));
+        assertThat(fullResponses.get()).isEqualTo(1);
+
+        cache.endRun();
+        assertThat(cache.bytes()).isZero();
+        cache.getDocument(url("/article"));
+        assertThat(fullResponses.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("크롤링 실행 밖에서의 조회는 캐시하지 않음")
+    void getDocument_DoesNotRetainOutsideRun() throws Exception {
+        // given
+        FeedPageFetcher fetcher = new FeedPageFetcher(meterRegistry, 4, 2, 0);
+        ArticlePageCache cache = new ArticlePageCache(fetcher, meterRegistry, 1_000_000);
+
+        // when
+        cache.getDocument(url("/article"));
+        cache.getDocument(url("/article"));
+
+        // then
+        assertThat(fullResponses.get()).isEqualTo(2);
+        assertThat(cache.bytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("바이트 상한을 넘으면 가장 오래 사용되지 않은 페이지부터 제거")
+    void getDocument_EvictsLeastRecentlyUsed() throws Exception {
+        // given: 파싱된 페이지 2개 반까지만 허용
+        long pageBytes = ArticlePageCache.estimateBytes(createCache(1_000_000).getDocument(url("/a")));
+        ArticlePageCache cache = createCache(pageBytes * 5 / 2);
+        fullResponses.set(0);
+
+        // when
+        cache.getDocument(url("/a"));
+        cache.getDocument(url("/b"));
+        cache.getDocument(url("/a"));
+        cache.getDocument(url("/c"));
+        cache.getDocument(url("/a"));
+        cache.getDocument(url("/b"));
+
+        // then: /b는 /c 추가 시 제거되어 다시 요청됨
+        assertThat(fullResponses.get()).isEqualTo(4);
+        assertThat(cache.bytes()).isLessThanOrEqualTo(pageBytes * 5 / 2);
+    }
+
+    @Test
+    @DisplayName("캐시 크기는 HTML 원문이 아닌 파싱된 Document 기준으로 계산")
+    void getDocument_WeighsParsedDocument() throws Exception {
+        // given
+        ArticlePageCache cache = createCache(1_000_000);
+
+        // when
+        Document document = cache.getDocument(url("/article"));
+
+        // then
+        assertThat(cache.bytes()).isEqualTo(ArticlePageCache.estimateBytes(document));
+        assertThat(cache.bytes()).isGreaterThan((long) document.outerHtml().length() * Character.BYTES);
+    }
+
+    @Test
+    @DisplayName("charset이 meta 태그에만 있는 페이지도 올바르게 디코딩")
+    void getDocument_DetectsMetaCharset() throws Exception {
+        // given
+        ArticlePageCache cache = createCache(1_000_000);
+
+        // when
+        Document document = cache.getDocument(url("/euc-kr"));
+
+        // then
+        assertThat(document.select("p").text()).isEqualTo("한국어 기사");
+    }
+
+    @Test
+    @DisplayName("상대 경로는 리다이렉트 이후 주소 기준으로 해석")
+    void getDocument_ResolvesAgainstRedirectedUrl() throws Exception {
+        // given
+        ArticlePageCache cache = createCache(1_000_000);
+
+        // when
+        Document document = cache.getDocument(url("/old"));
+
+        // then
+        assertThat(document.select("meta[property=og:image]").attr("abs:content"))
+                .isEqualTo(url("/new/thumb.jpg"));
+    }
+
+    /**
+     * 크롤링 실행이 시작된 상태의 캐시
+     */
+    private ArticlePageCache createCache(long maxBytes) {
+        FeedPageFetcher fetcher = new FeedPageFetcher(meterRegistry, 4, 2, 0);
+        ArticlePageCache cache = new ArticlePageCache(fetcher, meterRegistry, maxBytes);
+        cache.beginRun();
+        return cache;
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+}
@@ -0,0 +1,138 @@
+package com.linglevel.api.content.feed.service;
+
+import com.linglevel.api.content.feed.entity.Feed;
+import com.linglevel.api.content.feed.entity.FeedSource;
+import com.linglevel.api.content.feed.filter.FeedFilterChain;
+import com.linglevel.api.content.feed.filter.FeedFilterResult;
+import com.linglevel.api.content.feed.repository.FeedRepository;
+import com.linglevel.api.content.feed.repository.FeedSourceRepository;
+import com.linglevel.api.crawling.service.CompiledDslCache;
+import com.rometools.rome.feed.synd.SyndEnclosure;
+import com.rometools.rome.feed.synd.SyndEnclosureImpl;
+import com.rometools.rome.feed.synd.SyndEntry;
+import com.rometools.rome.feed.synd.SyndEntryImpl;
+import com.rometools.rome.feed.synd.SyndFeed;
+import com.rometools.rome.feed.synd.SyndFeedImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RSS 엔트리 일괄 중복 확인 및 저장 테스트")
+class FeedCrawlingServiceBatchTest {
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    @Mock
+    private FeedSourceRepository feedSourceRepository;
+
+    @Mock
+    private FeedFilterChain feedFilterChain;
+
+    @Mock
+    private FeedRecommendationRankingService feedRecommendationRankingService;
+
+    @Mock
+    private FeedPageFetcher feedPageFetcher;
+
+    @Mock
+    private ArticlePageCache articlePageCache;
+
+    private FeedCrawlingService feedCrawlingService;
+
+    private final FeedSource feedSource = FeedSource.builder()
+            .name("source")
+            .url("https://example.com/rss")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        feedCrawlingService = new FeedCrawlingService(feedRepository, feedSourceRepository, feedFilterChain,
+                feedRecommendationRankingService, feedPageFetcher, articlePageCache, new CompiledDslCache(),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(feedCrawlingService, "entryParallelism", 2);
+    }
+
+    @Test
+    @DisplayName("새 엔트리가 없으면 중복 확인 쿼리 한 번으로 끝나고 필터를 실행하지 않음")
+    void crawlFeedSource_NoNewEntries() throws Exception {
+        // given
+        givenRssEntries(entry("http://www.example.com/a/"), entry("https://example.com/b"));
+        when(feedRepository.findExistingNormalizedUrls(anyCollection(), anyCollection()))
+                .thenReturn(Set.of("https://example.com/a", "https://example.com/b"));
+        when(feedRepository.insertAllIgnoringDuplicates(anyList())).thenReturn(List.of());
+
+        // when
+        int crawled = feedCrawlingService.crawlFeedSource(feedSource);
+
+        // then
+        assertThat(crawled).isZero();
+        verify(feedRepository, times(1)).findExistingNormalizedUrls(anyCollection(), anyCollection());
+        verifyNoInteractions(feedFilterChain);
+        verify(feedRepository, never()).existsByUrl(anyString());
+        verify(feedRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("새 엔트리만 필터를 거쳐 한 번의 bulk insert로 저장")
+    void crawlFeedSource_InsertsOnlyNewEntries() throws Exception {
+        // given
+        givenRssEntries(entry("https://example.com/old"), entry("https://example.com/new"),
+                entry("https://example.com/new/"));
+        when(feedRepository.findExistingNormalizedUrls(anyCollection(), anyCollection()))
+                .thenReturn(Set.of("https://example.com/old"));
+        when(feedFilterChain.executeFilters(any(), eq(feedSource))).thenReturn(FeedFilterResult.pass());
+        when(feedRepository.insertAllIgnoringDuplicates(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        int crawled = feedCrawlingService.crawlFeedSource(feedSource);
+
+        // then
+        assertThat(crawled).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> normalizedCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(feedRepository).findExistingNormalizedUrls(anyCollection(), normalizedCaptor.capture());
+        assertThat(normalizedCaptor.getValue()).containsExactly("https://example.com/old", "https://example.com/new");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Feed>> insertCaptor = ArgumentCaptor.forClass(List.class);
+        verify(feedRepository).insertAllIgnoringDuplicates(insertCaptor.capture());
+        assertThat(insertCaptor.getValue()).extracting(Feed::getNormalizedUrl).containsExactly("https://example.com/new");
+        verify(feedFilterChain, times(1)).executeFilters(any(), eq(feedSource));
+        verify(feedRecommendationRankingService).addFeeds(argThat(feeds -> feeds.size() == 1));
+    }
+
+    private void givenRssEntries(SyndEntry... entries) throws Exception {
+        SyndFeed rssFeed = new SyndFeedImpl();
+        rssFeed.setEntries(List.of(entries));
+        when(feedPageFetcher.execute(eq(feedSource.getUrl()), any())).thenReturn(rssFeed);
+    }
+
+    private SyndEntry entry(String link) {
+        SyndEnclosure enclosure = new SyndEnclosureImpl();
+        enclosure.setType("image/jpeg");
+        enclosure.setUrl("https://example.com/thumbnail.jpg");
+
+        SyndEntry entry = new SyndEntryImpl();
+        entry.setTitle("title " + link);
+        entry.setLink(link);
+        entry.setEnclosures(List.of(enclosure));
+        return entry;
+    }
+}
@@ -0,0 +1,88 @@
+package com.linglevel.api.content.feed.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("크롤링 요청 게이트 테스트")
+class FeedPageFetcherTest {
+
+    @Test
+    @DisplayName("같은 도메인은 도메인별 동시 요청 수를 넘지 않음")
+    void execute_LimitsPerDomainConcurrency() throws Exception {
+        // given
+        FeedPageFetcher fetcher = new FeedPageFetcher(new SimpleMeterRegistry(), 10, 1, 0);
+
+        // when
+        int maxConcurrent = runConcurrently(fetcher, List.of(
+                "https://a.com/1", "https://a.com/2", "https://a.com/3", "https://a.com/4"));
+
+        // then
+        assertThat(maxConcurrent).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 도메인은 병렬로 요청하되 전체 동시 요청 수를 넘지 않음")
+    void execute_LimitsGlobalInFlight() throws Exception {
+        // given
+        FeedPageFetcher fetcher = new FeedPageFetcher(new SimpleMeterRegistry(), 2, 2, 0);
+
+        // when
+        int maxConcurrent = runConcurrently(fetcher, List.of(
+                "https://a.com/1", "https://b.com/1", "https://c.com/1", "https://d.com/1"));
+
+        // then
+        assertThat(maxConcurrent).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 도메인의 요청 시작 사이에 최소 간격을 둠")
+    void execute_SpacesRequestsPerDomain() throws Exception {
+        // given
+        FeedPageFetcher fetcher = new FeedPageFetcher(new SimpleMeterRegistry(), 10, 2, 100);
+
+        // when
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 3; i++) {
+            fetcher.execute("https://a.com/" + i, () -> null);
+        }
+        long elapsed = System.currentTimeMillis() - start;
+
+        // then
+        assertThat(elapsed).isGreaterThanOrEqualTo(200);
+    }
+
+    private int runConcurrently(FeedPageFetcher fetcher, List<String> urls) throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(urls.size());
+
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (String url : urls) {
+                futures.add(executor.submit(() -> fetcher.execute(url, () -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.sleep(50);
+                    inFlight.decrementAndGet();
+                    return null;
+                })));
+            }
+            for (Future<Object> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        return maxInFlight.get();
+    }
+}
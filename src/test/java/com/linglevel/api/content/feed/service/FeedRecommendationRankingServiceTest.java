@@ -0,0 +1,270 @@
+package com.linglevel.api.content.feed.service;
+
+import com.linglevel.api.content.common.ContentCategory;
+import com.linglevel.api.content.feed.dto.RankedFeedIds;
+import com.linglevel.api.content.feed.entity.Feed;
+import com.linglevel.api.content.feed.repository.FeedRepository;
+import com.linglevel.api.content.recommendation.entity.UserCategoryPreference;
+import com.linglevel.api.content.recommendation.repository.UserCategoryPreferenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("추천순 Feed 랭킹 사전 계산 테스트")
+class FeedRecommendationRankingServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private SetOperations<String, Object> setOperations;
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    @Mock
+    private UserCategoryPreferenceRepository userCategoryPreferenceRepository;
+
+    @Spy
+    private FeedRecommendationService feedRecommendationService = new FeedRecommendationService(null);
+
+    @InjectMocks
+    private FeedRecommendationRankingService rankingService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rankingService, "topN", 1000);
+        ReflectionTestUtils.setField(rankingService, "ttlHours", 48L);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    }
+
+    @Test
+    @DisplayName("사용자 랭킹이 있으면 해당 페이지 범위만 조회")
+    void findRankedPage_ReadsPageRange() {
+        // given
+        when(zSetOperations.reverseRange("feed:recommend:user:user1", 20L, 39L))
+                .thenReturn(new LinkedHashSet<>(List.of("f2", "f1")));
+        when(zSetOperations.zCard("feed:recommend:user:user1")).thenReturn(42L);
+
+        // when
+        Optional<RankedFeedIds> page = rankingService.findRankedPage("user1", 20, 20);
+
+        // then
+        assertThat(page).isPresent();
+        assertThat(page.get().getIds()).containsExactly("f2", "f1");
+        assertThat(page.get().getTotalCount()).isEqualTo(42);
+        verify(zSetOperations).add(eq("feed:recommend:users"), eq("user1"), anyDouble());
+        verifyNoInteractions(userCategoryPreferenceRepository, feedRepository);
+    }
+
+    @Test
+    @DisplayName("공용 랭킹이 아직 없으면 empty를 반환하여 기존 방식으로 계산")
+    void findRankedPage_NotBuiltYet() {
+        // given
+        when(zSetOperations.reverseRange(anyString(), anyLong(), anyLong())).thenReturn(Set.of());
+        when(redisTemplate.hasKey(anyString())).thenReturn(false);
+
+        // when
+        Optional<RankedFeedIds> page = rankingService.findRankedPage("user1", 0, 20);
+
+        // then
+        assertThat(page).isEmpty();
+        verifyNoInteractions(userCategoryPreferenceRepository);
+    }
+
+    @Test
+    @DisplayName("첫 조회 사용자는 카테고리별 랭킹을 선호도로 병합해 생성")
+    void findRankedPage_MaterializesUserRanking() {
+        // given
+        when(zSetOperations.reverseRange("feed:recommend:user:user1", 0L, 19L))
+                .thenReturn(Set.of())
+                .thenReturn(new LinkedHashSet<>(List.of("tech1", "sports1")));
+        when(redisTemplate.hasKey("feed:recommend:user:user1")).thenReturn(false);
+        when(redisTemplate.hasKey("feed:recommend:default")).thenReturn(true);
+        when(userCategoryPreferenceRepository.findByUserId("user1")).thenReturn(Optional.of(
+                UserCategoryPreference.builder()
+                        .userId("user1")
+                        .categoryScores(Map.of(ContentCategory.TECH, 1.0))
+                        .build()));
+        when(zSetOperations.reverseRangeWithScores(anyString(), eq(0L), eq(999L))).thenReturn(Set.of());
+        when(zSetOperations.reverseRangeWithScores("feed:recommend:category:TECH", 0L, 999L))
+                .thenReturn(Set.of(new DefaultTypedTuple<>("tech1", 0.1)));
+        when(zSetOperations.reverseRangeWithScores("feed:recommend:category:SPORTS", 0L, 999L))
+                .thenReturn(Set.of(new DefaultTypedTuple<>("sports1", 0.2)));
+
+        // when
+        Optional<RankedFeedIds> page = rankingService.findRankedPage("user1", 0, 20);
+
+        // then
+        assertThat(page).isPresent();
+
+        ArgumentCaptor<String> tempKeyCaptor = ArgumentCaptor.forClass(String.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<TypedTuple<Object>>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(zSetOperations).add(tempKeyCaptor.capture(), captor.capture());
+        assertThat(tempKeyCaptor.getValue()).startsWith("feed:recommend:user:user1:tmp:");
+        assertThat(captor.getValue()).extracting(TypedTuple::getValue).containsExactly("tech1", "sports1");
+        assertThat(captor.getValue()).extracting(TypedTuple::getScore).containsExactly(0.9, 0.2);
+        verify(redisTemplate).rename(tempKeyCaptor.getValue(), "feed:recommend:user:user1");
+    }
+
+    @Test
+    @DisplayName("선호도가 없는 사용자는 기본 랭킹을 사용하고 다음 조회부터는 선호도를 다시 조회하지 않음")
+    void findRankedPage_CachesMissingPreference() {
+        // given
+        when(zSetOperations.reverseRange(anyString(), eq(0L), eq(19L))).thenReturn(Set.of());
+        when(zSetOperations.reverseRange("feed:recommend:default", 0L, 19L))
+                .thenReturn(new LinkedHashSet<>(List.of("f1")));
+        when(redisTemplate.hasKey("feed:recommend:user:user1")).thenReturn(false);
+        when(redisTemplate.hasKey("feed:recommend:default")).thenReturn(true);
+        when(setOperations.isMember("feed:recommend:no-preference", "user1")).thenReturn(false, true);
+        when(userCategoryPreferenceRepository.findByUserId("user1")).thenReturn(Optional.empty());
+
+        // when
+        Optional<RankedFeedIds> first = rankingService.findRankedPage("user1", 0, 20);
+        Optional<RankedFeedIds> second = rankingService.findRankedPage("user1", 0, 20);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(second.get().getIds()).containsExactly("f1");
+        verify(userCategoryPreferenceRepository, times(1)).findByUserId("user1");
+        verify(setOperations).add("feed:recommend:no-preference", "user1");
+        verify(zSetOperations, never()).add(eq("feed:recommend:users"), anyString(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("동시에 같은 세트를 재계산해도 서로 다른 임시 키를 사용")
+    void rebuildAll_UsesUniqueTempKeys() {
+        // given
+        Feed feed = Feed.builder()
+                .id("f1")
+                .category(ContentCategory.TECH)
+                .publishedAt(Instant.now())
+                .createdAt(Instant.now())
+                .build();
+        when(feedRepository.findRecommendationCandidates(any())).thenReturn(List.of(feed));
+        when(zSetOperations.range("feed:recommend:users", 0, -1)).thenReturn(Set.of());
+
+        // when
+        rankingService.rebuildAll();
+        rankingService.rebuildAll();
+
+        // then
+        ArgumentCaptor<String> tempKeyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(2)).rename(tempKeyCaptor.capture(), eq("feed:recommend:default"));
+        assertThat(tempKeyCaptor.getAllValues()).doesNotHaveDuplicates()
+                .allMatch(key -> key.startsWith("feed:recommend:default:tmp:"));
+    }
+
+    @Test
+    @DisplayName("재계산 시 기준 시각을 저장하고 선호도 없음 표시를 비움")
+    void rebuildAll_StoresRankingTimeAndClearsNoPreference() {
+        // given
+        when(feedRepository.findRecommendationCandidates(any())).thenReturn(List.of());
+        when(zSetOperations.range("feed:recommend:users", 0, -1)).thenReturn(Set.of());
+
+        // when
+        long before = System.currentTimeMillis();
+        rankingService.rebuildAll();
+
+        // then
+        ArgumentCaptor<Object> asOfCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(valueOperations).set(eq("feed:recommend:as-of"), asOfCaptor.capture(), eq(Duration.ofHours(48)));
+        assertThat((Long) asOfCaptor.getValue()).isBetween(before, System.currentTimeMillis());
+        verify(redisTemplate).delete("feed:recommend:no-preference");
+    }
+
+    @Test
+    @DisplayName("새 Feed는 기존 랭킹에 추가한 뒤 상위 N개로 잘라냄")
+    void addFeeds_PatchesExistingRankings() {
+        // given
+        when(redisTemplate.hasKey("feed:recommend:default")).thenReturn(true);
+        when(valueOperations.get("feed:recommend:as-of")).thenReturn(System.currentTimeMillis());
+        when(zSetOperations.range("feed:recommend:users", 0, -1)).thenReturn(Set.of());
+        Feed feed = Feed.builder()
+                .id("new1")
+                .category(ContentCategory.TECH)
+                .publishedAt(Instant.now())
+                .createdAt(Instant.now())
+                .build();
+
+        // when
+        rankingService.addFeeds(List.of(feed));
+
+        // then
+        verify(zSetOperations).add(eq("feed:recommend:category:TECH"), anySet());
+        verify(zSetOperations).removeRange("feed:recommend:category:TECH", 0, -1001);
+        verify(zSetOperations).add(eq("feed:recommend:default"), anySet());
+        verify(feedRepository, never()).findRecommendationCandidates(any());
+    }
+
+    @Test
+    @DisplayName("새 Feed의 신선도는 기존 랭킹과 같은 기준 시각으로 계산")
+    void addFeeds_ScoresFreshnessAsOfRankingTime() {
+        // given: 랭킹 기준 시각에는 발행 12시간 뒤였지만 지금은 10일이 지난 Feed
+        Instant publishedAt = Instant.now().minus(Duration.ofDays(10));
+        when(redisTemplate.hasKey("feed:recommend:default")).thenReturn(true);
+        when(valueOperations.get("feed:recommend:as-of")).thenReturn(publishedAt.plus(Duration.ofHours(12)).toEpochMilli());
+        when(zSetOperations.range("feed:recommend:users", 0, -1)).thenReturn(Set.of());
+        Feed feed = Feed.builder()
+                .id("new1")
+                .category(ContentCategory.TECH)
+                .publishedAt(publishedAt)
+                .createdAt(Instant.now())
+                .build();
+
+        // when
+        rankingService.addFeeds(List.of(feed));
+
+        // then: 품질 0.5 * 0.1 + 신선도 1.0 * 0.1
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<TypedTuple<Object>>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(zSetOperations).add(eq("feed:recommend:category:TECH"), captor.capture());
+        assertThat(captor.getValue().iterator().next().getScore()).isCloseTo(0.15, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("랭킹이 만들어지기 전에는 새 Feed 반영을 건너뜀")
+    void addFeeds_SkipsWhenNotBuilt() {
+        // given
+        when(redisTemplate.hasKey("feed:recommend:default")).thenReturn(false);
+
+        // when
+        rankingService.addFeeds(List.of(Feed.builder().id("new1").build()));
+
+        // then
+        verifyNoInteractions(zSetOperations, valueOperations);
+    }
+}
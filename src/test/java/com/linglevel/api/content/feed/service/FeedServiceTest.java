@@ -0,0 +1,212 @@
+package com.linglevel.api.content.feed.service;
+
+import com.linglevel.api.common.dto.PageResponse;
+import com.linglevel.api.content.common.ContentCategory;
+import com.linglevel.api.content.feed.dto.FeedResponse;
+import com.linglevel.api.content.feed.dto.GetFeedsRequest;
+import com.linglevel.api.content.feed.dto.RankedFeedIds;
+import com.linglevel.api.content.feed.entity.Feed;
+import com.linglevel.api.content.feed.repository.FeedRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Feed 목록 조회 테스트")
+class FeedServiceTest {
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    @Mock
+    private FeedRecommendationService feedRecommendationService;
+
+    @Mock
+    private FeedRankingCache feedRankingCache;
+
+    @Mock
+    private FeedRecommendationRankingService feedRecommendationRankingService;
+
+    @InjectMocks
+    private FeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(feedService, "maxRankedIds", 10);
+    }
+
+    @Test
+    @DisplayName("정렬된 ID 목록에서 해당 페이지만 잘라 순서대로 조회")
+    void getFeeds_SlicesRankedIds() {
+        // given
+        GetFeedsRequest request = createRequest(GetFeedsRequest.SortOrder.LATEST, 2, 2);
+        givenCacheMiss();
+        when(feedRepository.findRankedFeedIds(request, 10)).thenReturn(List.of("f1", "f2", "f3", "f4", "f5"));
+        when(feedRepository.findAllById(List.of("f3", "f4"))).thenReturn(List.of(createFeed("f4"), createFeed("f3")));
+
+        // when
+        PageResponse<FeedResponse> response = feedService.getFeeds(request, "user1");
+
+        // then
+        assertThat(response.getData()).extracting(FeedResponse::getId).containsExactly("f3", "f4");
+        assertThat(response.getTotalCount()).isEqualTo(5);
+        assertThat(response.getTotalPages()).isEqualTo(3);
+        assertThat(response.isHasNext()).isTrue();
+        verify(feedRepository, never()).countFeedsWithFilters(any());
+    }
+
+    @Test
+    @DisplayName("캐시된 상위 목록을 넘어서는 페이지는 인덱스 쿼리로 직접 조회")
+    void getFeeds_DeepPageQueriesDirectly() {
+        // given
+        GetFeedsRequest request = createRequest(GetFeedsRequest.SortOrder.POPULAR, 4, 5);
+        givenCacheMiss();
+        when(feedRepository.findRankedFeedIds(request, 10)).thenReturn(ids(10));
+        when(feedRepository.countFeedsWithFilters(request)).thenReturn(50L);
+        when(feedRepository.findFeedsWithFilters(request, 15L, 5)).thenReturn(List.of(createFeed("f15")));
+
+        // when
+        PageResponse<FeedResponse> response = feedService.getFeeds(request, "user1");
+
+        // then
+        assertThat(response.getData()).extracting(FeedResponse::getId).containsExactly("f15");
+        assertThat(response.getTotalCount()).isEqualTo(50);
+        verify(feedRepository, never()).findAllById(anyIterable());
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 정렬 목록을 다시 계산하지 않음")
+    void getFeeds_UsesCachedRanking() {
+        // given
+        GetFeedsRequest request = createRequest(GetFeedsRequest.SortOrder.LATEST, 1, 2);
+        when(feedRankingCache.getOrLoad(eq(request), eq("user1"), any()))
+                .thenReturn(new RankedFeedIds(List.of("f1", "f2"), 2));
+        when(feedRepository.findAllById(List.of("f1", "f2"))).thenReturn(List.of(createFeed("f1"), createFeed("f2")));
+
+        // when
+        PageResponse<FeedResponse> response = feedService.getFeeds(request, "user1");
+
+        // then
+        assertThat(response.getData()).hasSize(2);
+        verify(feedRepository, never()).findRankedFeedIds(any(), anyInt());
+        verify(feedRepository, never()).findRecommendationCandidates(any());
+    }
+
+    @Test
+    @DisplayName("추천순은 후보 Feed를 사용자 선호도로 정렬한 ID 목록 사용")
+    void getFeeds_RecommendedUsesRecommendationOrder() {
+        // given
+        GetFeedsRequest request = createRequest(GetFeedsRequest.SortOrder.RECOMMENDED, 1, 20);
+        givenCacheMiss();
+        List<Feed> candidates = List.of(createFeed("f1"), createFeed("f2"));
+        when(feedRepository.findRecommendationCandidates(request)).thenReturn(candidates);
+        when(feedRecommendationService.sortByRecommendation(candidates, "user1"))
+                .thenReturn(List.of(candidates.get(1), candidates.get(0)));
+        when(feedRepository.findAllById(List.of("f2", "f1"))).thenReturn(List.of(createFeed("f1"), createFeed("f2")));
+
+        // when
+        PageResponse<FeedResponse> response = feedService.getFeeds(request, "user1");
+
+        // then
+        assertThat(response.getData()).extracting(FeedResponse::getId).containsExactly("f2", "f1");
+        assertThat(response.getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("필터 없는 추천순은 사전 계산된 랭킹의 해당 페이지 ID만 조회")
+    void getFeeds_RecommendedUsesPrecomputedRanking() {
+        // given
+        GetFeedsRequest request = createRequest(GetFeedsRequest.SortOrder.RECOMMENDED, 2, 2);
+        when(feedRecommendationRankingService.findRankedPage("user1", 2L, 2))
+                .thenReturn(Optional.of(new RankedFeedIds(List.of("f7", "f3"), 5)));
+        when(feedRepository.findAllById(List.of("f7", "f3"))).thenReturn(List.of(createFeed("f3"), createFeed("f7")));
+
+        // when
+        PageResponse<FeedResponse> response = feedService.getFeeds(request, "user1");
+
+        // then
+        assertThat(response.getData()).extracting(FeedResponse::getId).containsExactly("f7", "f3");
+        assertThat(response.getTotalCount()).isEqualTo(5);
+        verifyNoInteractions(feedRankingCache, feedRecommendationService);
+        verify(feedRepository, never()).findRecommendationCandidates(any());
+    }
+
+    @Test
+    @DisplayName("사전 계산된 랭킹의 마지막 페이지도 같은 점수 순서로만 조회")
+    void getFeeds_RecommendedLastPageStaysInRankedOrder() {
+        // given
+        GetFeedsRequest request = createRequest(GetFeedsRequest.SortOrder.RECOMMENDED, 5, 2);
+        when(feedRecommendationRankingService.findRankedPage("user1", 8L, 2))
+                .thenReturn(Optional.of(new RankedFeedIds(List.of("f9"), 9)));
+        when(feedRepository.findAllById(List.of("f9"))).thenReturn(List.of(createFeed("f9")));
+
+        // when
+        PageResponse<FeedResponse> response = feedService.getFeeds(request, "user1");
+
+        // then
+        assertThat(response.getData()).extracting(FeedResponse::getId).containsExactly("f9");
+        assertThat(response.getTotalCount()).isEqualTo(9);
+        assertThat(response.isHasNext()).isFalse();
+        verify(feedRepository, never()).findFeedsWithFilters(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("카테고리 필터가 있는 추천순은 사전 계산된 랭킹을 사용하지 않음")
+    void getFeeds_FilteredRecommendedSkipsPrecomputedRanking() {
+        // given
+        GetFeedsRequest request = createRequest(GetFeedsRequest.SortOrder.RECOMMENDED, 1, 20);
+        request.setCategory(ContentCategory.TECH);
+        givenCacheMiss();
+        when(feedRepository.findRecommendationCandidates(request)).thenReturn(List.of());
+        when(feedRecommendationService.sortByRecommendation(List.of(), "user1")).thenReturn(List.of());
+
+        // when
+        PageResponse<FeedResponse> response = feedService.getFeeds(request, "user1");
+
+        // then
+        assertThat(response.getData()).isEmpty();
+        verifyNoInteractions(feedRecommendationRankingService);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenCacheMiss() {
+        when(feedRankingCache.getOrLoad(any(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<RankedFeedIds>) invocation.getArgument(2)).get());
+    }
+
+    private GetFeedsRequest createRequest(GetFeedsRequest.SortOrder sortOrder, int page, int limit) {
+        GetFeedsRequest request = new GetFeedsRequest();
+        request.setSortOrder(sortOrder);
+        request.setPage(page);
+        request.setLimit(limit);
+        return request;
+    }
+
+    private List<String> ids(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "f" + i)
+                .collect(Collectors.toList());
+    }
+
+    private Feed createFeed(String id) {
+        return Feed.builder()
+                .id(id)
+                .title("title " + id)
+                .build();
+    }
+}
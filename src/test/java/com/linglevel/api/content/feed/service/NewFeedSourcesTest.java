@@ -40,7 +40,7 @@ class NewFeedSourcesTest {
         System.out.println();
 
         // FeedCrawlingService의 extractDescription 메서드를 리플렉션으로 호출
-        FeedCrawlingService service = new FeedCrawlingService(null, null, null);
+        FeedCrawlingService service = new FeedCrawlingService(null, null, null, null, null, null, null, null);
         Method extractDescriptionMethod = FeedCrawlingService.class.getDeclaredMethod("extractDescription", SyndEntry.class);
         extractDescriptionMethod.setAccessible(true);
 
@@ -121,7 +121,7 @@ class NewFeedSourcesTest {
         System.out.println();
 
         // FeedCrawlingService의 extractDescription 메서드를 리플렉션으로 호출
-        FeedCrawlingService service = new FeedCrawlingService(null, null, null);
+        FeedCrawlingService service = new FeedCrawlingService(null, null, null, null, null, null, null, null);
         Method extractDescriptionMethod = FeedCrawlingService.class.getDeclaredMethod("extractDescription", SyndEntry.class);
         extractDescriptionMethod.setAccessible(true);
 
@@ -188,7 +188,7 @@ class NewFeedSourcesTest {
 
         System.out.println("\n=== 새로운 RSS 소스 통합 비교 테스트 ===\n");
 
-        FeedCrawlingService service = new FeedCrawlingService(null, null, null);
+        FeedCrawlingService service = new FeedCrawlingService(null, null, null, null, null, null, null, null);
         Method extractDescriptionMethod = FeedCrawlingService.class.getDeclaredMethod("extractDescription", SyndEntry.class);
         extractDescriptionMethod.setAccessible(true);
 
@@ -2,6 +2,7 @@ package com.linglevel.api.content.recommendation.scheduler;
 
 import com.linglevel.api.content.common.ContentCategory;
 import com.linglevel.api.content.common.ContentType;
+import com.linglevel.api.content.feed.service.FeedRecommendationRankingService;
 import com.linglevel.api.content.recommendation.entity.ContentAccessLog;
 import com.linglevel.api.content.recommendation.entity.UserCategoryPreference;
 import com.linglevel.api.content.recommendation.repository.ContentAccessLogRepository;
@@ -35,6 +36,9 @@ class UserPreferenceAggregationSchedulerTest {
     @Mock
     private UserCategoryPreferenceRepository userCategoryPreferenceRepository;
 
+    @Mock
+    private FeedRecommendationRankingService feedRecommendationRankingService;
+
     @InjectMocks
     private UserPreferenceAggregationScheduler scheduler;
 
@@ -261,4 +261,24 @@ class CrawlerDslTest {
         String result4 = crawler.executeAsString(null);
         assertNull(result4);
     }
+
+    @Test
+    void testCompiledDslReusedAcrossDocuments() {
+        CompiledDsl compiled = CompiledDsl.compile("D'''div.content p'''>#");
+
+        Document first = Jsoup.parse("<div class='content'><p>One</p><p>Two</p></div>");
+        Document second = Jsoup.parse("<div class='content'><p>Three</p></div>");
+
+        assertEquals("One\n\nTwo", compiled.executeAsString(first));
+        assertEquals("Three", compiled.executeAsString(second));
+        assertEquals(new CrawlerDsl(first).executeAsString("D'''div.content p'''>#"), compiled.executeAsString(first));
+    }
+
+    @Test
+    void testInvalidDslReturnsNull() {
+        CrawlerDsl crawler = new CrawlerDsl("<p>text</p>");
+
+        assertNull(crawler.executeAsString("D'p"));
+        assertThrows(RuntimeException.class, () -> CompiledDsl.compile("D'p"));
+    }
 }
@@ -0,0 +1,69 @@
+package com.linglevel.api.crawling.service;
+
+import com.linglevel.api.crawling.dsl.CompiledDsl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("컴파일된 DSL 캐시 테스트")
+class CompiledDslCacheTest {
+
+    private final CompiledDslCache cache = new CompiledDslCache();
+
+    @Test
+    @DisplayName("같은 DSL은 한 번만 컴파일하고 같은 인스턴스를 재사용")
+    void get_ReusesCompiledDsl() {
+        // when
+        CompiledDsl first = cache.get("example.com", CompiledDslCache.CONTENT, "D'p'#").orElseThrow();
+        CompiledDsl second = cache.get("example.com", CompiledDslCache.CONTENT, "D'p'#").orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("DSL 원문이 바뀌면 다시 컴파일")
+    void get_RecompilesWhenSourceChanges() {
+        // given
+        CompiledDsl before = cache.get("example.com", CompiledDslCache.CONTENT, "D'p'#").orElseThrow();
+
+        // when
+        CompiledDsl after = cache.get("example.com", CompiledDslCache.CONTENT, "D'article'#").orElseThrow();
+
+        // then
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getSource()).isEqualTo("D'article'#");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("문법 오류 DSL은 empty를 반환하고 실패 결과도 캐시")
+    void get_InvalidDslReturnsEmpty() {
+        // when
+        Optional<CompiledDsl> first = cache.get("example.com", CompiledDslCache.CONTENT, "D'p");
+        Optional<CompiledDsl> second = cache.get("example.com", CompiledDslCache.CONTENT, "D'p");
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("invalidate는 해당 도메인의 모든 필드만 제거")
+    void invalidate_RemovesOnlyDomainEntries() {
+        // given
+        cache.get("example.com", CompiledDslCache.TITLE, "D'h1'#");
+        cache.get("example.com", CompiledDslCache.CONTENT, "D'p'#");
+        cache.get("other.com", CompiledDslCache.CONTENT, "D'p'#");
+
+        // when
+        cache.invalidate("example.com");
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,282 @@
+package com.linglevel.api.fcm.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import com.linglevel.api.fcm.dto.FcmMessageRequest;
+import com.linglevel.api.fcm.dto.PushDispatchResult;
+import com.linglevel.api.fcm.dto.PushRecipient;
+import com.linglevel.api.fcm.entity.FcmToken;
+import com.linglevel.api.fcm.repository.FcmTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("푸시 배치 전송 파이프라인 테스트")
+class PushDispatchServiceTest {
+
+    @Mock
+    private FirebaseMessaging firebaseMessaging;
+
+    @Mock
+    private FcmMessagingService fcmMessagingService;
+
+    @Mock
+    private FcmTokenRepository fcmTokenRepository;
+
+    @Mock
+    private FcmTokenService fcmTokenService;
+
+    @Mock
+    private PushLogBuffer pushLogBuffer;
+
+    private ExecutorService pushDispatchExecutor;
+    private PushDispatchService pushDispatchService;
+
+    private final FcmMessageRequest messageRequest = FcmMessageRequest.builder()
+            .title("title")
+            .body("body")
+            .campaignId("streak_protection")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        pushDispatchExecutor = Executors.newFixedThreadPool(2);
+        pushDispatchService = new PushDispatchService(firebaseMessaging, fcmMessagingService, fcmTokenRepository,
+                fcmTokenService, pushLogBuffer, pushDispatchExecutor);
+        lenient().when(fcmMessagingService.buildMessage(anyString(), anyString(), anyString(), any(FcmMessageRequest.class)))
+                .thenAnswer(invocation -> Message.builder().setToken(invocation.getArgument(0)).build());
+    }
+
+    @Test
+    @DisplayName("여러 사용자의 활성 토큰을 한 번의 쿼리로 조회하여 사용자별로 묶음")
+    void resolveActiveTokens_GroupsByUser() {
+        // given
+        List<String> userIds = List.of("user1", "user2", "user3");
+        when(fcmTokenRepository.findByUserIdInAndIsActive(userIds, true)).thenReturn(List.of(
+                createToken("user1", "token1"),
+                createToken("user1", "token2"),
+                createToken("user2", "token3")
+        ));
+
+        // when
+        Map<String, List<FcmToken>> tokensByUser = pushDispatchService.resolveActiveTokens(userIds);
+
+        // then
+        assertThat(tokensByUser).containsOnlyKeys("user1", "user2");
+        assertThat(tokensByUser.get("user1")).hasSize(2);
+        verify(fcmTokenRepository, times(1)).findByUserIdInAndIsActive(anyCollection(), eq(true));
+    }
+
+    @Test
+    @DisplayName("메시지는 sendEach 최대 크기(500)로 나누어 전송")
+    void dispatch_SplitsIntoBatchesOf500() throws Exception {
+        // given
+        List<PushRecipient> recipients = IntStream.range(0, 1200)
+                .mapToObj(i -> new PushRecipient("user" + i, List.of(createToken("user" + i, "token" + i)), messageRequest))
+                .collect(Collectors.toList());
+
+        when(firebaseMessaging.sendEach(anyList())).thenAnswer(invocation -> {
+            List<Message> messages = invocation.getArgument(0);
+            return batchResponse(messages.size(), Map.of());
+        });
+
+        // when
+        PushDispatchResult result = pushDispatchService.dispatch(recipients);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
+        verify(firebaseMessaging, times(3)).sendEach(captor.capture());
+        assertThat(captor.getAllValues()).extracting(List::size).containsExactlyInAnyOrder(500, 500, 200);
+
+        assertThat(result.getSentCount()).isEqualTo(1200);
+        assertThat(result.getFailedCount()).isZero();
+        verify(pushLogBuffer, times(3)).enqueueAll(argThat(logs -> !logs.isEmpty()));
+    }
+
+    @Test
+    @DisplayName("영구 실패 토큰만 한 번의 일괄 업데이트로 비활성화")
+    void dispatch_DeactivatesPermanentFailuresInBulk() throws Exception {
+        // given
+        List<PushRecipient> recipients = List.of(
+                new PushRecipient("user1", List.of(createToken("user1", "token1"), createToken("user1", "token2")), messageRequest),
+                new PushRecipient("user2", List.of(createToken("user2", "token3")), messageRequest)
+        );
+
+        // token2: 등록 해제된 토큰, token3: 일시적 오류
+        BatchResponse response = batchResponse(3, Map.of(
+                1, MessagingErrorCode.UNREGISTERED,
+                2, MessagingErrorCode.UNAVAILABLE
+        ));
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(response);
+        when(fcmTokenService.deactivateTokens(anyCollection())).thenReturn(1L);
+
+        // when
+        PushDispatchResult result = pushDispatchService.dispatch(recipients);
+
+        // then
+        assertThat(result.getSentCount()).isEqualTo(1);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getSuccessfulUserIds()).containsExactly("user1");
+        assertThat(result.getFailedTokens()).containsExactlyInAnyOrder("token2", "token3");
+        assertThat(result.getDeactivatedCount()).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(fcmTokenService, times(1)).deactivateTokens(captor.capture());
+        assertThat(captor.getValue()).containsExactly("token2");
+        verify(fcmTokenService, never()).deactivateToken(anyString());
+    }
+
+    @Test
+    @DisplayName("페이로드/인증 오류나 오류 코드가 없는 실패는 토큰을 비활성화하지 않음")
+    void dispatch_DoesNotDeactivateForNonTokenErrors() throws Exception {
+        // given
+        List<PushRecipient> recipients = List.of(
+                new PushRecipient("user1", List.of(createToken("user1", "token1"), createToken("user1", "token2")), messageRequest),
+                new PushRecipient("user2", List.of(createToken("user2", "token3"), createToken("user2", "token4")), messageRequest)
+        );
+
+        SendResponse withoutException = mock(SendResponse.class);
+        when(withoutException.isSuccessful()).thenReturn(false);
+        BatchResponse response = mock(BatchResponse.class);
+        when(response.getResponses()).thenReturn(List.of(
+                failure(MessagingErrorCode.INVALID_ARGUMENT),
+                failure(MessagingErrorCode.THIRD_PARTY_AUTH_ERROR),
+                withoutException,
+                failure(MessagingErrorCode.SENDER_ID_MISMATCH)
+        ));
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(response);
+
+        // when
+        PushDispatchResult result = pushDispatchService.dispatch(recipients);
+
+        // then
+        assertThat(result.getFailedCount()).isEqualTo(4);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(fcmTokenService).deactivateTokens(captor.capture());
+        assertThat(captor.getValue()).containsExactly("token4");
+    }
+
+    @Test
+    @DisplayName("배치 전체 전송 실패 시 토큰은 비활성화하지 않고 실패로만 기록")
+    void dispatch_WholeBatchFailure_DoesNotDeactivate() throws Exception {
+        // given
+        List<PushRecipient> recipients = List.of(
+                new PushRecipient("user1", List.of(createToken("user1", "token1")), messageRequest)
+        );
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(firebaseMessaging.sendEach(anyList())).thenThrow(exception);
+
+        // when
+        PushDispatchResult result = pushDispatchService.dispatch(recipients);
+
+        // then
+        assertThat(result.getSentCount()).isZero();
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        verify(fcmTokenService).deactivateTokens(argThat(Collection::isEmpty));
+        verify(pushLogBuffer).enqueueAll(argThat(logs -> logs.size() == 1));
+    }
+
+    @Test
+    @DisplayName("배치 처리 중 예기치 않은 오류가 나도 해당 배치의 메시지를 실패로 집계하고 나머지 배치는 계속 처리")
+    void dispatch_CrashedBatchIsCountedAsFailed() throws Exception {
+        // given: 첫 배치(500)는 정상, 두 번째 배치(100)는 예기치 않은 오류
+        List<PushRecipient> recipients = IntStream.range(0, 600)
+                .mapToObj(i -> new PushRecipient("user" + i, List.of(createToken("user" + i, "token" + i)), messageRequest))
+                .collect(Collectors.toList());
+        when(firebaseMessaging.sendEach(anyList())).thenAnswer(invocation -> {
+            List<Message> messages = invocation.getArgument(0);
+            if (messages.size() < PushDispatchService.MAX_MESSAGES_PER_BATCH) {
+                throw new IllegalStateException("unexpected");
+            }
+            return batchResponse(messages.size(), Map.of());
+        });
+
+        // when
+        PushDispatchResult result = pushDispatchService.dispatch(recipients);
+
+        // then
+        assertThat(result.getSentCount()).isEqualTo(500);
+        assertThat(result.getFailedCount()).isEqualTo(100);
+        verify(pushLogBuffer).enqueueAll(argThat(logs -> logs.size() == 100));
+        verify(fcmTokenService).deactivateTokens(argThat(Collection::isEmpty));
+    }
+
+    @Test
+    @DisplayName("수신자가 없으면 FCM을 호출하지 않음")
+    void dispatch_EmptyRecipients() {
+        // when
+        PushDispatchResult result = pushDispatchService.dispatch(List.of());
+
+        // then
+        assertThat(result.getSentCount()).isZero();
+        verifyNoInteractions(firebaseMessaging, fcmTokenService, pushLogBuffer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pushDispatchExecutor.shutdownNow();
+    }
+
+    // Helper methods
+    private BatchResponse batchResponse(int size, Map<Integer, MessagingErrorCode> failures) {
+        List<SendResponse> responses = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            responses.add(failures.containsKey(i) ? failure(failures.get(i)) : success());
+        }
+
+        BatchResponse response = mock(BatchResponse.class);
+        when(response.getResponses()).thenReturn(responses);
+        return response;
+    }
+
+    private SendResponse success() {
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(true);
+        return response;
+    }
+
+    private SendResponse failure(MessagingErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(errorCode);
+
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(false);
+        when(response.getException()).thenReturn(exception);
+        return response;
+    }
+
+    private FcmToken createToken(String userId, String token) {
+        FcmToken fcmToken = new FcmToken();
+        fcmToken.setUserId(userId);
+        fcmToken.setFcmToken(token);
+        fcmToken.setIsActive(true);
+        return fcmToken;
+    }
+}
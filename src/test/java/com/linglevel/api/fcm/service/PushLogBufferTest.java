@@ -0,0 +1,162 @@
+package com.linglevel.api.fcm.service;
+
+import com.linglevel.api.fcm.entity.PushLog;
+import com.linglevel.api.fcm.repository.PushLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PushLog 비동기 적재 버퍼 테스트")
+class PushLogBufferTest {
+
+    @Mock
+    private PushLogRepository pushLogRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PushLogBuffer pushLogBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 용량 5, 배치 2 (스케줄러는 시작하지 않고 flush를 직접 호출)
+        pushLogBuffer = new PushLogBuffer(pushLogRepository, meterRegistry, 5, 2, 60_000, 1_000);
+    }
+
+    @Test
+    @DisplayName("적재만 하고 저장은 flush 시점에 bulk upsert 배치로 수행")
+    void enqueue_DoesNotWriteUntilFlush() {
+        // given
+        pushLogBuffer.enqueueAll(createLogs(5));
+
+        // then
+        verifyNoInteractions(pushLogRepository);
+        assertThat(pushLogBuffer.size()).isEqualTo(5);
+
+        // when
+        int written = pushLogBuffer.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PushLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pushLogRepository, times(3)).upsertSentLogs(captor.capture());
+        assertThat(captor.getAllValues()).extracting(Collection::size).containsExactly(2, 2, 1);
+        assertThat(written).isEqualTo(5);
+        assertThat(pushLogBuffer.size()).isZero();
+        assertThat(meterRegistry.counter("push.log.buffer.flushed").count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 호출 스레드가 아닌 백그라운드 스레드에서 flush 후 적재")
+    void enqueue_WhenFull_FlushesInBackground() throws InterruptedException {
+        // given
+        List<String> writerThreads = new CopyOnWriteArrayList<>();
+        CountDownLatch written = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writerThreads.add(Thread.currentThread().getName());
+            written.countDown();
+            return null;
+        }).when(pushLogRepository).upsertSentLogs(anyList());
+        pushLogBuffer.enqueueAll(createLogs(5));
+
+        // when
+        pushLogBuffer.enqueue(createLog("overflow"));
+
+        // then
+        assertThat(written.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(writerThreads).isNotEmpty().allMatch("push-log-flusher"::equals);
+        assertThat(meterRegistry.counter("push.log.buffer.backpressure").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("push.log.buffer.enqueued").count()).isEqualTo(6);
+        assertThat(meterRegistry.counter("push.log.buffer.dropped").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장 실패한 배치는 버리지 않고 버퍼에 다시 넣어 다음 flush에서 재시도")
+    void flush_FailedBatchIsRequeued() {
+        // given
+        pushLogBuffer.enqueueAll(createLogs(3));
+        doThrow(new RuntimeException("mongo down"))
+                .doNothing()
+                .when(pushLogRepository).upsertSentLogs(anyList());
+
+        // when
+        int firstWritten = pushLogBuffer.flush();
+
+        // then
+        assertThat(firstWritten).isZero();
+        assertThat(pushLogBuffer.size()).isEqualTo(3);
+        assertThat(meterRegistry.counter("push.log.buffer.flush.failures").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("push.log.buffer.requeued").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("push.log.buffer.dropped").count()).isZero();
+
+        // when
+        int retriedWritten = pushLogBuffer.flush();
+
+        // then
+        assertThat(retriedWritten).isEqualTo(3);
+        assertThat(pushLogBuffer.size()).isZero();
+        assertThat(meterRegistry.counter("push.log.buffer.flushed").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("저장되기 전까지만 campaignId를 대기 중으로 추적하고, 실패한 배치는 계속 대기 중으로 유지")
+    void isPending_UntilFlushSucceeds() {
+        // given
+        pushLogBuffer.enqueue(createLog("push1"));
+        doThrow(new RuntimeException("mongo down"))
+                .doNothing()
+                .when(pushLogRepository).upsertSentLogs(anyList());
+
+        // when & then
+        assertThat(pushLogBuffer.isPending("push1")).isTrue();
+        assertThat(pushLogBuffer.isPending("unknown")).isFalse();
+
+        pushLogBuffer.flush();
+        assertThat(pushLogBuffer.isPending("push1")).isTrue();
+
+        pushLogBuffer.flush();
+        assertThat(pushLogBuffer.isPending("push1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 로그를 모두 저장")
+    void drain_WritesRemainingLogs() {
+        // given
+        pushLogBuffer.enqueueAll(createLogs(3));
+
+        // when
+        pushLogBuffer.drain();
+
+        // then
+        verify(pushLogRepository, times(2)).upsertSentLogs(anyList());
+        assertThat(pushLogBuffer.size()).isZero();
+    }
+
+    private List<PushLog> createLogs(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> createLog("push" + i))
+                .collect(Collectors.toList());
+    }
+
+    private PushLog createLog(String campaignId) {
+        return PushLogService.createSentLog(campaignId, "user1", true, "streak_protection", null, LocalDateTime.now());
+    }
+}
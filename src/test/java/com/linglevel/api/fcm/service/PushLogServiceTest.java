@@ -0,0 +1,102 @@
+package com.linglevel.api.fcm.service;
+
+import com.linglevel.api.fcm.exception.FcmErrorCode;
+import com.linglevel.api.fcm.exception.FcmException;
+import com.linglevel.api.fcm.repository.PushLogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("푸시 오픈 로그 테스트")
+class PushLogServiceTest {
+
+    @Mock
+    private PushLogRepository pushLogRepository;
+
+    @Mock
+    private PushLogBuffer pushLogBuffer;
+
+    @InjectMocks
+    private PushLogService pushLogService;
+
+    @Test
+    @DisplayName("송신 로그가 아직 버퍼에 있으면 오픈은 upsert로 기록")
+    void logOpened_BeforeSentLogIsFlushed() {
+        // given
+        LocalDateTime openedAt = LocalDateTime.now();
+        when(pushLogBuffer.isPending("push1")).thenReturn(true);
+        when(pushLogRepository.markOpened("push1", "user1", openedAt, true)).thenReturn(true);
+
+        // when
+        assertThatCode(() -> pushLogService.logOpened("user1", "push1", openedAt)).doesNotThrowAnyException();
+
+        // then
+        verify(pushLogRepository).markOpened("push1", "user1", openedAt, true);
+        verify(pushLogRepository, never()).existsByCampaignId(any());
+    }
+
+    @Test
+    @DisplayName("저장된 송신 로그는 문서를 새로 만들지 않고 오픈 시간만 기록")
+    void logOpened_AfterSentLogIsFlushed() {
+        // given
+        LocalDateTime openedAt = LocalDateTime.now();
+        when(pushLogBuffer.isPending("push1")).thenReturn(false);
+        when(pushLogRepository.markOpened("push1", "user1", openedAt, false)).thenReturn(true);
+
+        // when & then
+        assertThatCode(() -> pushLogService.logOpened("user1", "push1", openedAt)).doesNotThrowAnyException();
+        verify(pushLogRepository, never()).markOpened("push1", "user1", openedAt, true);
+    }
+
+    @Test
+    @DisplayName("이미 오픈된 로그는 중복 오픈을 무시")
+    void logOpened_IgnoresDuplicate() {
+        // given
+        LocalDateTime openedAt = LocalDateTime.now();
+        when(pushLogBuffer.isPending("push1")).thenReturn(false);
+        when(pushLogRepository.markOpened("push1", "user1", openedAt, false)).thenReturn(false);
+        when(pushLogRepository.existsByCampaignId("push1")).thenReturn(true);
+
+        // when & then
+        assertThatCode(() -> pushLogService.logOpened("user1", "push1", openedAt)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("버퍼에도 DB에도 없는 campaignId는 문서를 만들지 않고 PUSH_LOG_NOT_FOUND")
+    void logOpened_UnknownCampaignId() {
+        // given
+        LocalDateTime openedAt = LocalDateTime.now();
+        when(pushLogBuffer.isPending("typo")).thenReturn(false);
+        when(pushLogRepository.markOpened("typo", "user1", openedAt, false)).thenReturn(false);
+        when(pushLogRepository.existsByCampaignId("typo")).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> pushLogService.logOpened("user1", "typo", openedAt))
+                .isInstanceOf(FcmException.class)
+                .hasMessage(FcmErrorCode.PUSH_LOG_NOT_FOUND.getMessage());
+        verify(pushLogRepository, never()).markOpened("typo", "user1", openedAt, true);
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 PUSH_LOG_SAVE_FAILED")
+    void logOpened_SaveFailure() {
+        // given
+        LocalDateTime openedAt = LocalDateTime.now();
+        when(pushLogBuffer.isPending("push1")).thenReturn(false);
+        when(pushLogRepository.markOpened("push1", "user1", openedAt, false)).thenThrow(new RuntimeException("mongo down"));
+
+        // when & then
+        assertThatThrownBy(() -> pushLogService.logOpened("user1", "push1", openedAt))
+                .isInstanceOf(FcmException.class);
+    }
+}
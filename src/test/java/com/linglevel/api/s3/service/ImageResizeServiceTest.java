@@ -1,5 +1,6 @@
 package com.linglevel.api.s3.service;
 
+import com.linglevel.api.s3.thumbnail.ThumbnailSpec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,6 +15,9 @@ import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import javax.imageio.ImageIO;
@@ -23,6 +27,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -210,6 +215,58 @@ class ImageResizeServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("다중 규격 썸네일 생성 테스트")
+    class CreateThumbnailsTest {
+
+        @Test
+        @DisplayName("없는 규격만 한 번의 디코딩으로 생성하고 규격별 포맷으로 업로드")
+        void createThumbnails_RendersOnlyMissingSpecs() {
+            // given
+            when(s3StaticClient.headObject(any(HeadObjectRequest.class))).thenAnswer(invocation -> {
+                HeadObjectRequest request = invocation.getArgument(0);
+                if (request.key().equals("books/test-book-id/small_cover.webp")) {
+                    return HeadObjectResponse.builder().build();
+                }
+                throw NoSuchKeyException.builder().build();
+            });
+            when(s3StaticClient.getObject(any(GetObjectRequest.class)))
+                    .thenReturn(createMockResponseInputStream(createTestJpgImage(600, 400)));
+            when(s3StaticService.getPublicUrl(anyString())).thenAnswer(invocation -> "https://cdn/" + invocation.getArgument(0));
+
+            // when
+            Map<ThumbnailSpec, String> urls = imageResizeService.createThumbnails(originalS3Key, ThumbnailSpec.COVER_SPECS);
+
+            // then
+            assertThat(urls).containsOnlyKeys(ThumbnailSpec.COVER_SPECS);
+            verify(s3StaticClient, times(1)).getObject(any(GetObjectRequest.class));
+
+            ArgumentCaptor<PutObjectRequest> putRequestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+            verify(s3StaticClient, times(2)).putObject(putRequestCaptor.capture(), any(RequestBody.class));
+            assertThat(putRequestCaptor.getAllValues())
+                    .extracting(PutObjectRequest::key, PutObjectRequest::contentType)
+                    .containsExactly(
+                            tuple("books/test-book-id/medium_cover.webp", "image/webp"),
+                            tuple("books/test-book-id/small_cover.jpg", "image/jpeg"));
+        }
+
+        @Test
+        @DisplayName("모든 규격이 이미 있으면 원본을 내려받지 않음")
+        void createThumbnails_SkipsWhenAllExist() {
+            // given
+            when(s3StaticClient.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder().build());
+            when(s3StaticService.getPublicUrl(anyString())).thenAnswer(invocation -> "https://cdn/" + invocation.getArgument(0));
+
+            // when
+            Map<ThumbnailSpec, String> urls = imageResizeService.createThumbnails(originalS3Key, ThumbnailSpec.COVER_SPECS);
+
+            // then
+            assertThat(urls).containsEntry(ThumbnailSpec.SMALL_WEBP, "https://cdn/" + expectedThumbnailKey);
+            verify(s3StaticClient, never()).getObject(any(GetObjectRequest.class));
+            verify(s3StaticClient, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        }
+    }
+
     @Nested
     @DisplayName("에러 처리 테스트")
     class ErrorHandlingTest {
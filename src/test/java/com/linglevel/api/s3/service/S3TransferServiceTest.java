@@ -0,0 +1,154 @@
+package com.linglevel.api.s3.service;
+
+import com.linglevel.api.s3.strategy.CustomContentPathStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3 이미지 이동 엔진 테스트")
+class S3TransferServiceTest {
+
+    private static final String SOURCE_BUCKET = "ai-output";
+
+    @Mock
+    private S3AiService s3AiService;
+
+    @Mock
+    private S3StaticService s3StaticService;
+
+    private final CustomContentPathStrategy pathStrategy = new CustomContentPathStrategy();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private S3TransferService s3TransferService;
+
+    @BeforeEach
+    void setUp() {
+        s3TransferService = new S3TransferService(s3AiService, s3StaticService, meterRegistry, 4, 3, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3TransferService.shutdown();
+    }
+
+    @Test
+    @DisplayName("모든 이미지를 서버 측 복사로 이동하고 바이트와 지연 시간을 기록")
+    void transferImages_CopiesServerSide() {
+        // given
+        givenImages(image("custom/req/images/a.png", 100), image("custom/req/images/b.jpg", 200));
+
+        // when
+        s3TransferService.transferImagesFromAiToStatic("req", "content", pathStrategy);
+
+        // then
+        verify(s3StaticService).copyFromBucket(SOURCE_BUCKET, "custom/req/images/a.png", "custom/content/images/a.png", "image/png");
+        verify(s3StaticService).copyFromBucket(SOURCE_BUCKET, "custom/req/images/b.jpg", "custom/content/images/b.jpg", "image/jpeg");
+        verify(s3AiService, never()).openObject(anyString());
+        assertThat(meterRegistry.summary("s3.transfer.bytes").totalAmount()).isEqualTo(300);
+        assertThat(meterRegistry.timer("s3.transfer.latency", "mode", "copy").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일시적인 오류는 백오프 후 재시도")
+    void transferImages_RetriesTransientFailure() {
+        // given
+        givenImages(image("custom/req/images/a.png", 100));
+        when(s3StaticService.copyFromBucket(anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new RuntimeException("File copy failed", s3Exception(503)))
+                .thenReturn("url");
+
+        // when
+        s3TransferService.transferImagesFromAiToStatic("req", "content", pathStrategy);
+
+        // then
+        verify(s3StaticService, times(2)).copyFromBucket(anyString(), anyString(), anyString(), anyString());
+        assertThat(meterRegistry.counter("s3.transfer.retries").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 오류는 바로 실패")
+    void transferImages_FailsOnNonRetryableError() {
+        // given
+        givenImages(image("custom/req/images/a.png", 100));
+        when(s3StaticService.copyFromBucket(anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new RuntimeException("File copy failed", s3Exception(404)));
+
+        // when & then
+        assertThatThrownBy(() -> s3TransferService.transferImagesFromAiToStatic("req", "content", pathStrategy))
+                .isInstanceOf(RuntimeException.class);
+        verify(s3StaticService, times(1)).copyFromBucket(anyString(), anyString(), anyString(), anyString());
+        assertThat(meterRegistry.counter("s3.transfer.failures").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서버 측 복사가 거부되면 스트리밍 전달로 전환")
+    void transferImages_FallsBackToStreaming() {
+        // given
+        givenImages(image("custom/req/images/a.png", 3));
+        when(s3StaticService.copyFromBucket(anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new RuntimeException("File copy failed", s3Exception(403)));
+        when(s3AiService.openObject("custom/req/images/a.png")).thenReturn(new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength(3L).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(new byte[]{1, 2, 3}))));
+
+        // when
+        s3TransferService.transferImagesFromAiToStatic("req", "content", pathStrategy);
+
+        // then
+        verify(s3StaticService).uploadFromStream(any(), eq(3L), eq("custom/content/images/a.png"), eq("image/png"));
+        assertThat(meterRegistry.timer("s3.transfer.latency", "mode", "stream").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복사 거부로 인한 스트리밍 전환은 해당 가져오기에만 적용")
+    void transferImages_StreamingFallbackIsScopedToCall() {
+        // given: 첫 가져오기에서만 복사가 거부됨
+        givenImages(image("custom/req/images/a.png", 3));
+        when(s3StaticService.copyFromBucket(anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new RuntimeException("File copy failed", s3Exception(403)))
+                .thenReturn("url");
+        when(s3AiService.openObject("custom/req/images/a.png")).thenReturn(new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength(3L).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(new byte[]{1, 2, 3}))));
+        s3TransferService.transferImagesFromAiToStatic("req", "content", pathStrategy);
+
+        // when
+        s3TransferService.transferImagesFromAiToStatic("req", "content", pathStrategy);
+
+        // then
+        verify(s3StaticService, times(2)).copyFromBucket(anyString(), anyString(), anyString(), anyString());
+        verify(s3AiService, times(1)).openObject(anyString());
+        assertThat(meterRegistry.timer("s3.transfer.latency", "mode", "copy").count()).isEqualTo(1);
+    }
+
+    private void givenImages(S3Object... images) {
+        when(s3AiService.listImageObjectsInFolder("req", pathStrategy)).thenReturn(List.of(images));
+        when(s3AiService.getOutputBucketName()).thenReturn(SOURCE_BUCKET);
+    }
+
+    private S3Object image(String key, long size) {
+        return S3Object.builder().key(key).size(size).build();
+    }
+
+    private S3Exception s3Exception(int statusCode) {
+        return (S3Exception) S3Exception.builder().statusCode(statusCode).message("status " + statusCode).build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.linglevel.api.s3.thumbnail;
+
+import com.linglevel.api.s3.service.ImageResizeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("썸네일 비동기 작업 테스트")
+class ThumbnailJobServiceTest {
+
+    private static final String COVER_KEY = "books/1/cover.jpg";
+    private static final String SMALL_URL = "https://cdn/books/1/small_cover.webp";
+
+    @Mock
+    private ImageResizeService imageResizeService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ThumbnailJobService thumbnailJobService;
+
+    @BeforeEach
+    void setUp() {
+        thumbnailJobService = new ThumbnailJobService(imageResizeService, meterRegistry, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        thumbnailJobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업 완료 시 SMALL_WEBP URL로 콜백 호출")
+    void submitCover_InvokesCallbackWithSmallWebpUrl() throws Exception {
+        // given
+        when(imageResizeService.createThumbnails(COVER_KEY, ThumbnailSpec.COVER_SPECS))
+                .thenReturn(Map.of(ThumbnailSpec.SMALL_WEBP, SMALL_URL));
+        AtomicReference<String> coverUrl = new AtomicReference<>();
+
+        // when
+        thumbnailJobService.submitCover(COVER_KEY, coverUrl::set).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(coverUrl.get()).isEqualTo(SMALL_URL);
+        assertThat(meterRegistry.counter("image.thumbnail.completed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 원본 작업이 진행 중이면 한 번만 생성하고 결과를 공유")
+    void submit_SharesInFlightJob() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(imageResizeService.createThumbnails(eq(COVER_KEY), anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Map.of(ThumbnailSpec.SMALL_WEBP, SMALL_URL);
+        });
+
+        // when
+        CompletableFuture<Map<ThumbnailSpec, String>> first =
+                thumbnailJobService.submit(COVER_KEY, List.of(ThumbnailSpec.SMALL_WEBP), urls -> { });
+        CompletableFuture<Map<ThumbnailSpec, String>> second =
+                thumbnailJobService.submit(COVER_KEY, List.of(ThumbnailSpec.SMALL_WEBP), urls -> { });
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsEntry(ThumbnailSpec.SMALL_WEBP, SMALL_URL);
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsEntry(ThumbnailSpec.SMALL_WEBP, SMALL_URL);
+        verify(imageResizeService, times(1)).createThumbnails(eq(COVER_KEY), anyList());
+    }
+
+    @Test
+    @DisplayName("생성에 실패하면 콜백을 호출하지 않음")
+    void submitCover_SkipsCallbackOnFailure() {
+        // given
+        when(imageResizeService.createThumbnails(COVER_KEY, ThumbnailSpec.COVER_SPECS))
+                .thenThrow(new RuntimeException("Thumbnail creation failed"));
+        AtomicReference<String> coverUrl = new AtomicReference<>();
+
+        // when & then
+        assertThatThrownBy(() -> thumbnailJobService.submitCover(COVER_KEY, coverUrl::set).get(5, TimeUnit.SECONDS))
+                .hasRootCauseMessage("Thumbnail creation failed");
+        assertThat(coverUrl.get()).isNull();
+        assertThat(meterRegistry.counter("image.thumbnail.failed").count()).isEqualTo(1);
+    }
+}
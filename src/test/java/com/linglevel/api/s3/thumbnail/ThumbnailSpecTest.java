@@ -0,0 +1,22 @@
+package com.linglevel.api.s3.thumbnail;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("썸네일 규격 키 생성 테스트")
+class ThumbnailSpecTest {
+
+    @Test
+    @DisplayName("규격마다 접두사와 포맷 확장자가 다른 고정 키 생성")
+    void keyFor_DeterministicPerSpec() {
+        // given
+        String originalKey = "books/book-123/cover.jpg";
+
+        // when & then
+        assertThat(ThumbnailSpec.SMALL_WEBP.keyFor(originalKey)).isEqualTo("books/book-123/small_cover.webp");
+        assertThat(ThumbnailSpec.MEDIUM_WEBP.keyFor(originalKey)).isEqualTo("books/book-123/medium_cover.webp");
+        assertThat(ThumbnailSpec.SMALL_JPEG.keyFor(originalKey)).isEqualTo("books/book-123/small_cover.jpg");
+    }
+}
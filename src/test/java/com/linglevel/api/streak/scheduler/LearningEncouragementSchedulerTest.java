@@ -0,0 +1,89 @@
+package com.linglevel.api.streak.scheduler;
+
+import com.linglevel.api.fcm.dto.PushDispatchResult;
+import com.linglevel.api.fcm.dto.PushRecipient;
+import com.linglevel.api.fcm.entity.FcmToken;
+import com.linglevel.api.fcm.service.PushDispatchService;
+import com.linglevel.api.i18n.CountryCode;
+import com.linglevel.api.streak.dto.ReminderTarget;
+import com.linglevel.api.streak.repository.DailyCompletionRepository;
+import com.linglevel.api.streak.repository.StudyReminderBucketRepository;
+import com.linglevel.api.streak.repository.UserStudyReportRepository;
+import com.linglevel.api.streak.service.StudyTimeAnalysisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("학습 권장 알림 스케줄러 테스트")
+class LearningEncouragementSchedulerTest {
+
+    @Mock
+    private UserStudyReportRepository userStudyReportRepository;
+
+    @Mock
+    private DailyCompletionRepository dailyCompletionRepository;
+
+    @Mock
+    private StudyReminderBucketRepository studyReminderBucketRepository;
+
+    @Mock
+    private PushDispatchService pushDispatchService;
+
+    @Mock
+    private StudyTimeAnalysisService studyTimeAnalysisService;
+
+    @InjectMocks
+    private LearningEncouragementScheduler scheduler;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        lenient().when(pushDispatchService.dispatch(anyList())).thenReturn(new PushDispatchResult());
+    }
+
+    @Test
+    @DisplayName("활성 사용자는 현재 시간대 버킷만 조회하고 사용자 전체를 스캔하지 않음")
+    void processActiveUsers_ReadsOnlyCurrentBucket() {
+        // given
+        when(studyReminderBucketRepository.countByPreferredStudyHour(20)).thenReturn(2L);
+        when(studyReminderBucketRepository.findReminderTargets(20, today))
+                .thenReturn(List.of(new ReminderTarget("user1", 3, List.of(createFcmToken("user1")))));
+
+        // when
+        int[] results = scheduler.processActiveUsers(today, 20);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PushRecipient>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pushDispatchService).dispatch(captor.capture());
+        assertThat(captor.getValue()).extracting(PushRecipient::getUserId).containsExactly("user1");
+        assertThat(results[0]).isEqualTo(2);
+        assertThat(results[1]).isEqualTo(1);
+        verifyNoInteractions(userStudyReportRepository, studyTimeAnalysisService);
+    }
+
+    private FcmToken createFcmToken(String userId) {
+        FcmToken fcmToken = new FcmToken();
+        fcmToken.setUserId(userId);
+        fcmToken.setFcmToken("token-" + userId);
+        fcmToken.setCountryCode(CountryCode.KR);
+        fcmToken.setIsActive(true);
+        return fcmToken;
+    }
+}
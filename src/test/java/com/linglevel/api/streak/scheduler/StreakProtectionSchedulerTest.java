@@ -1,17 +1,16 @@
 package com.linglevel.api.streak.scheduler;
 
-import com.google.firebase.messaging.BatchResponse;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.SendResponse;
 import com.linglevel.api.fcm.dto.FcmMessageRequest;
+import com.linglevel.api.fcm.dto.PushDispatchResult;
+import com.linglevel.api.fcm.dto.PushRecipient;
 import com.linglevel.api.fcm.entity.FcmToken;
-import com.linglevel.api.fcm.repository.FcmTokenRepository;
-import com.linglevel.api.fcm.service.FcmMessagingService;
-import com.linglevel.api.fcm.service.FcmTokenService;
+import com.linglevel.api.fcm.service.PushDispatchService;
 import com.linglevel.api.i18n.CountryCode;
-import com.linglevel.api.i18n.LanguageCode;
+import com.linglevel.api.streak.entity.DailyCompletion;
+import com.linglevel.api.streak.entity.FreezeTransaction;
 import com.linglevel.api.streak.entity.UserStudyReport;
 import com.linglevel.api.streak.repository.DailyCompletionRepository;
+import com.linglevel.api.streak.repository.FreezeTransactionRepository;
 import com.linglevel.api.streak.repository.UserStudyReportRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,10 +21,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -42,16 +46,10 @@ class StreakProtectionSchedulerTest {
     private DailyCompletionRepository dailyCompletionRepository;
 
     @Mock
-    private com.linglevel.api.streak.repository.FreezeTransactionRepository freezeTransactionRepository;
+    private FreezeTransactionRepository freezeTransactionRepository;
 
     @Mock
-    private FcmTokenRepository fcmTokenRepository;
-
-    @Mock
-    private FcmMessagingService fcmMessagingService;
-
-    @Mock
-    private FcmTokenService fcmTokenService;
+    private PushDispatchService pushDispatchService;
 
     @InjectMocks
     private StreakProtectionScheduler scheduler;
@@ -62,152 +60,94 @@ class StreakProtectionSchedulerTest {
     @BeforeEach
     void setUp() {
         today = LocalDate.now(KST);
+        lenient().when(pushDispatchService.dispatch(anyList())).thenReturn(new PushDispatchResult());
     }
 
     @Test
     @DisplayName("스트릭이 있고 오늘 학습 미완료한 사용자에게 알림 전송")
-    void sendNotification_ToActiveUserWithoutCompletion() throws Exception {
+    void sendNotification_ToActiveUserWithoutCompletion() {
         // given
-        UserStudyReport user = createUserReport("user1", 5);
-        when(userStudyReportRepository.findByCurrentStreakGreaterThan(0))
-                .thenReturn(List.of(user));
-
-        // 오늘 학습 미완료
-        when(dailyCompletionRepository.existsByUserIdAndCompletionDate("user1", today))
-                .thenReturn(false);
-
-        // 프리즈 사용 안함
-        when(freezeTransactionRepository.findByUserIdAndAmountAndCreatedAtBetween(
-                eq("user1"), eq(-1), any(), any()))
-                .thenReturn(List.of());
-
-        // FCM 토큰 있음
-        FcmToken token = createFcmToken("user1", "token1", CountryCode.KR);
-        when(fcmTokenRepository.findByUserIdAndIsActive("user1", true))
-                .thenReturn(List.of(token));
+        givenActiveUsers(createUserReport("user1", 5));
+        givenNoCompletions();
+        givenNoFreezeUsage();
+        givenTokens(Map.of("user1", List.of(createFcmToken("user1", "token1", CountryCode.KR))));
 
         // when
         scheduler.sendStreakProtectionNotifications();
 
         // then
-        verify(fcmMessagingService).sendMessage(eq("token1"), any(FcmMessageRequest.class));
+        List<PushRecipient> recipients = captureRecipients();
+        assertThat(recipients).hasSize(1);
+        assertThat(recipients.get(0).getUserId()).isEqualTo("user1");
+        assertThat(recipients.get(0).getTokens()).extracting(FcmToken::getFcmToken).containsExactly("token1");
     }
 
     @Test
     @DisplayName("오늘 이미 학습 완료한 사용자는 알림 전송 안함")
-    void noNotification_WhenAlreadyCompleted() throws Exception {
+    void noNotification_WhenAlreadyCompleted() {
         // given
-        UserStudyReport user = createUserReport("user1", 5);
-        when(userStudyReportRepository.findByCurrentStreakGreaterThan(0))
-                .thenReturn(List.of(user));
-
-        // 오늘 학습 완료
-        when(dailyCompletionRepository.existsByUserIdAndCompletionDate("user1", today))
-                .thenReturn(true);
+        givenActiveUsers(createUserReport("user1", 5));
+        when(dailyCompletionRepository.findByUserIdInAndCompletionDate(anyCollection(), eq(today)))
+                .thenReturn(List.of(createCompletion("user1")));
 
         // when
         scheduler.sendStreakProtectionNotifications();
 
         // then
-        verify(fcmMessagingService, never()).sendMessage(anyString(), any(FcmMessageRequest.class));
+        assertThat(captureRecipients()).isEmpty();
+        verify(pushDispatchService, never()).resolveActiveTokens(anyCollection());
     }
 
     @Test
     @DisplayName("FCM 토큰이 없는 사용자는 알림 전송 안함")
-    void noNotification_WhenNoFcmToken() throws Exception {
+    void noNotification_WhenNoFcmToken() {
         // given
-        UserStudyReport user = createUserReport("user1", 5);
-        when(userStudyReportRepository.findByCurrentStreakGreaterThan(0))
-                .thenReturn(List.of(user));
-
-        when(dailyCompletionRepository.existsByUserIdAndCompletionDate("user1", today))
-                .thenReturn(false);
-
-        // FCM 토큰 없음
-        when(fcmTokenRepository.findByUserIdAndIsActive("user1", true))
-                .thenReturn(List.of());
+        givenActiveUsers(createUserReport("user1", 5));
+        givenNoCompletions();
+        givenNoFreezeUsage();
+        givenTokens(Map.of());
 
         // when
         scheduler.sendStreakProtectionNotifications();
 
         // then
-        verify(fcmMessagingService, never()).sendMessage(anyString(), any(FcmMessageRequest.class));
+        assertThat(captureRecipients()).isEmpty();
     }
 
     @Test
-    @DisplayName("여러 토큰이 있는 사용자에게 멀티캐스트 전송")
-    void sendMulticast_WhenMultipleTokens() throws Exception {
+    @DisplayName("여러 토큰이 있는 사용자는 하나의 수신자로 모든 토큰에 전송")
+    void sendToAllTokens_WhenMultipleTokens() {
         // given
-        UserStudyReport user = createUserReport("user1", 5);
-        when(userStudyReportRepository.findByCurrentStreakGreaterThan(0))
-                .thenReturn(List.of(user));
-
-        when(dailyCompletionRepository.existsByUserIdAndCompletionDate("user1", today))
-                .thenReturn(false);
-
-        // 프리즈 사용 안함
-        when(freezeTransactionRepository.findByUserIdAndAmountAndCreatedAtBetween(
-                eq("user1"), eq(-1), any(), any()))
-                .thenReturn(List.of());
-
-        // 여러 FCM 토큰
-        List<FcmToken> tokens = List.of(
+        givenActiveUsers(createUserReport("user1", 5));
+        givenNoCompletions();
+        givenNoFreezeUsage();
+        givenTokens(Map.of("user1", List.of(
                 createFcmToken("user1", "token1", CountryCode.KR),
                 createFcmToken("user1", "token2", CountryCode.KR)
-        );
-        when(fcmTokenRepository.findByUserIdAndIsActive("user1", true))
-                .thenReturn(tokens);
-
-        BatchResponse batchResponse = mock(BatchResponse.class);
-        when(batchResponse.getSuccessCount()).thenReturn(2);
-        when(batchResponse.getFailureCount()).thenReturn(0);
-
-        List<SendResponse> responses = new ArrayList<>();
-        SendResponse successResponse1 = mock(SendResponse.class);
-        when(successResponse1.isSuccessful()).thenReturn(true);
-        SendResponse successResponse2 = mock(SendResponse.class);
-        when(successResponse2.isSuccessful()).thenReturn(true);
-        responses.add(successResponse1);
-        responses.add(successResponse2);
-
-        when(batchResponse.getResponses()).thenReturn(responses);
-        when(fcmMessagingService.sendMulticastMessage(anyList(), any(FcmMessageRequest.class)))
-                .thenReturn(batchResponse);
+        )));
 
         // when
         scheduler.sendStreakProtectionNotifications();
 
         // then
-        verify(fcmMessagingService).sendMulticastMessage(anyList(), any(FcmMessageRequest.class));
-        verify(fcmMessagingService, never()).sendMessage(anyString(), any(FcmMessageRequest.class));
+        List<PushRecipient> recipients = captureRecipients();
+        assertThat(recipients).hasSize(1);
+        assertThat(recipients.get(0).getTokens()).extracting(FcmToken::getFcmToken)
+                .containsExactly("token1", "token2");
     }
 
     @Test
     @DisplayName("언어 코드 변환 - 한국어")
-    void languageConversion_Korean() throws Exception {
+    void languageConversion_Korean() {
         // given
-        UserStudyReport user = createUserReport("user1", 3);
-        when(userStudyReportRepository.findByCurrentStreakGreaterThan(0))
-                .thenReturn(List.of(user));
-
-        when(dailyCompletionRepository.existsByUserIdAndCompletionDate("user1", today))
-                .thenReturn(false);
-
-        // 프리즈 사용 안함
-        when(freezeTransactionRepository.findByUserIdAndAmountAndCreatedAtBetween(
-                eq("user1"), eq(-1), any(), any()))
-                .thenReturn(List.of());
-
-        FcmToken token = createFcmToken("user1", "token1", CountryCode.KR);
-        when(fcmTokenRepository.findByUserIdAndIsActive("user1", true))
-                .thenReturn(List.of(token));
+        givenSingleUserWithToken(3, CountryCode.KR);
 
         // when
         scheduler.sendStreakProtectionNotifications();
 
         // then
-        verify(fcmMessagingService).sendMessage(eq("token1"), argThat(request ->
-                request.getTitle().contains("불꽃") ||
+        FcmMessageRequest request = captureSingleMessage();
+        assertThat(request.getTitle().contains("불꽃") ||
                 request.getTitle().contains("스트릭") ||
                 request.getTitle().contains("마지막") ||
                 request.getTitle().contains("늦지") ||
@@ -216,36 +156,21 @@ class StreakProtectionSchedulerTest {
                 request.getTitle().contains("기다려") ||
                 request.getTitle().contains("기회") ||
                 request.getTitle().contains("거의") ||
-                request.getTitle().contains("오늘")
-        ));
+                request.getTitle().contains("오늘")).isTrue();
     }
 
     @Test
     @DisplayName("언어 코드 변환 - 영어")
-    void languageConversion_English() throws Exception {
+    void languageConversion_English() {
         // given
-        UserStudyReport user = createUserReport("user1", 3);
-        when(userStudyReportRepository.findByCurrentStreakGreaterThan(0))
-                .thenReturn(List.of(user));
-
-        when(dailyCompletionRepository.existsByUserIdAndCompletionDate("user1", today))
-                .thenReturn(false);
-
-        // 프리즈 사용 안함
-        when(freezeTransactionRepository.findByUserIdAndAmountAndCreatedAtBetween(
-                eq("user1"), eq(-1), any(), any()))
-                .thenReturn(List.of());
-
-        FcmToken token = createFcmToken("user1", "token1", CountryCode.US);
-        when(fcmTokenRepository.findByUserIdAndIsActive("user1", true))
-                .thenReturn(List.of(token));
+        givenSingleUserWithToken(3, CountryCode.US);
 
         // when
         scheduler.sendStreakProtectionNotifications();
 
         // then
-        verify(fcmMessagingService).sendMessage(eq("token1"), argThat(request ->
-                request.getTitle().contains("flame") ||
+        FcmMessageRequest request = captureSingleMessage();
+        assertThat(request.getTitle().contains("flame") ||
                 request.getTitle().contains("streak") ||
                 request.getTitle().contains("chance") ||
                 request.getTitle().contains("late") ||
@@ -253,36 +178,21 @@ class StreakProtectionSchedulerTest {
                 request.getTitle().contains("left") ||
                 request.getTitle().contains("waiting") ||
                 request.getTitle().contains("Almost") ||
-                request.getTitle().contains("Only")
-        ));
+                request.getTitle().contains("Only")).isTrue();
     }
 
     @Test
     @DisplayName("언어 코드 변환 - 일본어")
-    void languageConversion_Japanese() throws Exception {
+    void languageConversion_Japanese() {
         // given
-        UserStudyReport user = createUserReport("user1", 3);
-        when(userStudyReportRepository.findByCurrentStreakGreaterThan(0))
-                .thenReturn(List.of(user));
-
-        when(dailyCompletionRepository.existsByUserIdAndCompletionDate("user1", today))
-                .thenReturn(false);
-
-        // 프리즈 사용 안함
-        when(freezeTransactionRepository.findByUserIdAndAmountAndCreatedAtBetween(
-                eq("user1"), eq(-1), any(), any()))
-                .thenReturn(List.of());
-
-        FcmToken token = createFcmToken("user1", "token1", CountryCode.JP);
-        when(fcmTokenRepository.findByUserIdAndIsActive("user1", true))
-                .thenReturn(List.of(token));
+        givenSingleUserWithToken(3, CountryCode.JP);
 
         // when
         scheduler.sendStreakProtectionNotifications();
 
         // then
-        verify(fcmMessagingService).sendMessage(eq("token1"), argThat(request ->
-                request.getTitle().contains("炎") ||
+        FcmMessageRequest request = captureSingleMessage();
+        assertThat(request.getTitle().contains("炎") ||
                 request.getTitle().contains("ストリーク") ||
                 request.getTitle().contains("チャンス") ||
                 request.getTitle().contains("遅く") ||
@@ -290,245 +200,193 @@ class StreakProtectionSchedulerTest {
                 request.getTitle().contains("残って") ||
                 request.getTitle().contains("待って") ||
                 request.getTitle().contains("もうすぐ") ||
-                request.getTitle().contains("今日")
-        ));
+                request.getTitle().contains("今日")).isTrue();
     }
 
     @Test
     @DisplayName("메시지에 현재 스트릭 수가 포함됨")
-    void messageContainsStreakCount() throws Exception {
+    void messageContainsStreakCount() {
         // given
-        UserStudyReport user = createUserReport("user1", 7);
-        when(userStudyReportRepository.findByCurrentStreakGreaterThan(0))
-                .thenReturn(List.of(user));
-
-        when(dailyCompletionRepository.existsByUserIdAndCompletionDate("user1", today))
-                .thenReturn(false);
-
-        // 프리즈 사용 안함
-        when(freezeTransactionRepository.findByUserIdAndAmountAndCreatedAtBetween(
-                eq("user1"), eq(-1), any(), any()))
-                .thenReturn(List.of());
-
-        FcmToken token = createFcmToken("user1", "token1", CountryCode.KR);
-        when(fcmTokenRepository.findByUserIdAndIsActive("user1", true))
-                .thenReturn(List.of(token));
+        givenSingleUserWithToken(7, CountryCode.KR);
 
         // when
         scheduler.sendStreakProtectionNotifications();
 
         // then
-        verify(fcmMessagingService).sendMessage(eq("token1"), argThat(request ->
-                request.getBody().contains("7")
-        ));
+        assertThat(captureSingleMessage().getBody()).contains("7");
     }
 
     @Test
-    @DisplayName("여러 사용자에게 개별 알림 전송")
-    void sendToMultipleUsers() throws Exception {
+    @DisplayName("여러 사용자를 한 번의 조회와 한 번의 전송으로 처리")
+    void sendToMultipleUsers() {
         // given
-        List<UserStudyReport> users = List.of(
+        givenActiveUsers(
                 createUserReport("user1", 3),
                 createUserReport("user2", 5),
                 createUserReport("user3", 7)
         );
-        when(userStudyReportRepository.findByCurrentStreakGreaterThan(0))
-                .thenReturn(users);
+        givenNoCompletions();
+        givenNoFreezeUsage();
+        givenTokens(Map.of(
+                "user1", List.of(createFcmToken("user1", "token1", CountryCode.KR)),
+                "user2", List.of(createFcmToken("user2", "token2", CountryCode.US)),
+                "user3", List.of(createFcmToken("user3", "token3", CountryCode.JP))
+        ));
 
-        // 모두 학습 미완료
-        when(dailyCompletionRepository.existsByUserIdAndCompletionDate(anyString(), eq(today)))
-                .thenReturn(false);
+        // when
+        scheduler.sendStreakProtectionNotifications();
 
-        // 프리즈 사용 안함
-        when(freezeTransactionRepository.findByUserIdAndAmountAndCreatedAtBetween(
-                anyString(), eq(-1), any(), any()))
-                .thenReturn(List.of());
+        // then
+        assertThat(captureRecipients()).extracting(PushRecipient::getUserId)
+                .containsExactlyInAnyOrder("user1", "user2", "user3");
+        verify(dailyCompletionRepository, times(1)).findByUserIdInAndCompletionDate(anyCollection(), eq(today));
+        verify(pushDispatchService, times(1)).resolveActiveTokens(anyCollection());
+        verify(pushDispatchService, times(1)).dispatch(anyList());
+    }
 
-        // 각각 FCM 토큰 있음
-        when(fcmTokenRepository.findByUserIdAndIsActive("user1", true))
-                .thenReturn(List.of(createFcmToken("user1", "token1", CountryCode.KR)));
-        when(fcmTokenRepository.findByUserIdAndIsActive("user2", true))
-                .thenReturn(List.of(createFcmToken("user2", "token2", CountryCode.US)));
-        when(fcmTokenRepository.findByUserIdAndIsActive("user3", true))
-                .thenReturn(List.of(createFcmToken("user3", "token3", CountryCode.JP)));
+    @Test
+    @DisplayName("사용자 조회는 500명 단위로 나누어 수행")
+    void lookupsAreBatchedPer500Users() {
+        // given
+        UserStudyReport[] users = IntStream.range(0, 1200)
+                .mapToObj(i -> createUserReport("user" + i, 1))
+                .toArray(UserStudyReport[]::new);
+        givenActiveUsers(users);
+        givenNoCompletions();
+        givenNoFreezeUsage();
+        givenTokens(Map.of());
 
         // when
         scheduler.sendStreakProtectionNotifications();
 
         // then
-        verify(fcmMessagingService, times(3)).sendMessage(anyString(), any(FcmMessageRequest.class));
+        verify(dailyCompletionRepository, times(3)).findByUserIdInAndCompletionDate(anyCollection(), eq(today));
+        verify(pushDispatchService, times(3)).resolveActiveTokens(anyCollection());
+        verify(pushDispatchService, times(1)).dispatch(anyList());
     }
 
     @Test
     @DisplayName("어제 프리즈를 사용한 경우 STREAK_SAVED_BY_FREEZE 메시지 전송")
-    void sendFreezeMessage_WhenFreezeUsedYesterday() throws Exception {
+    void sendFreezeMessage_WhenFreezeUsedYesterday() {
         // given
-        UserStudyReport user = createUserReport("user1", 5);
-        when(userStudyReportRepository.findByCurrentStreakGreaterThan(0))
-                .thenReturn(List.of(user));
-
-        when(dailyCompletionRepository.existsByUserIdAndCompletionDate("user1", today))
-                .thenReturn(false);
-
-        FcmToken token = createFcmToken("user1", "token1", CountryCode.KR);
-        when(fcmTokenRepository.findByUserIdAndIsActive("user1", true))
-                .thenReturn(List.of(token));
+        givenActiveUsers(createUserReport("user1", 5));
+        givenNoCompletions();
+        givenTokens(Map.of("user1", List.of(createFcmToken("user1", "token1", CountryCode.KR))));
 
         // 어제 프리즈 사용 (amount = -1인 트랜잭션 존재)
-        com.linglevel.api.streak.entity.FreezeTransaction freezeTransaction =
-                com.linglevel.api.streak.entity.FreezeTransaction.builder()
-                        .userId("user1")
-                        .amount(-1)
-                        .description("Auto-consumed for missed day")
-                        .createdAt(today.minusDays(1).atStartOfDay(KST).toInstant())
-                        .build();
-        when(freezeTransactionRepository.findByUserIdAndAmountAndCreatedAtBetween(
-                eq("user1"), eq(-1), any(), any()))
+        FreezeTransaction freezeTransaction = FreezeTransaction.builder()
+                .userId("user1")
+                .amount(-1)
+                .description("Auto-consumed for missed day")
+                .createdAt(today.minusDays(1).atStartOfDay(KST).toInstant())
+                .build();
+        when(freezeTransactionRepository.findByUserIdInAndAmountAndCreatedAtBetween(
+                anyCollection(), eq(-1), any(), any()))
                 .thenReturn(List.of(freezeTransaction));
 
         // when
         scheduler.sendStreakProtectionNotifications();
 
-        // then
-        verify(fcmMessagingService).sendMessage(eq("token1"), argThat(request -> {
-            // STREAK_SAVED_BY_FREEZE 메시지는 프리즈 관련 키워드를 포함
-            String title = request.getTitle();
-            String body = request.getBody();
-            return body.contains("프리즈") && (body.contains("꼭") || body.contains("반드시") || body.contains("학습"));
-        }));
+        // then - STREAK_SAVED_BY_FREEZE 메시지는 프리즈 관련 키워드를 포함
+        String body = captureSingleMessage().getBody();
+        assertThat(body.contains("프리즈") && (body.contains("꼭") || body.contains("반드시") || body.contains("학습")))
+                .isTrue();
     }
 
     @Test
     @DisplayName("어제 프리즈를 사용하지 않은 경우 STREAK_PROTECTION 메시지 전송")
-    void sendProtectionMessage_WhenNoFreezeUsed() throws Exception {
+    void sendProtectionMessage_WhenNoFreezeUsed() {
         // given
-        UserStudyReport user = createUserReport("user1", 5);
-        when(userStudyReportRepository.findByCurrentStreakGreaterThan(0))
-                .thenReturn(List.of(user));
-
-        when(dailyCompletionRepository.existsByUserIdAndCompletionDate("user1", today))
-                .thenReturn(false);
-
-        FcmToken token = createFcmToken("user1", "token1", CountryCode.KR);
-        when(fcmTokenRepository.findByUserIdAndIsActive("user1", true))
-                .thenReturn(List.of(token));
-
-        // 어제 프리즈 사용 안함 (트랜잭션 없음)
-        when(freezeTransactionRepository.findByUserIdAndAmountAndCreatedAtBetween(
-                eq("user1"), eq(-1), any(), any()))
-                .thenReturn(List.of());
+        givenSingleUserWithToken(5, CountryCode.KR);
 
         // when
         scheduler.sendStreakProtectionNotifications();
 
         // then
-        verify(fcmMessagingService).sendMessage(eq("token1"), argThat(request -> {
-            // STREAK_PROTECTION 메시지는 "자기 전", "5분", "늦지", "기회" 등의 키워드를 포함하거나
-            // 스트릭 보호 관련 메시지 (단, 프리즈 언급은 없음)
-            String title = request.getTitle();
-            String body = request.getBody();
-            return (title.contains("자기") || title.contains("남았") || title.contains("기다려") ||
-                    title.contains("늦지") || title.contains("기회") || title.contains("불꽃") ||
-                    title.contains("거의") || title.contains("마무리") || title.contains("스트릭")) &&
-                   (!body.contains("프리즈"));  // 프리즈 언급 없음
-        }));
+        FcmMessageRequest request = captureSingleMessage();
+        String title = request.getTitle();
+        String body = request.getBody();
+        assertThat((title.contains("자기") || title.contains("남았") || title.contains("기다려") ||
+                title.contains("늦지") || title.contains("기회") || title.contains("불꽃") ||
+                title.contains("거의") || title.contains("마무리") || title.contains("스트릭")) &&
+                !body.contains("프리즈")).isTrue();  // 프리즈 언급 없음
     }
 
     @Test
     @DisplayName("프리즈 사용 여부 확인 - 어제 날짜 범위 정확성")
-    void checkFreezeUsage_YesterdayDateRange() throws Exception {
+    void checkFreezeUsage_YesterdayDateRange() {
         // given
-        UserStudyReport user = createUserReport("user1", 5);
-        when(userStudyReportRepository.findByCurrentStreakGreaterThan(0))
-                .thenReturn(List.of(user));
-
-        when(dailyCompletionRepository.existsByUserIdAndCompletionDate("user1", today))
-                .thenReturn(false);
-
-        FcmToken token = createFcmToken("user1", "token1", CountryCode.KR);
-        when(fcmTokenRepository.findByUserIdAndIsActive("user1", true))
-                .thenReturn(List.of(token));
-
-        when(freezeTransactionRepository.findByUserIdAndAmountAndCreatedAtBetween(
-                eq("user1"), eq(-1), any(), any()))
-                .thenReturn(List.of());
+        givenSingleUserWithToken(5, CountryCode.KR);
 
         // when
         scheduler.sendStreakProtectionNotifications();
 
         // then - 정확한 시간 범위로 조회했는지 검증
-        ArgumentCaptor<java.time.Instant> startCaptor = ArgumentCaptor.forClass(java.time.Instant.class);
-        ArgumentCaptor<java.time.Instant> endCaptor = ArgumentCaptor.forClass(java.time.Instant.class);
+        ArgumentCaptor<Instant> startCaptor = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> endCaptor = ArgumentCaptor.forClass(Instant.class);
 
-        verify(freezeTransactionRepository).findByUserIdAndAmountAndCreatedAtBetween(
-                eq("user1"),
+        verify(freezeTransactionRepository).findByUserIdInAndAmountAndCreatedAtBetween(
+                argThat(userIds -> userIds.contains("user1")),
                 eq(-1),
                 startCaptor.capture(),
                 endCaptor.capture()
         );
 
         // 어제 00:00 ~ 오늘 00:00 범위 확인
-        java.time.LocalDate yesterday = today.minusDays(1);
-        java.time.Instant expectedStart = yesterday.atStartOfDay(KST).toInstant();
-        java.time.Instant expectedEnd = today.atStartOfDay(KST).toInstant();
+        LocalDate yesterday = today.minusDays(1);
+        Instant expectedStart = yesterday.atStartOfDay(KST).toInstant();
+        Instant expectedEnd = today.atStartOfDay(KST).toInstant();
 
         assertThat(startCaptor.getValue()).isEqualTo(expectedStart);
         assertThat(endCaptor.getValue()).isEqualTo(expectedEnd);
     }
 
-    @Test
-    @DisplayName("전송 실패한 토큰은 비활성화됨")
-    void deactivateFailedTokens() throws Exception {
-        // given
-        UserStudyReport user = createUserReport("user1", 5);
+    // Helper methods
+    private void givenActiveUsers(UserStudyReport... reports) {
         when(userStudyReportRepository.findByCurrentStreakGreaterThan(0))
-                .thenReturn(List.of(user));
-
-        when(dailyCompletionRepository.existsByUserIdAndCompletionDate("user1", today))
-                .thenReturn(false);
+                .thenReturn(new ArrayList<>(List.of(reports)));
+    }
 
-        // 프리즈 사용 안함
-        when(freezeTransactionRepository.findByUserIdAndAmountAndCreatedAtBetween(
-                eq("user1"), eq(-1), any(), any()))
+    private void givenNoCompletions() {
+        when(dailyCompletionRepository.findByUserIdInAndCompletionDate(anyCollection(), eq(today)))
                 .thenReturn(List.of());
+    }
 
-        List<FcmToken> tokens = List.of(
-                createFcmToken("user1", "token1", CountryCode.KR),
-                createFcmToken("user1", "token2", CountryCode.KR)
-        );
-        when(fcmTokenRepository.findByUserIdAndIsActive("user1", true))
-                .thenReturn(tokens);
-
-        // 하나는 성공, 하나는 실패
-        BatchResponse batchResponse = mock(BatchResponse.class);
-        when(batchResponse.getSuccessCount()).thenReturn(1);
-        when(batchResponse.getFailureCount()).thenReturn(1);
-
-        List<SendResponse> responses = new ArrayList<>();
-        SendResponse successResponse = mock(SendResponse.class);
-        when(successResponse.isSuccessful()).thenReturn(true);
-
-        SendResponse failResponse = mock(SendResponse.class);
-        when(failResponse.isSuccessful()).thenReturn(false);
-        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
-        when(exception.getMessage()).thenReturn("Invalid token");
-        when(failResponse.getException()).thenReturn(exception);
+    private void givenNoFreezeUsage() {
+        when(freezeTransactionRepository.findByUserIdInAndAmountAndCreatedAtBetween(
+                anyCollection(), eq(-1), any(), any()))
+                .thenReturn(List.of());
+    }
 
-        responses.add(successResponse);
-        responses.add(failResponse);
+    private void givenTokens(Map<String, List<FcmToken>> tokensByUser) {
+        when(pushDispatchService.resolveActiveTokens(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> userIds = invocation.getArgument(0);
+            return tokensByUser.entrySet().stream()
+                    .filter(entry -> userIds.contains(entry.getKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        });
+    }
 
-        when(batchResponse.getResponses()).thenReturn(responses);
-        when(fcmMessagingService.sendMulticastMessage(anyList(), any(FcmMessageRequest.class)))
-                .thenReturn(batchResponse);
+    private void givenSingleUserWithToken(int currentStreak, CountryCode countryCode) {
+        givenActiveUsers(createUserReport("user1", currentStreak));
+        givenNoCompletions();
+        givenNoFreezeUsage();
+        givenTokens(Map.of("user1", List.of(createFcmToken("user1", "token1", countryCode))));
+    }
 
-        // when
-        scheduler.sendStreakProtectionNotifications();
+    @SuppressWarnings("unchecked")
+    private List<PushRecipient> captureRecipients() {
+        ArgumentCaptor<List<PushRecipient>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pushDispatchService).dispatch(captor.capture());
+        return captor.getValue();
+    }
 
-        // then
-        verify(fcmTokenService).deactivateToken("token2");
+    private FcmMessageRequest captureSingleMessage() {
+        List<PushRecipient> recipients = captureRecipients();
+        assertThat(recipients).hasSize(1);
+        return recipients.get(0).getMessage();
     }
 
-    // Helper methods
     private UserStudyReport createUserReport(String userId, int currentStreak) {
         UserStudyReport report = new UserStudyReport();
         report.setUserId(userId);
@@ -536,6 +394,13 @@ class StreakProtectionSchedulerTest {
         return report;
     }
 
+    private DailyCompletion createCompletion(String userId) {
+        return DailyCompletion.builder()
+                .userId(userId)
+                .completionDate(today)
+                .build();
+    }
+
     private FcmToken createFcmToken(String userId, String token, CountryCode countryCode) {
         FcmToken fcmToken = new FcmToken();
         fcmToken.setUserId(userId);
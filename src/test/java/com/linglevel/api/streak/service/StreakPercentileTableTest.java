@@ -0,0 +1,65 @@
+package com.linglevel.api.streak.service;
+
+import com.linglevel.api.streak.repository.UserStudyReportRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("스트릭 백분위 분포표 테스트")
+class StreakPercentileTableTest {
+
+    @Mock
+    private UserStudyReportRepository userStudyReportRepository;
+
+    @InjectMocks
+    private StreakPercentileTable streakPercentileTable;
+
+    @Test
+    @DisplayName("같거나 높은 streak 사용자 비율을 한 번 집계한 분포로 계산")
+    void percentile_UsesAggregatedDistribution() {
+        // given: streak 0 → 5명, 3 → 3명, 10 → 2명
+        when(userStudyReportRepository.countUsersByCurrentStreak()).thenReturn(Map.of(0, 5L, 3, 3L, 10, 2L));
+        streakPercentileTable.refresh();
+
+        // when & then
+        assertThat(streakPercentileTable.percentile(10)).isEqualTo(20.0);
+        assertThat(streakPercentileTable.percentile(3)).isEqualTo(50.0);
+        assertThat(streakPercentileTable.percentile(2)).isEqualTo(50.0);
+        assertThat(streakPercentileTable.percentile(0)).isEqualTo(0.0);
+        verify(userStudyReportRepository, times(1)).countUsersByCurrentStreak();
+    }
+
+    @Test
+    @DisplayName("집계 이후 최고 기록을 넘긴 사용자도 본인을 포함해 계산")
+    void percentile_NewTopStreak_CountsSelf() {
+        // given
+        when(userStudyReportRepository.countUsersByCurrentStreak()).thenReturn(Map.of(1, 9L, 5, 1L));
+        streakPercentileTable.refresh();
+
+        // when & then
+        assertThat(streakPercentileTable.percentile(6)).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("아직 집계되지 않았으면 첫 조회 때 집계")
+    void percentile_NotLoaded_RefreshesLazily() {
+        // given
+        when(userStudyReportRepository.countUsersByCurrentStreak()).thenReturn(Map.of(1, 1L));
+
+        // when
+        double percentile = streakPercentileTable.percentile(1);
+
+        // then
+        assertThat(percentile).isEqualTo(100.0);
+        verify(userStudyReportRepository).countUsersByCurrentStreak();
+    }
+}
@@ -48,6 +48,12 @@ class StreakServiceBackfillTest extends AbstractDatabaseTest {
     @MockitoBean
     private ReadingSessionService readingSessionService;
 
+    @MockitoBean
+    private StreakSnapshotCache streakSnapshotCache;
+
+    @MockitoBean
+    private StreakPercentileTable streakPercentileTable;
+
     private static final String TEST_USER_ID = "backfill-test-user";
     private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
 
@@ -7,6 +7,7 @@ import com.linglevel.api.streak.entity.StreakStatus;
 import com.linglevel.api.streak.entity.UserStudyReport;
 import com.linglevel.api.streak.repository.DailyCompletionRepository;
 import com.linglevel.api.streak.repository.FreezeTransactionRepository;
+import com.linglevel.api.streak.repository.StudyReminderBucketRepository;
 import com.linglevel.api.streak.repository.UserStudyReportRepository;
 import com.linglevel.api.user.ticket.entity.TicketTransaction;
 import com.linglevel.api.user.ticket.repository.TicketTransactionRepository;
@@ -50,6 +51,12 @@ class StreakServiceBusinessLogicTest {
     @Mock
     private ReadingSessionService readingSessionService;
 
+    @Mock
+    private StreakSnapshotCache streakSnapshotCache;
+
+    @Mock
+    private StudyReminderBucketRepository studyReminderBucketRepository;
+
     @InjectMocks
     private StreakService streakService;
 
@@ -6,6 +6,7 @@ import com.linglevel.api.streak.entity.StreakStatus;
 import com.linglevel.api.streak.entity.UserStudyReport;
 import com.linglevel.api.streak.repository.DailyCompletionRepository;
 import com.linglevel.api.streak.repository.FreezeTransactionRepository;
+import com.linglevel.api.streak.repository.StudyReminderBucketRepository;
 import com.linglevel.api.streak.repository.UserStudyReportRepository;
 import com.linglevel.api.user.ticket.repository.TicketTransactionRepository;
 import com.linglevel.api.user.ticket.service.TicketService;
@@ -52,6 +53,12 @@ class StreakServiceContentCompletionTest {
     @Mock
     private ReadingSessionService readingSessionService;
 
+    @Mock
+    private StreakSnapshotCache streakSnapshotCache;
+
+    @Mock
+    private StudyReminderBucketRepository studyReminderBucketRepository;
+
     @InjectMocks
     private StreakService streakService;
 
@@ -93,6 +100,44 @@ class StreakServiceContentCompletionTest {
         verify(dailyCompletionRepository).save(any(DailyCompletion.class));
     }
 
+    @Test
+    @DisplayName("선호 학습 시간이 없는 사용자는 첫 학습 시각으로 리마인더 버킷에 등록")
+    void addCompletedContent_AssignsReminderHourOnFirstStudy() {
+        // given
+        when(userStudyReportRepository.findByUserId(TEST_USER_ID))
+                .thenReturn(Optional.of(testReport));
+        when(dailyCompletionRepository.findByUserIdAndCompletionDate(TEST_USER_ID, today))
+                .thenReturn(Optional.empty());
+        int hourBefore = Instant.now().atZone(KST_ZONE).getHour();
+
+        // when
+        streakService.addCompletedContent(TEST_USER_ID, CONTENT_TYPE, CONTENT_ID_1, false);
+
+        // then
+        int hourAfter = Instant.now().atZone(KST_ZONE).getHour();
+        assertThat(testReport.getPreferredStudyHour()).isIn(hourBefore, hourAfter);
+        assertThat(testReport.getPreferredStudyHourUpdatedAt()).isNotNull();
+        verify(studyReminderBucketRepository).assignHour(TEST_USER_ID, testReport.getPreferredStudyHour());
+    }
+
+    @Test
+    @DisplayName("선호 학습 시간이 이미 있으면 리마인더 버킷을 건드리지 않음")
+    void addCompletedContent_KeepsExistingReminderHour() {
+        // given
+        testReport.setPreferredStudyHour(21);
+        when(userStudyReportRepository.findByUserId(TEST_USER_ID))
+                .thenReturn(Optional.of(testReport));
+        when(dailyCompletionRepository.findByUserIdAndCompletionDate(TEST_USER_ID, today))
+                .thenReturn(Optional.empty());
+
+        // when
+        streakService.addCompletedContent(TEST_USER_ID, CONTENT_TYPE, CONTENT_ID_1, false);
+
+        // then
+        assertThat(testReport.getPreferredStudyHour()).isEqualTo(21);
+        verifyNoInteractions(studyReminderBucketRepository);
+    }
+
     @Test
     @DisplayName("이미 완료한 콘텐츠 재완료 시 totalCount 증가, firstCount 유지")
     void addCompletedContent_DuplicateCompletion_Skipped() {
@@ -39,6 +39,9 @@ class StreakServiceFreezeAutoConsumeTest {
     @Mock
     private FreezeTransactionRepository freezeTransactionRepository;
 
+    @Mock
+    private StreakSnapshotCache streakSnapshotCache;
+
     @InjectMocks
     private StreakService streakService;
 
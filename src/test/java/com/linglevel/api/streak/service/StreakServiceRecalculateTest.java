@@ -37,6 +37,9 @@ class StreakServiceRecalculateTest {
     @Mock
     private DailyCompletionRepository dailyCompletionRepository;
 
+    @Mock
+    private StreakSnapshotCache streakSnapshotCache;
+
     @InjectMocks
     private StreakService streakService;
 
@@ -45,6 +45,9 @@ class StreakServiceRecoveryTest {
     @Mock
     private FreezeTransactionRepository freezeTransactionRepository;
 
+    @Mock
+    private StreakSnapshotCache streakSnapshotCache;
+
     @InjectMocks
     private StreakService streakService;
 
@@ -0,0 +1,187 @@
+package com.linglevel.api.streak.service;
+
+import com.linglevel.api.content.common.ContentType;
+import com.linglevel.api.i18n.LanguageCode;
+import com.linglevel.api.streak.dto.StreakResponse;
+import com.linglevel.api.streak.dto.StreakSnapshot;
+import com.linglevel.api.streak.entity.DailyCompletion;
+import com.linglevel.api.streak.entity.StreakStatus;
+import com.linglevel.api.streak.entity.UserStudyReport;
+import com.linglevel.api.streak.repository.DailyCompletionRepository;
+import com.linglevel.api.streak.repository.StudyReminderBucketRepository;
+import com.linglevel.api.streak.repository.UserStudyReportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreakService - 스트릭 스냅샷 테스트")
+class StreakServiceSnapshotTest {
+
+    @Mock
+    private UserStudyReportRepository userStudyReportRepository;
+
+    @Mock
+    private DailyCompletionRepository dailyCompletionRepository;
+
+    @Mock
+    private StreakSnapshotCache streakSnapshotCache;
+
+    @Mock
+    private StreakPercentileTable streakPercentileTable;
+
+    @Mock
+    private StudyReminderBucketRepository studyReminderBucketRepository;
+
+    @InjectMocks
+    private StreakService streakService;
+
+    private static final String TEST_USER_ID = "test-user-123";
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now(KST_ZONE);
+    }
+
+    @Test
+    @DisplayName("오늘 스냅샷이 있으면 DB를 조회하지 않고 응답")
+    void getStreakInfo_SnapshotHit_ServesFromCache() {
+        // given
+        StreakSnapshot snapshot = StreakSnapshot.builder()
+                .userId(TEST_USER_ID)
+                .date(today.toString())
+                .currentStreak(3)
+                .longestStreak(5)
+                .streakStartDate(today.minusDays(2).toString())
+                .totalStudyDays(10)
+                .totalContentsRead(7)
+                .availableFreezes(1)
+                .totalReadingTimeSeconds(600)
+                .todayStatus(StreakStatus.COMPLETED)
+                .yesterdayStatus(StreakStatus.COMPLETED)
+                .build();
+        when(streakSnapshotCache.get(TEST_USER_ID, today)).thenReturn(snapshot);
+        when(streakPercentileTable.percentile(3)).thenReturn(12.5);
+
+        // when
+        StreakResponse response = streakService.getStreakInfo(TEST_USER_ID, LanguageCode.EN);
+
+        // then
+        assertThat(response.getCurrentStreak()).isEqualTo(3);
+        assertThat(response.getStreakStartDate()).isEqualTo(today.minusDays(2));
+        assertThat(response.getTotalStudyDays()).isEqualTo(10);
+        assertThat(response.getPercentile()).isEqualTo(12.5);
+        assertThat(response.getExpectedRewards()).isNull();
+        verifyNoInteractions(userStudyReportRepository, dailyCompletionRepository);
+        verify(streakSnapshotCache, never()).put(any());
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 DB에서 만들어 캐시하고 전체 컬렉션 count는 하지 않음")
+    void getStreakInfo_SnapshotMiss_LoadsAndCaches() {
+        // given
+        UserStudyReport report = report(2, Set.of("c1", "c2"));
+        when(streakSnapshotCache.get(TEST_USER_ID, today)).thenReturn(null);
+        when(userStudyReportRepository.findByUserId(TEST_USER_ID)).thenReturn(Optional.of(report));
+        when(dailyCompletionRepository.findByUserIdAndCompletionDate(TEST_USER_ID, today)).thenReturn(Optional.empty());
+        when(dailyCompletionRepository.findByUserIdAndCompletionDate(TEST_USER_ID, today.minusDays(1)))
+                .thenReturn(Optional.of(completion(today.minusDays(1), StreakStatus.COMPLETED)));
+        when(dailyCompletionRepository.countByUserId(TEST_USER_ID)).thenReturn(4L);
+
+        // when
+        StreakResponse response = streakService.getStreakInfo(TEST_USER_ID, LanguageCode.EN);
+
+        // then
+        assertThat(response.getTodayStatus()).isEqualTo(StreakStatus.MISSED);
+        assertThat(response.getYesterdayStatus()).isEqualTo(StreakStatus.COMPLETED);
+        assertThat(response.getTotalContentsRead()).isEqualTo(2);
+
+        ArgumentCaptor<StreakSnapshot> captor = ArgumentCaptor.forClass(StreakSnapshot.class);
+        verify(streakSnapshotCache).put(captor.capture());
+        assertThat(captor.getValue().getDate()).isEqualTo(today.toString());
+        assertThat(captor.getValue().getTotalStudyDays()).isEqualTo(4);
+        verify(userStudyReportRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("학습 완료 시 캐시된 오늘 스냅샷을 write-through로 갱신")
+    void addCompletedContent_WritesThroughSnapshot() {
+        // given
+        UserStudyReport report = report(1, new HashSet<>());
+        StreakSnapshot cached = StreakSnapshot.builder()
+                .userId(TEST_USER_ID)
+                .date(today.toString())
+                .currentStreak(1)
+                .totalStudyDays(3)
+                .todayStatus(StreakStatus.MISSED)
+                .yesterdayStatus(StreakStatus.COMPLETED)
+                .build();
+        when(userStudyReportRepository.findByUserId(TEST_USER_ID)).thenReturn(Optional.of(report));
+        when(dailyCompletionRepository.findByUserIdAndCompletionDate(TEST_USER_ID, today)).thenReturn(Optional.empty());
+        when(streakSnapshotCache.get(TEST_USER_ID, today)).thenReturn(cached);
+
+        // when
+        streakService.addCompletedContent(TEST_USER_ID, ContentType.BOOK, "content-1", true);
+
+        // then
+        ArgumentCaptor<StreakSnapshot> captor = ArgumentCaptor.forClass(StreakSnapshot.class);
+        verify(streakSnapshotCache).put(captor.capture());
+        StreakSnapshot updated = captor.getValue();
+        assertThat(updated.getTodayStatus()).isEqualTo(StreakStatus.COMPLETED);
+        assertThat(updated.getYesterdayStatus()).isEqualTo(StreakStatus.COMPLETED);
+        assertThat(updated.getTotalStudyDays()).isEqualTo(4);
+        assertThat(updated.getTotalContentsRead()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시된 스냅샷이 없으면 쓰기 경로에서 새로 만들지 않음")
+    void addStudyTime_NoSnapshot_SkipsWriteThrough() {
+        // given
+        when(userStudyReportRepository.findByUserId(TEST_USER_ID)).thenReturn(Optional.of(report(1, new HashSet<>())));
+        when(streakSnapshotCache.get(TEST_USER_ID, today)).thenReturn(null);
+
+        // when
+        streakService.addStudyTime(TEST_USER_ID, 120);
+
+        // then
+        verify(streakSnapshotCache, never()).put(any());
+    }
+
+    private UserStudyReport report(int currentStreak, Set<String> completedContentIds) {
+        UserStudyReport report = new UserStudyReport();
+        report.setUserId(TEST_USER_ID);
+        report.setCurrentStreak(currentStreak);
+        report.setLongestStreak(currentStreak);
+        report.setCompletedContentIds(completedContentIds);
+        report.setCreatedAt(Instant.now());
+        return report;
+    }
+
+    private DailyCompletion completion(LocalDate date, StreakStatus status) {
+        return DailyCompletion.builder()
+                .userId(TEST_USER_ID)
+                .completionDate(date)
+                .totalCompletionCount(1)
+                .streakStatus(status)
+                .build();
+    }
+}
@@ -0,0 +1,225 @@
+package com.linglevel.api.streak.service;
+
+import com.linglevel.api.streak.entity.DailyCompletion;
+import com.linglevel.api.streak.entity.FreezeTransaction;
+import com.linglevel.api.streak.entity.StreakStatus;
+import com.linglevel.api.streak.entity.UserStudyReport;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("자정 스트릭 검증 엔진 테스트")
+class StreakValidationServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private StreakSnapshotCache streakSnapshotCache;
+
+    @Mock
+    private BulkOperations completionOps;
+
+    @Mock
+    private BulkOperations transactionOps;
+
+    @Mock
+    private BulkOperations reportOps;
+
+    @InjectMocks
+    private StreakValidationService streakValidationService;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        ReflectionTestUtils.setField(streakValidationService, "pageSize", 500);
+        ReflectionTestUtils.setField(streakValidationService, "workerThreads", 1);
+
+        lenient().when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(DailyCompletion.class))).thenReturn(completionOps);
+        lenient().when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(FreezeTransaction.class))).thenReturn(transactionOps);
+        lenient().when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(UserStudyReport.class))).thenReturn(reportOps);
+        lenient().when(completionOps.insert(anyList())).thenReturn(completionOps);
+        lenient().when(transactionOps.insert(anyList())).thenReturn(transactionOps);
+    }
+
+    @Test
+    @DisplayName("어제 학습한 사용자는 유지로 집계하고 아무것도 기록하지 않음")
+    void validate_MaintainsYesterdayCompletion() {
+        // given
+        givenReports(report("user1", today.minusDays(1), 5, 1));
+
+        // when
+        StreakValidationService.ValidationResult result = streakValidationService.validate(today);
+
+        // then
+        assertThat(result.getProcessed().get()).isEqualTo(1);
+        assertThat(result.getMaintained().get()).isEqualTo(1);
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), any(Class.class));
+    }
+
+    @Test
+    @DisplayName("누락일마다 프리즈를 소모하고 이미 프리즈 처리된 날짜는 건너뜀")
+    void validate_ConsumesFreezesForMissedDays() {
+        // given: 3일 누락, 그중 하루는 이미 프리즈 처리됨
+        givenReports(report("user1", today.minusDays(4), 5, 2));
+        when(mongoTemplate.find(any(Query.class), eq(DailyCompletion.class)))
+                .thenReturn(List.of(completion("user1", today.minusDays(2), StreakStatus.FREEZE_USED)));
+
+        // when
+        StreakValidationService.ValidationResult result = streakValidationService.validate(today);
+
+        // then
+        assertThat(result.getFreezeUsed().get()).isEqualTo(1);
+        assertThat(result.getReset().get()).isZero();
+
+        List<DailyCompletion> inserted = captureInsertedCompletions();
+        assertThat(inserted).extracting(DailyCompletion::getCompletionDate)
+                .containsExactly(today.minusDays(3), today.minusDays(1));
+        assertThat(inserted).allMatch(completion -> completion.getStreakStatus() == StreakStatus.FREEZE_USED);
+        verify(transactionOps).insert(argThat((List<?> transactions) -> transactions.size() == 2));
+
+        Document set = captureReportSet();
+        assertThat(set.get("availableFreezes")).isEqualTo(0);
+        assertThat(set.get("currentStreak")).isEqualTo(5);
+        verify(streakSnapshotCache).evictAll(List.of("user1"));
+    }
+
+    @Test
+    @DisplayName("프리즈가 부족하면 소모할 수 있는 만큼 소모한 뒤 스트릭 리셋")
+    void validate_ResetsWhenFreezesRunOut() {
+        // given: 3일 누락, 프리즈 1개
+        givenReports(report("user1", today.minusDays(4), 5, 1));
+        when(mongoTemplate.find(any(Query.class), eq(DailyCompletion.class))).thenReturn(List.of());
+
+        // when
+        StreakValidationService.ValidationResult result = streakValidationService.validate(today);
+
+        // then
+        assertThat(result.getReset().get()).isEqualTo(1);
+        assertThat(captureInsertedCompletions()).extracting(DailyCompletion::getCompletionDate)
+                .containsExactly(today.minusDays(3));
+
+        Document set = captureReportSet();
+        assertThat(set.get("currentStreak")).isEqualTo(0);
+        assertThat(set.get("availableFreezes")).isEqualTo(0);
+        assertThat(set.get("lastCompletionDate")).isNull();
+    }
+
+    @Test
+    @DisplayName("프리즈 DailyCompletion 기록에 실패한 사용자는 트랜잭션/리포트를 기록하지 않고 먼저 기록된 문서도 되돌림")
+    void validate_SkipsUsersWhoseCompletionInsertFailed() {
+        // given: user1은 정상, user2는 두 번째 누락일이 동시 학습 완료와 충돌
+        givenReports(
+                report("user1", today.minusDays(2), 3, 2),
+                report("user2", today.minusDays(3), 4, 2));
+        when(mongoTemplate.find(any(Query.class), eq(DailyCompletion.class))).thenReturn(List.of());
+
+        BulkOperationException duplicateKey = mock(BulkOperationException.class);
+        when(duplicateKey.getErrors()).thenReturn(List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 2)));
+        when(completionOps.execute()).thenThrow(duplicateKey);
+
+        // when
+        StreakValidationService.ValidationResult result = streakValidationService.validate(today);
+
+        // then
+        assertThat(result.getFreezeUsed().get()).isEqualTo(1);
+        assertThat(result.getFailed().get()).isEqualTo(1);
+
+        List<DailyCompletion> inserted = captureInsertedCompletions();
+        assertThat(inserted).extracting(DailyCompletion::getUserId).containsExactly("user1", "user2", "user2");
+
+        ArgumentCaptor<Query> rollbackCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(rollbackCaptor.capture(), eq(DailyCompletion.class));
+        assertThat(rollbackCaptor.getValue().getQueryObject().toJson()).contains(inserted.get(1).getId());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FreezeTransaction>> transactionCaptor = ArgumentCaptor.forClass(List.class);
+        verify(transactionOps).insert(transactionCaptor.capture());
+        assertThat(transactionCaptor.getValue()).extracting(FreezeTransaction::getUserId).containsExactly("user1");
+
+        verify(reportOps, times(1)).updateOne(any(Query.class), any(Update.class));
+        verify(streakSnapshotCache).evictAll(List.of("user1"));
+    }
+
+    @Test
+    @DisplayName("페이지 처리가 실패하면 해당 페이지의 사용자를 실패로 집계")
+    void validate_CountsFailedPageUsersAsFailed() {
+        // given
+        givenReports(
+                report("user1", today.minusDays(3), 3, 2),
+                report("user2", today.minusDays(3), 4, 2));
+        when(mongoTemplate.find(any(Query.class), eq(DailyCompletion.class))).thenThrow(new RuntimeException("mongo down"));
+
+        // when
+        StreakValidationService.ValidationResult result = streakValidationService.validate(today);
+
+        // then
+        assertThat(result.getFailed().get()).isEqualTo(2);
+        assertThat(result.getFreezeUsed().get()).isZero();
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), any(Class.class));
+    }
+
+    private void givenReports(UserStudyReport... reports) {
+        when(mongoTemplate.stream(any(Query.class), eq(UserStudyReport.class))).thenReturn(Stream.of(reports));
+    }
+
+    private List<DailyCompletion> captureInsertedCompletions() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DailyCompletion>> captor = ArgumentCaptor.forClass(List.class);
+        verify(completionOps).insert(captor.capture());
+        return captor.getValue();
+    }
+
+    private Document captureReportSet() {
+        ArgumentCaptor<Update> captor = ArgumentCaptor.forClass(Update.class);
+        verify(reportOps).updateOne(any(Query.class), captor.capture());
+        return (Document) captor.getValue().getUpdateObject().get("$set");
+    }
+
+    private UserStudyReport report(String userId, LocalDate lastCompletionDate, int currentStreak, int availableFreezes) {
+        UserStudyReport report = new UserStudyReport();
+        report.setId("report-" + userId);
+        report.setUserId(userId);
+        report.setCompletedContentIds(new HashSet<>());
+        report.setCurrentStreak(currentStreak);
+        report.setLastCompletionDate(lastCompletionDate);
+        report.setStreakStartDate(lastCompletionDate.minusDays(currentStreak - 1));
+        report.setAvailableFreezes(availableFreezes);
+        return report;
+    }
+
+    private DailyCompletion completion(String userId, LocalDate date, StreakStatus status) {
+        return DailyCompletion.builder()
+                .userId(userId)
+                .completionDate(date)
+                .streakStatus(status)
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.linglevel.api.streak.service;
 import com.linglevel.api.streak.entity.DailyCompletion;
 import com.linglevel.api.streak.entity.UserStudyReport;
 import com.linglevel.api.streak.repository.DailyCompletionRepository;
+import com.linglevel.api.streak.repository.StudyReminderBucketRepository;
 import com.linglevel.api.streak.repository.UserStudyReportRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -34,6 +35,9 @@ class StudyTimeAnalysisServiceTest {
     @Mock
     private UserStudyReportRepository userStudyReportRepository;
 
+    @Mock
+    private StudyReminderBucketRepository studyReminderBucketRepository;
+
     @InjectMocks
     private StudyTimeAnalysisService service;
 
@@ -135,6 +139,40 @@ class StudyTimeAnalysisServiceTest {
         assertThat(result.get()).isEqualTo(20);
     }
 
+    @Test
+    @DisplayName("선호 시간이 바뀌면 리마인더 버킷 이동")
+    void calculateAndSavePreferredStudyHour_HourChanged_MovesReminderBucket() {
+        // given
+        testReport.setPreferredStudyHour(9);
+        when(userStudyReportRepository.findByUserId("test-user"))
+                .thenReturn(Optional.of(testReport));
+        when(dailyCompletionRepository.findByUserIdAndCompletionDateAfter(eq("test-user"), any(LocalDate.class)))
+                .thenReturn(createCompletionsAtHour(14, 3));
+
+        // when
+        service.calculateAndSavePreferredStudyHour("test-user");
+
+        // then
+        verify(studyReminderBucketRepository).assignHour("test-user", 14);
+    }
+
+    @Test
+    @DisplayName("선호 시간이 그대로면 리마인더 버킷 갱신 생략")
+    void calculateAndSavePreferredStudyHour_HourUnchanged_SkipsReminderBucket() {
+        // given
+        testReport.setPreferredStudyHour(14);
+        when(userStudyReportRepository.findByUserId("test-user"))
+                .thenReturn(Optional.of(testReport));
+        when(dailyCompletionRepository.findByUserIdAndCompletionDateAfter(eq("test-user"), any(LocalDate.class)))
+                .thenReturn(createCompletionsAtHour(14, 3));
+
+        // when
+        service.calculateAndSavePreferredStudyHour("test-user");
+
+        // then
+        verify(studyReminderBucketRepository, never()).assignHour(any(), any());
+    }
+
     @Test
     @DisplayName("학습 데이터가 없으면 Empty 반환")
     void calculateAndSavePreferredStudyHour_NoData_ReturnsEmpty() {
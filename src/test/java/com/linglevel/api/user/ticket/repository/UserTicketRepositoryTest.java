@@ -117,4 +117,56 @@ class UserTicketRepositoryTest extends AbstractDatabaseTest {
         assertThat(savedUserTicket.getBalance()).isEqualTo(10);
         assertThat(savedUserTicket.getVersion()).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void 잔고가충분하면_원자적으로_차감() {
+        // given
+        userTicketRepository.save(userTicket);
+
+        // when
+        Optional<UserTicket> debited = userTicketRepository.debit(testUserId, 4);
+
+        // then
+        assertThat(debited).isPresent();
+        assertThat(debited.get().getBalance()).isEqualTo(6);
+        assertThat(userTicketRepository.findByUserId(testUserId).orElseThrow().getBalance()).isEqualTo(6);
+    }
+
+    @Test
+    void 잔고가부족하면_차감하지않고_빈Optional반환() {
+        // given
+        userTicketRepository.save(userTicket);
+
+        // when
+        Optional<UserTicket> debited = userTicketRepository.debit(testUserId, 11);
+
+        // then
+        assertThat(debited).isEmpty();
+        assertThat(userTicketRepository.findByUserId(testUserId).orElseThrow().getBalance()).isEqualTo(10);
+    }
+
+    @Test
+    void 원자적_지급_성공() {
+        // given
+        userTicketRepository.save(userTicket);
+
+        // when
+        Optional<UserTicket> credited = userTicketRepository.credit(testUserId, 5);
+
+        // then
+        assertThat(credited).isPresent();
+        assertThat(credited.get().getBalance()).isEqualTo(15);
+    }
+
+    @Test
+    void 지갑이없을때만_생성() {
+        // when
+        boolean first = userTicketRepository.createIfAbsent(testUserId, 10);
+        boolean second = userTicketRepository.createIfAbsent(testUserId, 10);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(userTicketRepository.findByUserId(testUserId).orElseThrow().getBalance()).isEqualTo(10);
+    }
+}
@@ -92,17 +92,19 @@ class TicketServiceTest {
                     .balance(10)
                     .build();
 
-            when(userTicketRepository.findByUserId(userId)).thenReturn(Optional.empty());
-            when(userTicketRepository.save(any(UserTicket.class))).thenReturn(newUserTicket);
+            when(userTicketRepository.findByUserId(userId))
+                    .thenReturn(Optional.empty())
+                    .thenReturn(Optional.of(newUserTicket));
+            when(userTicketRepository.createIfAbsent(userId, 10)).thenReturn(true);
 
             // when
             TicketBalanceResponse response = ticketService.getTicketBalance(userId);
 
             // then
             assertThat(response.getBalance()).isEqualTo(10);
-            verify(userTicketRepository).findByUserId(userId);
-            verify(userTicketRepository).save(any(UserTicket.class));
-            verify(ticketTransactionRepository).save(any(TicketTransaction.class));
+            verify(userTicketRepository).createIfAbsent(userId, 10);
+            verify(userTicketRepository, never()).save(any(UserTicket.class));
+            verify(ticketTransactionRepository).save(argThat(tx -> tx.getAmount() == 10));
         }
     }
 
@@ -143,8 +145,8 @@ class TicketServiceTest {
         @Test
         void 티켓예약_성공() {
             // given
-            when(userTicketRepository.findByUserId(userId)).thenReturn(Optional.of(userTicket));
-            when(userTicketRepository.save(any(UserTicket.class))).thenReturn(userTicket);
+            userTicket.setBalance(5);
+            when(userTicketRepository.debit(userId, 5)).thenReturn(Optional.of(userTicket));
 
             // when
             String reservationId = ticketService.reserveTicket(userId, 5, "Test reservation");
@@ -152,14 +154,18 @@ class TicketServiceTest {
             // then
             assertThat(reservationId).isNotNull();
             assertThat(UUID.fromString(reservationId)).isNotNull(); // UUID 형식 검증
-            verify(userTicketRepository).save(any(UserTicket.class));
-            verify(ticketTransactionRepository).save(any(TicketTransaction.class));
+            verify(userTicketRepository, never()).findByUserId(anyString());
+            verify(userTicketRepository, never()).save(any(UserTicket.class));
+            verify(ticketTransactionRepository).save(argThat(tx ->
+                    tx.getStatus() == TransactionStatus.RESERVED && tx.getAmount() == -5
+                            && reservationId.equals(tx.getReservationId())));
         }
 
         @Test
         void 잔고부족으로_티켓예약_실패() {
             // given
-            when(userTicketRepository.findByUserId(userId)).thenReturn(Optional.of(userTicket));
+            when(userTicketRepository.debit(userId, 15)).thenReturn(Optional.empty());
+            when(userTicketRepository.createIfAbsent(userId, 10)).thenReturn(false);
 
             // when & then
             assertThatThrownBy(() -> ticketService.reserveTicket(userId, 15, "Test reservation"))
@@ -187,21 +193,22 @@ class TicketServiceTest {
                     .reservationId(reservationId)
                     .build();
 
-            when(ticketTransactionRepository.findByReservationIdAndStatus(reservationId, TransactionStatus.RESERVED))
+            when(ticketTransactionRepository.transitionReservation(reservationId, TransactionStatus.RESERVED, TransactionStatus.CONFIRMED))
                     .thenReturn(Optional.of(reservedTransaction));
 
             // when
             ticketService.confirmReservation(reservationId);
 
             // then
-            verify(ticketTransactionRepository).save(any(TicketTransaction.class));
+            verify(ticketTransactionRepository).transitionReservation(reservationId, TransactionStatus.RESERVED, TransactionStatus.CONFIRMED);
+            verifyNoInteractions(userTicketRepository);
         }
 
         @Test
         void 존재하지않는예약_확정시_예외발생() {
             // given
             String reservationId = "non-existent-reservation-id";
-            when(ticketTransactionRepository.findByReservationIdAndStatus(reservationId, TransactionStatus.RESERVED))
+            when(ticketTransactionRepository.transitionReservation(reservationId, TransactionStatus.RESERVED, TransactionStatus.CONFIRMED))
                     .thenReturn(Optional.empty());
 
             // when & then
@@ -227,16 +234,29 @@ class TicketServiceTest {
                     .reservationId(reservationId)
                     .build();
 
-            when(ticketTransactionRepository.findByReservationIdAndStatus(reservationId, TransactionStatus.RESERVED))
+            when(ticketTransactionRepository.transitionReservation(reservationId, TransactionStatus.RESERVED, TransactionStatus.CANCELLED))
                     .thenReturn(Optional.of(reservedTransaction));
-            when(userTicketRepository.findByUserId(userId)).thenReturn(Optional.of(userTicket));
+            when(userTicketRepository.credit(userId, 5)).thenReturn(Optional.of(userTicket));
 
             // when
             ticketService.cancelReservation(reservationId);
 
             // then
-            verify(userTicketRepository).save(any(UserTicket.class));
-            verify(ticketTransactionRepository).save(any(TicketTransaction.class));
+            verify(userTicketRepository).credit(userId, 5);
+            verify(userTicketRepository, never()).save(any(UserTicket.class));
+        }
+
+        @Test
+        void 이미취소된예약_재취소시_환불하지않음() {
+            // given
+            String reservationId = "test-reservation-id";
+            when(ticketTransactionRepository.transitionReservation(reservationId, TransactionStatus.RESERVED, TransactionStatus.CANCELLED))
+                    .thenReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> ticketService.cancelReservation(reservationId))
+                    .isInstanceOf(TicketException.class);
+            verifyNoInteractions(userTicketRepository);
         }
     }
 
@@ -247,26 +267,60 @@ class TicketServiceTest {
         @Test
         void 티켓사용_성공() {
             // given
-            when(userTicketRepository.findByUserId(userId)).thenReturn(Optional.of(userTicket));
-            when(userTicketRepository.save(any(UserTicket.class))).thenReturn(userTicket);
+            userTicket.setBalance(5);
+            when(userTicketRepository.debit(userId, 5)).thenReturn(Optional.of(userTicket));
 
             // when
             int remainingBalance = ticketService.spendTicket(userId, 5, "Test spend");
 
             // then
             assertThat(remainingBalance).isEqualTo(5); // 10 - 5 = 5
-            verify(userTicketRepository).save(any(UserTicket.class));
-            verify(ticketTransactionRepository).save(any(TicketTransaction.class));
+            verify(userTicketRepository, never()).findByUserId(anyString());
+            verify(ticketTransactionRepository).save(argThat(tx -> tx.getAmount() == -5));
         }
 
         @Test
         void 잔고부족으로_티켓사용_실패() {
             // given
-            when(userTicketRepository.findByUserId(userId)).thenReturn(Optional.of(userTicket));
+            when(userTicketRepository.debit(userId, 15)).thenReturn(Optional.empty());
+            when(userTicketRepository.createIfAbsent(userId, 10)).thenReturn(false);
 
             // when & then
             assertThatThrownBy(() -> ticketService.spendTicket(userId, 15, "Test spend"))
                     .isInstanceOf(TicketException.class);
+            verify(ticketTransactionRepository, never()).save(any(TicketTransaction.class));
+        }
+
+        @Test
+        void 신규사용자_지갑생성후_티켓사용_성공() {
+            // given
+            userTicket.setBalance(9);
+            when(userTicketRepository.debit(userId, 1))
+                    .thenReturn(Optional.empty())
+                    .thenReturn(Optional.of(userTicket));
+            when(userTicketRepository.createIfAbsent(userId, 10)).thenReturn(true);
+
+            // when
+            int remainingBalance = ticketService.spendTicket(userId, 1, "Test spend");
+
+            // then
+            assertThat(remainingBalance).isEqualTo(9);
+            verify(ticketTransactionRepository).save(argThat(tx -> tx.getAmount() == 10));
+            verify(ticketTransactionRepository).save(argThat(tx -> tx.getAmount() == -1));
+        }
+
+        @Test
+        void 거래내역기록_실패시_차감을되돌림() {
+            // given
+            userTicket.setBalance(5);
+            when(userTicketRepository.debit(userId, 5)).thenReturn(Optional.of(userTicket));
+            when(ticketTransactionRepository.save(any(TicketTransaction.class)))
+                    .thenThrow(new RuntimeException("write failed"));
+
+            // when & then
+            assertThatThrownBy(() -> ticketService.spendTicket(userId, 5, "Test spend"))
+                    .hasMessage("write failed");
+            verify(userTicketRepository).credit(userId, 5);
         }
     }
 
@@ -277,16 +331,16 @@ class TicketServiceTest {
         @Test
         void 티켓지급_성공() {
             // given
-            when(userTicketRepository.findByUserId(userId)).thenReturn(Optional.of(userTicket));
-            when(userTicketRepository.save(any(UserTicket.class))).thenReturn(userTicket);
+            userTicket.setBalance(15);
+            when(userTicketRepository.credit(userId, 5)).thenReturn(Optional.of(userTicket));
 
             // when
             int newBalance = ticketService.grantTicket(userId, 5, "Test grant");
 
             // then
             assertThat(newBalance).isEqualTo(15); // 10 + 5 = 15
-            verify(userTicketRepository).save(any(UserTicket.class));
-            verify(ticketTransactionRepository).save(any(TicketTransaction.class));
+            verify(userTicketRepository, never()).save(any(UserTicket.class));
+            verify(ticketTransactionRepository).save(argThat(tx -> tx.getAmount() == 5));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,214 @@
+package com.linglevel.api.word.service;
+
+import com.linglevel.api.i18n.LanguageCode;
+import com.linglevel.api.word.dto.VariantType;
+import com.linglevel.api.word.dto.WordAnalysisResult;
+import com.linglevel.api.word.entity.Oxford3000Job;
+import com.linglevel.api.word.entity.Word;
+import com.linglevel.api.word.entity.WordVariant;
+import com.linglevel.api.word.repository.Oxford3000JobRepository;
+import com.linglevel.api.word.repository.WordRepository;
+import com.linglevel.api.word.repository.WordVariantRepository;
+import com.linglevel.api.word.validator.WordValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Oxford 3000 일괄 초기화 테스트")
+class Oxford3000BulkInitializerTest {
+
+    @Mock
+    private WordRepository wordRepository;
+
+    @Mock
+    private WordVariantRepository wordVariantRepository;
+
+    @Mock
+    private Oxford3000JobRepository oxford3000JobRepository;
+
+    @Mock
+    private WordService wordService;
+
+    @Mock
+    private WordAiService wordAiService;
+
+    @Mock
+    private WordLookupCache wordLookupCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Oxford3000BulkInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        initializer = createInitializer(4, 2);
+        lenient().when(oxford3000JobRepository.markCompleted(eq("KO"), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> Oxford3000Job.builder()
+                        .id("KO")
+                        .status(Oxford3000Job.Status.COMPLETED)
+                        .totalWords(0)
+                        .alreadyExistCount(0)
+                        .startedAt(invocation.getArgument(1))
+                        .completedAt(invocation.getArgument(1))
+                        .build());
+        lenient().when(wordService.convertAnalysisResultToWord(any(WordAnalysisResult.class)))
+                .thenAnswer(invocation -> {
+                    WordAnalysisResult result = invocation.getArgument(0);
+                    return Word.builder()
+                            .word(result.getOriginalForm())
+                            .sourceLanguageCode(result.getSourceLanguageCode())
+                            .targetLanguageCode(result.getTargetLanguageCode())
+                            .build();
+                });
+        lenient().when(wordRepository.insertAllIgnoringDuplicates(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(wordVariantRepository.insertAllIgnoringDuplicates(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private Oxford3000BulkInitializer createInitializer(int aiConcurrency, int chunkSize) {
+        return new Oxford3000BulkInitializer(wordRepository, wordVariantRepository, oxford3000JobRepository,
+                wordService, wordAiService, new WordValidator(), wordLookupCache, meterRegistry,
+                aiConcurrency, 1000, chunkSize, 0);
+    }
+
+    @Test
+    @DisplayName("이미 있는 단어는 필수 표시만 하고, 없는 단어만 AI 분석 후 bulk insert")
+    void run_AnalyzesOnlyMissingWordsAndInsertsInBulk() {
+        // given
+        when(wordRepository.findAllByWordInAndTargetLanguageCode(anyCollection(), eq(LanguageCode.KO)))
+                .thenAnswer(invocation -> {
+                    Collection<String> words = invocation.getArgument(0);
+                    return words.contains("apple") ? List.of(word("apple")) : List.of();
+                });
+        when(wordAiService.analyzeWordInBackground("run", "KO")).thenReturn(List.of(analysis("run")));
+
+        // when
+        initializer.run(LanguageCode.KO, List.of("apple", "run"), 0);
+
+        // then
+        verify(wordAiService, times(1)).analyzeWordInBackground(anyString(), anyString());
+
+        ArgumentCaptor<List<Word>> insertedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(wordRepository).insertAllIgnoringDuplicates(insertedCaptor.capture());
+        assertThat(insertedCaptor.getValue()).extracting(Word::getWord).containsExactly("run");
+        assertThat(insertedCaptor.getValue().get(0).getIsEssential()).isTrue();
+
+        ArgumentCaptor<List<WordVariant>> variantCaptor = ArgumentCaptor.forClass(List.class);
+        verify(wordVariantRepository).insertAllIgnoringDuplicates(variantCaptor.capture());
+        assertThat(variantCaptor.getValue()).extracting(WordVariant::getWord).containsExactly("run");
+
+        verify(wordRepository).markEssential(argThat(words -> words.containsAll(List.of("apple", "run"))), eq(LanguageCode.KO));
+        verify(oxford3000JobRepository).recordProgress(eq("KO"), eq(List.of("apple", "run")), eq(List.of()),
+                eq(2), eq(1), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("oxford3000.job.words").tag("outcome", "succeeded").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("중단된 작업은 체크포인트에 기록된 단어를 건너뛰고 이어서 진행")
+    void run_ResumesInterruptedJob() {
+        // given
+        Oxford3000Job interrupted = Oxford3000Job.builder()
+                .id("KO")
+                .status(Oxford3000Job.Status.RUNNING)
+                .totalWords(3)
+                .alreadyExistCount(0)
+                .processedWords(new ArrayList<>(List.of("apple", "banana")))
+                .failedWords(new ArrayList<>(List.of("run")))
+                .startedAt(LocalDateTime.now().minusHours(1))
+                .build();
+        when(oxford3000JobRepository.findById("KO")).thenReturn(Optional.of(interrupted));
+        when(wordRepository.findAllByWordInAndTargetLanguageCode(anyCollection(), eq(LanguageCode.KO))).thenReturn(List.of());
+        when(wordAiService.analyzeWordInBackground("run", "KO")).thenReturn(List.of(analysis("run")));
+
+        // when
+        initializer.run(LanguageCode.KO, List.of("Apple", "banana", "run"), 0);
+
+        // then
+        verify(wordAiService, times(1)).analyzeWordInBackground(anyString(), anyString());
+        verify(oxford3000JobRepository).save(interrupted);
+        assertThat(interrupted.getFailedWords()).isEmpty();
+        assertThat(interrupted.getStartedAt()).isBefore(LocalDateTime.now().minusMinutes(30));
+        verify(oxford3000JobRepository).recordProgress(eq("KO"), eq(List.of("run")), eq(List.of()),
+                eq(1), eq(1), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("AI 분석이 재시도 후에도 실패하면 실패 단어로 기록")
+    void run_RecordsFailedWordAfterRetries() {
+        // given
+        when(wordRepository.findAllByWordInAndTargetLanguageCode(anyCollection(), eq(LanguageCode.KO))).thenReturn(List.of());
+        when(wordAiService.analyzeWordInBackground("run", "KO")).thenThrow(new RuntimeException("Bedrock throttled"));
+
+        // when
+        initializer.run(LanguageCode.KO, List.of("run"), 0);
+
+        // then
+        verify(wordAiService, times(3)).analyzeWordInBackground("run", "KO");
+        verify(wordRepository, never()).insertAllIgnoringDuplicates(anyList());
+        verify(wordRepository, never()).markEssential(anyCollection(), any());
+        verify(oxford3000JobRepository).recordProgress(eq("KO"), eq(List.of()), eq(List.of("run")),
+                eq(0), eq(0), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("oxford3000.job.words").tag("outcome", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 AI 분석 수는 설정한 워커 수를 넘지 않음")
+    void run_BoundsAiConcurrency() {
+        // given
+        Oxford3000BulkInitializer boundedInitializer = createInitializer(2, 6);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(wordRepository.findAllByWordInAndTargetLanguageCode(anyCollection(), eq(LanguageCode.KO))).thenReturn(List.of());
+        when(wordAiService.analyzeWordInBackground(anyString(), eq("KO"))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            inFlight.decrementAndGet();
+            return List.of(analysis(invocation.getArgument(0)));
+        });
+
+        // when
+        boundedInitializer.run(LanguageCode.KO, List.of("a", "b", "c", "d", "e", "f"), 0);
+
+        // then
+        verify(wordAiService, times(6)).analyzeWordInBackground(anyString(), eq("KO"));
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        verify(oxford3000JobRepository).recordProgress(eq("KO"), anyCollection(), eq(List.of()),
+                eq(6), eq(6), any(LocalDateTime.class));
+        assertThat(boundedInitializer.etaSeconds()).isZero();
+        assertThat(boundedInitializer.throughput()).isZero();
+    }
+
+    private static Word word(String word) {
+        return Word.builder()
+                .word(word)
+                .sourceLanguageCode(LanguageCode.EN)
+                .targetLanguageCode(LanguageCode.KO)
+                .build();
+    }
+
+    private static WordAnalysisResult analysis(String originalForm) {
+        return WordAnalysisResult.builder()
+                .originalForm(originalForm)
+                .variantTypes(List.of(VariantType.ORIGINAL_FORM))
+                .sourceLanguageCode(LanguageCode.EN)
+                .targetLanguageCode(LanguageCode.KO)
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.linglevel.api.word.service;
+
+import com.linglevel.api.common.ai.AiCallGuard;
+import com.linglevel.api.common.ai.AiUnavailableException;
+import com.linglevel.api.common.ai.AiUsageMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 지연/오류를 주입하는 로컬 stub ChatModel로 AI 호출 보호 계층 검증
+ */
+@DisplayName("WordAiService 장애 격리 테스트")
+class WordAiServiceResilienceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StubChatModel chatModel;
+    private AiCallGuard aiCallGuard;
+    private WordAiService wordAiService;
+
+    @BeforeEach
+    void setUp() {
+        chatModel = new StubChatModel();
+        aiCallGuard = new AiCallGuard(meterRegistry, 200, 2, 1, 50, 4, 2, 0.5, 60_000);
+        wordAiService = new WordAiService(chatModel, new AiUsageMetrics(meterRegistry, "stub", 0, 0), aiCallGuard);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiCallGuard.shutdown();
+    }
+
+    @Test
+    @DisplayName("모델 응답이 느리면 데드라인에 503(재시도 가능)으로 실패")
+    void analyzeWord_SlowModelTimesOut() {
+        // given
+        chatModel.latencyMillis = 5_000;
+        long start = System.nanoTime();
+
+        // when
+        AiUnavailableException exception = assertThrows(AiUnavailableException.class,
+                () -> wordAiService.analyzeWord("run", "KO"));
+
+        // then
+        assertThat(exception.getReason()).isEqualTo(AiUnavailableException.Reason.TIMEOUT);
+        assertThat(exception.getStatus().value()).isEqualTo(503);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000);
+        assertThat(meterRegistry.get("ai.chat.latency").tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모델 오류가 이어지면 서킷이 열려 모델을 호출하지 않고 바로 실패")
+    void analyzeWord_FailsFastWhileCircuitIsOpen() {
+        // given
+        chatModel.failure = new IllegalStateException("Bedrock throttled");
+        for (int i = 0; i < 2; i++) {
+            assertThrows(RuntimeException.class, () -> wordAiService.analyzeWord("run", "KO"));
+        }
+
+        // when
+        AiUnavailableException exception = assertThrows(AiUnavailableException.class,
+                () -> wordAiService.analyzeWord("run", "KO"));
+
+        // then
+        assertThat(exception.getReason()).isEqualTo(AiUnavailableException.Reason.CIRCUIT_OPEN);
+        assertThat(chatModel.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배치 작업이 AI 호출 자리를 모두 쓰고 있어도 사용자 단어 조회는 예약된 자리로 모델까지 호출")
+    void analyzeWord_LookupGetsThroughWhileBulkJobRuns() throws Exception {
+        // given: 배치 몫(1자리)을 차지한 호출은 모델에서 멈춰 있고, 다음 배치 호출은 자리를 기다림
+        aiCallGuard.shutdown();
+        aiCallGuard = new AiCallGuard(meterRegistry, 5_000, 2, 1, 50, 4, 2, 0.5, 60_000);
+        wordAiService = new WordAiService(chatModel, new AiUsageMetrics(meterRegistry, "stub", 0, 0), aiCallGuard);
+        chatModel.gate = new CountDownLatch(1);
+
+        CompletableFuture<Void> firstBulk = CompletableFuture.runAsync(() -> analyzeInBackgroundQuietly("run"));
+        assertThat(chatModel.gateReached.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> secondBulk = CompletableFuture.runAsync(() -> analyzeInBackgroundQuietly("walk"));
+
+        // when: stub 응답은 빈 결과라 분석 자체는 실패하지만 벌크헤드에서 거절되지 않고 모델까지 도달해야 함
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> wordAiService.analyzeWord("jump", "KO"));
+
+        // then
+        assertThat(exception).isNotInstanceOf(AiUnavailableException.class);
+        assertThat(chatModel.calls.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("ai.call.in-flight.background").gauge().value()).isEqualTo(1);
+
+        chatModel.gate.countDown();
+        CompletableFuture.allOf(firstBulk, secondBulk).get(2, TimeUnit.SECONDS);
+        assertThat(chatModel.calls.get()).isEqualTo(3);
+    }
+
+    private void analyzeInBackgroundQuietly(String word) {
+        try {
+            wordAiService.analyzeWordInBackground(word, "KO");
+        } catch (RuntimeException ignored) {
+            // stub 응답은 빈 결과라 분석은 실패함
+        }
+    }
+
+    static class StubChatModel implements ChatModel {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile long latencyMillis;
+        private volatile RuntimeException failure;
+        // 설정되면 첫 호출은 gate가 열릴 때까지 모델 안에서 대기
+        private volatile CountDownLatch gate;
+        private final CountDownLatch gateReached = new CountDownLatch(1);
+
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            if (calls.incrementAndGet() == 1 && gate != null) {
+                gateReached.countDown();
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted", e);
+                }
+            }
+            if (latencyMillis > 0) {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return new ChatResponse(List.of(new Generation(new AssistantMessage("[]"))));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.linglevel.api.word.service;
+
+import com.linglevel.api.i18n.LanguageCode;
+import com.linglevel.api.word.exception.WordsErrorCode;
+import com.linglevel.api.word.exception.WordsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AI 단어 분석 single-flight 테스트")
+class WordAnalysisSingleFlightTest {
+
+    private static final String KEY = "variants:" + WordAnalysisSingleFlight.key(
+            WordAnalysisSingleFlight.normalize("Serendipity "), LanguageCode.KO);
+    private static final String LEASE_KEY = "word:analysis:lease:" + KEY;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("정규화된 단어와 대상 언어로 키를 만듦")
+    void key_UsesNormalizedWord() {
+        assertThat(WordAnalysisSingleFlight.normalize(" Serendipity ")).isEqualTo("serendipity");
+        assertThat(KEY).isEqualTo("variants:serendipity:" + LanguageCode.KO.getCode());
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 호출은 loader를 한 번만 실행하고 결과를 공유")
+    void execute_ConcurrentCallers_ShareOneLoad() throws Exception {
+        // given
+        WordAnalysisSingleFlight singleFlight = localSingleFlight();
+        int callers = 10;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "analysis";
+        };
+
+        // when
+        List<Future<String>> futures = runConcurrently(callers, () -> singleFlight.execute(KEY, () -> null, loader));
+        awaitCoalesced(callers - 1);
+        release.countDown();
+
+        // then
+        for (Future<String> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("analysis");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("loader가 실패하면 합류한 호출도 같은 예외를 받음")
+    void execute_LoaderFails_PropagatesToAllCallers() throws Exception {
+        // given
+        WordAnalysisSingleFlight singleFlight = localSingleFlight();
+        int callers = 4;
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            await(release);
+            throw new WordsException(WordsErrorCode.WORD_IS_MEANINGLESS);
+        };
+
+        // when
+        List<Future<String>> futures = runConcurrently(callers, () -> singleFlight.execute(KEY, () -> null, loader));
+        awaitCoalesced(callers - 1);
+        release.countDown();
+
+        // then
+        for (Future<String> future : futures) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(WordsException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("리스를 잡으면 분석하고 리스를 해제")
+    void execute_LeaseAcquired_LoadsAndReleases() {
+        // given
+        WordAnalysisSingleFlight singleFlight = distributedSingleFlight();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(true);
+
+        // when
+        String result = singleFlight.execute(KEY, () -> "stored", () -> "analysis");
+
+        // then
+        assertThat(result).isEqualTo("analysis");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LEASE_KEY)), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리스를 잡고 있으면 분석하지 않고 저장된 결과를 기다려 반환")
+    void execute_LeaseHeldElsewhere_WaitsForStoredResult() {
+        // given
+        WordAnalysisSingleFlight singleFlight = distributedSingleFlight();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(false);
+        AtomicInteger lookups = new AtomicInteger();
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        String result = singleFlight.execute(KEY,
+                () -> lookups.incrementAndGet() < 3 ? null : "stored",
+                () -> {
+                    loads.incrementAndGet();
+                    return "analysis";
+                });
+
+        // then
+        assertThat(result).isEqualTo("stored");
+        assertThat(loads.get()).isZero();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+        assertThat(meterRegistry.counter("word.analysis.single-flight", "role", "remote-wait").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리스가 결과 없이 풀리면 직접 리스를 잡고 분석")
+    void execute_LeaseReleasedWithoutResult_TakesOver() {
+        // given
+        WordAnalysisSingleFlight singleFlight = distributedSingleFlight();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class)))
+                .thenReturn(false)
+                .thenReturn(true);
+
+        // when
+        String result = singleFlight.execute(KEY, () -> null, () -> "analysis");
+
+        // then
+        assertThat(result).isEqualTo("analysis");
+        verify(valueOperations, times(2)).setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 노드 내에서만 coalescing하고 분석")
+    void execute_RedisUnavailable_LoadsLocally() {
+        // given
+        WordAnalysisSingleFlight singleFlight = distributedSingleFlight();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        String result = singleFlight.execute(KEY, () -> null, () -> "analysis");
+
+        // then
+        assertThat(result).isEqualTo("analysis");
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+    }
+
+    private WordAnalysisSingleFlight localSingleFlight() {
+        return new WordAnalysisSingleFlight(redisTemplate, meterRegistry, false, 30, 10);
+    }
+
+    private WordAnalysisSingleFlight distributedSingleFlight() {
+        return new WordAnalysisSingleFlight(redisTemplate, meterRegistry, true, 30, 10);
+    }
+
+    private <T> List<Future<T>> runConcurrently(int callers, Callable<T> task) {
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            futures.add(executor.submit(task));
+        }
+        executor.shutdown();
+        return futures;
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.counter("word.analysis.single-flight", "role", "coalesced").count() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.linglevel.api.word.service;
+
+import com.linglevel.api.i18n.LanguageCode;
+import com.linglevel.api.word.dto.VariantType;
+import com.linglevel.api.word.entity.Word;
+import com.linglevel.api.word.entity.WordVariant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("단어 조회 2단계 캐시 테스트")
+class WordLookupCacheTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private WordLookupCache cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = new WordLookupCache(redisTemplate, meterRegistry, 100, 60, 24);
+    }
+
+    @Test
+    @DisplayName("변형 목록은 한 번 로드한 뒤 L1에서 반환")
+    void getVariants_LoadsOnceThenServesFromL1() {
+        // when
+        List<WordVariant> first = cache.getVariants("ran", this::loadVariants);
+        List<WordVariant> second = cache.getVariants("ran", this::loadVariants);
+
+        // then
+        assertThat(first).extracting(WordVariant::getOriginalForm).containsExactly("run");
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        verify(valueOperations).set(eq("word:lookup:variants:ran"), any(WordLookupCache.CachedVariants.class), any(Duration.class));
+        assertThat(meterRegistry.get("word.lookup.cache.hits").tag("tier", "l1").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈 변형 목록은 캐시하지 않음")
+    void getVariants_EmptyIsNotCached() {
+        // when
+        List<WordVariant> variants = cache.getVariants("unknown", List::of);
+
+        // then
+        assertThat(variants).isNull();
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("L1에 없고 Redis에 있으면 DB를 조회하지 않음")
+    void getWord_ServesFromL2() {
+        // given
+        Word word = Word.builder().word("run").targetLanguageCode(LanguageCode.KO).build();
+        when(valueOperations.get("word:lookup:word:run:" + LanguageCode.KO.getCode())).thenReturn(word);
+
+        // when
+        Word found = cache.getWord("run", LanguageCode.KO, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        // then
+        assertThat(found).isSameAs(word);
+        assertThat(loads.get()).isZero();
+        assertThat(meterRegistry.get("word.lookup.cache.hits").tag("tier", "l2").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효 단어 실패 횟수를 캐시하고, 쓰기 후 무효화하면 다시 로드")
+    void getInvalidAttempts_EvictReloads() {
+        // given
+        cache.getInvalidAttempts("asdf", () -> 1 + loads.getAndIncrement());
+
+        // when
+        cache.evictInvalid("asdf");
+        Integer attempts = cache.getInvalidAttempts("asdf", () -> 1 + loads.getAndIncrement());
+
+        // then
+        assertThat(attempts).isEqualTo(2);
+        verify(redisTemplate).delete(List.of("word:lookup:invalid:asdf"));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 로드 결과를 반환")
+    void getWord_RedisFailureFallsBackToLoader() {
+        // given
+        when(valueOperations.get(anyString())).thenThrow(new RuntimeException("redis down"));
+        Word word = Word.builder().word("run").build();
+
+        // when
+        Word found = cache.getWord("run", LanguageCode.KO, () -> word);
+
+        // then
+        assertThat(found).isSameAs(word);
+    }
+
+    @Test
+    @DisplayName("전체 무효화는 L1을 비우고 Redis의 단어 조회 키를 모두 삭제")
+    @SuppressWarnings("unchecked")
+    void evictAll_ClearsL1AndRedisNamespace() {
+        // given
+        cache.getVariants("ran", this::loadVariants);
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(true, true, false);
+        when(cursor.next()).thenReturn("word:lookup:variants:ran", "word:lookup:word:run:ko");
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+        // when
+        cache.evictAll();
+        cache.getVariants("ran", this::loadVariants);
+
+        // then
+        verify(redisTemplate).delete(List.of("word:lookup:variants:ran", "word:lookup:word:run:ko"));
+        verify(cursor).close();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private List<WordVariant> loadVariants() {
+        loads.incrementAndGet();
+        return List.of(WordVariant.builder()
+                .word("ran")
+                .originalForm("run")
+                .variantTypes(List.of(VariantType.PAST_TENSE))
+                .build());
+    }
+}
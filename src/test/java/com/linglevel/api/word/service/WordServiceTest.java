@@ -3,25 +3,39 @@ package com.linglevel.api.word.service;
 import com.linglevel.api.bookmark.repository.WordBookmarkRepository;
 import com.linglevel.api.i18n.LanguageCode;
 import com.linglevel.api.word.dto.*;
+import com.linglevel.api.word.entity.InvalidWord;
 import com.linglevel.api.word.entity.Word;
 import com.linglevel.api.word.entity.WordVariant;
+import com.linglevel.api.word.exception.WordsException;
 import com.linglevel.api.word.repository.InvalidWordRepository;
 import com.linglevel.api.word.repository.WordRepository;
 import com.linglevel.api.word.repository.WordVariantRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -46,6 +60,17 @@ class WordServiceTest {
     @Mock
     private InvalidWordRepository invalidWordRepository;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private WordAnalysisSingleFlight wordAnalysisSingleFlight =
+            new WordAnalysisSingleFlight(null, meterRegistry, false, 30, 200);
+
+    @SuppressWarnings("unchecked")
+    @Spy
+    private WordLookupCache wordLookupCache =
+            new WordLookupCache(mock(RedisTemplate.class, RETURNS_DEEP_STUBS), meterRegistry, 100, 60, 24);
+
     @InjectMocks
     private WordService wordService;
 
@@ -246,5 +271,147 @@ class WordServiceTest {
         // then
         assertThat(response.getResults().get(0).getBookmarked()).isTrue();
     }
-}
 
+    @Test
+    @DisplayName("같은 새 단어를 동시에 조회하면 AI 분석은 한 번만 실행")
+    void getOrCreateWords_동시_조회시_AI_한번만_호출() throws Exception {
+        // given
+        int callers = 8;
+        String newWord = "serendipity";
+
+        WordAnalysisResult analysisResult = WordAnalysisResult.builder()
+                .originalForm(newWord)
+                .variantTypes(List.of(VariantType.ORIGINAL_FORM))
+                .sourceLanguageCode(LanguageCode.EN)
+                .targetLanguageCode(LanguageCode.KO)
+                .summary(List.of("뜻밖의 발견"))
+                .build();
+
+        Word savedWord = Word.builder()
+                .id("word-456")
+                .word(newWord)
+                .sourceLanguageCode(LanguageCode.EN)
+                .targetLanguageCode(LanguageCode.KO)
+                .summary(List.of("뜻밖의 발견"))
+                .build();
+
+        CountDownLatch aiResponse = new CountDownLatch(1);
+        AtomicInteger aiCalls = new AtomicInteger();
+
+        when(wordVariantRepository.findAllByWord(newWord)).thenReturn(List.of());
+        when(wordAiService.analyzeWord(newWord, LanguageCode.KO.getCode())).thenAnswer(invocation -> {
+            aiCalls.incrementAndGet();
+            aiResponse.await(5, TimeUnit.SECONDS);
+            return List.of(analysisResult);
+        });
+        when(wordRepository.findByWordAndSourceLanguageCodeAndTargetLanguageCode(
+                newWord, LanguageCode.EN, LanguageCode.KO)).thenReturn(Optional.empty());
+        when(wordRepository.save(any(Word.class))).thenReturn(savedWord);
+        when(wordRepository.findByWordAndTargetLanguageCode(newWord, LanguageCode.KO))
+                .thenReturn(Optional.of(savedWord));
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            // when
+            List<Future<WordSearchResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> wordService.getOrCreateWords(userId, newWord, LanguageCode.KO)));
+            }
+
+            // 나머지 호출이 모두 진행 중인 분석에 합류한 뒤 AI 응답
+            long deadline = System.currentTimeMillis() + 5000;
+            while (meterRegistry.counter("word.analysis.single-flight", "role", "coalesced").count() < callers - 1
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            aiResponse.countDown();
+
+            // then
+            for (Future<WordSearchResponse> future : futures) {
+                WordSearchResponse response = future.get(5, TimeUnit.SECONDS);
+                assertThat(response.getResults()).hasSize(1);
+                assertThat(response.getResults().get(0).getOriginalForm()).isEqualTo(newWord);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(aiCalls.get()).isEqualTo(1);
+        verify(wordAiService, times(1)).analyzeWord(newWord, LanguageCode.KO.getCode());
+        verify(wordRepository, times(1)).save(any(Word.class));
+        verify(wordVariantRepository, times(1)).save(any(WordVariant.class));
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 단어는 다시 조회할 때 변형/단어 DB 조회 없이 반환")
+    void getOrCreateWords_캐시된_단어는_DB_조회_없음() {
+        // given
+        WordVariant wordVariant = WordVariant.builder()
+                .word("run")
+                .originalForm("run")
+                .variantTypes(List.of(VariantType.ORIGINAL_FORM))
+                .build();
+
+        when(wordVariantRepository.findAllByWord("run")).thenReturn(List.of(wordVariant));
+        when(wordRepository.findByWordAndTargetLanguageCode("run", LanguageCode.KO)).thenReturn(Optional.of(sampleWord));
+
+        // when
+        wordService.getOrCreateWords(userId, "run", LanguageCode.KO);
+        WordSearchResponse response = wordService.getOrCreateWords(userId, "run", LanguageCode.KO);
+
+        // then
+        assertThat(response.getResults()).hasSize(1);
+        verify(wordVariantRepository, times(1)).findAllByWord("run");
+        verify(wordRepository, times(1)).findByWordAndTargetLanguageCode("run", LanguageCode.KO);
+    }
+
+    @Test
+    @DisplayName("대소문자/공백이 섞인 단어도 조회, single-flight 키, AI 분석에 같은 정규화된 단어를 사용")
+    void getOrCreateWordEntities_정규화된_단어로_조회() {
+        // given
+        when(wordVariantRepository.findAllByWord("asdfgh")).thenReturn(List.of());
+        when(invalidWordRepository.findByWord("asdfgh")).thenReturn(Optional.empty());
+        when(wordAiService.analyzeWord("asdfgh", LanguageCode.KO.getCode())).thenThrow(new RuntimeException("meaningless"));
+
+        // when & then
+        assertThatThrownBy(() -> wordService.getOrCreateWordEntities(" ASDFgh ", LanguageCode.KO))
+                .isInstanceOf(WordsException.class);
+
+        verify(wordAnalysisSingleFlight).execute(eq("variants:asdfgh:" + LanguageCode.KO.getCode()), any(), any());
+        verify(wordVariantRepository, atLeastOnce()).findAllByWord("asdfgh");
+        verify(wordAiService).analyzeWord("asdfgh", LanguageCode.KO.getCode());
+    }
+
+    @Test
+    @DisplayName("차단된 무효 단어는 negative 캐시로 판별")
+    void getOrCreateWords_차단된_무효_단어_캐시() {
+        // given
+        when(wordVariantRepository.findAllByWord("asdfgh")).thenReturn(List.of());
+        when(invalidWordRepository.findByWord("asdfgh")).thenReturn(Optional.of(InvalidWord.builder()
+                .word("asdfgh")
+                .attemptCount(3)
+                .build()));
+
+        // when & then
+        assertThatThrownBy(() -> wordService.getOrCreateWords(userId, "asdfgh", LanguageCode.KO))
+                .isInstanceOf(WordsException.class);
+        assertThatThrownBy(() -> wordService.getOrCreateWords(userId, "asdfgh", LanguageCode.KO))
+                .isInstanceOf(WordsException.class);
+
+        verify(invalidWordRepository, times(1)).findByWord("asdfgh");
+        verify(wordAiService, never()).analyzeWord(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("변형 저장 시 해당 단어의 조회 캐시를 무효화")
+    void saveWordVariants_캐시_무효화() {
+        // given
+        when(wordVariantRepository.findByWordIn(anyList())).thenReturn(List.of());
+
+        // when
+        wordService.saveWordVariants(sampleWord);
+
+        // then
+        verify(wordLookupCache).evictVariants(argThat(words -> words.containsAll(List.of("ran", "running", "runs"))));
+    }
+}